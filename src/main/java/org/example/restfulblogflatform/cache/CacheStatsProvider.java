@@ -0,0 +1,17 @@
+package org.example.restfulblogflatform.cache;
+
+import org.example.restfulblogflatform.dto.cache.response.CacheStatsResponseDto;
+
+/**
+ * 통계 정보를 제공하는 애플리케이션 내부 캐시를 정의하는 인터페이스.
+ * 구현체는 CacheController를 통해 적중/미스/축출 통계를 노출합니다.
+ */
+public interface CacheStatsProvider {
+
+    /**
+     * 현재 캐시 통계를 반환합니다.
+     *
+     * @return 캐시 이름과 통계를 담은 응답 DTO
+     */
+    CacheStatsResponseDto stats();
+}
@@ -0,0 +1,182 @@
+package org.example.restfulblogflatform.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.example.restfulblogflatform.dto.cache.response.CacheStatsResponseDto;
+import org.example.restfulblogflatform.dto.comment.CommentPageVersionDto;
+import org.example.restfulblogflatform.dto.comment.response.CommentResponseDto;
+import org.example.restfulblogflatform.event.comment.CommentChangedEvent;
+import org.example.restfulblogflatform.event.post.PostChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 게시글별 댓글 목록 첫 페이지(작성일 오름차순)와 그 버전(ETag)을 보관하는 캐시.
+ *
+ * 댓글 조회의 대부분은 기본 정렬의 첫 페이지이므로, 캐시 적중 시 버전 집계와 목록 조회를 모두 건너뜁니다.
+ * 첫 페이지는 page-size(기본 20)개까지 저장하고, 그보다 작은 크기의 요청은 앞부분을 잘라 응답합니다.
+ * 댓글 생성/수정/삭제 또는 게시글 변경 트랜잭션이 커밋되면 해당 게시글의 항목을 무효화합니다.
+ * 무효화와 동시에 진행 중이던 적재는 게시글별 무효화 횟수를 비교하여 버리므로 이전 목록이 다시 저장되지 않습니다.
+ */
+@Component
+public class CommentFirstPageCache implements CacheStatsProvider {
+
+    private static final String NAME = "comment-first-pages";
+    private static final Sort FIRST_PAGE_SORT = Sort.by(Sort.Direction.ASC, "createdDate");
+    private static final int BASE_WEIGHT = 128;   // 항목 자체의 고정 비용 (바이트 근사치)
+    private static final int COMMENT_WEIGHT = 96; // 댓글 하나의 고정 비용 (바이트 근사치, 본문 제외)
+    private static final int STRIPES = 64;        // 무효화 횟수를 나누어 기록할 구간 수
+
+    private final int pageSize;
+    private final Cache<Long, CachedPage> cache;
+    private final AtomicLongArray invalidations = new AtomicLongArray(STRIPES);
+
+    /**
+     * @param pageSize 캐시에 저장할 첫 페이지 크기 (이하 크기의 첫 페이지 요청만 캐시 사용)
+     * @param maxWeight 캐시 전체의 최대 가중치 (바이트 근사치)
+     * @param expireAfterWriteSeconds 항목이 적재된 후 만료되기까지의 시간 (초)
+     */
+    public CommentFirstPageCache(@Value("${comment.first-page-cache.page-size:20}") int pageSize,
+                                 @Value("${comment.first-page-cache.max-weight:16777216}") long maxWeight,
+                                 @Value("${comment.first-page-cache.expire-after-write-seconds:300}") long expireAfterWriteSeconds) {
+        this.pageSize = pageSize;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxWeight)
+                .weigher((Long postId, CachedPage page) -> page.weight())
+                .expireAfterWrite(Duration.ofSeconds(expireAfterWriteSeconds))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 캐시로 응답할 수 있는 요청(작성일 오름차순 첫 페이지, 캐시 크기 이하)인지 확인합니다.
+     *
+     * @param pageable 페이징 요청 정보
+     * @return 캐시를 사용할 수 있으면 true
+     */
+    public boolean isCacheable(Pageable pageable) {
+        return pageable.getPageNumber() == 0
+                && pageable.getPageSize() <= pageSize
+                && FIRST_PAGE_SORT.equals(pageable.getSort());
+    }
+
+    /**
+     * 게시글의 캐시된 첫 페이지를 반환하고, 없으면 버전과 목록을 조회하여 적재합니다.
+     * 버전을 목록보다 먼저 조회하므로, 그 사이에 댓글이 바뀌면 ETag가 실제보다 오래된 값이 되어 다음 조건부 요청에서 다시 조회됩니다.
+     *
+     * @param postId 게시글 ID
+     * @param versionLoader 댓글 목록 버전 조회 함수
+     * @param pageLoader 댓글 목록 조회 함수 (캐시 크기의 첫 페이지 요청을 전달)
+     * @return 캐시된 첫 페이지
+     */
+    public CachedPage getOrLoad(Long postId,
+                                Supplier<CommentPageVersionDto> versionLoader,
+                                Function<Pageable, Page<CommentResponseDto>> pageLoader) {
+        CachedPage cached = cache.getIfPresent(postId);
+        if (cached != null) {
+            return cached;
+        }
+
+        long token = invalidations.get(stripe(postId));
+        CommentPageVersionDto version = versionLoader.get();
+        Page<CommentResponseDto> firstPage = pageLoader.apply(PageRequest.of(0, pageSize, FIRST_PAGE_SORT));
+        CachedPage loaded = new CachedPage(version, List.copyOf(firstPage.getContent()), firstPage.getTotalElements());
+
+        // 적재 중 무효화가 있었으면 저장하지 않음 (무효화는 횟수 증가 후 항목을 제거하므로 compute와 경합하지 않음)
+        cache.asMap().compute(postId, (id, existing) ->
+                invalidations.get(stripe(id)) == token ? loaded : existing);
+        return loaded;
+    }
+
+    /**
+     * 게시글의 캐시된 첫 페이지를 무효화합니다.
+     *
+     * @param postId 게시글 ID
+     */
+    public void evict(Long postId) {
+        invalidations.incrementAndGet(stripe(postId));
+        cache.invalidate(postId);
+    }
+
+    /**
+     * 댓글 변경 이벤트를 처리합니다.
+     * 트랜잭션 커밋 이후에 실행되며, 트랜잭션 밖에서 발행된 경우에도 즉시 실행됩니다.
+     *
+     * @param event 댓글 변경 이벤트(CommentChangedEvent)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleCommentChangedEvent(CommentChangedEvent event) {
+        evict(event.getPostId());
+    }
+
+    /**
+     * 게시글 변경 이벤트를 처리합니다.
+     * 게시글 삭제 시 댓글이 벌크 DELETE로 함께 삭제되므로 캐시된 첫 페이지도 무효화합니다.
+     *
+     * @param event 게시글 변경 이벤트(PostChangedEvent)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handlePostChangedEvent(PostChangedEvent event) {
+        if (event.getType() == PostChangedEvent.Type.DELETED) {
+            evict(event.getPostId());
+        }
+    }
+
+    @Override
+    public CacheStatsResponseDto stats() {
+        return CacheStatsResponseDto.of(NAME, cache.estimatedSize(), cache.stats());
+    }
+
+    private static int stripe(Long postId) {
+        return (int) Math.floorMod(postId, (long) STRIPES);
+    }
+
+    /**
+     * 캐시된 댓글 목록 첫 페이지와 버전 정보.
+     */
+    @Getter
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class CachedPage {
+
+        private final CommentPageVersionDto version; // 적재 당시의 댓글 목록 버전 (ETag / Last-Modified)
+        private final List<CommentResponseDto> comments; // 첫 페이지 댓글 (작성일 오름차순)
+        private final long totalElements; // 적재 당시의 전체 댓글 수
+
+        /**
+         * 요청한 크기만큼 앞부분을 잘라 페이지 응답으로 변환합니다.
+         *
+         * @param pageable 첫 페이지 요청 정보 (isCacheable을 만족해야 함)
+         * @return 페이지 응답
+         */
+        public Page<CommentResponseDto> toPage(Pageable pageable) {
+            int size = Math.min(pageable.getPageSize(), comments.size());
+            return new PageImpl<>(comments.subList(0, size), pageable, totalElements);
+        }
+
+        private int weight() {
+            int weight = BASE_WEIGHT;
+            for (CommentResponseDto comment : comments) {
+                int contentLength = comment.getContent() == null ? 0 : comment.getContent().length();
+                int usernameLength = comment.getUsername() == null ? 0 : comment.getUsername().length();
+                weight += COMMENT_WEIGHT + 2 * (contentLength + usernameLength);
+            }
+            return weight;
+        }
+    }
+}
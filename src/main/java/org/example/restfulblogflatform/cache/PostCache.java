@@ -0,0 +1,193 @@
+package org.example.restfulblogflatform.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.example.restfulblogflatform.dto.cache.response.CacheStatsResponseDto;
+import org.example.restfulblogflatform.dto.post.response.PostResponseDto;
+import org.example.restfulblogflatform.event.comment.CommentChangedEvent;
+import org.example.restfulblogflatform.event.post.PostChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 조립된 게시글 응답 DTO(PostResponseDto)를 게시글 ID 기준으로 보관하는 캐시.
+ *
+ * Caffeine(W-TinyLFU)을 사용하며, 항목 수가 아니라 본문/첨부파일 크기를 반영한 가중치로 용량을 제한합니다.
+ * 게시글이 변경되면 트랜잭션 커밋 이후 해당 항목을 무효화하여 커밋 전의 오래된 데이터가 다시 적재되지 않도록 합니다.
+ *
+ * 조회수 반영(PostViewCounter.flush)은 항목을 무효화하지 않고 캐시된 DTO의 조회수에 반영분을 더합니다.
+ * 반영 트랜잭션마다 순번을 두고 각 항목이 DB를 읽기 전후의 순번을 함께 보관하여,
+ * 반영 전에 읽은 항목에만 더하고 반영 후에 읽은 항목은 그대로 두어 중복으로 더해지지 않도록 합니다.
+ */
+@Component
+public class PostCache implements CacheStatsProvider {
+
+    private static final String NAME = "posts";
+    private static final int BASE_WEIGHT = 256;        // DTO 자체와 작성자 정보 등의 고정 비용 (바이트 근사치)
+    private static final int ATTACHMENT_WEIGHT = 256;  // 첨부파일 메타데이터 1건당 비용 (바이트 근사치)
+
+    private final Cache<Long, CachedPost> cache;
+
+    /**
+     * 조회수 반영 순번 (홀수: 반영 트랜잭션 진행 중, 짝수: 진행 중인 반영 없음)
+     */
+    private final AtomicLong viewFlushSequence = new AtomicLong();
+
+    /**
+     * 캐시 항목: 게시글 DTO와 DB를 읽기 전후의 조회수 반영 순번
+     */
+    private record CachedPost(PostResponseDto post, long readStartedAt, long readEndedAt) {
+
+        CachedPost withAdditionalViews(long views) {
+            return new CachedPost(post.withAdditionalViews(views), readStartedAt, readEndedAt);
+        }
+    }
+
+    /**
+     * @param maxWeight 캐시 전체의 최대 가중치 (바이트 근사치)
+     * @param expireAfterWriteMinutes 항목이 적재된 후 만료되기까지의 시간 (분)
+     */
+    public PostCache(@Value("${post.cache.max-weight:67108864}") long maxWeight,
+                     @Value("${post.cache.expire-after-write-minutes:10}") long expireAfterWriteMinutes) {
+        long expireAfterWriteNanos = Duration.ofMinutes(expireAfterWriteMinutes).toNanos();
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxWeight)
+                .weigher((Long postId, CachedPost cached) -> weigh(cached.post()))
+                // 조회수 반영으로 항목을 갱신해도 만료 시각은 적재 시점 기준으로 유지
+                .expireAfter(new Expiry<Long, CachedPost>() {
+                    @Override
+                    public long expireAfterCreate(Long postId, CachedPost cached, long currentTime) {
+                        return expireAfterWriteNanos;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(Long postId, CachedPost cached, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(Long postId, CachedPost cached, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 캐시된 게시글 DTO를 반환하고, 없으면 loader로 조립하여 캐시에 적재합니다.
+     *
+     * @param postId 게시글 ID
+     * @param loader 캐시 미스 시 DTO를 조립하는 함수 (예외는 호출자에게 그대로 전달)
+     * @return 게시글 응답 DTO
+     */
+    public PostResponseDto get(Long postId, Function<Long, PostResponseDto> loader) {
+        return cache.get(postId, id -> {
+            long readStartedAt = viewFlushSequence.get();
+            PostResponseDto post = loader.apply(id);
+            return new CachedPost(post, readStartedAt, viewFlushSequence.get());
+        }).post();
+    }
+
+    /**
+     * 캐시된 게시글 DTO를 반환합니다. 없으면 null을 반환하며 DB에 접근하지 않습니다.
+     *
+     * @param postId 게시글 ID
+     * @return 캐시된 DTO 또는 null
+     */
+    public PostResponseDto getIfPresent(Long postId) {
+        CachedPost cached = cache.getIfPresent(postId);
+        return cached == null ? null : cached.post();
+    }
+
+    /**
+     * 조회수 반영 트랜잭션을 시작하기 직전에 호출합니다.
+     *
+     * @return 이번 반영의 순번 (completeViewFlush에 전달)
+     */
+    public long beginViewFlush() {
+        return viewFlushSequence.incrementAndGet();
+    }
+
+    /**
+     * 조회수 반영 트랜잭션이 끝난 뒤 호출하여 캐시된 DTO의 조회수에 반영분을 더합니다.
+     * - 반영 시작 전에 DB를 다 읽은 항목: 반영분을 더함
+     * - 반영 커밋 후에 DB를 읽기 시작한 항목: 이미 반영분이 포함되어 있으므로 그대로 둠
+     * - 반영과 겹쳐 읽은 항목: 포함 여부를 알 수 없으므로 무효화 (드묾)
+     * 진행 중인 적재는 완료된 뒤 처리됩니다.
+     *
+     * @param flush        beginViewFlush가 반환한 순번
+     * @param flushedViews 게시글 ID별 반영된 조회수 (반영에 실패했으면 빈 맵)
+     */
+    public void completeViewFlush(long flush, Map<Long, Long> flushedViews) {
+        viewFlushSequence.incrementAndGet();
+        flushedViews.forEach((postId, views) -> cache.asMap().computeIfPresent(postId, (id, cached) -> {
+            if (cached.readEndedAt() < flush) {
+                return cached.withAdditionalViews(views);
+            }
+            return cached.readStartedAt() > flush ? cached : null;
+        }));
+    }
+
+    /**
+     * 게시글 캐시 항목을 무효화합니다.
+     *
+     * @param postId 게시글 ID
+     */
+    public void evict(Long postId) {
+        cache.invalidate(postId);
+    }
+
+    /**
+     * 게시글 변경 이벤트를 처리합니다.
+     * 트랜잭션 커밋 이후에 실행되며, 트랜잭션 밖에서 발행된 경우에도 즉시 실행됩니다.
+     *
+     * @param event 게시글 변경 이벤트(PostChangedEvent)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handlePostChangedEvent(PostChangedEvent event) {
+        evict(event.getPostId());
+    }
+
+    /**
+     * 댓글 변경 이벤트를 처리합니다.
+     * 댓글이 생성/삭제되면 게시글의 댓글 수(와 ETag)가 바뀌므로 캐시된 게시글을 무효화합니다.
+     *
+     * @param event 댓글 변경 이벤트(CommentChangedEvent)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleCommentChangedEvent(CommentChangedEvent event) {
+        if (event.getType() != CommentChangedEvent.Type.UPDATED) {
+            evict(event.getPostId());
+        }
+    }
+
+    @Override
+    public CacheStatsResponseDto stats() {
+        return CacheStatsResponseDto.of(NAME, cache.estimatedSize(), cache.stats());
+    }
+
+    /**
+     * 게시글 DTO의 메모리 사용량을 근사한 가중치를 계산합니다.
+     * Java 문자열은 문자당 최대 2바이트를 사용하므로 제목/본문 길이에 2를 곱합니다.
+     */
+    private static int weigh(PostResponseDto post) {
+        long weight = BASE_WEIGHT
+                + 2L * length(post.getTitle())
+                + 2L * post.getStoredContentLength()
+                + (long) ATTACHMENT_WEIGHT * post.getAttachments().size();
+        return (int) Math.min(weight, Integer.MAX_VALUE);
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+}
@@ -0,0 +1,196 @@
+package org.example.restfulblogflatform.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.example.restfulblogflatform.dto.cache.response.CacheStatsResponseDto;
+import org.example.restfulblogflatform.dto.post.PostVersionDto;
+import org.example.restfulblogflatform.dto.post.response.PostResponseDto;
+import org.example.restfulblogflatform.event.post.PostChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 게시글 단건 조회 응답을 직렬화된 JSON 바이트(및 gzip 압축 바이트)로 보관하는 캐시.
+ *
+ * 캐시 적중 시 Jackson 직렬화와 응답 압축을 건너뛰고 바이트를 그대로 출력 스트림에 씁니다.
+ * 항목에는 직렬화 당시의 게시글 버전(ETag)이 함께 저장되며, 조회 시 현재 ETag와 다르면 사용하지 않습니다.
+ * 응답에 포함된 조회수는 직렬화 시점의 값이므로 항목 만료 시간(기본 10초)만큼 늦게 반영될 수 있습니다.
+ */
+@Component
+public class PostResponseBytesCache implements CacheStatsProvider {
+
+    private static final String NAME = "post-responses";
+    private static final int BASE_WEIGHT = 64; // 항목 자체의 고정 비용 (바이트 근사치)
+
+    private final ObjectMapper objectMapper;
+    private final boolean gzipEnabled;
+    private final int gzipMinBytes;
+    private final Cache<Long, SerializedPost> cache;
+
+    /**
+     * @param objectMapper 메시지 컨버터와 동일한 설정의 ObjectMapper
+     * @param maxWeight 캐시 전체의 최대 가중치 (바이트)
+     * @param expireAfterWriteSeconds 항목이 적재된 후 만료되기까지의 시간 (초)
+     * @param gzipEnabled gzip 압축 바이트를 미리 만들어 둘지 여부
+     * @param gzipMinBytes gzip 압축 바이트를 만들 최소 JSON 크기 (바이트)
+     */
+    public PostResponseBytesCache(ObjectMapper objectMapper,
+                                  @Value("${post.response-cache.max-weight:33554432}") long maxWeight,
+                                  @Value("${post.response-cache.expire-after-write-seconds:10}") long expireAfterWriteSeconds,
+                                  @Value("${post.response-cache.gzip.enabled:true}") boolean gzipEnabled,
+                                  @Value("${post.response-cache.gzip.min-bytes:1024}") int gzipMinBytes) {
+        this.objectMapper = objectMapper;
+        this.gzipEnabled = gzipEnabled;
+        this.gzipMinBytes = gzipMinBytes;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxWeight)
+                .weigher((Long postId, SerializedPost post) -> post.weight())
+                .expireAfterWrite(Duration.ofSeconds(expireAfterWriteSeconds))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 주어진 버전으로 직렬화된 응답을 반환합니다.
+     * 캐시에 없거나 다른 버전(ETag)으로 직렬화된 항목이면 null을 반환합니다.
+     *
+     * @param version 조건부 조회에서 확인한 게시글 버전
+     * @return 직렬화된 응답 또는 null
+     */
+    public SerializedPost getIfCurrent(PostVersionDto version) {
+        SerializedPost cached = cache.getIfPresent(version.getId());
+        if (cached == null || !cached.getETag().equals(version.getETag())) {
+            return null;
+        }
+        return cached;
+    }
+
+    /**
+     * 게시글 응답 DTO를 직렬화하여 캐시에 적재하고 반환합니다.
+     *
+     * @param post 게시글 응답 DTO
+     * @return 직렬화된 응답
+     */
+    public SerializedPost put(PostResponseDto post) {
+        SerializedPost serialized = serialize(post);
+        cache.asMap().merge(post.getId(), serialized,
+                (existing, created) -> isNewer(existing, created) ? existing : created);
+        return serialized;
+    }
+
+    /**
+     * 게시글 응답 캐시 항목을 무효화합니다.
+     *
+     * @param postId 게시글 ID
+     */
+    public void evict(Long postId) {
+        cache.invalidate(postId);
+    }
+
+    /**
+     * 게시글 변경 이벤트를 처리합니다.
+     * 트랜잭션 커밋 이후에 실행되며, 트랜잭션 밖에서 발행된 경우에도 즉시 실행됩니다.
+     *
+     * @param event 게시글 변경 이벤트(PostChangedEvent)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handlePostChangedEvent(PostChangedEvent event) {
+        evict(event.getPostId());
+    }
+
+    @Override
+    public CacheStatsResponseDto stats() {
+        return CacheStatsResponseDto.of(NAME, cache.estimatedSize(), cache.stats());
+    }
+
+    private SerializedPost serialize(PostResponseDto post) {
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(post);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize post " + post.getId(), e);
+        }
+        byte[] gzip = gzipEnabled && json.length >= gzipMinBytes ? gzip(json) : null;
+        PostVersionDto version = post.toVersion();
+        return new SerializedPost(version.getVersion(), version.getETag(), version.getLastModifiedMillis(), json, gzip);
+    }
+
+    /**
+     * 동시에 적재된 두 항목 중 기존 항목이 더 새로운 버전이면 true를 반환합니다.
+     * 느리게 끝난 이전 버전의 직렬화가 최신 항목을 덮어쓰지 않도록 합니다.
+     */
+    private static boolean isNewer(SerializedPost existing, SerializedPost created) {
+        return existing.getVersion() != null && created.getVersion() != null
+                && existing.getVersion() > created.getVersion();
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(json.length / 2);
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+            out.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+
+    /**
+     * 직렬화된 게시글 응답과 응답 헤더에 필요한 버전 정보.
+     */
+    @Getter
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class SerializedPost {
+
+        private final Long version;            // 직렬화 당시의 게시글 버전
+        private final String eTag;             // ETag 헤더 값
+        private final long lastModifiedMillis; // Last-Modified 헤더 값 (없으면 -1)
+        private final byte[] json;             // 직렬화된 JSON (UTF-8)
+        private final byte[] gzip;             // gzip으로 압축한 JSON (작은 응답이거나 비활성화된 경우 null)
+
+        /**
+         * 클라이언트가 gzip을 허용하고 압축 바이트가 있으면 압축 바이트를 사용할지 여부를 반환합니다.
+         *
+         * @param acceptEncoding 요청의 Accept-Encoding 헤더 값 (없으면 null)
+         * @return gzip 압축 바이트를 응답해도 되면 true
+         */
+        public boolean useGzip(String acceptEncoding) {
+            return gzip != null && acceptsGzip(acceptEncoding);
+        }
+
+        private int weight() {
+            return BASE_WEIGHT + json.length + (gzip == null ? 0 : gzip.length);
+        }
+
+        private static boolean acceptsGzip(String acceptEncoding) {
+            if (acceptEncoding == null) {
+                return false;
+            }
+            for (String coding : acceptEncoding.split(",")) {
+                String[] parts = coding.trim().split(";");
+                if (!parts[0].trim().equalsIgnoreCase("gzip")) {
+                    continue;
+                }
+                for (int i = 1; i < parts.length; i++) {
+                    if (parts[i].replace(" ", "").matches("q=0(\\.0*)?")) {
+                        return false; // gzip;q=0 은 명시적인 거부
+                    }
+                }
+                return true;
+            }
+            return false;
+        }
+    }
+}
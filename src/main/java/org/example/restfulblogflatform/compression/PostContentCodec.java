@@ -0,0 +1,117 @@
+package org.example.restfulblogflatform.compression;
+
+import org.example.restfulblogflatform.dto.post.response.PostSummaryDto;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 게시글 본문의 압축 저장 형식을 인코딩/디코딩하는 유틸리티 클래스.
+ *
+ * 저장 형식: [본문 앞부분 EXCERPT_LENGTH자(평문)] + [마커] + [나머지 본문의 Deflate 압축 결과(Base64)]
+ *
+ * 앞부분을 평문으로 남겨 두므로 목록 조회의 SUBSTRING 요약(excerpt) 쿼리는 압축 여부와 관계없이 동작하며,
+ * 마커 뒤의 문자열이 압축 본문입니다. 글자 수는 DB의 SUBSTRING과 같도록 코드 포인트 기준으로 셉니다.
+ */
+public final class PostContentCodec {
+
+    /**
+     * 압축 본문의 시작을 나타내는 마커 (유니코드 사용자 정의 영역 문자 + 형식 식별자)
+     */
+    static final String MARKER = "\uE000DF1:";
+
+    private PostContentCodec() {
+    }
+
+    /**
+     * 본문을 압축 저장 형식으로 변환합니다.
+     *
+     * @param content 원본 본문
+     * @return 압축 저장 형식의 본문 (앞부분 외에 압축할 내용이 없으면 원본 그대로)
+     */
+    public static String compress(String content) {
+        int split = splitIndex(content);
+        if (split < 0) {
+            return content;
+        }
+
+        byte[] input = content.substring(split).getBytes(StandardCharsets.UTF_8);
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+        try {
+            deflater.setInput(input);
+            deflater.finish();
+            ByteArrayOutputStream output = new ByteArrayOutputStream(Math.max(64, input.length / 2));
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                output.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return content.substring(0, split) + MARKER + Base64.getEncoder().encodeToString(output.toByteArray());
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * 저장된 본문을 원본으로 복원합니다. 압축되지 않은 본문은 그대로 반환합니다.
+     *
+     * @param stored 저장된 본문
+     * @return 원본 본문
+     * @throws IllegalStateException 압축 본문이 손상된 경우
+     */
+    public static String decompress(String stored) {
+        if (!isCompressed(stored)) {
+            return stored;
+        }
+
+        int split = splitIndex(stored);
+        byte[] input = Base64.getDecoder().decode(stored.substring(split + MARKER.length()));
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(input);
+            ByteArrayOutputStream output = new ByteArrayOutputStream(input.length * 4);
+            byte[] buffer = new byte[8192];
+            while (!inflater.finished()) {
+                int read = inflater.inflate(buffer);
+                if (read == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalStateException("Truncated compressed post content");
+                }
+                output.write(buffer, 0, read);
+            }
+            return stored.substring(0, split) + output.toString(StandardCharsets.UTF_8);
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Corrupted compressed post content", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    /**
+     * 저장된 본문이 압축 형식인지 확인합니다.
+     *
+     * @param stored 저장된 본문
+     * @return 요약 길이 위치에 마커가 있으면 true
+     */
+    public static boolean isCompressed(String stored) {
+        int split = splitIndex(stored);
+        return split >= 0 && stored.startsWith(MARKER, split);
+    }
+
+    /**
+     * 평문으로 남겨 둘 앞부분이 끝나는 위치를 반환합니다.
+     *
+     * @return 앞부분 EXCERPT_LENGTH 코드 포인트 다음의 인덱스 (본문이 그보다 짧으면 -1)
+     */
+    private static int splitIndex(String content) {
+        if (content == null || content.length() <= PostSummaryDto.EXCERPT_LENGTH) {
+            return -1;
+        }
+        if (content.codePointCount(0, content.length()) <= PostSummaryDto.EXCERPT_LENGTH) {
+            return -1;
+        }
+        return content.offsetByCodePoints(0, PostSummaryDto.EXCERPT_LENGTH);
+    }
+}
@@ -0,0 +1,86 @@
+package org.example.restfulblogflatform.compression;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글 본문을 저장할 때 압축 여부를 결정하는 컴포넌트.
+ *
+ * post.content.compression.enabled가 true인 경우에만 동작하며(기본값 false),
+ * 본문 크기가 임계값을 넘고 압축 결과가 원본보다 작을 때만 압축 형식으로 저장합니다.
+ * 크기는 컬럼에 실제로 저장되는 UTF-8 바이트 수로 비교합니다. (한글은 문자당 3바이트이므로 문자 수로는 판단할 수 없음)
+ * 읽기는 설정과 관계없이 PostContentCodec이 형식을 판별하여 복원합니다.
+ */
+@Component
+public class PostContentCompressor {
+
+    private final boolean enabled;
+    private final int thresholdBytes;
+
+    /**
+     * @param enabled        본문 압축 저장 사용 여부
+     * @param thresholdBytes 압축을 적용할 최소 본문 크기 (UTF-8 바이트 수)
+     */
+    public PostContentCompressor(@Value("${post.content.compression.enabled:false}") boolean enabled,
+                                 @Value("${post.content.compression.threshold-bytes:4096}") int thresholdBytes) {
+        this.enabled = enabled;
+        this.thresholdBytes = thresholdBytes;
+    }
+
+    /**
+     * 본문을 저장 형식으로 변환합니다.
+     *
+     * 압축하지 않은 본문이 우연히 압축 형식으로 해석될 수 있는 경우에는 설정과 관계없이 압축하여
+     * 읽을 때 원본이 그대로 복원되도록 합니다.
+     *
+     * @param content 원본 본문 (null이면 null 반환)
+     * @return 저장할 본문
+     */
+    public String encode(String content) {
+        if (content == null) {
+            return null;
+        }
+        if (PostContentCodec.isCompressed(content)) {
+            return PostContentCodec.compress(content);
+        }
+        if (!enabled) {
+            return content;
+        }
+        int contentBytes = utf8Length(content);
+        if (contentBytes <= thresholdBytes) {
+            return content;
+        }
+
+        String compressed = PostContentCodec.compress(content);
+        return utf8Length(compressed) < contentBytes ? compressed : content;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int getThresholdBytes() {
+        return thresholdBytes;
+    }
+
+    /**
+     * 문자열을 UTF-8로 인코딩했을 때의 바이트 수를 바이트 배열을 만들지 않고 계산합니다.
+     */
+    static int utf8Length(CharSequence text) {
+        int bytes = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                bytes += 1;
+            } else if (c < 0x800) {
+                bytes += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < text.length() && Character.isLowSurrogate(text.charAt(i + 1))) {
+                bytes += 4; // 서로게이트 쌍 (보조 평면 문자)
+                i++;
+            } else {
+                bytes += 3; // 짝이 없는 서로게이트는 인코딩 시 '?'(1바이트)로 바뀌지만 상한으로 계산
+            }
+        }
+        return bytes;
+    }
+}
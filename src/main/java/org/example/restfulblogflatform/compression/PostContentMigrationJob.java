@@ -0,0 +1,86 @@
+package org.example.restfulblogflatform.compression;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.restfulblogflatform.dto.post.PostStoredContentDto;
+import org.example.restfulblogflatform.repository.PostRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 기존 게시글 본문을 압축 저장 형식으로 일괄 변환하는 백그라운드 작업.
+ *
+ * post.content.compression.migration.enabled가 true이고 본문 압축이 활성화된 경우에만 동작합니다.
+ * 게시글 ID 기준 키셋(keyset) 방식으로 한 주기마다 한 배치씩 처리하며, 배치마다 별도의 트랜잭션을 사용합니다.
+ * 변환은 버전 조건을 건 벌크 UPDATE로 수행하므로, 조회 후 게시글이 수정된 경우에는 해당 행을 건너뛰고
+ * 논리적인 본문이 바뀌지 않으므로 버전(ETag)도 증가시키지 않습니다.
+ */
+@Slf4j
+@Component
+public class PostContentMigrationJob {
+
+    private final PostRepository postRepository;
+    private final PostContentCompressor postContentCompressor;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+
+    private volatile long lastId = 0L;       // 마지막으로 처리한 게시글 ID
+    private volatile boolean completed = false;
+    private long convertedCount = 0L;
+
+    public PostContentMigrationJob(PostRepository postRepository,
+                                   PostContentCompressor postContentCompressor,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${post.content.compression.migration.enabled:false}") boolean enabled,
+                                   @Value("${post.content.compression.migration.batch-size:200}") int batchSize) {
+        this.postRepository = postRepository;
+        this.postContentCompressor = postContentCompressor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 다음 배치를 변환합니다. 더 이상 변환할 게시글이 없으면 작업을 종료합니다.
+     */
+    @Scheduled(fixedDelayString = "${post.content.compression.migration.interval-ms:1000}")
+    public void migrateNextBatch() {
+        if (!enabled || completed || !postContentCompressor.isEnabled()) {
+            return;
+        }
+
+        Integer processed = transactionTemplate.execute(status -> {
+            // 문자당 최대 4바이트이므로 문자 수로 후보를 넓게 고르고, 압축 여부는 encode에서 바이트 수로 판단
+            List<PostStoredContentDto> rows = postRepository.findStoredContentBatch(
+                    lastId, postContentCompressor.getThresholdBytes() / 4, PageRequest.ofSize(batchSize));
+            for (PostStoredContentDto row : rows) {
+                if (PostContentCodec.isCompressed(row.getStoredContent())) {
+                    continue; // 이미 압축된 본문
+                }
+                String encoded = postContentCompressor.encode(row.getStoredContent());
+                if (!encoded.equals(row.getStoredContent())) {
+                    convertedCount += postRepository.updateStoredContent(row.getId(), row.getVersion(), encoded);
+                }
+            }
+            if (!rows.isEmpty()) {
+                lastId = rows.get(rows.size() - 1).getId();
+            }
+            return rows.size();
+        });
+
+        if (processed == null || processed == 0) {
+            completed = true;
+            log.info("Post content compression migration completed: {} posts converted", convertedCount);
+        }
+    }
+
+    public boolean isCompleted() {
+        return completed;
+    }
+}
@@ -17,6 +17,7 @@ import org.springframework.context.annotation.Configuration;
  *     max-file-size: 10MB
  *     max-request-size: 10MB
  *     path: /files
+ *     content-addressed: false
  */
 @Getter
 @Setter
@@ -72,4 +73,56 @@ public class FileProperties {
      * - 정적 리소스 접근 경로 설정
      */
     private String path;
+
+    /**
+     * 내용 주소 방식(content-addressed) 저장 여부 (기본값 false)
+     * true: 파일 내용의 SHA-256 다이제스트를 이름으로 저장하여 같은 내용은 한 번만 저장 (참조 수로 관리)
+     * false: 업로드마다 UUID 기반의 새 파일명으로 저장
+     *
+     * 전환 방법:
+     * - file_blobs 테이블이 생성되어 있는지 확인한 뒤 true로 설정하고 재시작
+     * - 기존 UUID 파일은 옮기거나 이름을 바꿀 필요가 없으며, 이후 업로드부터 blobs/ 아래에 저장됨
+     * - 기존 파일은 blob으로 변환되지 않으므로 같은 내용이 다시 업로드되어도 한 벌이 더 저장됨
+     * - FileBlobCollector는 file_blobs에 등록된 blob만 정리하므로 기존 UUID 파일은 삭제하지 않음
+     *
+     * 주의사항:
+     * - 설정을 바꿔도 기존 파일은 저장된 방식대로 관리됨 (false로 되돌려도 이미 저장된 blob은 참조 수로 계속 관리)
+     */
+    private boolean contentAddressed;
+
+    /**
+     * 단일 파일의 최대 허용 크기를 바이트 단위로 반환합니다.
+     *
+     * @return maxFileSize를 바이트로 변환한 값
+     */
+    public long getMaxFileSizeBytes() {
+        return parseSize(maxFileSize);
+    }
+
+    /**
+     * 하나의 요청에서 처리할 수 있는 전체 파일 크기의 최대값을 바이트 단위로 반환합니다.
+     *
+     * @return maxRequestSize를 바이트로 변환한 값
+     */
+    public long getMaxRequestSizeBytes() {
+        return parseSize(maxRequestSize);
+    }
+
+    /**
+     * 문자열로 표현된 크기를 바이트 단위로 변환합니다.
+     *
+     * 예: "10MB" -> 10485760 bytes (10 x 1024 x 1024)
+     *
+     * @param size 변환할 크기 문자열 (예: "10MB", "500KB")
+     * @return 바이트 단위 크기 값 반환
+     */
+    private static long parseSize(String size) {
+        size = size.toUpperCase();
+        if (size.endsWith("KB")) {
+            return Long.parseLong(size.substring(0, size.length() - 2)) * 1024;
+        } else if (size.endsWith("MB")) {
+            return Long.parseLong(size.substring(0, size.length() - 2)) * 1024 * 1024;
+        }
+        return Long.parseLong(size);
+    }
 }
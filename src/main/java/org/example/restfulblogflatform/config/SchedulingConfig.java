@@ -0,0 +1,14 @@
+package org.example.restfulblogflatform.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정을 위한 구성 클래스.
+ * 조회수 일괄 반영과 같은 주기적인 백그라운드 작업(@Scheduled)을 활성화합니다.
+ */
+@Configuration // Spring에서 설정 클래스로 인식되도록 지정
+@EnableScheduling // @Scheduled 어노테이션 기반 작업 실행 활성화
+public class SchedulingConfig {
+    // 별도의 설정이 필요하지 않으므로 클래스만 정의
+}
@@ -60,6 +60,14 @@ public class SecurityConfig {
                         .requestMatchers("/api/logout").authenticated()
                         // POST /api/posts 엔드포인트는 인증 필요
                         .requestMatchers(HttpMethod.POST, "/api/posts").authenticated()
+                        // 스트리밍 게시글 업로드는 인증 필요
+                        .requestMatchers(HttpMethod.POST, "/api/posts/stream").authenticated()
+                        // 게시글 부분 수정은 인증 필요 (작성자 확인은 PostService에서 수행)
+                        .requestMatchers(HttpMethod.PATCH, "/api/posts/**").authenticated()
+                        // 게시글 일괄 가져오기는 인증 필요 (가져오기 허용 목록 확인은 PostImportService에서 수행)
+                        .requestMatchers(HttpMethod.POST, "/api/posts/import").authenticated()
+                        // 전체 데이터 내보내기는 인증 필요 (내보내기 허용 목록 확인은 ExportService에서 수행)
+                        .requestMatchers("/api/export").authenticated()
                         // 그 외 모든 요청은 허용
                         .anyRequest().permitAll()
                 )
@@ -1,9 +1,25 @@
 package org.example.restfulblogflatform.config;
 
+import org.example.restfulblogflatform.upload.StreamingUploadMultipartResolver;
+import org.springframework.boot.autoconfigure.web.servlet.MultipartProperties;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.web.config.EnableSpringDataWebSupport;
+import org.springframework.web.multipart.MultipartResolver;
+import org.springframework.web.servlet.DispatcherServlet;
 
 @Configuration
 @EnableSpringDataWebSupport(pageSerializationMode = EnableSpringDataWebSupport.PageSerializationMode.VIA_DTO)
 public class WebConfig {
+
+    /**
+     * 스트리밍 업로드 경로를 제외하고 기본 MultipartResolver와 동일하게 동작하는 MultipartResolver를 등록합니다.
+     * (빈 이름이 multipartResolver여야 DispatcherServlet이 사용하며, 기본 자동 설정은 대체됨)
+     */
+    @Bean(name = DispatcherServlet.MULTIPART_RESOLVER_BEAN_NAME)
+    public MultipartResolver multipartResolver(MultipartProperties multipartProperties) {
+        StreamingUploadMultipartResolver resolver = new StreamingUploadMultipartResolver();
+        resolver.setResolveLazily(multipartProperties.isResolveLazily());
+        return resolver;
+    }
 }
@@ -0,0 +1,39 @@
+package org.example.restfulblogflatform.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.restfulblogflatform.cache.CacheStatsProvider;
+import org.example.restfulblogflatform.dto.cache.response.CacheStatsResponseDto;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 애플리케이션 내부 캐시 상태를 조회하는 REST 컨트롤러
+ *
+ * 캐시별 적중/미스/축출 통계를 제공하여 캐시 크기 설정을 점검할 수 있도록 합니다.
+ */
+@RestController
+@RequestMapping("/api/caches")
+@RequiredArgsConstructor
+public class CacheController {
+
+    private final List<CacheStatsProvider> caches;
+
+    /**
+     * 캐시 통계를 조회하는 엔드포인트
+     *
+     * @return 캐시별 통계 목록과 HTTP 200 OK 상태
+     *
+     * 요청 예시:
+     * GET /api/caches/stats
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<List<CacheStatsResponseDto>> getStats() {
+        return ResponseEntity.ok(caches.stream()
+                .map(CacheStatsProvider::stats)
+                .toList());
+    }
+}
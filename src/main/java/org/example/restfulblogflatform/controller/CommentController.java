@@ -1,18 +1,32 @@
 package org.example.restfulblogflatform.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.example.restfulblogflatform.cache.CommentFirstPageCache;
+import org.example.restfulblogflatform.cache.CommentFirstPageCache.CachedPage;
+import org.example.restfulblogflatform.dto.comment.CommentPageVersionDto;
 import org.example.restfulblogflatform.dto.comment.request.CommentRequestDto;
+import org.example.restfulblogflatform.dto.comment.response.CommentNodeDto;
 import org.example.restfulblogflatform.dto.comment.response.CommentResponseDto;
+import org.example.restfulblogflatform.dto.common.response.CursorPageResponseDto;
 import org.example.restfulblogflatform.security.CustomUserDetails;
 import org.example.restfulblogflatform.service.comment.CommentService;
+import org.example.restfulblogflatform.stream.CommentStreamHub;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.Map;
 
 /**
  * 댓글(Comment) 관련 REST API 컨트롤러.
@@ -26,14 +40,17 @@ import org.springframework.web.bind.annotation.*;
 public class CommentController {
 
     private final CommentService commentService;
+    private final CommentStreamHub commentStreamHub;
+    private final CommentFirstPageCache commentFirstPageCache;
 
     /**
      * 댓글 생성 API
      *
      * 특정 게시글에 댓글을 추가합니다. 인증된 사용자만 댓글 작성을 요청할 수 있습니다.
+     * 요청에 parentId가 있으면 해당 댓글 아래에 답글로 추가합니다.
      *
      * @param postId      댓글을 작성할 게시글의 ID
-     * @param requestDto  댓글 작성 요청 데이터 (댓글 내용 포함)
+     * @param requestDto  댓글 작성 요청 데이터 (댓글 내용, 답글 대상 댓글 ID 포함)
      * @param userDetails 인증된 사용자 정보 (현재 로그인된 사용자)
      * @return 생성된 댓글 정보와 HTTP 상태 코드 201 (Created)
      */
@@ -43,10 +60,13 @@ public class CommentController {
             @RequestBody CommentRequestDto requestDto,
             @AuthenticationPrincipal CustomUserDetails userDetails) {
 
-        // 댓글 생성 후 결과 반환
+        // 댓글(또는 답글) 생성 후 결과 반환
+        CommentResponseDto created = requestDto.getParentId() == null
+                ? commentService.add(postId, userDetails.getId(), requestDto.getContent())
+                : commentService.reply(postId, requestDto.getParentId(), userDetails.getId(), requestDto.getContent());
         return ResponseEntity
                 .status(HttpStatus.CREATED)
-                .body(commentService.add(postId, userDetails.getId(), requestDto.getContent()));
+                .body(created);
     }
 
     /**
@@ -54,16 +74,153 @@ public class CommentController {
      *
      * 특정 게시글에 달린 댓글 목록을 조회합니다. 조회된 데이터는 페이징 정보와 함께 반환됩니다.
      *
+     * 응답에 댓글 수와 최근 수정일로 만든 ETag, Last-Modified를 포함하며,
+     * 조건부 요청 헤더가 일치하면 댓글을 조회하지 않고 HTTP 304 Not Modified로 응답합니다.
+     * 기본 정렬(작성일 오름차순)의 첫 페이지는 버전과 함께 캐시에서 응답하며, 댓글이 변경되면 커밋 후 무효화됩니다.
+     *
      * @param postId   댓글을 조회할 게시글의 ID
      * @param pageable 페이징 요청 정보 (페이지 번호, 크기, 정렬 기준 등)
-     * @return 페이징 처리된 댓글 목록 (DTO 형태)
+     * @param request  조건부 요청 헤더 검사를 위한 요청 객체
+     * @return 페이징 처리된 댓글 목록 (DTO 형태), 변경이 없으면 HTTP 304 Not Modified
      */
     @GetMapping("/{postId}/comments")
     public ResponseEntity<Page<CommentResponseDto>> getComments(
             @PathVariable Long postId,
-            @PageableDefault(size = 10, sort = "createdDate", direction = Sort.Direction.ASC) Pageable pageable) {
+            @PageableDefault(size = 10, sort = "createdDate", direction = Sort.Direction.ASC) Pageable pageable,
+            WebRequest request) {
+
+        // 기본 정렬의 첫 페이지는 캐시된 버전과 목록으로 응답
+        if (commentFirstPageCache.isCacheable(pageable)) {
+            CachedPage cached = commentFirstPageCache.getOrLoad(postId,
+                    () -> commentService.getPageVersion(postId),
+                    firstPage -> commentService.getAll(postId, firstPage));
+            if (request.checkNotModified(cached.getVersion().getETag(), cached.getVersion().getLastModifiedMillis())) {
+                return null;
+            }
+            return okWithVersion(cached.getVersion()).body(cached.toPage(pageable));
+        }
+
+        // 댓글 목록이 변경되지 않았으면 304 반환 (헤더는 checkNotModified에서 설정)
+        CommentPageVersionDto version = commentService.getPageVersion(postId);
+        if (request.checkNotModified(version.getETag(), version.getLastModifiedMillis())) {
+            return null;
+        }
 
         // 페이징 처리된 댓글 목록 반환
-        return ResponseEntity.ok(commentService.getAll(postId, pageable));
+        return okWithVersion(version).body(commentService.getAll(postId, pageable));
+    }
+
+    /**
+     * 댓글 목록 버전으로 ETag, Last-Modified 헤더를 설정한 200 응답을 생성합니다. (댓글이 없으면 Last-Modified 생략)
+     */
+    private static ResponseEntity.BodyBuilder okWithVersion(CommentPageVersionDto version) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().eTag(version.getETag());
+        if (version.getLastModifiedMillis() > 0) {
+            response.lastModified(version.getLastModifiedMillis());
+        }
+        return response;
+    }
+
+    /**
+     * 댓글 미리보기 일괄 조회 API
+     *
+     * 피드처럼 여러 게시글을 보여주는 화면을 위해 게시글마다 최신 댓글 몇 개를 한 번에 조회합니다.
+     * 게시글 수와 관계없이 하나의 쿼리로 처리됩니다.
+     *
+     * @param postIds 게시글 ID 목록 (최대 100개)
+     * @param limit   게시글마다 포함할 최신 댓글 수 (최대 10)
+     * @return 게시글 ID별 최신 댓글 목록 (최신순, 댓글이 없으면 빈 목록)
+     *
+     * 요청 예시:
+     * GET /api/posts/comments/preview?postIds=1,2,3&limit=3
+     */
+    @GetMapping("/comments/preview")
+    public ResponseEntity<Map<Long, List<CommentResponseDto>>> getCommentPreviews(
+            @RequestParam List<Long> postIds,
+            @RequestParam(defaultValue = "3") int limit) {
+        return ResponseEntity.ok(commentService.getLatestByPosts(postIds, limit));
+    }
+
+    /**
+     * 실시간 댓글 스트림 API (Server-Sent Events)
+     *
+     * 게시글에 댓글이 작성/수정/삭제되면 커밋 직후 이벤트로 전달합니다. 목록을 주기적으로 다시 조회(폴링)하는 대신 사용하며,
+     * 연결 중에는 DB를 조회하지 않습니다. 이벤트 이름은 comment(생성), comment-updated(수정), comment-deleted(삭제)이고,
+     * 연결이 종료되면 클라이언트(EventSource)가 재연결한 뒤 댓글 목록을 다시 조회해야 합니다.
+     *
+     * @param postId 댓글을 구독할 게시글의 ID
+     * @param userDetails 인증된 사용자 정보 (없으면 클라이언트 IP 기준으로 구독 수를 제한)
+     * @param request 클라이언트 IP 확인용 요청 객체
+     * @return SSE 연결 (게시글이 없으면 HTTP 400, 동시 구독자 수가 한도에 도달하면 HTTP 503 Service Unavailable,
+     *         클라이언트별 구독 수가 한도에 도달하면 HTTP 429 Too Many Requests)
+     *
+     * 요청 예시:
+     * GET /api/posts/{postId}/comments/stream (Accept: text/event-stream)
+     */
+    @GetMapping(path = "/{postId}/comments/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamComments(@PathVariable Long postId,
+                                     @AuthenticationPrincipal CustomUserDetails userDetails,
+                                     HttpServletRequest request) {
+        String clientKey = userDetails != null ? "user:" + userDetails.getId() : "ip:" + request.getRemoteAddr();
+        return commentStreamHub.subscribe(postId, clientKey);
+    }
+
+    /**
+     * 댓글 스크롤 조회 API
+     *
+     * 무한 스크롤 클라이언트를 위해 전체 개수(COUNT) 없이 댓글 목록과 다음 페이지 존재 여부만 반환합니다.
+     *
+     * @param postId   댓글을 조회할 게시글의 ID
+     * @param pageable 페이징 요청 정보 (페이지 번호, 크기, 정렬 기준 등)
+     * @return 댓글 목록과 다음 페이지 존재 여부를 담은 Slice
+     *
+     * 요청 예시:
+     * GET /api/posts/{postId}/comments/scroll?page=0&size=20
+     */
+    @GetMapping("/{postId}/comments/scroll")
+    public ResponseEntity<Slice<CommentResponseDto>> getCommentSlice(
+            @PathVariable Long postId,
+            @PageableDefault(size = 10, sort = "createdDate", direction = Sort.Direction.ASC) Pageable pageable) {
+        return ResponseEntity.ok(commentService.getSlice(postId, pageable));
+    }
+
+    /**
+     * 댓글 스레드 목록 조회 API
+     *
+     * 루트 댓글을 작성 순으로 조회하고, 스레드마다 앞쪽 답글을 중첩된 형태로 함께 반환합니다.
+     * 생략된 답글이 있는 스레드는 moreReplies가 true이며, 스레드 전체는 스레드 조회 API로 조회합니다.
+     *
+     * @param postId  게시글의 ID
+     * @param cursor  이전 응답의 nextCursor (첫 페이지는 생략)
+     * @param limit   조회할 스레드 수 (최대 50)
+     * @param replies 스레드마다 포함할 답글 수 (최대 50)
+     * @return 스레드 목록과 다음 페이지 커서
+     *
+     * 요청 예시:
+     * GET /api/posts/{postId}/comments/threads?limit=10&replies=3
+     */
+    @GetMapping("/{postId}/comments/threads")
+    public ResponseEntity<CursorPageResponseDto<CommentNodeDto>> getThreads(
+            @PathVariable Long postId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int limit,
+            @RequestParam(defaultValue = "3") int replies) {
+        return ResponseEntity.ok(commentService.getThreads(postId, cursor, limit, replies));
+    }
+
+    /**
+     * 댓글 스레드 조회 API
+     *
+     * 특정 댓글과 그 아래의 답글 전체를 중첩된 형태로 반환합니다.
+     *
+     * @param postId    게시글의 ID
+     * @param commentId 기준 댓글의 ID (루트 댓글이면 스레드 전체)
+     * @return 답글이 중첩된 댓글 노드
+     */
+    @GetMapping("/{postId}/comments/{commentId}/thread")
+    public ResponseEntity<CommentNodeDto> getThread(
+            @PathVariable Long postId,
+            @PathVariable Long commentId) {
+        return ResponseEntity.ok(commentService.getThread(postId, commentId));
     }
 }
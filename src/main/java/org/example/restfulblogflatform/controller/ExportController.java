@@ -0,0 +1,56 @@
+package org.example.restfulblogflatform.controller;
+
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.example.restfulblogflatform.security.CustomUserDetails;
+import org.example.restfulblogflatform.service.export.ExportFormat;
+import org.example.restfulblogflatform.service.export.ExportService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 전체 데이터 내보내기 REST 컨트롤러
+ *
+ * 분석용으로 작성자, 게시글, 댓글 전체를 NDJSON 또는 CSV로 내려받습니다.
+ * 응답은 버퍼링 없이 응답 스트림에 바로 기록됩니다. 내보내기 허용 목록에 있는 사용자만 호출할 수 있습니다.
+ */
+@RestController
+@RequestMapping("/api/export")
+@RequiredArgsConstructor
+public class ExportController {
+
+    private final ExportService exportService;
+
+    /**
+     * 전체 데이터를 내보내는 엔드포인트
+     *
+     * @param format 출력 형식 (ndjson 또는 csv, 기본값 ndjson)
+     * @param userDetails 인증된 사용자 정보 (내보내기 허용 목록에 있는 사용자만 호출 가능, 그 외 HTTP 403 Forbidden)
+     * @param response 결과를 기록할 응답 객체
+     *
+     * 요청 예시:
+     * GET /api/export?format=ndjson
+     * GET /api/export?format=csv
+     */
+    @GetMapping
+    public void export(@RequestParam(defaultValue = "ndjson") String format,
+                       @AuthenticationPrincipal CustomUserDetails userDetails,
+                       HttpServletResponse response) throws IOException {
+        exportService.checkExportAllowed(userDetails.getUsername());
+        ExportFormat exportFormat = ExportFormat.from(format);
+
+        response.setContentType(exportFormat.getContentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"blog-export." + exportFormat.getFileExtension() + "\"");
+
+        exportService.export(exportFormat, response.getOutputStream());
+    }
+}
@@ -1,11 +1,23 @@
 package org.example.restfulblogflatform.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.example.restfulblogflatform.cache.PostResponseBytesCache;
+import org.example.restfulblogflatform.cache.PostResponseBytesCache.SerializedPost;
+import org.example.restfulblogflatform.dto.common.response.CursorPageResponseDto;
+import org.example.restfulblogflatform.dto.post.PostVersionDto;
+import org.example.restfulblogflatform.dto.post.request.PostPatchRequestDto;
 import org.example.restfulblogflatform.dto.post.request.PostRequestDto;
+import org.example.restfulblogflatform.dto.post.response.PostImportResultDto;
 import org.example.restfulblogflatform.dto.post.response.PostResponseDto;
+import org.example.restfulblogflatform.dto.post.response.PostSearchResultDto;
+import org.example.restfulblogflatform.dto.post.response.PostSummaryDto;
 import org.example.restfulblogflatform.security.CustomUserDetails;
+import org.example.restfulblogflatform.service.post.PostImportService;
 import org.example.restfulblogflatform.service.post.PostService;
+import org.example.restfulblogflatform.service.post.PostUploadService;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -13,11 +25,16 @@ import org.springframework.data.web.PageableDefault;
 import org.springframework.data.web.PagedResourcesAssembler;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.PagedModel;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.IOException;
+import java.util.List;
 
 /**
  * 게시글(Post) 관련 요청을 처리하는 REST 컨트롤러
@@ -31,7 +48,10 @@ import org.springframework.web.bind.annotation.*;
 public class PostController {
 
     private final PostService postService;
-    private final PagedResourcesAssembler<PostResponseDto> pagedResourcesAssembler;
+    private final PostImportService postImportService;
+    private final PostUploadService postUploadService;
+    private final PostResponseBytesCache postResponseBytesCache; // 직렬화된 게시글 응답 캐시
+    private final PagedResourcesAssembler<PostSummaryDto> pagedResourcesAssembler;
 
     /**
      * 새로운 게시글을 생성하는 엔드포인트
@@ -57,43 +77,237 @@ public class PostController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    /**
+     * multipart 본문을 스트리밍으로 처리하여 새로운 게시글을 생성하는 엔드포인트
+     *
+     * 서블릿 컨테이너의 multipart 처리(임시 파일 기록)를 거치지 않고 요청 본문을 파트 단위로 읽으며,
+     * 첨부 파일은 최종 저장 위치에 한 번만 기록됩니다. 파일 크기 제한은 기록 중에 검사합니다.
+     * title, content 필드를 files 파트보다 먼저 보내는 것을 권장하지만 순서는 강제하지 않습니다.
+     *
+     * @param request 요청 본문과 Content-Type(boundary)을 읽기 위한 요청 객체
+     * @param userDetails 인증된 사용자 정보
+     * @return 생성된 게시글 정보와 HTTP 201 Created 상태
+     *
+     * 요청 예시:
+     * POST /api/posts/stream
+     * Content-Type: multipart/form-data; boundary=...
+     *
+     * - title: 게시글 제목
+     * - content: 게시글 내용
+     * - files: 첨부파일들 (선택적)
+     */
+    @PostMapping(value = "/stream", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<PostResponseDto> createPostStreaming(
+            HttpServletRequest request,
+            @AuthenticationPrincipal CustomUserDetails userDetails) throws IOException {
+
+        PostResponseDto response = postUploadService.upload(request.getInputStream(), request.getContentType(), userDetails.getId());
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    /**
+     * 게시글을 NDJSON 형식으로 일괄 가져오는 엔드포인트
+     *
+     * 요청 본문을 한 줄씩 읽어 처리하므로 대용량 입력도 메모리에 모두 올리지 않습니다.
+     *
+     * @param request 요청 본문(NDJSON)을 읽기 위한 요청 객체
+     * @param batchSize JDBC 배치 크기 (생략 시 기본값)
+     * @param userDetails 인증된 사용자 정보 (가져오기 허용 목록에 있는 사용자만 호출 가능, 그 외 HTTP 403 Forbidden)
+     * @return 처리 건수, 처리 속도, 거부된 레코드 정보와 HTTP 200 OK 상태
+     *
+     * 요청 예시:
+     * POST /api/posts/import?batchSize=1000
+     * Content-Type: application/x-ndjson
+     *
+     * {"authorEmail":"user@example.com","title":"제목","content":"내용","createdAt":"2020-01-01T09:00:00","viewCount":3}
+     */
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<PostImportResultDto> importPosts(
+            HttpServletRequest request,
+            @RequestParam(required = false) Integer batchSize,
+            @AuthenticationPrincipal CustomUserDetails userDetails) throws IOException {
+        return ResponseEntity.ok(postImportService.importPosts(request.getInputStream(), batchSize, userDetails.getUsername()));
+    }
+
     /**
      * 특정 게시글을 조회하는 엔드포인트
      *
+     * 응답에 ETag(게시글 버전)와 Last-Modified(수정일)를 포함합니다.
+     * If-None-Match / If-Modified-Since가 현재 버전과 일치하면 게시글 본문을 조회하지 않고
+     * HTTP 304 Not Modified로 응답하며, 이 경우 조회수는 증가하지 않습니다.
+     *
+     * 같은 버전으로 직렬화해 둔 응답이 PostResponseBytesCache에 있으면 직렬화 없이 바이트를 그대로 응답하고,
+     * 클라이언트가 gzip을 허용하면 미리 압축해 둔 바이트를 Content-Encoding: gzip으로 응답합니다.
+     *
      * @param postId 조회할 게시글의 고유 식별자
-     * @return 조회된 게시글 정보와 HTTP 200 OK 상태
-
+     * @param request 조건부 요청 헤더 검사를 위한 요청 객체
+     * @param response 직렬화된 응답 바이트를 쓸 응답 객체
+     *
      * 요청 예시:
      * GET /api/posts/{postId}
+     * If-None-Match: "v3"
+     * Accept-Encoding: gzip
      */
     @GetMapping("/{postId}")
-    public ResponseEntity<PostResponseDto> getPost(@PathVariable Long postId) {
-        return ResponseEntity.ok(postService.getResponseDto(postId));
+    public void getPost(@PathVariable Long postId, WebRequest request, HttpServletResponse response) throws IOException {
+        PostVersionDto version = postService.getVersion(postId);
+        if (request.checkNotModified(version.getETag(), version.getLastModifiedMillis())) {
+            return; // 304 Not Modified (헤더는 checkNotModified에서 설정)
+        }
+
+        SerializedPost serialized = postResponseBytesCache.getIfCurrent(version);
+        if (serialized != null) {
+            postService.recordView(postId);
+        } else {
+            serialized = postResponseBytesCache.put(postService.getResponseDto(postId));
+        }
+        writeSerializedPost(serialized, request.getHeader(HttpHeaders.ACCEPT_ENCODING), response);
+    }
+
+    /**
+     * 직렬화된 게시글 응답을 헤더와 함께 출력 스트림에 씁니다.
+     */
+    private void writeSerializedPost(SerializedPost serialized, String acceptEncoding,
+                                     HttpServletResponse response) throws IOException {
+        boolean gzip = serialized.useGzip(acceptEncoding);
+        byte[] body = gzip ? serialized.getGzip() : serialized.getJson();
+
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setHeader(HttpHeaders.ETAG, serialized.getETag());
+        if (serialized.getLastModifiedMillis() > 0) {
+            response.setDateHeader(HttpHeaders.LAST_MODIFIED, serialized.getLastModifiedMillis());
+        }
+        if (serialized.getGzip() != null) {
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
     }
 
     /**
      * 게시글 목록을 페이징하여 조회하는 엔드포인트
+     * 본문 전체 대신 요약(excerpt)과 첨부 파일 메타데이터만 반환합니다.
      *
      * @param pageable 페이징 정보 (페이지 번호, 크기, 정렬 기준)
-     * @return 페이징된 게시글 목록과 HTTP 200 OK 상태
+     * @param exactCount 전체 개수를 COUNT(*)로 정확히 조회할지 여부
+     * @return 페이징된 게시글 요약 목록과 HTTP 200 OK 상태
      *
      * 기본 설정:
      * - 페이지 크기: 10개
      * - 정렬: 생성일 기준 내림차순
+     * - 전체 개수: 증분 관리되는 근사값 (exactCount=true 시 COUNT(*) 실행)
      *
      * 요청 예시:
      * GET /api/posts?page=0&size=10&sort=createdDate,desc
+     * GET /api/posts?page=0&size=10&exactCount=true
      */
     @GetMapping
-    public ResponseEntity<PagedModel<EntityModel<PostResponseDto>>> getAllPosts(
+    public ResponseEntity<PagedModel<EntityModel<PostSummaryDto>>> getAllPosts(
             @PageableDefault(size = 10, sort = "createdDate", direction = Sort.Direction.DESC)
-            Pageable pageable) {
-        Page<PostResponseDto> posts = postService.getAll(pageable);
-        PagedModel<EntityModel<PostResponseDto>> pagedModel =
+            Pageable pageable,
+            @RequestParam(defaultValue = "false") boolean exactCount) {
+        Page<PostSummaryDto> posts = postService.getSummaries(pageable, exactCount);
+        PagedModel<EntityModel<PostSummaryDto>> pagedModel =
                 pagedResourcesAssembler.toModel(posts);
         return ResponseEntity.ok(pagedModel);
     }
 
+    /**
+     * 전체 게시글 수를 조회하는 엔드포인트
+     *
+     * @param exact true이면 COUNT(*)로 정확한 값을 조회 (기본값: 증분 관리되는 근사값)
+     * @return 전체 게시글 수와 HTTP 200 OK 상태
+     *
+     * 요청 예시:
+     * GET /api/posts/count
+     * GET /api/posts/count?exact=true
+     */
+    @GetMapping("/count")
+    public ResponseEntity<Long> getPostCount(@RequestParam(defaultValue = "false") boolean exact) {
+        return ResponseEntity.ok(postService.count(exact));
+    }
+
+    /**
+     * 게시글을 검색하는 엔드포인트
+     * 제목과 본문을 대상으로 하며, 한글은 2-gram 단위로 색인되어 부분 일치 검색이 가능합니다.
+     *
+     * @param query 검색어
+     * @param page 페이지 번호 (0부터 시작)
+     * @param size 페이지 크기 (최대 50)
+     * @return 관련도(BM25) 순으로 정렬된 검색 결과와 HTTP 200 OK 상태
+     *
+     * 요청 예시:
+     * GET /api/posts/search?query=스프링 트랜잭션&page=0&size=10
+     */
+    @GetMapping("/search")
+    public ResponseEntity<List<PostSearchResultDto>> searchPosts(
+            @RequestParam String query,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(postService.search(query, page, size));
+    }
+
+    /**
+     * 게시글 목록을 커서 기반으로 조회하는 엔드포인트 (무한 스크롤용)
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 생략)
+     * @param size 조회할 게시글 수 (최대 100)
+     * @return 게시글 요약 목록과 다음 페이지 커서, HTTP 200 OK 상태
+     *
+     * 기본 설정:
+     * - 페이지 크기: 10개
+     * - 정렬: 생성일, ID 기준 내림차순 (고정)
+     * - 전체 개수(COUNT)는 조회하지 않음
+     *
+     * 요청 예시:
+     * GET /api/posts/cursor?size=10
+     * GET /api/posts/cursor?cursor={nextCursor}&size=10
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPageResponseDto<PostSummaryDto>> getPostsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(postService.getSummariesByCursor(cursor, size));
+    }
+
+    /**
+     * 게시글을 부분 수정하는 엔드포인트
+     *
+     * 요청 본문에 포함된 필드만 변경하며, 변경된 컬럼만 UPDATE합니다.
+     * If-Match 헤더에는 게시글 조회 시 받은 ETag를 전달해야 하며, 그 사이 게시글이 수정되었다면
+     * 덮어쓰지 않고 HTTP 412 Precondition Failed로 응답합니다. (헤더가 없으면 HTTP 428 Precondition Required)
+     *
+     * @param postId 수정할 게시글의 고유 식별자
+     * @param ifMatch 조회 시 받은 게시글의 ETag
+     * @param request 변경할 제목 및 내용
+     * @param userDetails 인증된 사용자 정보 (작성자가 아니면 HTTP 403 Forbidden)
+     * @return 수정된 게시글 정보와 새 ETag, HTTP 200 OK 상태
+     *
+     * 요청 예시:
+     * PATCH /api/posts/{postId}
+     * If-Match: "v3"
+     * Content-Type: application/json
+     *
+     * {"title": "새 제목"}
+     */
+    @PatchMapping("/{postId}")
+    public ResponseEntity<PostResponseDto> patchPost(
+            @PathVariable Long postId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody @Valid PostPatchRequestDto request,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        PostResponseDto response = postService.patch(postId, userDetails.getId(), ifMatch, request.getTitle(), request.getContent());
+        PostVersionDto version = response.toVersion();
+        return ResponseEntity.ok()
+                .eTag(version.getETag())
+                .lastModified(version.getLastModifiedMillis())
+                .body(response);
+    }
+
     /**
      * 특정 게시글을 삭제하는 엔드포인트
      *
@@ -0,0 +1,39 @@
+package org.example.restfulblogflatform.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.restfulblogflatform.dto.post.response.TrendingPostDto;
+import org.example.restfulblogflatform.trending.TrendingPostTracker;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 인기 게시글 조회 REST 컨트롤러
+ *
+ * 메모리에 유지되는 인기 게시글 스냅샷을 그대로 반환하므로 DB와 서비스 계층을 거치지 않습니다.
+ */
+@RestController
+@RequestMapping("/api/posts")
+@RequiredArgsConstructor
+public class TrendingController {
+
+    private final TrendingPostTracker trendingPostTracker;
+
+    /**
+     * 인기 게시글 목록을 조회하는 엔드포인트
+     *
+     * @param limit 조회할 게시글 수 (기본값 10)
+     * @return 시간 감쇠가 적용된 인기 점수 순 게시글 목록과 HTTP 200 OK 상태
+     *
+     * 요청 예시:
+     * GET /api/posts/trending?limit=10
+     */
+    @GetMapping("/trending")
+    public ResponseEntity<List<TrendingPostDto>> getTrendingPosts(@RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(trendingPostTracker.getTrending(limit));
+    }
+}
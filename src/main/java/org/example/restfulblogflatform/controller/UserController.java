@@ -2,17 +2,23 @@ package org.example.restfulblogflatform.controller;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.example.restfulblogflatform.dto.common.response.CursorPageResponseDto;
+import org.example.restfulblogflatform.dto.post.response.PostSummaryDto;
 import org.example.restfulblogflatform.dto.user.request.UserSignUpRequestDto;
+import org.example.restfulblogflatform.service.post.PostService;
 import org.example.restfulblogflatform.service.user.UserService;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 /**
  * 사용자(User) 관련 요청을 처리하는 컨트롤러.
- * 이 컨트롤러는 회원가입과 같은 사용자 관련 기능을 제공합니다.
+ * 이 컨트롤러는 회원가입과 작성자별 게시글 목록 조회 같은 사용자 관련 기능을 제공합니다.
  */
 @RestController // RESTful 웹 서비스를 위한 컨트롤러로 지정
 @RequestMapping("/api/users") // "/api/users" 경로로 들어오는 요청을 처리
@@ -20,6 +26,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class UserController {
 
     private final UserService userService; // 사용자 관련 비즈니스 로직을 처리하는 서비스
+    private final PostService postService; // 작성자별 게시글 목록 조회에 사용하는 서비스
 
     /**
      * 회원가입 요청 처리.
@@ -33,4 +40,24 @@ public class UserController {
         Long id = userService.add(request);
         return ResponseEntity.ok(id); // 생성된 사용자 ID를 HTTP 200 응답으로 반환
     }
+
+    /**
+     * 특정 사용자가 작성한 게시글 목록을 커서 기반으로 조회합니다.
+     *
+     * @param userId 작성자 ID
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 생략)
+     * @param size 조회할 게시글 수 (최대 100)
+     * @return ResponseEntity<CursorPageResponseDto<PostSummaryDto>> - 최신순 게시글 요약 목록과 다음 페이지 커서 (HTTP 200 OK)
+     *
+     * 요청 예시:
+     * GET /api/users/{userId}/posts?size=10
+     * GET /api/users/{userId}/posts?cursor={nextCursor}&size=10
+     */
+    @GetMapping("/{userId}/posts") // GET 요청으로 "/api/users/{userId}/posts" 경로 처리
+    public ResponseEntity<CursorPageResponseDto<PostSummaryDto>> getUserPosts(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(postService.getSummariesByUser(userId, cursor, size));
+    }
 }
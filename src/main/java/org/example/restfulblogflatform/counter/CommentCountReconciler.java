@@ -0,0 +1,95 @@
+package org.example.restfulblogflatform.counter;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.restfulblogflatform.event.post.PostChangedEvent;
+import org.example.restfulblogflatform.repository.PostRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 게시글 테이블에 비정규화된 댓글 수(comment_count)를 실제 댓글 수와 비교하여 보정하는 백그라운드 작업.
+ *
+ * 댓글 생성/삭제 시 SQL에서 증감하므로 평소에는 정확하지만, 컬럼 추가 이전의 데이터나
+ * 벌크 삭제, 수동 데이터 변경 등으로 어긋난 값을 주기적으로 바로잡습니다.
+ * 게시글 ID 기준 키셋(keyset) 방식으로 배치 단위로 검사하며, 배치마다 별도의 트랜잭션을 사용하고
+ * 값이 어긋난 게시글만 다시 계산합니다.
+ * 보정된 게시글마다 변경 이벤트를 발행하여 배치 트랜잭션 커밋 후 게시글 캐시가 무효화되도록 합니다.
+ */
+@Slf4j
+@Component
+public class CommentCountReconciler {
+
+    private final PostRepository postRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+
+    public CommentCountReconciler(PostRepository postRepository,
+                                  ApplicationEventPublisher eventPublisher,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${post.comment-count.reconcile.enabled:true}") boolean enabled,
+                                  @Value("${post.comment-count.reconcile.batch-size:500}") int batchSize) {
+        this.postRepository = postRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 모든 게시글의 댓글 수를 배치 단위로 검사하고 보정합니다.
+     *
+     * @return 보정된 게시글 수
+     */
+    @Scheduled(fixedDelayString = "${post.comment-count.reconcile.interval-ms:3600000}",
+            initialDelayString = "${post.comment-count.reconcile.initial-delay-ms:60000}")
+    public int reconcile() {
+        if (!enabled) {
+            return 0;
+        }
+
+        long lastId = 0L;
+        int repaired = 0;
+        while (true) {
+            long fromId = lastId;
+            BatchResult result = transactionTemplate.execute(status -> reconcileBatch(fromId));
+            if (result == null || result.lastId() == null) {
+                break;
+            }
+            repaired += result.repaired();
+            lastId = result.lastId();
+        }
+
+        if (repaired > 0) {
+            log.info("Comment count drift corrected for {} posts", repaired);
+        }
+        return repaired;
+    }
+
+    /**
+     * (fromId, fromId 이후 batchSize번째 게시글 ID] 범위의 댓글 수를 검사하고, 어긋난 게시글만 다시 계산합니다.
+     */
+    private BatchResult reconcileBatch(long fromId) {
+        List<Long> ids = postRepository.findIdsAfter(fromId, PageRequest.ofSize(batchSize));
+        if (ids.isEmpty()) {
+            return new BatchResult(null, 0);
+        }
+        Long toId = ids.get(ids.size() - 1);
+        List<Long> drifted = postRepository.findIdsWithCommentCountDrift(fromId, toId);
+        int repaired = drifted.isEmpty() ? 0 : postRepository.recountComments(drifted);
+        // 캐시에 남은 이전 댓글 수를 커밋 후 무효화
+        drifted.forEach(postId -> eventPublisher.publishEvent(new PostChangedEvent(postId, PostChangedEvent.Type.UPDATED)));
+        return new BatchResult(toId, repaired);
+    }
+
+    private record BatchResult(Long lastId, int repaired) {
+    }
+}
@@ -0,0 +1,87 @@
+package org.example.restfulblogflatform.counter;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.restfulblogflatform.event.post.PostChangedEvent;
+import org.example.restfulblogflatform.repository.PostRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 전체 게시글 수를 메모리에서 증분 관리하는 카운터.
+ *
+ * 게시글 목록을 페이징할 때마다 COUNT(*)를 실행하지 않도록, 게시글 생성/삭제 이벤트로 값을 갱신하고
+ * 주기적으로 실제 테이블 개수와 비교하여 보정(reconcile)합니다.
+ * 보정 주기 사이에는 다른 인스턴스에서의 변경 등으로 인해 근사값일 수 있습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostCountTracker {
+
+    private final PostRepository postRepository;
+
+    private final AtomicLong count = new AtomicLong();
+    private volatile boolean initialized = false;
+
+    /**
+     * 현재 게시글 수(근사값)를 반환합니다.
+     * 아직 초기화되지 않은 경우 한 번 COUNT(*)를 실행하여 초기화합니다.
+     *
+     * @return 게시글 수
+     */
+    public long get() {
+        if (!initialized) {
+            reconcile();
+        }
+        return count.get();
+    }
+
+    /**
+     * 실제 테이블의 게시글 수로 카운터를 보정합니다.
+     *
+     * @return 보정된 게시글 수
+     */
+    @Scheduled(fixedDelayString = "${post.count.reconcile-interval-ms:300000}",
+            initialDelayString = "${post.count.reconcile-interval-ms:300000}")
+    public long reconcile() {
+        long actual = postRepository.count();
+        long previous = count.getAndSet(actual);
+        if (initialized && previous != actual) {
+            log.info("Post count drift corrected: {} -> {}", previous, actual);
+        }
+        initialized = true;
+        return actual;
+    }
+
+    /**
+     * 애플리케이션 시작 시 카운터를 초기화합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        reconcile();
+    }
+
+    /**
+     * 게시글 생성/삭제 이벤트를 처리합니다.
+     * 트랜잭션이 커밋된 경우에만 카운터를 변경하여 롤백된 변경이 반영되지 않도록 합니다.
+     *
+     * @param event 게시글 변경 이벤트(PostChangedEvent)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handlePostChangedEvent(PostChangedEvent event) {
+        switch (event.getType()) {
+            case CREATED -> count.incrementAndGet();
+            case DELETED -> count.updateAndGet(value -> Math.max(0, value - 1));
+            default -> {
+                // 수정은 개수에 영향을 주지 않음
+            }
+        }
+    }
+}
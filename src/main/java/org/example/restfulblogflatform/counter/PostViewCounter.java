@@ -0,0 +1,127 @@
+package org.example.restfulblogflatform.counter;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.restfulblogflatform.cache.PostCache;
+import org.example.restfulblogflatform.repository.PostViewCountRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글 조회수를 메모리에 모아 두었다가 주기적으로 DB에 일괄 반영하는 Write-behind 카운터.
+ *
+ * 조회 요청마다 UPDATE를 실행하는 대신 게시글 ID별 LongAdder에 증가분을 누적하고,
+ * 스케줄러가 누적된 증가분을 하나의 트랜잭션에서 JDBC 배치 UPDATE로 반영합니다. (batchSize 건마다 DB 왕복 한 번)
+ * 인기 게시글에 대한 동시 조회가 하나의 행을 두고 경합하지 않도록 하기 위해 사용됩니다.
+ */
+@Slf4j
+@Component
+public class PostViewCounter {
+
+    private final PostViewCountRepository postViewCountRepository;
+    private final PostCache postCache;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    /**
+     * 아직 DB에 반영되지 않은 게시글별 조회수 증가분
+     */
+    private final ConcurrentHashMap<Long, LongAdder> pendingViews = new ConcurrentHashMap<>();
+
+    public PostViewCounter(PostViewCountRepository postViewCountRepository,
+                           PostCache postCache,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${post.view-count.batch-size:500}") int batchSize) {
+        this.postViewCountRepository = postViewCountRepository;
+        this.postCache = postCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 게시글 조회수를 1 증가시킵니다. (메모리에만 기록)
+     *
+     * @param postId 조회된 게시글의 ID
+     * @return 아직 DB에 반영되지 않은 해당 게시글의 조회수 증가분
+     */
+    public long increment(Long postId) {
+        LongAdder adder = pendingViews.computeIfAbsent(postId, id -> new LongAdder());
+        adder.increment();
+        return adder.sum();
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 조회수 증가분을 반환합니다.
+     *
+     * @param postId 게시글의 ID
+     * @return 반영 대기 중인 조회수 증가분 (없으면 0)
+     */
+    public long getPending(Long postId) {
+        LongAdder adder = pendingViews.get(postId);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    /**
+     * 누적된 조회수 증가분을 DB에 일괄 반영합니다.
+     * 반영에 실패한 경우 증가분을 다시 메모리에 되돌려 다음 주기에 재시도합니다.
+     * 반영된 증가분은 캐시(PostCache)된 DTO의 조회수에 더하여, 인기 게시글도 캐시에서 계속 조회되도록 합니다.
+     */
+    @Scheduled(fixedDelayString = "${post.view-count.flush-interval-ms:5000}")
+    public void flush() {
+        Map<Long, Long> drained = drain();
+        if (drained.isEmpty()) {
+            return;
+        }
+
+        long flush = postCache.beginViewFlush();
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    postViewCountRepository.addViewCounts(drained, batchSize));
+        } catch (RuntimeException e) {
+            postCache.completeViewFlush(flush, Map.of());
+            log.warn("Failed to flush view counts for {} posts, will retry: {}", drained.size(), e.getMessage());
+            drained.forEach((postId, delta) ->
+                    pendingViews.computeIfAbsent(postId, id -> new LongAdder()).add(delta));
+            return;
+        }
+
+        postCache.completeViewFlush(flush, drained);
+    }
+
+    /**
+     * 애플리케이션 종료 시 남아 있는 증가분을 반영합니다.
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * 누적된 증가분을 꺼내고 카운터를 초기화합니다.
+     * 증가분이 없는 카운터는 맵에서 제거하여 메모리 사용량이 조회된 게시글 수에 비례하도록 유지합니다.
+     */
+    private Map<Long, Long> drain() {
+        Map<Long, Long> drained = new HashMap<>();
+        pendingViews.forEach((postId, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta > 0) {
+                drained.put(postId, delta);
+            } else if (pendingViews.remove(postId, adder)) {
+                // 제거 직전에 들어온 증가분은 새 카운터로 옮겨 유실을 막습니다.
+                long late = adder.sum();
+                if (late > 0) {
+                    pendingViews.computeIfAbsent(postId, id -> new LongAdder()).add(late);
+                }
+            }
+        });
+        return drained;
+    }
+}
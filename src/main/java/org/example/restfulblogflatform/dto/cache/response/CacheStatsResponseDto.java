@@ -0,0 +1,42 @@
+package org.example.restfulblogflatform.dto.cache.response;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 캐시 통계 응답 데이터를 담는 DTO(Data Transfer Object).
+ * 애플리케이션 내부 캐시의 적중/미스/축출 현황을 반환할 때 사용됩니다.
+ */
+@Getter
+@AllArgsConstructor
+public class CacheStatsResponseDto {
+
+    private String name;           // 캐시 이름
+    private long estimatedSize;    // 현재 캐시에 저장된 항목 수 (근사치)
+    private long hitCount;         // 캐시 적중 횟수
+    private long missCount;        // 캐시 미스 횟수
+    private double hitRate;        // 캐시 적중률
+    private long evictionCount;    // 용량 초과 등으로 축출된 항목 수
+    private long evictionWeight;   // 축출된 항목들의 가중치 합
+
+    /**
+     * Caffeine 캐시 통계를 CacheStatsResponseDto로 변환하는 정적 팩토리 메서드.
+     *
+     * @param name 캐시 이름
+     * @param estimatedSize 현재 캐시 항목 수
+     * @param stats Caffeine 캐시 통계
+     * @return CacheStatsResponseDto - 변환된 응답 객체
+     */
+    public static CacheStatsResponseDto of(String name, long estimatedSize, CacheStats stats) {
+        return new CacheStatsResponseDto(
+                name,
+                estimatedSize,
+                stats.hitCount(),
+                stats.missCount(),
+                stats.hitRate(),
+                stats.evictionCount(),
+                stats.evictionWeight()
+        );
+    }
+}
@@ -0,0 +1,20 @@
+package org.example.restfulblogflatform.dto.comment;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 댓글이 속한 게시글과 스레드 위치 정보.
+ *
+ * 댓글 엔티티와 게시글의 댓글 컬렉션을 로딩하지 않고 삭제 범위(하위 트리)와
+ * 댓글 수를 갱신할 게시글을 결정하기 위해 프로젝션으로 조회합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class CommentLocationDto {
+
+    private final Long id;     // 댓글 ID
+    private final Long postId; // 댓글이 속한 게시글 ID
+    private final Long rootId; // 스레드의 루트 댓글 ID (경로가 채워지기 전의 기존 댓글이면 null)
+    private final String path; // 구체화된 경로 (경로가 채워지기 전의 기존 댓글이면 null)
+}
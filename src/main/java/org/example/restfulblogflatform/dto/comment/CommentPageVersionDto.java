@@ -0,0 +1,39 @@
+package org.example.restfulblogflatform.dto.comment;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 게시글 댓글 목록의 조건부 조회(ETag / Last-Modified)에 사용하는 버전 정보.
+ *
+ * 댓글 개수와 가장 최근 수정일을 한 번의 집계 쿼리로 조회하여 생성합니다.
+ * 댓글이 추가/삭제되면 개수가, 수정되면 최근 수정일이 바뀌므로 목록 변경을 감지할 수 있습니다.
+ */
+@Getter
+@AllArgsConstructor
+public class CommentPageVersionDto {
+
+    private final Long count;                      // 게시글의 댓글 수
+    private final LocalDateTime lastModifiedDate;  // 댓글 중 가장 최근 수정일 (댓글이 없으면 null)
+
+    /**
+     * 댓글 수와 최근 수정일로부터 강한(strong) ETag를 생성합니다.
+     *
+     * @return 따옴표로 감싼 ETag 값 (예: "c12-1700000000000")
+     */
+    public String getETag() {
+        return "\"c" + count + "-" + getLastModifiedMillis() + "\"";
+    }
+
+    /**
+     * Last-Modified 헤더에 사용할 수정 시각을 반환합니다.
+     *
+     * @return epoch 밀리초 (댓글이 없으면 -1)
+     */
+    public long getLastModifiedMillis() {
+        return lastModifiedDate == null ? -1 : lastModifiedDate.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
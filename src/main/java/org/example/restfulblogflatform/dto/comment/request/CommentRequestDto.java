@@ -7,4 +7,5 @@ import lombok.Setter;
 @Setter
 public class CommentRequestDto {
     private String content; // 댓글 내용
-}
\ No newline at end of file
+    private Long parentId; // 답글 대상 댓글 ID (일반 댓글이면 생략)
+}
@@ -0,0 +1,42 @@
+package org.example.restfulblogflatform.dto.comment.response;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 댓글 스레드(트리)의 한 노드를 나타내는 응답 DTO.
+ *
+ * 답글은 경로 순서(깊이 우선)로 replies에 중첩되며, 응답 크기 제한으로 일부 답글이 생략된 경우
+ * 해당 스레드의 최상위 노드에 moreReplies가 true로 설정됩니다.
+ */
+@Getter
+public class CommentNodeDto {
+
+    private final Long id; // 댓글 ID
+    private final Long parentId; // 답글 대상 댓글 ID (루트 댓글이면 null)
+    private final int depth; // 답글 깊이 (루트 댓글은 0)
+    private final String content; // 댓글 내용
+    private final String username; // 작성자 이름
+    private final LocalDateTime createAt; // 댓글 작성날짜
+    private final List<CommentNodeDto> replies = new ArrayList<>(); // 직속 답글 목록 (경로 순)
+    private boolean moreReplies; // 생략된 답글 존재 여부
+
+    public CommentNodeDto(Long id, Long parentId, int depth, String content, String username, LocalDateTime createAt) {
+        this.id = id;
+        this.parentId = parentId;
+        this.depth = depth;
+        this.content = content;
+        this.username = username;
+        this.createAt = createAt;
+    }
+
+    /**
+     * 응답 크기 제한으로 이 노드 아래의 답글 일부가 생략되었음을 표시합니다.
+     */
+    public void markMoreReplies() {
+        this.moreReplies = true;
+    }
+}
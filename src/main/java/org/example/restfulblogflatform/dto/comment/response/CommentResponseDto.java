@@ -1,6 +1,7 @@
 package org.example.restfulblogflatform.dto.comment.response;
 
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.example.restfulblogflatform.entity.Comment;
 
@@ -8,12 +9,29 @@ import java.time.LocalDateTime;
 
 @Getter
 @Setter
+@NoArgsConstructor
 public class CommentResponseDto {
     private Long id; // 댓글 ID
     private String content; // 댓글 내용
     private String username; // 작성자 이름
+    private Long parentId; // 답글 대상 댓글 ID (루트 댓글이면 null)
+    private int depth; // 답글 깊이 (루트 댓글은 0)
     private LocalDateTime createAt; // 댓글 작성날짜
 
+    /**
+     * JPQL 생성자 표현식(프로젝션) 조회용 생성자.
+     * 댓글 엔티티를 거치지 않고 필요한 컬럼만 조회하여 DTO를 생성합니다.
+     */
+    public CommentResponseDto(Long id, String content, String username, Long parentId, Integer depth,
+                              LocalDateTime createAt) {
+        this.id = id;
+        this.content = content;
+        this.username = username;
+        this.parentId = parentId;
+        this.depth = depth != null ? depth : 0;
+        this.createAt = createAt;
+    }
+
     /**
      * 정적 팩토리 메서드: Comment 엔티티를 CommentResponseDto로 변환합니다.
      *
@@ -25,6 +43,8 @@ public class CommentResponseDto {
         responseDto.setId(comment.getId());
         responseDto.setContent(comment.getContent());
         responseDto.setUsername(comment.getUser().getUsername());
+        responseDto.setParentId(comment.getParentId());
+        responseDto.setDepth(comment.getDepth());
         responseDto.setCreateAt(comment.getCreatedDate());
         return responseDto;
     }
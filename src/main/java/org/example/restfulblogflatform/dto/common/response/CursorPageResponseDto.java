@@ -0,0 +1,21 @@
+package org.example.restfulblogflatform.dto.common.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 커서(keyset) 기반 페이징 응답 데이터를 담는 DTO(Data Transfer Object).
+ * 전체 개수(COUNT) 없이 다음 페이지를 조회하기 위한 불투명한 커서만 반환합니다.
+ *
+ * @param <T> 목록 항목 타입
+ */
+@Getter
+@AllArgsConstructor(staticName = "of")
+public class CursorPageResponseDto<T> {
+
+    private List<T> content;   // 현재 페이지 항목 목록
+    private String nextCursor; // 다음 페이지 조회용 커서 (마지막 페이지이면 null)
+    private boolean hasNext;   // 다음 페이지 존재 여부
+}
@@ -0,0 +1,28 @@
+package org.example.restfulblogflatform.dto.export;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내보내기용 작성자(사용자) 행. 이메일, 비밀번호 등 개인 정보는 포함하지 않습니다.
+ */
+@Getter
+@AllArgsConstructor
+public class AuthorExportDto implements ExportRow {
+
+    private final Long id;
+    private final String username;
+    private final LocalDateTime createdDate;
+
+    @Override
+    public String getType() {
+        return "author";
+    }
+
+    @Override
+    public Object[] toCsvColumns() {
+        return new Object[]{getType(), id, null, id, username, null, null, null, createdDate};
+    }
+}
@@ -0,0 +1,30 @@
+package org.example.restfulblogflatform.dto.export;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내보내기용 댓글 행.
+ */
+@Getter
+@AllArgsConstructor
+public class CommentExportDto implements ExportRow {
+
+    private final Long id;
+    private final Long postId;
+    private final Long userId;
+    private final String content;
+    private final LocalDateTime createdDate;
+
+    @Override
+    public String getType() {
+        return "comment";
+    }
+
+    @Override
+    public Object[] toCsvColumns() {
+        return new Object[]{getType(), id, postId, userId, null, null, content, null, createdDate};
+    }
+}
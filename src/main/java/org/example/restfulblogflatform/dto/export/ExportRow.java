@@ -0,0 +1,23 @@
+package org.example.restfulblogflatform.dto.export;
+
+/**
+ * 내보내기(export) 한 행을 나타내는 인터페이스.
+ * NDJSON에서는 type 필드로 레코드 종류를 구분하고, CSV에서는 모든 종류가 같은 열 구성을 공유합니다.
+ */
+public interface ExportRow {
+
+    /**
+     * CSV 열 구성 (모든 레코드 종류 공통, 해당하지 않는 열은 빈 값)
+     */
+    String[] CSV_HEADER = {"record_type", "id", "post_id", "user_id", "username", "title", "content", "view_count", "created_date"};
+
+    /**
+     * 레코드 종류 (author, post, comment)
+     */
+    String getType();
+
+    /**
+     * CSV_HEADER 순서에 맞춘 열 값을 반환합니다.
+     */
+    Object[] toCsvColumns();
+}
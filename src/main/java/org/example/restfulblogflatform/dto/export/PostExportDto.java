@@ -0,0 +1,42 @@
+package org.example.restfulblogflatform.dto.export;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.example.restfulblogflatform.compression.PostContentCodec;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내보내기용 게시글 행.
+ */
+@Getter
+@AllArgsConstructor
+public class PostExportDto implements ExportRow {
+
+    private final Long id;
+    private final Long userId;
+    private final String title;
+    @JsonIgnore
+    private final String storedContent; // 저장 형식의 본문 (압축 가능)
+    private final int viewCount;
+    private final LocalDateTime createdDate;
+    private final LocalDateTime lastModifiedDate;
+
+    @Override
+    public String getType() {
+        return "post";
+    }
+
+    /**
+     * 압축을 해제한 원본 본문을 반환합니다.
+     */
+    public String getContent() {
+        return PostContentCodec.decompress(storedContent);
+    }
+
+    @Override
+    public Object[] toCsvColumns() {
+        return new Object[]{getType(), id, id, userId, null, title, getContent(), viewCount, createdDate};
+    }
+}
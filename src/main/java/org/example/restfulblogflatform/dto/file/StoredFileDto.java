@@ -0,0 +1,20 @@
+package org.example.restfulblogflatform.dto.file;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 저장소에 기록을 마친 업로드 파일의 메타데이터 DTO(Data Transfer Object).
+ * 스트리밍 업로드에서 파일을 먼저 저장한 뒤, 게시글 생성 트랜잭션에서 FileAttachment로 변환할 때 사용됩니다.
+ */
+@Getter
+@AllArgsConstructor(staticName = "of")
+public class StoredFileDto {
+
+    private final String originalFileName; // 원본 파일명
+    private final String storedFileName;   // 저장된 파일명
+    private final String filePath;         // 파일 저장 경로
+    private final long fileSize;           // 실제로 기록된 파일 크기 (바이트 단위)
+    private final String fileType;         // 파일 MIME 타입
+    private final String blobDigest;       // 내용 주소 방식으로 저장된 경우 SHA-256 다이제스트 (아니면 null)
+}
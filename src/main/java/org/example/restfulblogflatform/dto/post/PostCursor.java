@@ -0,0 +1,60 @@
+package org.example.restfulblogflatform.dto.post;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.example.restfulblogflatform.exception.ErrorCode;
+import org.example.restfulblogflatform.exception.business.PostException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 게시글 커서 기반 목록 조회의 위치를 나타내는 값 객체.
+ *
+ * 마지막으로 조회한 게시글의 (생성일, ID)를 담으며, 클라이언트에는 Base64(URL-safe)로 인코딩된
+ * 불투명한 문자열로 전달됩니다. 같은 생성일을 가진 게시글은 ID로 구분합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class PostCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final LocalDateTime createdDate; // 마지막 게시글의 생성일
+    private final Long id;                   // 마지막 게시글의 ID
+
+    /**
+     * 커서를 클라이언트에 전달할 문자열로 인코딩합니다.
+     *
+     * @return URL-safe Base64로 인코딩된 커서 문자열
+     */
+    public String encode() {
+        String raw = createdDate + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 클라이언트가 전달한 커서 문자열을 해석합니다.
+     *
+     * @param cursor 인코딩된 커서 문자열
+     * @return 해석된 커서 객체
+     * @throws PostException 커서 형식이 올바르지 않은 경우 (INVALID_POST_CURSOR)
+     */
+    public static PostCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = raw.lastIndexOf(DELIMITER);
+            if (index < 0) {
+                throw new PostException(ErrorCode.INVALID_POST_CURSOR);
+            }
+            return new PostCursor(
+                    LocalDateTime.parse(raw.substring(0, index)),
+                    Long.parseLong(raw.substring(index + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new PostException(ErrorCode.INVALID_POST_CURSOR);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package org.example.restfulblogflatform.dto.post;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.example.restfulblogflatform.compression.PostContentCodec;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 검색 색인 생성에 사용하는 게시글 조회 결과.
+ * 작성자, 첨부 파일 등 연관 엔티티 없이 색인에 필요한 컬럼만 조회합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class PostIndexSourceDto {
+
+    private final Long id;                        // 게시글 ID
+    private final String title;                   // 게시글 제목
+    private final String storedContent;           // DB에 저장된 본문 (압축 형식일 수 있음)
+    private final LocalDateTime lastModifiedDate; // 마지막 수정일
+
+    /**
+     * 압축을 해제한 원본 본문을 반환합니다.
+     *
+     * @return 게시글 본문
+     */
+    public String getContent() {
+        return PostContentCodec.decompress(storedContent);
+    }
+
+    /**
+     * 색인 항목의 선후 비교에 사용할 수정 시각을 반환합니다.
+     *
+     * @return epoch 밀리초 (수정일이 없으면 -1)
+     */
+    public long getLastModifiedMillis() {
+        return lastModifiedDate == null ? -1 : lastModifiedDate.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,17 @@
+package org.example.restfulblogflatform.dto.post;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 게시글 본문의 저장 형식을 일괄 변환할 때 사용하는 조회 결과.
+ * 엔티티를 로딩하지 않고 ID, 버전, 저장된 본문만 조회합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class PostStoredContentDto {
+
+    private final Long id;             // 게시글 ID
+    private final Long version;        // 조회 시점의 엔티티 버전 (동시 수정 감지용)
+    private final String storedContent; // DB에 저장된 본문 (압축 형식일 수 있음)
+}
@@ -0,0 +1,74 @@
+package org.example.restfulblogflatform.dto.post;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 게시글 조건부 조회(ETag / Last-Modified)에 사용하는 버전 정보.
+ *
+ * 게시글 본문과 첨부 파일을 로딩하지 않고 버전 컬럼과 수정일만 조회하여 생성합니다.
+ * 조회수는 버퍼링되는 근사값이므로 ETag에 포함하지 않습니다.
+ * 댓글 수는 버전을 증가시키지 않고 변경되므로 ETag에는 포함되지만, 수정일(Last-Modified)에는 반영되지 않습니다.
+ */
+@Getter
+public class PostVersionDto {
+
+    private final Long id;                         // 게시글 ID
+    private final Long version;                    // 엔티티 버전 (@Version)
+    private final LocalDateTime lastModifiedDate;  // 마지막 수정일
+    private final int commentCount;                // 댓글 수 (버전을 증가시키지 않고 변경되므로 ETag에 별도로 포함)
+
+    /**
+     * JPQL 생성자 표현식에서도 사용하는 생성자.
+     */
+    public PostVersionDto(Long id, Long version, LocalDateTime lastModifiedDate, Integer commentCount) {
+        this.id = id;
+        this.version = version;
+        this.lastModifiedDate = lastModifiedDate;
+        this.commentCount = commentCount == null ? 0 : commentCount;
+    }
+
+    /**
+     * 엔티티 버전과 댓글 수로부터 강한(strong) ETag를 생성합니다.
+     *
+     * @return 따옴표로 감싼 ETag 값 (예: "v3-c12")
+     */
+    public String getETag() {
+        return "\"" + versionTag() + "-c" + commentCount + "\"";
+    }
+
+    /**
+     * If-Match 헤더 값이 현재 버전과 일치하는지 검사합니다.
+     * 댓글 수는 게시글 수정과 무관하므로 버전 부분("v3")만 비교하며, "v3"와 "v3-c12" 형식을 모두 허용합니다.
+     * If-Match는 강한 비교를 사용하므로 약한 ETag(W/"...")는 일치하지 않으며, "*"는 모든 버전과 일치합니다.
+     *
+     * @param ifMatch If-Match 헤더 값 (쉼표로 구분된 ETag 목록 또는 "*")
+     * @return 일치하는 ETag가 있으면 true
+     */
+    public boolean matches(String ifMatch) {
+        String exact = "\"" + versionTag() + "\"";
+        String prefix = "\"" + versionTag() + "-";
+        for (String candidate : ifMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.equals("*") || value.equals(exact) || (value.startsWith(prefix) && value.endsWith("\""))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Last-Modified 헤더에 사용할 수정 시각을 반환합니다.
+     *
+     * @return epoch 밀리초 (수정일이 없으면 -1)
+     */
+    public long getLastModifiedMillis() {
+        return lastModifiedDate == null ? -1 : lastModifiedDate.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private String versionTag() {
+        return "v" + version;
+    }
+}
@@ -0,0 +1,26 @@
+package org.example.restfulblogflatform.dto.post.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 일괄 가져오기(NDJSON)의 한 줄에 해당하는 레코드.
+ *
+ * 예시: {"authorEmail":"user@example.com","title":"제목","content":"내용","createdAt":"2020-01-01T09:00:00","viewCount":12}
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor // JSON 역직렬화를 위해 기본 생성자 필요
+public class PostImportRecordDto {
+
+    private String authorEmail;     // 작성자 이메일 (기존 사용자와 매칭)
+    private String title;           // 게시글 제목
+    private String content;         // 게시글 내용
+    private LocalDateTime createdAt; // 원본 작성일 (없으면 가져온 시각)
+    private Integer viewCount;      // 원본 조회수 (없으면 0)
+}
@@ -0,0 +1,29 @@
+package org.example.restfulblogflatform.dto.post.request;
+
+import jakarta.validation.constraints.AssertTrue;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 게시글 부분 수정(PATCH) 요청 데이터를 담는 DTO(Data Transfer Object)
+ *
+ * 값이 없거나 빈 필드는 변경하지 않습니다.
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor // JSON 역직렬화를 위해 기본 생성자 필요
+public class PostPatchRequestDto {
+
+    private String title;   // 새 제목 (생략 시 변경하지 않음)
+    private String content; // 새 내용 (생략 시 변경하지 않음)
+
+    @AssertTrue(message = "변경할 제목 또는 내용이 필요합니다.")
+    private boolean isAnyFieldPresent() {
+        return hasText(title) || hasText(content);
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+}
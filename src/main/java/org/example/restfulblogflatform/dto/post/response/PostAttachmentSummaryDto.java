@@ -0,0 +1,20 @@
+package org.example.restfulblogflatform.dto.post.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 게시글 목록에 포함되는 첨부 파일 메타데이터 DTO(Data Transfer Object).
+ * 목록 조회 시 여러 게시글의 첨부 파일을 한 번의 쿼리로 조회하기 위해 JPQL 생성자 표현식에서 사용됩니다.
+ */
+@Getter
+@AllArgsConstructor
+public class PostAttachmentSummaryDto {
+
+    private Long postId;             // 첨부 파일이 속한 게시글 ID
+    private Long id;                 // 첨부 파일 ID
+    private String originalFileName; // 원본 파일명
+    private String storedFileName;   // 저장된 파일명
+    private Long fileSize;           // 파일 크기 (바이트 단위)
+    private String fileType;         // 파일 MIME 타입
+}
@@ -0,0 +1,32 @@
+package org.example.restfulblogflatform.dto.post.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 게시글 일괄 가져오기 결과를 담는 DTO(Data Transfer Object).
+ * 처리 건수와 처리 속도, 거부된 레코드(최대 일부)의 줄 번호와 사유를 반환합니다.
+ */
+@Getter
+@AllArgsConstructor(staticName = "of")
+public class PostImportResultDto {
+
+    private long totalRecords;     // 읽은 레코드 수 (빈 줄 제외)
+    private long importedCount;    // 저장된 게시글 수
+    private long rejectedCount;    // 거부된 레코드 수
+    private long elapsedMillis;    // 처리 시간 (밀리초)
+    private double recordsPerSecond; // 초당 처리 레코드 수
+    private List<RejectedRecord> rejectedRecords; // 거부된 레코드 (앞에서부터 최대 일부만 포함)
+
+    /**
+     * 거부된 레코드 정보
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class RejectedRecord {
+        private long lineNumber; // 입력에서의 줄 번호 (1부터 시작)
+        private String reason;   // 거부 사유
+    }
+}
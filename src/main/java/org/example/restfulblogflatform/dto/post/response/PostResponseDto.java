@@ -1,7 +1,10 @@
 package org.example.restfulblogflatform.dto.post.response;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import org.example.restfulblogflatform.compression.PostContentCodec;
+import org.example.restfulblogflatform.dto.post.PostVersionDto;
 import org.example.restfulblogflatform.entity.FileAttachment;
 import org.example.restfulblogflatform.entity.Post;
 
@@ -19,13 +22,19 @@ public class PostResponseDto {
 
     private Long id;
     private String title;
-    private String content;
+    private String content; // 저장 형식의 본문 (직렬화 시점에 압축 해제)
     private String username;
     private Long userId;
     private LocalDateTime createdAt;
     private int viewCount;
+    private int commentCount; // 댓글 수 (게시글 테이블에 비정규화된 값)
     private List<FileAttachmentDto> attachments; // 첨부 파일 목록
 
+    @JsonIgnore
+    private Long version;                  // 조건부 조회(ETag)용 엔티티 버전, 응답 본문에는 포함하지 않음
+    @JsonIgnore
+    private LocalDateTime lastModifiedAt;  // 조건부 조회(Last-Modified)용 수정일, 응답 본문에는 포함하지 않음
+
     /**
      * 첨부 파일 정보를 담는 내부 클래스
      */
@@ -53,6 +62,61 @@ public class PostResponseDto {
         }
     }
 
+    /**
+     * 조회수만 증가시킨 새 DTO를 반환합니다.
+     * 캐시된 DTO를 변경하지 않고 요청별 조회수를 반영하기 위해 사용됩니다.
+     *
+     * @param additionalViews 더할 조회수
+     * @return 조회수가 반영된 새 PostResponseDto
+     */
+    public PostResponseDto withAdditionalViews(long additionalViews) {
+        if (additionalViews == 0) {
+            return this;
+        }
+        return new PostResponseDto(
+                id,
+                title,
+                content,
+                username,
+                userId,
+                createdAt,
+                (int) Math.min(viewCount + additionalViews, Integer.MAX_VALUE),
+                commentCount,
+                attachments,
+                version,
+                lastModifiedAt
+        );
+    }
+
+    /**
+     * 게시글 본문을 반환합니다.
+     * 캐시에는 저장 형식(압축 가능)으로 보관하고, 응답으로 직렬화될 때 원본으로 복원합니다.
+     *
+     * @return 게시글 본문
+     */
+    public String getContent() {
+        return PostContentCodec.decompress(content);
+    }
+
+    /**
+     * 저장 형식 본문의 길이를 반환합니다. (캐시 가중치 계산용, 압축 해제하지 않음)
+     *
+     * @return 저장된 본문의 길이
+     */
+    @JsonIgnore
+    public int getStoredContentLength() {
+        return content == null ? 0 : content.length();
+    }
+
+    /**
+     * 조건부 조회에 사용할 버전 정보를 반환합니다.
+     *
+     * @return 게시글 버전 정보
+     */
+    public PostVersionDto toVersion() {
+        return new PostVersionDto(id, version, lastModifiedAt, commentCount);
+    }
+
     /**
      * Post 엔티티를 PostResponse DTO로 변환하는 정적 팩토리 메서드.
      *
@@ -60,6 +124,17 @@ public class PostResponseDto {
      * @return PostResponseDto - 변환된 응답 객체
      */
     public static PostResponseDto of(Post post) {
+        return of(post, 0);
+    }
+
+    /**
+     * Post 엔티티를 PostResponse DTO로 변환하며, 아직 DB에 반영되지 않은 조회수 증가분을 더합니다.
+     *
+     * @param post Post 엔티티 객체
+     * @param pendingViews DB에 반영 대기 중인 조회수 증가분
+     * @return PostResponseDto - 변환된 응답 객체
+     */
+    public static PostResponseDto of(Post post, long pendingViews) {
         List<FileAttachmentDto> attachmentDtos = post.getAttachments().stream()
                 .map(FileAttachmentDto::from)
                 .collect(Collectors.toList());
@@ -67,12 +142,15 @@ public class PostResponseDto {
         return new PostResponseDto(
                 post.getId(),
                 post.getTitle(),
-                post.getContent(),
+                post.getStoredContent(),
                 post.getUser().getUsername(),
                 post.getUser().getId(),
                 post.getCreatedDate(),
-                post.getViewCount(),
-                attachmentDtos
+                (int) Math.min(post.getViewCount() + pendingViews, Integer.MAX_VALUE),
+                post.getCommentCount(),
+                attachmentDtos,
+                post.getVersion(),
+                post.getLastModifiedDate()
         );
     }
 }
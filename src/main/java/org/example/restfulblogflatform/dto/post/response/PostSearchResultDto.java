@@ -0,0 +1,16 @@
+package org.example.restfulblogflatform.dto.post.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 게시글 검색 결과 항목을 담는 DTO(Data Transfer Object).
+ * 게시글 요약 정보와 검색어에 대한 관련도 점수(BM25)를 함께 반환합니다.
+ */
+@Getter
+@AllArgsConstructor(staticName = "of")
+public class PostSearchResultDto {
+
+    private PostSummaryDto post; // 게시글 요약 정보
+    private double score;        // 관련도 점수 (높을수록 관련도가 높음)
+}
@@ -0,0 +1,61 @@
+package org.example.restfulblogflatform.dto.post.response;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 게시글 목록 응답 데이터를 담는 DTO(Data Transfer Object).
+ * 본문 전체 대신 앞부분 요약(excerpt)만 포함하며, JPQL 생성자 표현식으로 직접 조회됩니다.
+ */
+@Getter
+public class PostSummaryDto {
+
+    /**
+     * 요약(excerpt)으로 잘라낼 본문 길이 (문자 수)
+     */
+    public static final int EXCERPT_LENGTH = 200;
+
+    private final Long id;
+    private final String title;
+    private final String excerpt;        // 본문 앞부분 요약
+    private final String username;
+    private final Long userId;
+    private final LocalDateTime createdAt;
+    private final int viewCount;
+    private final int commentCount;      // 댓글 수 (게시글 테이블에 비정규화된 값)
+    private final List<PostAttachmentSummaryDto> attachments = new ArrayList<>(); // 첨부 파일 메타데이터 목록
+
+    /**
+     * JPQL 생성자 표현식에서 사용하는 생성자.
+     */
+    public PostSummaryDto(Long id,
+                          String title,
+                          String excerpt,
+                          String username,
+                          Long userId,
+                          LocalDateTime createdAt,
+                          Integer viewCount,
+                          Integer commentCount) {
+        this.id = id;
+        this.title = title;
+        this.excerpt = excerpt;
+        this.username = username;
+        this.userId = userId;
+        this.createdAt = createdAt;
+        this.viewCount = viewCount == null ? 0 : viewCount;
+        this.commentCount = commentCount == null ? 0 : commentCount;
+    }
+
+    /**
+     * 첨부 파일 메타데이터를 추가하는 메서드.
+     * 게시글 목록과 첨부 파일을 별도 쿼리로 조회한 뒤 메모리에서 합칠 때 사용됩니다.
+     *
+     * @param attachment 추가할 첨부 파일 메타데이터
+     */
+    public void addAttachment(PostAttachmentSummaryDto attachment) {
+        attachments.add(attachment);
+    }
+}
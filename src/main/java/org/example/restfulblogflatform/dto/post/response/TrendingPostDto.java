@@ -0,0 +1,16 @@
+package org.example.restfulblogflatform.dto.post.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 인기 게시글 응답 데이터를 담는 DTO(Data Transfer Object).
+ * 게시글 요약 정보와 시간 감쇠가 적용된 인기 점수를 함께 반환합니다.
+ */
+@Getter
+@AllArgsConstructor(staticName = "of")
+public class TrendingPostDto {
+
+    private PostSummaryDto post; // 게시글 요약 정보
+    private double score;        // 인기 점수 (최근 조회/댓글일수록 높은 가중치)
+}
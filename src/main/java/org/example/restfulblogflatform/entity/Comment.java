@@ -2,16 +2,26 @@ package org.example.restfulblogflatform.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.example.restfulblogflatform.thread.CommentPath;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 
 /**
  * 댓글(Comment) 엔티티 클래스.
  * 게시글(Post)과 사용자(User)에 연관된 댓글 데이터를 관리합니다.
  */
 @Entity // JPA 엔티티로 지정
+@DynamicUpdate // 변경된 컬럼만 UPDATE (저장 직후 경로 지정 시 TEXT 본문을 다시 쓰지 않음)
 @Getter // Lombok 어노테이션: 각 필드에 대한 Getter 메서드를 자동 생성
 @NoArgsConstructor(access = AccessLevel.PROTECTED) // Lombok 어노테이션: 기본 생성자를 생성하되, 접근 수준을 PROTECTED로 제한
 @AllArgsConstructor // Lombok 어노테이션: 모든 필드를 포함하는 생성자를 자동 생성
-@Table(name = "comments") // 데이터베이스 테이블 이름을 "comments"로 지정
+@Table(name = "comments", // 데이터베이스 테이블 이름을 "comments"로 지정
+        indexes = {
+                @Index(name = "idx_comments_post_id_path", columnList = "post_id, path"), // 스레드(하위 트리) 범위 조회용 복합 인덱스
+                @Index(name = "idx_comments_post_id_parent_id_id", columnList = "post_id, parent_id, id"), // 루트 댓글 목록 조회용 복합 인덱스
+                @Index(name = "idx_comments_root_id_path", columnList = "root_id, path") // 스레드별 답글 조회용 복합 인덱스
+        })
 public class Comment extends BaseEntity { // BaseEntity를 상속받아 생성/수정 시간 관리
 
     @Id // 기본 키(primary key)로 설정
@@ -29,6 +39,19 @@ public class Comment extends BaseEntity { // BaseEntity를 상속받아 생성/
     @Column(nullable = false, columnDefinition = "TEXT") // 내용은 null 불가, TEXT 타입으로 저장
     private String content; // 댓글 내용
 
+    @Column(name = "parent_id") // 답글 대상 댓글 ID (루트 댓글이면 null)
+    private Long parentId; // 부모 댓글 ID
+
+    @Column(name = "root_id") // 스레드의 루트 댓글 ID (루트 댓글이면 자기 자신)
+    private Long rootId; // 루트 댓글 ID
+
+    @ColumnDefault("0") // 기존 행에 컬럼 추가 시 기본값 0 (기존 댓글은 모두 루트 댓글)
+    @Column(nullable = false)
+    private int depth; // 답글 깊이 (루트 댓글은 0)
+
+    @Column(length = CommentPath.MAX_LENGTH) // 루트부터 자기 자신까지의 ID 경로 (CommentPath 참고)
+    private String path; // 구체화된 경로
+
     /**
      * 댓글(Comment) 객체를 생성하는 정적 팩토리 메서드.
      * 양방향 연관관계를 설정하고, 댓글 객체를 생성합니다.
@@ -49,6 +72,55 @@ public class Comment extends BaseEntity { // BaseEntity를 상속받아 생성/
         return comment; // 생성된 Comment 객체 반환
     }
 
+    /**
+     * 게시글의 댓글 컬렉션(Post.comments)을 초기화하지 않고 댓글(Comment) 객체를 생성하는 정적 팩토리 메서드.
+     * 게시글은 지연 로딩 프록시(getReference)여도 되며, 댓글 수와 관계없이 일정한 비용으로 생성됩니다.
+     * 같은 영속성 컨텍스트에 이미 로딩된 컬렉션이 있을 때만 양방향 연관관계를 함께 맞춥니다.
+     *
+     * @param user 댓글 작성자(User)
+     * @param post 댓글이 속한 게시글(Post) 또는 게시글 참조 프록시
+     * @param content 댓글 내용
+     * @return 생성된 Comment 객체
+     */
+    public static Comment createWithoutCollection(User user, Post post, String content) {
+        Comment comment = new Comment();
+        comment.user = user;
+        comment.post = post;
+        comment.content = content;
+
+        // 이미 로딩된 컬렉션에만 추가 (초기화되지 않은 프록시/컬렉션은 건드리지 않음)
+        if (Hibernate.isInitialized(post) && Hibernate.isInitialized(post.getComments())) {
+            post.addComment(comment);
+        }
+        return comment;
+    }
+
+    /**
+     * 저장되어 ID가 발급된 댓글의 스레드 위치(부모, 루트, 깊이, 경로)를 지정하는 메서드.
+     * 경로에 자기 자신의 ID가 포함되므로 IDENTITY 전략으로 ID가 발급된 이후에 호출해야 합니다.
+     * 부모 댓글의 경로가 비어 있으면 부모의 루트 위치도 함께 지정합니다.
+     *
+     * @param parent 부모 댓글 (루트 댓글이면 null, 영속 상태여야 함)
+     */
+    public void placeInThread(Comment parent) {
+        if (parent == null) {
+            this.parentId = null;
+            this.rootId = id;
+            this.depth = 0;
+            this.path = CommentPath.segment(id);
+            return;
+        }
+        // 경로가 아직 채워지지 않은 기존 댓글은 루트 댓글이므로 여기서 루트 위치를 먼저 채움
+        // (CommentPathBackfillJob을 기다리지 않아야 부모 삭제 시 하위 트리로 함께 삭제됨, 변경 감지로 저장)
+        if (parent.getPath() == null) {
+            parent.placeInThread(null);
+        }
+        this.parentId = parent.getId();
+        this.rootId = parent.getRootId();
+        this.depth = parent.getDepth() + 1;
+        this.path = CommentPath.child(parent.getPath(), id);
+    }
+
     /**
      * 댓글이 속한 게시글(Post)을 설정하는 메서드.
      * 양방향 연관관계를 유지하기 위해 사용됩니다.
@@ -10,7 +10,8 @@ import lombok.*;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "file_attachments")
+@Table(name = "file_attachments",
+        indexes = @Index(name = "idx_file_attachments_blob_digest", columnList = "blob_digest")) // blob 참조 확인용 인덱스
 public class FileAttachment extends BaseEntity {
 
     /**
@@ -50,6 +51,12 @@ public class FileAttachment extends BaseEntity {
     @Column(nullable = false)
     private String fileType;
 
+    /**
+     * 참조하는 blob의 SHA-256 다이제스트 (내용 주소 방식으로 저장되지 않은 파일은 null)
+     */
+    @Column(length = 64)
+    private String blobDigest;
+
     /**
      * 게시글(Post)과의 다대일 관계 설정
      */
@@ -84,6 +91,30 @@ public class FileAttachment extends BaseEntity {
         return attachment;
     }
 
+    /**
+     * 내용 주소 방식으로 저장된 blob을 참조하는 파일 첨부 객체 생성 메서드
+     *
+     * @param originalFileName 원본 파일명
+     * @param storedFileName 저장된 파일명 (blob 경로)
+     * @param filePath 파일 저장 경로
+     * @param fileSize 파일 크기
+     * @param fileType 파일 타입
+     * @param blobDigest 참조하는 blob의 SHA-256 다이제스트 (없으면 null)
+     * @param post 연관된 게시글 객체
+     * @return 생성된 FileAttachment 객체
+     */
+    public static FileAttachment createFileAttachment(String originalFileName,
+                                                      String storedFileName,
+                                                      String filePath,
+                                                      Long fileSize,
+                                                      String fileType,
+                                                      String blobDigest,
+                                                      Post post) {
+        FileAttachment attachment = createFileAttachment(originalFileName, storedFileName, filePath, fileSize, fileType, post);
+        attachment.blobDigest = blobDigest;
+        return attachment;
+    }
+
     /**
      * 연관된 게시글을 설정하는 메서드 (양방향 관계 설정 시 사용)
      *
@@ -0,0 +1,100 @@
+package org.example.restfulblogflatform.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내용 주소 방식(content-addressed)으로 저장된 첨부 파일 원본(blob)을 관리하는 엔티티 클래스
+ *
+ * 같은 내용의 파일은 SHA-256 다이제스트를 이름으로 한 번만 저장되며, 이를 참조하는 FileAttachment 수를 refCount로 관리합니다.
+ * refCount가 0이 된 blob은 바로 삭제하지 않고, lastTouchedAt 이후 유예 시간이 지나면 FileBlobCollector가 정리합니다.
+ *
+ * 다이제스트를 직접 지정하는 식별자이므로 Persistable로 새 엔티티 여부를 알려 save 시 merge(SELECT 후 UPDATE) 대신
+ * persist(INSERT)가 실행되도록 합니다. 같은 다이제스트가 동시에 등록되면 기존 행을 덮어쓰지 않고 기본 키 충돌로 실패합니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "file_blobs",
+        indexes = @Index(name = "idx_file_blobs_ref_count_last_touched_at", columnList = "ref_count, last_touched_at"))
+public class FileBlob extends BaseEntity implements Persistable<String> {
+
+    /**
+     * 파일 내용의 SHA-256 다이제스트 (소문자 16진수 64자)
+     */
+    @Id
+    @Column(length = 64)
+    private String digest;
+
+    /**
+     * 파일 크기 (바이트 단위)
+     */
+    @Column(nullable = false)
+    private Long fileSize;
+
+    /**
+     * 이 blob을 참조하는 첨부 파일 수
+     */
+    @Column(nullable = false)
+    private Long refCount;
+
+    /**
+     * 마지막으로 저장, 참조 추가 또는 참조 해제된 시각 (정리 유예 시간의 기준)
+     */
+    @Column(nullable = false)
+    private LocalDateTime lastTouchedAt;
+
+    /**
+     * 아직 저장되지 않은 엔티티인지 여부 (조회되거나 저장된 이후에는 false)
+     */
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private boolean newEntity = true;
+
+    /**
+     * 참조가 없는 blob 객체 생성 메서드 (참조는 첨부 파일 저장 트랜잭션에서 추가)
+     *
+     * @param digest SHA-256 다이제스트
+     * @param fileSize 파일 크기
+     * @param touchedAt 저장 시각
+     * @return 생성된 FileBlob 객체
+     */
+    public static FileBlob createFileBlob(String digest, Long fileSize, LocalDateTime touchedAt) {
+        FileBlob blob = new FileBlob();
+        blob.digest = digest;
+        blob.fileSize = fileSize;
+        blob.refCount = 0L;
+        blob.lastTouchedAt = touchedAt;
+        return blob;
+    }
+
+    /**
+     * 식별자(다이제스트)를 반환합니다. (Persistable)
+     */
+    @Override
+    public String getId() {
+        return digest;
+    }
+
+    /**
+     * 새 엔티티 여부를 반환합니다. true이면 save 시 persist(INSERT)가 실행됩니다. (Persistable)
+     */
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    /**
+     * 조회되거나 저장된 엔티티는 이후 merge 대상이 되도록 표시합니다.
+     */
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
+}
@@ -2,6 +2,9 @@ package org.example.restfulblogflatform.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.example.restfulblogflatform.compression.PostContentCodec;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -11,9 +14,14 @@ import java.util.List;
  * 사용자(User)와 댓글(Comment)에 연관된 게시글 데이터를 관리합니다.
  */
 @Entity // JPA 엔티티로 지정
+@DynamicUpdate // 변경된 컬럼만 UPDATE (제목만 수정 시 TEXT 본문과 조회수를 다시 쓰지 않음)
 @Getter // Lombok 어노테이션: 각 필드에 대한 Getter 메서드를 자동 생성
 @NoArgsConstructor(access = AccessLevel.PROTECTED) // Lombok 어노테이션: 기본 생성자를 생성하되, 접근 수준을 PROTECTED로 제한
-@Table(name = "posts") // 데이터베이스 테이블 이름을 "posts"로 지정
+@Table(name = "posts", // 데이터베이스 테이블 이름을 "posts"로 지정
+        indexes = {
+                @Index(name = "idx_posts_created_date_id", columnList = "created_date, id"), // 커서 기반 목록 조회용 복합 인덱스
+                @Index(name = "idx_posts_user_id_created_date_id", columnList = "user_id, created_date, id") // 작성자별 타임라인 조회용 복합 인덱스
+        })
 public class Post extends BaseEntity { // BaseEntity를 상속받아 생성/수정 시간 관리
 
     @Id // 기본 키(primary key)로 설정
@@ -24,7 +32,7 @@ public class Post extends BaseEntity { // BaseEntity를 상속받아 생성/수
     private String title; // 게시글 제목
 
     @Column(nullable = false, columnDefinition = "TEXT") // 내용은 null 불가, TEXT 타입으로 저장
-    private String content; // 게시글 내용
+    private String content; // 게시글 내용 (저장 형식, 긴 본문은 압축되어 있을 수 있음)
 
     @ManyToOne(fetch = FetchType.LAZY) // 다대일 관계 설정 (게시글 -> 사용자)
     @JoinColumn(name = "user_id", nullable = false) // 외래 키(foreign key)를 "user_id"로 지정
@@ -37,8 +45,16 @@ public class Post extends BaseEntity { // BaseEntity를 상속받아 생성/수
     private List<Comment> comments; // 게시글에 달린 댓글 목록
 
     @Column(nullable = false) // 조회수는 null 불가
-    @Version // 낙관적 락 버전 관리 필드
-    private int viewCount = 0; // 게시글 조회수 (기본값 0)
+    private int viewCount = 0; // 게시글 조회수 (기본값 0, PostViewCounter가 주기적으로 일괄 반영)
+
+    @ColumnDefault("0") // 기존 행에 컬럼 추가 시 기본값 0 (CommentCountReconciler가 실제 값으로 보정)
+    @Column(nullable = false)
+    private int commentCount = 0; // 댓글 수 (댓글 생성/삭제 시 SQL에서 원자적으로 증감, 버전은 변경하지 않음)
+
+    @Version // 낙관적 락 버전 관리 필드 (조회수와 분리하여 조회 시 경합이 발생하지 않도록 함)
+    @ColumnDefault("0") // 기존 행에 컬럼 추가 시 기본값 0
+    @Column(nullable = false)
+    private Long version; // 게시글 버전 (제목/내용 변경 시 증가)
 
     @OneToMany(mappedBy = "post", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<FileAttachment> attachments = new ArrayList<>(); // 파일 첨부 목록 추가
@@ -49,7 +65,7 @@ public class Post extends BaseEntity { // BaseEntity를 상속받아 생성/수
      *
      * @param user 게시글 작성자(User)
      * @param title 게시글 제목
-     * @param content 게시글 내용
+     * @param content 게시글 내용 (저장 형식, PostContentCompressor로 변환된 값)
      * @return 생성된 Post 객체
      */
     public static Post createPost(User user, String title, String content) {
@@ -57,6 +73,7 @@ public class Post extends BaseEntity { // BaseEntity를 상속받아 생성/수
         post.title = title; // 제목 설정
         post.content = content; // 내용 설정
         post.viewCount = 0; // 초기 조회수 설정
+        post.commentCount = 0; // 초기 댓글 수 설정
         post.comments = new ArrayList<>(); // 빈 댓글 리스트 초기화
         post.attachments = new ArrayList<>(); // 파일 첨부 리스트 초기화
         post.setUser(user); // 작성자 설정 및 연관관계 설정
@@ -64,6 +81,24 @@ public class Post extends BaseEntity { // BaseEntity를 상속받아 생성/수
         return post; // 생성된 Post 객체 반환
     }
 
+    /**
+     * 게시글 내용을 반환합니다. 압축 저장된 본문은 원본으로 복원하여 반환합니다.
+     *
+     * @return 게시글 내용
+     */
+    public String getContent() {
+        return PostContentCodec.decompress(content);
+    }
+
+    /**
+     * DB에 저장된 형식 그대로의 게시글 내용을 반환합니다. (압축 해제하지 않음)
+     *
+     * @return 저장된 게시글 내용
+     */
+    public String getStoredContent() {
+        return content;
+    }
+
     /**
      * 작성자(User)를 설정하는 메서드.
      * 양방향 연관관계를 유지하기 위해 사용됩니다.
@@ -100,7 +135,7 @@ public class Post extends BaseEntity { // BaseEntity를 상속받아 생성/수
      * 게시글 정보를 업데이트하는 메서드.
      *
      * @param title 새로운 제목 (null 또는 빈 값이면 변경하지 않음)
-     * @param content 새로운 내용 (null 또는 빈 값이면 변경하지 않음)
+     * @param content 새로운 내용 (저장 형식, null 또는 빈 값이면 변경하지 않음)
      * @return 업데이트된 Post 객체 자신을 반환 (메서드 체이닝 가능)
      */
     public Post update(String title, String content) {
@@ -113,13 +148,6 @@ public class Post extends BaseEntity { // BaseEntity를 상속받아 생성/수
         return this; // 업데이트된 Post 객체 반환
     }
 
-    /**
-     * 게시글 조회수를 1 증가시키는 메서드.
-     */
-    public void incrementViewCount() {
-        this.viewCount++;
-    }
-
     /**
      * 파일 첨부를 추가하는 메서드
      */
@@ -0,0 +1,38 @@
+package org.example.restfulblogflatform.event.comment;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.example.restfulblogflatform.dto.comment.response.CommentResponseDto;
+
+/**
+ * 댓글 변경 이벤트 클래스
+ *
+ * 댓글이 생성, 수정, 삭제되었을 때 발행되는 이벤트 객체입니다.
+ * 게시글의 댓글 수가 바뀌므로, 게시글 캐시 무효화와 같이 트랜잭션 커밋 이후 처리되어야 하는 작업에 변경 사실을 전달합니다.
+ * 생성/수정 이벤트에는 실시간 댓글 스트림 등에서 다시 조회하지 않도록 변경 후 댓글 응답을 함께 담을 수 있습니다.
+ *
+ * @Getter: 모든 필드에 대한 Getter 메서드를 자동 생성
+ * @AllArgsConstructor: 모든 필드를 포함하는 생성자를 자동 생성
+ */
+@Getter
+@AllArgsConstructor
+public class CommentChangedEvent {
+
+    private final Long postId;     // 댓글이 속한 게시글 ID
+    private final Long commentId;  // 변경된 댓글 ID
+    private final Type type;       // 변경 유형
+    private final CommentResponseDto comment; // 변경 후 댓글 응답 (삭제 이벤트이거나 제공되지 않은 경우 null)
+
+    public CommentChangedEvent(Long postId, Long commentId, Type type) {
+        this(postId, commentId, type, null);
+    }
+
+    /**
+     * 댓글 변경 유형
+     */
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+}
@@ -0,0 +1,73 @@
+package org.example.restfulblogflatform.event.post;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.restfulblogflatform.service.file.FileStorageService;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 삭제된 게시글의 첨부 파일을 저장소에서 정리하는 이벤트 리스너
+ *
+ * 게시글 삭제 트랜잭션이 커밋된 이후에만 실행되므로, 롤백된 삭제로 인해 파일이 유실되지 않습니다.
+ * 파일 삭제는 전용 백그라운드 스레드에서 처리되어 삭제 요청의 응답 시간에 포함되지 않으며,
+ * 대기열이 가득 찬 경우에는 요청 스레드에서 직접 처리하여 정리 작업이 버려지지 않도록 합니다.
+ */
+@Slf4j
+@Component
+public class PostAttachmentCleanupListener {
+
+    private static final int QUEUE_CAPACITY = 1000; // 대기 중인 정리 작업의 최대 수
+
+    private final FileStorageService fileStorageService; // 파일 저장소 서비스
+    private final ThreadPoolExecutor executor;
+
+    public PostAttachmentCleanupListener(FileStorageService fileStorageService) {
+        this.fileStorageService = fileStorageService;
+        this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "attachment-cleanup");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * 첨부 파일 삭제 이벤트를 처리합니다.
+     * 트랜잭션 커밋 이후 정리 작업을 백그라운드 스레드에 넘기고 즉시 반환합니다.
+     *
+     * @param event 첨부 파일 삭제 이벤트(PostAttachmentsDeletedEvent)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handlePostAttachmentsDeletedEvent(PostAttachmentsDeletedEvent event) {
+        executor.execute(() -> cleanUp(event));
+    }
+
+    /**
+     * 애플리케이션 종료 시 대기 중인 정리 작업을 마칠 때까지 기다립니다.
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            log.warn("Attachment cleanup did not finish in time; {} tasks dropped", executor.shutdownNow().size());
+        }
+    }
+
+    private void cleanUp(PostAttachmentsDeletedEvent event) {
+        try {
+            int deleted = fileStorageService.deleteFiles(event.getStoredFileNames());
+            log.info("Cleaned up {}/{} attachment files of deleted post {}",
+                    deleted, event.getStoredFileNames().size(), event.getPostId());
+        } catch (RuntimeException e) {
+            log.error("Failed to clean up attachment files of deleted post {}", event.getPostId(), e);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package org.example.restfulblogflatform.event.post;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 게시글 첨부 파일 삭제 이벤트 클래스
+ *
+ * 게시글 삭제로 첨부 파일 메타데이터가 DB에서 삭제되었을 때 발행되는 이벤트 객체입니다.
+ * 저장소의 물리 파일은 트랜잭션 커밋 이후 백그라운드에서 정리됩니다.
+ *
+ * @Getter: 모든 필드에 대한 Getter 메서드를 자동 생성
+ * @AllArgsConstructor: 모든 필드를 포함하는 생성자를 자동 생성
+ */
+@Getter
+@AllArgsConstructor
+public class PostAttachmentsDeletedEvent {
+
+    private final Long postId;                  // 삭제된 게시글 ID
+    private final List<String> storedFileNames; // 정리할 저장 파일명 목록
+}
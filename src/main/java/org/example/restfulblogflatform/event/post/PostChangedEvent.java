@@ -0,0 +1,30 @@
+package org.example.restfulblogflatform.event.post;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 게시글 변경 이벤트 클래스
+ *
+ * 게시글이 생성, 수정, 삭제되었을 때 발행되는 이벤트 객체입니다.
+ * 캐시 무효화와 같이 트랜잭션 커밋 이후에 처리되어야 하는 작업에 변경 사실을 전달합니다.
+ *
+ * @Getter: 모든 필드에 대한 Getter 메서드를 자동 생성
+ * @AllArgsConstructor: 모든 필드를 포함하는 생성자를 자동 생성
+ */
+@Getter
+@AllArgsConstructor
+public class PostChangedEvent {
+
+    private final Long postId;  // 변경된 게시글 ID
+    private final Type type;    // 변경 유형
+
+    /**
+     * 게시글 변경 유형
+     */
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+}
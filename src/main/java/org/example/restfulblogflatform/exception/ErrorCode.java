@@ -53,6 +53,41 @@ public enum ErrorCode {
      */
     POST_DELETE_FAILED("게시글 삭제에 실패했습니다."),
 
+    /**
+     * 게시글 작성자가 아닌 사용자가 게시글을 수정하려는 경우 발생하는 에러.
+     */
+    POST_ACCESS_DENIED("게시글 작성자만 수정할 수 있습니다."),
+
+    /**
+     * 게시글 수정 요청에 If-Match(버전) 헤더가 없는 경우 발생하는 에러.
+     */
+    POST_VERSION_REQUIRED("게시글 수정에는 If-Match 헤더가 필요합니다."),
+
+    /**
+     * 게시글이 요청한 버전 이후에 수정된 경우 발생하는 에러.
+     */
+    POST_VERSION_CONFLICT("게시글이 다른 요청에 의해 수정되었습니다. 최신 내용을 다시 조회해 주세요."),
+
+    /**
+     * 게시글 목록 커서(continuation token)가 올바르지 않은 경우 발생하는 에러.
+     */
+    INVALID_POST_CURSOR("유효하지 않은 게시글 목록 커서입니다."),
+
+    /**
+     * 지원하지 않는 내보내기 형식을 요청한 경우 발생하는 에러.
+     */
+    INVALID_EXPORT_FORMAT("지원하지 않는 내보내기 형식입니다."),
+
+    /**
+     * 게시글 일괄 가져오기 권한이 없는 사용자가 요청한 경우 발생하는 에러.
+     */
+    POST_IMPORT_FORBIDDEN("게시글 일괄 가져오기 권한이 없습니다."),
+
+    /**
+     * 전체 데이터 내보내기 권한이 없는 사용자가 요청한 경우 발생하는 에러.
+     */
+    EXPORT_FORBIDDEN("전체 데이터 내보내기 권한이 없습니다."),
+
     // Comment 관련 에러
     /**
      * 댓글을 찾을 수 없는 경우 발생하는 에러.
@@ -72,7 +107,37 @@ public enum ErrorCode {
     /**
      * 댓글 삭제에 실패한 경우 발생하는 에러.
      */
-    COMMENT_DELETE_FAILED("댓글 삭제에 실패했습니다.");
+    COMMENT_DELETE_FAILED("댓글 삭제에 실패했습니다."),
+
+    /**
+     * 답글 대상 댓글이 다른 게시글에 속해 있는 경우 발생하는 에러.
+     */
+    COMMENT_PARENT_MISMATCH("답글 대상 댓글이 해당 게시글에 속해 있지 않습니다."),
+
+    /**
+     * 답글의 깊이가 허용된 최대 깊이를 넘는 경우 발생하는 에러.
+     */
+    COMMENT_DEPTH_EXCEEDED("더 이상 답글을 달 수 없는 댓글입니다."),
+
+    /**
+     * 댓글 스레드 목록 커서 형식이 올바르지 않은 경우 발생하는 에러.
+     */
+    INVALID_COMMENT_CURSOR("올바르지 않은 댓글 커서입니다."),
+
+    /**
+     * 댓글 미리보기를 한 번에 요청할 수 있는 게시글 수를 넘은 경우 발생하는 에러.
+     */
+    COMMENT_PREVIEW_LIMIT_EXCEEDED("한 번에 미리보기를 조회할 수 있는 게시글 수를 초과했습니다."),
+
+    /**
+     * 실시간 댓글 스트림의 동시 구독자 수가 한도에 도달한 경우 발생하는 에러.
+     */
+    COMMENT_STREAM_UNAVAILABLE("실시간 댓글 스트림 연결이 너무 많습니다. 잠시 후 다시 시도해 주세요."),
+
+    /**
+     * 한 클라이언트의 실시간 댓글 스트림 동시 구독 수가 한도에 도달한 경우 발생하는 에러.
+     */
+    COMMENT_STREAM_CLIENT_LIMIT_EXCEEDED("동시에 구독할 수 있는 실시간 댓글 스트림 수를 초과했습니다.");
 
     private final String message; // 각 에러 코드와 연결된 사용자 친화적인 메시지
 }
\ No newline at end of file
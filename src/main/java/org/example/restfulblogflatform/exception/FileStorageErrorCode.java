@@ -21,11 +21,21 @@ public enum FileStorageErrorCode {
      */
     FILE_SIZE_EXCEEDS_LIMIT("파일 크기가 허용된 최대 크기를 초과했습니다."),
 
+    /**
+     * 한 요청에 포함된 파일 크기의 합이 허용된 최대 크기를 초과한 경우 발생하는 에러.
+     */
+    REQUEST_SIZE_EXCEEDS_LIMIT("요청 전체 크기가 허용된 최대 크기를 초과했습니다."),
+
     /**
      * 파일 형식이 허용되지 않은 경우 발생하는 에러.
      */
     INVALID_FILE_TYPE("허용되지 않는 파일 형식입니다."),
 
+    /**
+     * multipart 요청 본문의 형식이 올바르지 않은 경우 발생하는 에러.
+     */
+    INVALID_MULTIPART_REQUEST("multipart 요청 형식이 올바르지 않습니다."),
+
     /**
      * 파일 저장 중 오류가 발생한 경우 발생하는 에러.
      */
@@ -6,6 +6,7 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.restfulblogflatform.exception.ErrorCode;
 import org.example.restfulblogflatform.exception.business.CommentException;
 import org.example.restfulblogflatform.exception.business.PostException;
 import org.example.restfulblogflatform.exception.file.FileStorageException;
@@ -16,6 +17,7 @@ import org.example.restfulblogflatform.log.service.LogService;
 import org.springframework.dao.DataAccessException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -135,41 +137,79 @@ public class GlobalExceptionHandler {
      *
      * @param ex PostException 객체
      * @return HTTP 400 Bad Request 응답
+     *         (버전 불일치는 HTTP 412 Precondition Failed, If-Match 누락은 HTTP 428 Precondition Required,
+     *         권한 없음은 HTTP 403 Forbidden)
      */
     @ExceptionHandler(PostException.class)
     public ResponseEntity<ErrorResponse> handlePostException(PostException ex) {
         String errorMessage = String.format("Post operation failed: %s", ex.getErrorCode().getMessage());
         saveLog(ex, errorMessage);
 
+        HttpStatus status = switch (ex.getErrorCode()) {
+            case POST_VERSION_CONFLICT -> HttpStatus.PRECONDITION_FAILED;
+            case POST_VERSION_REQUIRED -> HttpStatus.PRECONDITION_REQUIRED;
+            case POST_ACCESS_DENIED, POST_IMPORT_FORBIDDEN, EXPORT_FORBIDDEN -> HttpStatus.FORBIDDEN;
+            default -> HttpStatus.BAD_REQUEST;
+        };
         ErrorResponse<Object> errorResponse = ErrorResponse.builder()
-                .status(HttpStatus.BAD_REQUEST)
+                .status(status)
                 .message(ex.getErrorCode().getMessage())
                 .data(ex.getErrorCode().name())
                 .timestamp(LocalDateTime.now())
                 .build();
 
-        return ResponseEntity.badRequest().body(errorResponse);
+        return ResponseEntity.status(status).body(errorResponse);
+    }
+
+    /**
+     * 낙관적 락(@Version) 충돌 예외 처리.
+     * 버전 검사 이후 다른 트랜잭션이 먼저 수정을 커밋한 경우 발생하며, 변경 내용을 덮어쓰지 않고 거부합니다.
+     * DataAccessException의 하위 타입이므로 handleDataAccessException보다 우선 적용됩니다.
+     *
+     * @param ex ObjectOptimisticLockingFailureException 객체
+     * @return HTTP 412 Precondition Failed 응답
+     */
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailureException(
+            ObjectOptimisticLockingFailureException ex) {
+        String errorMessage = String.format("Optimistic lock conflict: %s", ex.getMessage());
+        saveLog(ex, errorMessage);
+
+        ErrorResponse<Object> errorResponse = ErrorResponse.builder()
+                .status(HttpStatus.PRECONDITION_FAILED)
+                .message(ErrorCode.POST_VERSION_CONFLICT.getMessage())
+                .data(ErrorCode.POST_VERSION_CONFLICT.name())
+                .timestamp(LocalDateTime.now())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(errorResponse);
     }
 
     /**
      * 댓글(Comment) 관련 예외 처리.
      *
      * @param ex CommentException 객체
-     * @return HTTP 400 Bad Request 응답
+     * @return HTTP 400 Bad Request 응답 (실시간 스트림 구독자 한도 초과 시 HTTP 503 Service Unavailable,
+     *         클라이언트별 구독 한도 초과 시 HTTP 429 Too Many Requests)
      */
     @ExceptionHandler(CommentException.class)
     public ResponseEntity<ErrorResponse> handleCommentException(CommentException ex) {
         String errorMessage = String.format("Comment operation failed: %s", ex.getErrorCode().getMessage());
         saveLog(ex, errorMessage);
 
+        HttpStatus status = switch (ex.getErrorCode()) {
+            case COMMENT_STREAM_UNAVAILABLE -> HttpStatus.SERVICE_UNAVAILABLE;
+            case COMMENT_STREAM_CLIENT_LIMIT_EXCEEDED -> HttpStatus.TOO_MANY_REQUESTS;
+            default -> HttpStatus.BAD_REQUEST;
+        };
         ErrorResponse<Object> errorResponse = ErrorResponse.builder()
-                .status(HttpStatus.BAD_REQUEST)
+                .status(status)
                 .message(ex.getErrorCode().getMessage())
                 .data(ex.getErrorCode().name())
                 .timestamp(LocalDateTime.now())
                 .build();
 
-        return ResponseEntity.badRequest().body(errorResponse);
+        return ResponseEntity.status(status).body(errorResponse);
     }
 
     /**
@@ -0,0 +1,66 @@
+package org.example.restfulblogflatform.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.example.restfulblogflatform.dto.comment.response.CommentResponseDto;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 여러 게시글의 최신 댓글 미리보기를 한 번에 조회하는 저장소.
+ *
+ * 게시글마다 댓글을 따로 조회하지 않고, ROW_NUMBER() OVER (PARTITION BY post_id) 윈도 함수로
+ * 게시글별 최신 댓글 N개를 하나의 SQL로 조회한 뒤 게시글 ID별로 묶습니다.
+ * 호출하는 쪽의 트랜잭션(mainTransactionManager)에 참여합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CommentPreviewRepository {
+
+    private static final String LATEST_BY_POSTS_SQL =
+            "SELECT t.post_id, t.id, t.parent_id, t.depth, t.content, t.username, t.created_date FROM (" +
+            "  SELECT c.post_id, c.id, c.parent_id, c.depth, c.content, u.username, c.created_date, " +
+            "         ROW_NUMBER() OVER (PARTITION BY c.post_id ORDER BY c.id DESC) AS rn " +
+            "  FROM comments c " +
+            "  JOIN users u ON u.id = c.user_id " +
+            "  WHERE c.post_id IN (%s)" +
+            ") t " +
+            "WHERE t.rn <= ? " +
+            "ORDER BY t.post_id, t.rn";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 게시글별 최신 댓글을 최대 limit개씩 조회합니다.
+     * 댓글 ID는 작성 순서로 증가하므로 게시글 ID 인덱스(post_id, id) 순서로 최신 댓글을 고릅니다.
+     *
+     * @param postIds 게시글 ID 목록 (비어 있지 않아야 함)
+     * @param limit 게시글마다 조회할 최대 댓글 수
+     * @return 게시글 ID별 최신 댓글 목록 (최신순, 댓글이 없는 게시글은 포함되지 않음)
+     */
+    public Map<Long, List<CommentResponseDto>> findLatestByPostIds(Collection<Long> postIds, int limit) {
+        String placeholders = String.join(", ", Collections.nCopies(postIds.size(), "?"));
+        List<Object> args = new ArrayList<>(postIds);
+        args.add(limit);
+
+        Map<Long, List<CommentResponseDto>> commentsByPost = new HashMap<>();
+        jdbcTemplate.query(String.format(LATEST_BY_POSTS_SQL, placeholders), rs -> {
+            commentsByPost.computeIfAbsent(rs.getLong("post_id"), postId -> new ArrayList<>(limit))
+                    .add(new CommentResponseDto(
+                            rs.getLong("id"),
+                            rs.getString("content"),
+                            rs.getString("username"),
+                            rs.getObject("parent_id", Long.class),
+                            rs.getInt("depth"),
+                            rs.getObject("created_date", LocalDateTime.class)));
+        }, args.toArray());
+        return commentsByPost;
+    }
+}
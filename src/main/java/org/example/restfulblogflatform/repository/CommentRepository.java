@@ -1,13 +1,24 @@
 package org.example.restfulblogflatform.repository;
 
+import jakarta.persistence.QueryHint;
+import org.example.restfulblogflatform.dto.comment.CommentLocationDto;
+import org.example.restfulblogflatform.dto.comment.CommentPageVersionDto;
+import org.example.restfulblogflatform.dto.comment.response.CommentResponseDto;
+import org.example.restfulblogflatform.dto.export.CommentExportDto;
 import org.example.restfulblogflatform.entity.Comment;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
@@ -28,4 +39,126 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
      * @return 페이징 처리된 댓글 리스트
      */
     Page<Comment> findByPostId(Long postId, Pageable pageable);
+
+    /**
+     * 특정 게시글에 달린 댓글을 응답 DTO 형태로 페이징 조회합니다.
+     * 작성자 이름을 조인으로 함께 조회하므로 댓글/사용자 엔티티를 로딩하지 않습니다.
+     *
+     * @param postId   게시글의 ID
+     * @param pageable 페이징 정보 (페이지 번호, 크기, 정렬 조건 등)
+     * @return 페이징 처리된 댓글 응답 목록
+     */
+    @Query(value = "SELECT new org.example.restfulblogflatform.dto.comment.response.CommentResponseDto(" +
+            "c.id, c.content, u.username, c.parentId, c.depth, c.createdDate) " +
+            "FROM Comment c JOIN c.user u WHERE c.post.id = :postId",
+            countQuery = "SELECT COUNT(c) FROM Comment c WHERE c.post.id = :postId")
+    Page<CommentResponseDto> findResponses(@Param("postId") Long postId, Pageable pageable);
+
+    /**
+     * 특정 게시글에 달린 댓글을 응답 DTO 형태로 조회하되, 전체 개수(COUNT)는 조회하지 않습니다.
+     * 페이지 크기보다 한 건을 더 조회하여 다음 페이지 존재 여부만 판단합니다.
+     *
+     * @param postId   게시글의 ID
+     * @param pageable 페이징 정보 (페이지 번호, 크기, 정렬 조건 등)
+     * @return 댓글 응답 목록과 다음 페이지 존재 여부
+     */
+    @Query("SELECT new org.example.restfulblogflatform.dto.comment.response.CommentResponseDto(" +
+            "c.id, c.content, u.username, c.parentId, c.depth, c.createdDate) " +
+            "FROM Comment c JOIN c.user u WHERE c.post.id = :postId")
+    Slice<CommentResponseDto> findResponseSlice(@Param("postId") Long postId, Pageable pageable);
+
+    /**
+     * 특정 게시글의 댓글 수와 가장 최근 수정일을 조회합니다.
+     * 댓글 목록의 조건부 조회(ETag / Last-Modified) 검사에 사용합니다.
+     *
+     * @param postId 게시글의 ID
+     * @return 댓글 목록 버전 정보
+     */
+    @Query("SELECT new org.example.restfulblogflatform.dto.comment.CommentPageVersionDto(COUNT(c), MAX(c.lastModifiedDate)) " +
+            "FROM Comment c WHERE c.post.id = :postId")
+    CommentPageVersionDto findPageVersionByPostId(@Param("postId") Long postId);
+
+    /**
+     * 모든 댓글을 ID 순으로 스트리밍 조회합니다. (내보내기용, 트랜잭션 안에서 소비해야 함)
+     *
+     * @return 댓글 내보내기 행 스트림 (사용 후 반드시 close)
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT new org.example.restfulblogflatform.dto.export.CommentExportDto(" +
+            "c.id, c.post.id, c.user.id, c.content, c.createdDate) " +
+            "FROM Comment c ORDER BY c.id ASC")
+    Stream<CommentExportDto> streamAllForExport();
+
+    /**
+     * 특정 게시글에 달린 모든 댓글을 하나의 DELETE 문으로 삭제합니다.
+     * 댓글 엔티티를 로딩하지 않으므로 영속성 컨텍스트에 남아 있는 댓글과는 동기화되지 않습니다.
+     *
+     * @param postId 게시글의 ID
+     * @return 삭제된 댓글 수
+     */
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.post.id = :postId")
+    int deleteAllByPostIdInBulk(@Param("postId") Long postId);
+
+    /**
+     * 구체화된 경로가 아직 채워지지 않은 댓글 ID를 키셋 방식으로 조회합니다.
+     *
+     * @param lastId   이전 배치의 마지막 댓글 ID
+     * @param pageable 배치 크기
+     * @return 댓글 ID 목록 (ID 오름차순)
+     */
+    @Query("SELECT c.id FROM Comment c WHERE c.path IS NULL AND c.id > :lastId ORDER BY c.id ASC")
+    List<Long> findIdsWithoutPath(@Param("lastId") Long lastId, Pageable pageable);
+
+    /**
+     * 경로가 없는 기존 댓글을 루트 댓글로 지정합니다.
+     * 답글 기능 이전의 댓글은 모두 루트 댓글이며, 수정일(ETag)은 변경하지 않습니다.
+     *
+     * @param id   댓글 ID
+     * @param path 루트 댓글 경로
+     * @return 갱신된 행 수 (이미 경로가 채워진 경우 0)
+     */
+    @Modifying
+    @Query("UPDATE Comment c SET c.path = :path, c.rootId = c.id, c.depth = 0 WHERE c.id = :id AND c.path IS NULL")
+    int assignRootPath(@Param("id") Long id, @Param("path") String path);
+
+    /**
+     * 댓글이 속한 게시글과 스레드 위치를 조회합니다. (엔티티를 로딩하지 않는 프로젝션)
+     *
+     * @param commentId 댓글 ID
+     * @return 댓글 위치 정보 (댓글이 없으면 빈 Optional)
+     */
+    @Query("SELECT new org.example.restfulblogflatform.dto.comment.CommentLocationDto(" +
+            "c.id, c.post.id, c.rootId, c.path) FROM Comment c WHERE c.id = :commentId")
+    Optional<CommentLocationDto> findLocationById(@Param("commentId") Long commentId);
+
+    /**
+     * 경로가 없는 루트 댓글과 그 스레드의 답글 전체를 하나의 DELETE 문으로 삭제합니다.
+     * 경로가 채워지기 전에 달린 답글도 root_id로 함께 삭제됩니다.
+     * 게시글의 댓글 컬렉션을 초기화하지 않으며, 실행 후 영속성 컨텍스트를 비워
+     * 이미 로딩된 게시글 컬렉션에 삭제된 댓글이 남지 않도록 합니다.
+     *
+     * @param commentId 루트 댓글 ID
+     * @return 삭제된 행의 수 (루트 댓글 포함)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Comment c WHERE c.id = :commentId OR c.rootId = :commentId")
+    int deleteThreadInBulk(@Param("commentId") Long commentId);
+
+    /**
+     * 댓글과 그 아래의 답글 전체(하위 트리)를 하나의 DELETE 문으로 삭제합니다.
+     * 같은 스레드 안에서 경로 접두사로 범위를 한정하므로 (root_id, path) 인덱스를 사용하며,
+     * 실행 후 영속성 컨텍스트를 비웁니다.
+     *
+     * @param rootId  스레드의 루트 댓글 ID
+     * @param pattern 기준 댓글 경로의 하위 트리 LIKE 패턴 (CommentPath.subtreePattern)
+     * @return 삭제된 행의 수 (기준 댓글 포함)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Comment c WHERE c.rootId = :rootId AND c.path LIKE :pattern")
+    int deleteSubtreeInBulk(@Param("rootId") Long rootId, @Param("pattern") String pattern);
 }
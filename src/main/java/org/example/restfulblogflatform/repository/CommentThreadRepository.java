@@ -0,0 +1,94 @@
+package org.example.restfulblogflatform.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.example.restfulblogflatform.dto.comment.response.CommentNodeDto;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 댓글 스레드(트리)를 구체화된 경로(comments.path)로 조회하는 저장소.
+ *
+ * 스레드 전체 또는 여러 스레드의 앞부분을 하나의 SQL로 조회하며, 결과는 경로 순서(깊이 우선)로 정렬되어
+ * CommentTreeAssembler가 한 번의 순회로 트리를 조립할 수 있습니다.
+ * LATERAL 파생 테이블을 사용하므로 JPQL 대신 JdbcTemplate으로 실행하며,
+ * 호출하는 쪽의 트랜잭션(mainTransactionManager)에 참여합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CommentThreadRepository {
+
+    /**
+     * 기준 댓글과 그 하위 답글 전체를 경로 순서로 조회합니다.
+     * 같은 스레드(root_id) 안에서 기준 댓글의 경로로 시작하는 행만 (root_id, path) 인덱스 순서대로 읽습니다.
+     */
+    private static final String SUBTREE_SQL =
+            "SELECT c.id, c.parent_id, c.depth, c.content, u.username, c.created_date " +
+            "FROM comments a " +
+            "JOIN comments c ON c.root_id = a.root_id AND c.path LIKE CONCAT(a.path, '%') " +
+            "JOIN users u ON u.id = c.user_id " +
+            "WHERE a.id = ? AND a.post_id = ? " +
+            "ORDER BY c.path " +
+            "LIMIT ?";
+
+    /**
+     * 게시글의 루트 댓글을 ID 순으로 threadLimit개 고르고, 스레드마다 경로 순서로 앞쪽 rowsPerThread개 행을 조회합니다.
+     * 루트 댓글은 (post_id, parent_id, id) 인덱스로 고르고, 스레드별 행은 LATERAL 파생 테이블에서
+     * (root_id, path) 인덱스를 경로 순서로 읽다가 LIMIT에서 멈추므로 답글이 많은 스레드도 앞부분만 읽습니다.
+     * (MySQL 8.0.14 이상)
+     */
+    private static final String THREADS_SQL =
+            "SELECT t.id, t.parent_id, t.depth, t.content, u.username, t.created_date " +
+            "FROM (" +
+            "  SELECT id FROM comments " +
+            "  WHERE post_id = ? AND parent_id IS NULL AND root_id IS NOT NULL AND id > ? " +
+            "  ORDER BY id LIMIT ?" +
+            ") r " +
+            "CROSS JOIN LATERAL (" +
+            "  SELECT c.id, c.parent_id, c.depth, c.path, c.content, c.user_id, c.created_date " +
+            "  FROM comments c " +
+            "  WHERE c.root_id = r.id " +
+            "  ORDER BY c.path LIMIT ?" +
+            ") t " +
+            "JOIN users u ON u.id = t.user_id " +
+            "ORDER BY t.path";
+
+    private static final RowMapper<CommentNodeDto> NODE_MAPPER = (rs, rowNum) -> new CommentNodeDto(
+            rs.getLong("id"),
+            rs.getObject("parent_id", Long.class),
+            rs.getInt("depth"),
+            rs.getString("content"),
+            rs.getString("username"),
+            rs.getObject("created_date", LocalDateTime.class)
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 기준 댓글과 하위 답글을 경로 순서로 조회합니다.
+     *
+     * @param postId 게시글 ID
+     * @param commentId 기준 댓글 ID
+     * @param limit 조회할 최대 행 수 (기준 댓글 포함)
+     * @return 경로 순서로 정렬된 노드 목록 (기준 댓글이 없거나 다른 게시글의 댓글이면 빈 목록)
+     */
+    public List<CommentNodeDto> findSubtree(Long postId, Long commentId, int limit) {
+        return jdbcTemplate.query(SUBTREE_SQL, NODE_MAPPER, commentId, postId, limit);
+    }
+
+    /**
+     * 게시글의 스레드 목록을 각 스레드의 앞부분과 함께 조회합니다.
+     *
+     * @param postId 게시글 ID
+     * @param afterRootId 이 ID보다 큰 루트 댓글부터 조회 (첫 페이지는 0)
+     * @param threadLimit 조회할 최대 스레드 수
+     * @param rowsPerThread 스레드마다 조회할 최대 행 수 (루트 댓글 포함)
+     * @return 경로 순서로 정렬된 노드 목록
+     */
+    public List<CommentNodeDto> findThreads(Long postId, long afterRootId, int threadLimit, int rowsPerThread) {
+        return jdbcTemplate.query(THREADS_SQL, NODE_MAPPER, postId, afterRootId, threadLimit, rowsPerThread);
+    }
+}
@@ -0,0 +1,53 @@
+package org.example.restfulblogflatform.repository;
+
+import org.example.restfulblogflatform.dto.post.response.PostAttachmentSummaryDto;
+import org.example.restfulblogflatform.entity.FileAttachment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface FileAttachmentRepository extends JpaRepository<FileAttachment, Long> {
+
+    /**
+     * 여러 게시글의 첨부 파일 메타데이터를 한 번의 쿼리로 조회합니다.
+     *
+     * @param postIds 게시글 ID 목록
+     * @return 첨부 파일 메타데이터 목록 (첨부 파일 ID 기준 오름차순 정렬)
+     */
+    @Query("SELECT new org.example.restfulblogflatform.dto.post.response.PostAttachmentSummaryDto(" +
+            "a.post.id, a.id, a.originalFileName, a.storedFileName, a.fileSize, a.fileType) " +
+            "FROM FileAttachment a WHERE a.post.id IN :postIds ORDER BY a.id ASC")
+    List<PostAttachmentSummaryDto> findSummariesByPostIdIn(@Param("postIds") Collection<Long> postIds);
+
+    /**
+     * 특정 게시글에 첨부된 파일들의 저장 파일명을 조회합니다. (물리 파일 정리, blob 참조 해제용)
+     *
+     * @param postId 게시글의 ID
+     * @return 저장 파일명 목록
+     */
+    @Query("SELECT a.storedFileName FROM FileAttachment a WHERE a.post.id = :postId")
+    List<String> findStoredFileNamesByPostId(@Param("postId") Long postId);
+
+    /**
+     * 특정 사용자가 작성한 모든 게시글의 첨부 파일이 참조하는 blob 다이제스트를 조회합니다. (참조 해제용, 첨부 파일마다 한 건)
+     *
+     * @param userId 사용자의 ID
+     * @return blob 다이제스트 목록 (중복 포함)
+     */
+    @Query("SELECT a.blobDigest FROM FileAttachment a WHERE a.post.user.id = :userId AND a.blobDigest IS NOT NULL")
+    List<String> findBlobDigestsByUserId(@Param("userId") Long userId);
+
+    /**
+     * 특정 게시글의 첨부 파일 메타데이터를 하나의 DELETE 문으로 삭제합니다. (물리 파일은 삭제하지 않음)
+     *
+     * @param postId 게시글의 ID
+     * @return 삭제된 첨부 파일 수
+     */
+    @Modifying
+    @Query("DELETE FROM FileAttachment a WHERE a.post.id = :postId")
+    int deleteAllByPostIdInBulk(@Param("postId") Long postId);
+}
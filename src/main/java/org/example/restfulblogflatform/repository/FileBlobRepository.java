@@ -0,0 +1,64 @@
+package org.example.restfulblogflatform.repository;
+
+import org.example.restfulblogflatform.entity.FileBlob;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface FileBlobRepository extends JpaRepository<FileBlob, String> {
+
+    /**
+     * blob의 마지막 사용 시각을 갱신합니다. (같은 내용이 다시 저장된 경우)
+     *
+     * @param digest SHA-256 다이제스트
+     * @param now 갱신할 시각
+     * @return 갱신된 행 수 (blob이 없으면 0)
+     */
+    @Modifying
+    @Query("UPDATE FileBlob b SET b.lastTouchedAt = :now WHERE b.digest = :digest")
+    int touch(@Param("digest") String digest, @Param("now") LocalDateTime now);
+
+    /**
+     * blob의 참조 수를 SQL에서 원자적으로 증감하고 마지막 사용 시각을 갱신합니다.
+     *
+     * @param digest SHA-256 다이제스트
+     * @param delta 참조 수 증감량 (참조 해제 시 음수)
+     * @param now 갱신할 시각
+     * @return 갱신된 행 수 (blob이 없으면 0)
+     */
+    @Modifying
+    @Query("UPDATE FileBlob b SET b.refCount = b.refCount + :delta, b.lastTouchedAt = :now WHERE b.digest = :digest")
+    int addReferences(@Param("digest") String digest, @Param("delta") long delta, @Param("now") LocalDateTime now);
+
+    /**
+     * 참조가 없고 유예 시간이 지난 blob의 다이제스트를 키셋 방식으로 조회합니다.
+     *
+     * @param afterDigest 이 다이제스트 이후부터 조회 (처음에는 빈 문자열)
+     * @param cutoff 마지막 사용 시각이 이 시각 이전인 blob만 조회
+     * @param pageable 조회 개수
+     * @return 다이제스트 목록 (오름차순)
+     */
+    @Query("SELECT b.digest FROM FileBlob b " +
+            "WHERE b.refCount <= 0 AND b.lastTouchedAt < :cutoff AND b.digest > :afterDigest ORDER BY b.digest ASC")
+    List<String> findCollectableDigests(@Param("afterDigest") String afterDigest,
+                                        @Param("cutoff") LocalDateTime cutoff,
+                                        Pageable pageable);
+
+    /**
+     * 참조가 없고 유예 시간이 지난 blob 행을 삭제합니다.
+     * 참조 수가 어긋난 경우에 대비해 실제로 참조하는 첨부 파일이 없는지도 함께 확인합니다.
+     *
+     * @param digest SHA-256 다이제스트
+     * @param cutoff 마지막 사용 시각이 이 시각 이전인 경우에만 삭제
+     * @return 삭제된 행 수 (조건을 만족하지 않으면 0)
+     */
+    @Modifying
+    @Query("DELETE FROM FileBlob b WHERE b.digest = :digest AND b.refCount <= 0 AND b.lastTouchedAt < :cutoff " +
+            "AND NOT EXISTS (SELECT a.id FROM FileAttachment a WHERE a.blobDigest = b.digest)")
+    int deleteIfUnreferenced(@Param("digest") String digest, @Param("cutoff") LocalDateTime cutoff);
+}
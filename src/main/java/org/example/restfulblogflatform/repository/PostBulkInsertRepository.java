@@ -0,0 +1,61 @@
+package org.example.restfulblogflatform.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 게시글을 JDBC 배치로 일괄 저장하는 저장소.
+ *
+ * 게시글 ID는 IDENTITY 전략이라 Hibernate는 INSERT를 배치로 묶지 못하므로,
+ * 대량 가져오기에서는 엔티티를 거치지 않고 JdbcTemplate.batchUpdate로 직접 저장합니다.
+ * 호출하는 쪽의 트랜잭션(mainTransactionManager)에 참여합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostBulkInsertRepository {
+
+    private static final String INSERT_POST_SQL =
+            "INSERT INTO posts (user_id, title, content, view_count, version, created_date, last_modified_date) " +
+            "VALUES (?, ?, ?, ?, 0, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 일괄 저장할 게시글 한 건
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class PostRow {
+        private final Long userId;
+        private final String title;
+        private final String storedContent; // 저장 형식의 본문 (압축 가능)
+        private final int viewCount;
+        private final LocalDateTime createdDate;
+    }
+
+    /**
+     * 게시글을 batchSize 단위의 JDBC 배치로 저장합니다.
+     *
+     * @param rows           저장할 게시글 목록
+     * @param batchSize      JDBC 배치 크기
+     * @param lastModifiedAt 수정일로 기록할 시각 (검색 색인 등 후속 처리의 기준)
+     */
+    public void insertAll(List<PostRow> rows, int batchSize, LocalDateTime lastModifiedAt) {
+        Timestamp modified = Timestamp.valueOf(lastModifiedAt);
+        jdbcTemplate.batchUpdate(INSERT_POST_SQL, rows, batchSize, (statement, row) -> {
+            statement.setLong(1, row.getUserId());
+            statement.setString(2, row.getTitle());
+            statement.setString(3, row.getStoredContent());
+            statement.setInt(4, row.getViewCount());
+            statement.setTimestamp(5, Timestamp.valueOf(row.getCreatedDate()));
+            statement.setTimestamp(6, modified);
+        });
+    }
+}
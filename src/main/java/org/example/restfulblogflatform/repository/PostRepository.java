@@ -1,7 +1,276 @@
 package org.example.restfulblogflatform.repository;
 
+import jakarta.persistence.QueryHint;
+import org.example.restfulblogflatform.dto.export.PostExportDto;
+import org.example.restfulblogflatform.dto.post.PostIndexSourceDto;
+import org.example.restfulblogflatform.dto.post.PostStoredContentDto;
+import org.example.restfulblogflatform.dto.post.PostVersionDto;
+import org.example.restfulblogflatform.dto.post.response.PostSummaryDto;
 import org.example.restfulblogflatform.entity.Post;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
-}
\ No newline at end of file
+
+    /**
+     * 게시글 목록을 요약 형태로 페이징 조회합니다.
+     * 작성자는 조인으로 함께 조회하고, 본문은 앞부분만 잘라서 가져옵니다.
+     *
+     * @param pageable 페이징 정보 (페이지 번호, 크기, 정렬 조건 등)
+     * @return 페이징 처리된 게시글 요약 목록
+     */
+    @Query(value = "SELECT new org.example.restfulblogflatform.dto.post.response.PostSummaryDto(" +
+            "p.id, p.title, SUBSTRING(p.content, 1, " + PostSummaryDto.EXCERPT_LENGTH + "), " +
+            "u.username, u.id, p.createdDate, p.viewCount, p.commentCount) " +
+            "FROM Post p JOIN p.user u",
+            countQuery = "SELECT COUNT(p) FROM Post p")
+    Page<PostSummaryDto> findSummaries(Pageable pageable);
+
+    /**
+     * 게시글 목록을 요약 형태로 조회하되, 전체 개수(COUNT)는 조회하지 않습니다.
+     * 전체 개수는 PostCountTracker가 관리하는 값을 사용합니다.
+     *
+     * @param pageable 페이징 정보 (페이지 번호, 크기, 정렬 조건 등)
+     * @return 게시글 요약 목록과 다음 페이지 존재 여부
+     */
+    @Query("SELECT new org.example.restfulblogflatform.dto.post.response.PostSummaryDto(" +
+            "p.id, p.title, SUBSTRING(p.content, 1, " + PostSummaryDto.EXCERPT_LENGTH + "), " +
+            "u.username, u.id, p.createdDate, p.viewCount, p.commentCount) " +
+            "FROM Post p JOIN p.user u")
+    Slice<PostSummaryDto> findSummarySlice(Pageable pageable);
+
+    /**
+     * 커서 기반 게시글 목록의 첫 페이지를 요약 형태로 조회합니다. (COUNT 쿼리 없음)
+     *
+     * @param pageable 조회할 개수 (정렬은 생성일, ID 내림차순으로 고정)
+     * @return 게시글 요약 목록
+     */
+    @Query("SELECT new org.example.restfulblogflatform.dto.post.response.PostSummaryDto(" +
+            "p.id, p.title, SUBSTRING(p.content, 1, " + PostSummaryDto.EXCERPT_LENGTH + "), " +
+            "u.username, u.id, p.createdDate, p.viewCount, p.commentCount) " +
+            "FROM Post p JOIN p.user u " +
+            "ORDER BY p.createdDate DESC, p.id DESC")
+    List<PostSummaryDto> findSummariesFirst(Pageable pageable);
+
+    /**
+     * 커서 이후의 게시글 목록을 요약 형태로 조회합니다. (COUNT 쿼리 없음)
+     * (created_date, id) 인덱스의 범위 검색으로 처리되므로 페이지 깊이와 관계없이 비용이 일정합니다.
+     *
+     * @param createdDate 마지막으로 조회한 게시글의 생성일
+     * @param id          마지막으로 조회한 게시글의 ID
+     * @param pageable    조회할 개수 (정렬은 생성일, ID 내림차순으로 고정)
+     * @return 게시글 요약 목록
+     */
+    @Query("SELECT new org.example.restfulblogflatform.dto.post.response.PostSummaryDto(" +
+            "p.id, p.title, SUBSTRING(p.content, 1, " + PostSummaryDto.EXCERPT_LENGTH + "), " +
+            "u.username, u.id, p.createdDate, p.viewCount, p.commentCount) " +
+            "FROM Post p JOIN p.user u " +
+            "WHERE p.createdDate <= :createdDate AND (p.createdDate < :createdDate OR p.id < :id) " +
+            "ORDER BY p.createdDate DESC, p.id DESC")
+    List<PostSummaryDto> findSummariesAfter(@Param("createdDate") LocalDateTime createdDate,
+                                            @Param("id") Long id,
+                                            Pageable pageable);
+
+    /**
+     * 특정 작성자의 게시글 목록 첫 페이지를 요약 형태로 조회합니다. (COUNT 쿼리 없음)
+     * (user_id, created_date, id) 인덱스의 범위 검색으로 처리되어 작성자의 전체 게시글 수와 관계없이 비용이 일정합니다.
+     *
+     * @param userId   작성자 ID
+     * @param pageable 조회할 개수 (정렬은 생성일, ID 내림차순으로 고정)
+     * @return 게시글 요약 목록
+     */
+    @Query("SELECT new org.example.restfulblogflatform.dto.post.response.PostSummaryDto(" +
+            "p.id, p.title, SUBSTRING(p.content, 1, " + PostSummaryDto.EXCERPT_LENGTH + "), " +
+            "u.username, u.id, p.createdDate, p.viewCount, p.commentCount) " +
+            "FROM Post p JOIN p.user u " +
+            "WHERE p.user.id = :userId " +
+            "ORDER BY p.createdDate DESC, p.id DESC")
+    List<PostSummaryDto> findSummariesByUserFirst(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * 특정 작성자의 커서 이후 게시글 목록을 요약 형태로 조회합니다. (COUNT 쿼리 없음)
+     *
+     * @param userId      작성자 ID
+     * @param createdDate 마지막으로 조회한 게시글의 생성일
+     * @param id          마지막으로 조회한 게시글의 ID
+     * @param pageable    조회할 개수 (정렬은 생성일, ID 내림차순으로 고정)
+     * @return 게시글 요약 목록
+     */
+    @Query("SELECT new org.example.restfulblogflatform.dto.post.response.PostSummaryDto(" +
+            "p.id, p.title, SUBSTRING(p.content, 1, " + PostSummaryDto.EXCERPT_LENGTH + "), " +
+            "u.username, u.id, p.createdDate, p.viewCount, p.commentCount) " +
+            "FROM Post p JOIN p.user u " +
+            "WHERE p.user.id = :userId " +
+            "AND p.createdDate <= :createdDate AND (p.createdDate < :createdDate OR p.id < :id) " +
+            "ORDER BY p.createdDate DESC, p.id DESC")
+    List<PostSummaryDto> findSummariesByUserAfter(@Param("userId") Long userId,
+                                                  @Param("createdDate") LocalDateTime createdDate,
+                                                  @Param("id") Long id,
+                                                  Pageable pageable);
+
+    /**
+     * 주어진 ID 목록에 해당하는 게시글을 요약 형태로 조회합니다. (검색 결과 조립용, 순서 보장 없음)
+     *
+     * @param postIds 게시글 ID 목록
+     * @return 게시글 요약 목록
+     */
+    @Query("SELECT new org.example.restfulblogflatform.dto.post.response.PostSummaryDto(" +
+            "p.id, p.title, SUBSTRING(p.content, 1, " + PostSummaryDto.EXCERPT_LENGTH + "), " +
+            "u.username, u.id, p.createdDate, p.viewCount, p.commentCount) " +
+            "FROM Post p JOIN p.user u " +
+            "WHERE p.id IN :postIds")
+    List<PostSummaryDto> findSummariesByIdIn(@Param("postIds") Collection<Long> postIds);
+
+    /**
+     * 주어진 시각 이후 수정된 게시글을 ID 순으로 조회합니다. (검색 색인 생성용)
+     *
+     * @param lastId   이전 배치에서 마지막으로 조회한 게시글 ID
+     * @param since    기준 수정일 (이 시각 이후 수정된 게시글만 조회)
+     * @param pageable 조회할 개수
+     * @return 색인할 게시글 목록
+     */
+    @Query("SELECT new org.example.restfulblogflatform.dto.post.PostIndexSourceDto(p.id, p.title, p.content, p.lastModifiedDate) " +
+            "FROM Post p WHERE p.id > :lastId AND p.lastModifiedDate >= :since ORDER BY p.id ASC")
+    List<PostIndexSourceDto> findIndexSourcesModifiedSince(@Param("lastId") Long lastId,
+                                                           @Param("since") LocalDateTime since,
+                                                           Pageable pageable);
+
+    /**
+     * 게시글 하나를 색인용으로 조회합니다. (작성자, 첨부 파일 미조회)
+     *
+     * @param postId 게시글의 ID
+     * @return 색인할 게시글 (없으면 빈 Optional)
+     */
+    @Query("SELECT new org.example.restfulblogflatform.dto.post.PostIndexSourceDto(p.id, p.title, p.content, p.lastModifiedDate) " +
+            "FROM Post p WHERE p.id = :postId")
+    Optional<PostIndexSourceDto> findIndexSourceById(@Param("postId") Long postId);
+
+    /**
+     * 모든 게시글을 ID 순으로 스트리밍 조회합니다. (내보내기용, 트랜잭션 안에서 소비해야 함)
+     * fetch size를 지정하여 드라이버가 결과 전체를 메모리에 올리지 않고 나누어 가져오도록 합니다.
+     * MySQL 드라이버는 useCursorFetch=true 연결 속성이 있어야 fetch size를 따르므로
+     * spring.datasource.main.data-source-properties.useCursorFetch 설정과 함께 사용합니다.
+     *
+     * @return 게시글 내보내기 행 스트림 (사용 후 반드시 close)
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT new org.example.restfulblogflatform.dto.export.PostExportDto(" +
+            "p.id, p.user.id, p.title, p.content, p.viewCount, p.createdDate, p.lastModifiedDate) " +
+            "FROM Post p ORDER BY p.id ASC")
+    Stream<PostExportDto> streamAllForExport();
+
+    /**
+     * 게시글의 버전과 수정일만 조회합니다. (본문, 첨부 파일 미조회)
+     * 조건부 조회(If-None-Match / If-Modified-Since) 검사에 사용합니다.
+     *
+     * @param postId 게시글의 ID
+     * @return 게시글 버전 정보 (게시글이 없으면 빈 Optional)
+     */
+    @Query("SELECT new org.example.restfulblogflatform.dto.post.PostVersionDto(p.id, p.version, p.lastModifiedDate, p.commentCount) " +
+            "FROM Post p WHERE p.id = :postId")
+    Optional<PostVersionDto> findVersionById(@Param("postId") Long postId);
+
+    /**
+     * 본문 길이가 기준보다 긴 게시글의 저장된 본문을 ID 순으로 조회합니다. (본문 압축 마이그레이션용)
+     *
+     * @param lastId    이전 배치에서 마지막으로 처리한 게시글 ID
+     * @param minLength 조회할 최소 본문 길이 (이 길이 이하의 본문은 제외)
+     * @param pageable  조회할 개수
+     * @return 게시글 ID, 버전, 저장된 본문 목록
+     */
+    @Query("SELECT new org.example.restfulblogflatform.dto.post.PostStoredContentDto(p.id, p.version, p.content) " +
+            "FROM Post p WHERE p.id > :lastId AND LENGTH(p.content) > :minLength ORDER BY p.id ASC")
+    List<PostStoredContentDto> findStoredContentBatch(@Param("lastId") Long lastId,
+                                                      @Param("minLength") int minLength,
+                                                      Pageable pageable);
+
+    /**
+     * 게시글의 저장된 본문을 교체합니다. (본문 압축 마이그레이션용)
+     * 조회 이후 게시글이 수정되었다면 버전이 달라 변경되지 않으며, 버전 컬럼도 증가시키지 않습니다.
+     *
+     * @param postId  게시글의 ID
+     * @param version 조회 시점의 버전
+     * @param content 새 저장 형식의 본문
+     * @return 변경된 행의 수
+     */
+    @Modifying
+    @Query("UPDATE Post p SET p.content = :content WHERE p.id = :postId AND p.version = :version")
+    int updateStoredContent(@Param("postId") Long postId,
+                            @Param("version") Long version,
+                            @Param("content") String content);
+
+    /**
+     * 게시글을 엔티티 로딩 없이 하나의 DELETE 문으로 삭제합니다.
+     * 댓글과 첨부 파일은 cascade가 적용되지 않으므로 먼저 삭제해야 합니다.
+     * 실행 후 영속성 컨텍스트를 비워 삭제된 게시글이 캐시된 상태로 남지 않도록 합니다.
+     *
+     * @param postId 게시글의 ID
+     * @return 삭제된 행의 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Post p WHERE p.id = :postId")
+    int deleteByIdInBulk(@Param("postId") Long postId);
+
+    /**
+     * 게시글 댓글 수를 주어진 값만큼 증감시킵니다. (0 미만으로 내려가지 않음)
+     * 엔티티를 로딩하지 않는 벌크 UPDATE이므로 버전(@Version) 컬럼은 변경되지 않으며,
+     * 동시에 여러 댓글이 작성되어도 DB에서 원자적으로 계산되어 증가분이 유실되지 않습니다.
+     *
+     * @param postId 게시글의 ID
+     * @param delta  증감시킬 댓글 수 (삭제 시 음수)
+     * @return 변경된 행의 수 (게시글이 삭제된 경우 0)
+     */
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCount = CASE WHEN p.commentCount + :delta < 0 THEN 0 " +
+            "ELSE p.commentCount + :delta END WHERE p.id = :postId")
+    int addCommentCount(@Param("postId") Long postId, @Param("delta") int delta);
+
+    /**
+     * ID 범위 안의 게시글 중 저장된 댓글 수가 실제 댓글 수와 다른 게시글의 ID를 조회합니다. (댓글 수 보정용)
+     *
+     * @param fromId 범위 시작 ID (이 값 초과)
+     * @param toId   범위 끝 ID (이 값 이하)
+     * @return 댓글 수가 어긋난 게시글 ID 목록
+     */
+    @Query("SELECT p.id FROM Post p WHERE p.id > :fromId AND p.id <= :toId " +
+            "AND p.commentCount <> (SELECT COUNT(c) FROM Comment c WHERE c.post.id = p.id)")
+    List<Long> findIdsWithCommentCountDrift(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    /**
+     * 게시글의 댓글 수를 실제 댓글 수로 다시 계산합니다. (댓글 수 보정용)
+     *
+     * @param postIds 보정할 게시글 ID 목록
+     * @return 변경된 행의 수
+     */
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCount = (SELECT COUNT(c) FROM Comment c WHERE c.post.id = p.id) " +
+            "WHERE p.id IN :postIds")
+    int recountComments(@Param("postIds") Collection<Long> postIds);
+
+    /**
+     * 주어진 ID 이후의 게시글 ID를 오름차순으로 조회합니다. (배치 범위 계산용)
+     *
+     * @param lastId   이전 배치의 마지막 게시글 ID
+     * @param pageable 조회할 개수
+     * @return 게시글 ID 목록
+     */
+    @Query("SELECT p.id FROM Post p WHERE p.id > :lastId ORDER BY p.id ASC")
+    List<Long> findIdsAfter(@Param("lastId") Long lastId, Pageable pageable);
+}
@@ -0,0 +1,38 @@
+package org.example.restfulblogflatform.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Map;
+
+/**
+ * 게시글 조회수 증가분을 JDBC 배치로 일괄 반영하는 저장소.
+ *
+ * 게시글마다 JPQL 벌크 UPDATE를 따로 실행하면 반영할 게시글 수만큼 DB 왕복이 생기므로,
+ * 같은 UPDATE 문을 JdbcTemplate.batchUpdate로 묶어 batchSize 건마다 한 번에 전송합니다.
+ * 엔티티를 거치지 않으므로 버전(@Version) 컬럼은 변경되지 않으며, 호출하는 쪽의 트랜잭션(mainTransactionManager)에 참여합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostViewCountRepository {
+
+    private static final String ADD_VIEW_COUNT_SQL = "UPDATE posts SET view_count = view_count + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 게시글별 조회수 증가분을 batchSize 단위의 JDBC 배치로 반영합니다.
+     * 삭제된 게시글의 증가분은 변경되는 행이 없어 무시됩니다.
+     *
+     * @param deltas    게시글 ID별 증가시킬 조회수
+     * @param batchSize JDBC 배치 크기
+     */
+    public void addViewCounts(Map<Long, Long> deltas, int batchSize) {
+        jdbcTemplate.batchUpdate(ADD_VIEW_COUNT_SQL, new ArrayList<>(deltas.entrySet()), batchSize, (statement, delta) -> {
+            statement.setInt(1, (int) Math.min(delta.getValue(), Integer.MAX_VALUE));
+            statement.setLong(2, delta.getKey());
+        });
+    }
+}
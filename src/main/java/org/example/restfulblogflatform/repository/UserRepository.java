@@ -1,12 +1,42 @@
 package org.example.restfulblogflatform.repository;
 
+import jakarta.persistence.QueryHint;
+import org.example.restfulblogflatform.dto.export.AuthorExportDto;
 import org.example.restfulblogflatform.entity.User;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface UserRepository extends JpaRepository<User, Long> {
   Optional<User> findByEmail(String email);
 
   boolean existsByEmail(String email);
-}
\ No newline at end of file
+
+  /**
+   * 이메일로 사용자 ID만 조회합니다. (엔티티 미로딩)
+   *
+   * @param email 사용자 이메일
+   * @return 사용자 ID (없으면 빈 Optional)
+   */
+  @Query("SELECT u.id FROM User u WHERE u.email = :email")
+  Optional<Long> findIdByEmail(@Param("email") String email);
+
+  /**
+   * 모든 사용자를 ID 순으로 스트리밍 조회합니다. (내보내기용, 개인 정보 제외, 트랜잭션 안에서 소비해야 함)
+   *
+   * @return 작성자 내보내기 행 스트림 (사용 후 반드시 close)
+   */
+  @QueryHints({
+      @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+      @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+      @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+  })
+  @Query("SELECT new org.example.restfulblogflatform.dto.export.AuthorExportDto(u.id, u.username, u.createdDate) " +
+      "FROM User u ORDER BY u.id ASC")
+  Stream<AuthorExportDto> streamAllForExport();
+}
@@ -0,0 +1,281 @@
+package org.example.restfulblogflatform.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 게시글 제목/본문에 대한 메모리 역색인(inverted index).
+ *
+ * 토큰별 게시글 출현 빈도(postings)와 게시글별 토큰 빈도(forward index)를 함께 유지하여
+ * 게시글 추가/수정/삭제 시 해당 게시글의 항목만 갱신합니다.
+ * 게시글마다 색인한 내용의 수정 시각을 함께 보관하여, 늦게 도착한 이전 내용이 최신 내용을 덮어쓰지 않도록 합니다.
+ * 검색 결과는 BM25로 점수를 매기며, 제목에 등장한 토큰은 본문보다 높은 가중치를 가집니다.
+ * 읽기/쓰기는 ReadWriteLock으로 보호되어 검색끼리는 동시에 수행됩니다.
+ */
+@Component
+public class PostSearchIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int TITLE_WEIGHT = 3; // 제목 토큰의 빈도 가중치
+
+    private static final int SNAPSHOT_MAGIC = 0x50534958; // "PSIX"
+    private static final int SNAPSHOT_VERSION = 2; // 2: 게시글별 수정 시각 추가 (1은 읽지 않고 전체 재색인)
+
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>(); // 토큰 -> (게시글 ID -> 빈도)
+    private final NavigableMap<Long, Map<String, Integer>> documents = new TreeMap<>(); // 게시글 ID -> (토큰 -> 빈도), ID 범위 정리용으로 정렬
+    private final Map<Long, Integer> documentLengths = new HashMap<>();         // 게시글 ID -> 가중치 반영 토큰 수
+    private final Map<Long, Long> modifiedTimes = new HashMap<>();              // 게시글 ID -> 색인한 내용의 수정 시각(epoch 밀리초)
+    private long totalLength = 0L;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * 검색 결과 항목
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Hit {
+        private final Long postId;
+        private final double score;
+    }
+
+    /**
+     * 게시글을 색인합니다. 이미 색인된 게시글이면 기존 항목을 교체합니다.
+     * 이미 색인된 내용이 더 최근에 수정된 것이면 교체하지 않습니다.
+     * (재색인 배치가 읽어 둔 이전 내용이 그 사이 이벤트로 반영된 수정을 덮어쓰지 않도록)
+     *
+     * @param postId     게시글 ID
+     * @param title      게시글 제목
+     * @param content    게시글 본문 (원본)
+     * @param modifiedAt 게시글 수정 시각 (epoch 밀리초)
+     * @return 색인했으면 true, 더 최근 내용이 이미 색인되어 있어 건너뛰었으면 false
+     */
+    public boolean index(Long postId, String title, String content, long modifiedAt) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        PostTokenizer.tokenize(title).forEach(token -> frequencies.merge(token, TITLE_WEIGHT, Integer::sum));
+        PostTokenizer.tokenize(content).forEach(token -> frequencies.merge(token, 1, Integer::sum));
+
+        lock.writeLock().lock();
+        try {
+            Long indexedAt = modifiedTimes.get(postId);
+            if (indexedAt != null && indexedAt > modifiedAt) {
+                return false;
+            }
+            removeInternal(postId);
+            addInternal(postId, frequencies, modifiedAt);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 게시글을 색인에서 제거합니다.
+     *
+     * @param postId 게시글 ID
+     */
+    public void remove(Long postId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(postId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * ID 범위 (afterId, upToId] 안에서 주어진 게시글 ID 목록에 없는 게시글을 색인에서 제거합니다.
+     * 스냅샷 이후 삭제된 게시글을 ID 범위 단위로 정리할 때 사용합니다.
+     * 수정 시각이 modifiedUntil 이후인 항목은 정리 도중 이벤트로 색인된 것이므로 제거하지 않습니다.
+     *
+     * @param afterId       범위 시작 (제외)
+     * @param upToId        범위 끝 (포함)
+     * @param existingIds   범위 안에서 현재 존재하는 게시글 ID
+     * @param modifiedUntil 제거 대상이 될 수 있는 최대 수정 시각 (epoch 밀리초, 보통 스냅샷 기준 시각)
+     * @return 제거된 게시글 수
+     */
+    public int retainRange(long afterId, long upToId, Set<Long> existingIds, long modifiedUntil) {
+        lock.writeLock().lock();
+        try {
+            List<Long> removed = documents.subMap(afterId, false, upToId, true).keySet().stream()
+                    .filter(postId -> !existingIds.contains(postId) && modifiedTimes.get(postId) <= modifiedUntil)
+                    .toList();
+            removed.forEach(this::removeInternal);
+            return removed.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어와 관련도가 높은 게시글을 BM25 점수 내림차순으로 반환합니다.
+     *
+     * @param query 검색어
+     * @param limit 반환할 최대 개수
+     * @return 검색 결과 (점수 내림차순, 점수가 같으면 최신 게시글 ID 우선)
+     */
+    public List<Hit> search(String query, int limit) {
+        Set<String> terms = new LinkedHashSet<>(PostTokenizer.tokenize(query));
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        Map<Long, Double> scores = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            int documentCount = documents.size();
+            if (documentCount == 0) {
+                return List.of();
+            }
+            double averageLength = (double) totalLength / documentCount;
+
+            for (String term : terms) {
+                Map<Long, Integer> termPostings = postings.get(term);
+                if (termPostings == null) {
+                    continue;
+                }
+                int documentFrequency = termPostings.size();
+                double idf = Math.log(1 + (documentCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+                termPostings.forEach((postId, frequency) -> {
+                    double normalization = K1 * (1 - B + B * documentLengths.get(postId) / averageLength);
+                    double score = idf * frequency * (K1 + 1) / (frequency + normalization);
+                    scores.merge(postId, score, Double::sum);
+                });
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        // 상위 limit개만 유지하는 최소 힙
+        Comparator<Hit> order = Comparator.comparingDouble(Hit::getScore).thenComparing(Hit::getPostId);
+        PriorityQueue<Hit> top = new PriorityQueue<>(Math.min(limit, Math.max(1, scores.size())), order);
+        scores.forEach((postId, score) -> {
+            top.offer(new Hit(postId, score));
+            if (top.size() > limit) {
+                top.poll();
+            }
+        });
+
+        List<Hit> hits = new ArrayList<>(top);
+        hits.sort(order.reversed());
+        return hits;
+    }
+
+    /**
+     * 색인된 게시글 수를 반환합니다.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인 전체를 스트림에 기록합니다. (게시글별 토큰 빈도만 기록하며, postings는 읽을 때 재구성)
+     *
+     * @param output    기록할 스트림
+     * @param timestamp 스냅샷 기준 시각 (epoch 밀리초)
+     */
+    public void writeSnapshot(DataOutputStream output, long timestamp) throws IOException {
+        lock.readLock().lock();
+        try {
+            output.writeInt(SNAPSHOT_MAGIC);
+            output.writeInt(SNAPSHOT_VERSION);
+            output.writeLong(timestamp);
+            output.writeInt(documents.size());
+            for (Map.Entry<Long, Map<String, Integer>> document : documents.entrySet()) {
+                output.writeLong(document.getKey());
+                output.writeLong(modifiedTimes.get(document.getKey()));
+                output.writeInt(document.getValue().size());
+                for (Map.Entry<String, Integer> term : document.getValue().entrySet()) {
+                    output.writeUTF(term.getKey());
+                    output.writeInt(term.getValue());
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 스트림에 기록된 스냅샷으로 색인을 교체합니다.
+     *
+     * @param input 읽을 스트림
+     * @return 스냅샷 기준 시각 (epoch 밀리초)
+     * @throws IOException 형식이 올바르지 않거나 읽기에 실패한 경우 (색인은 변경되지 않음)
+     */
+    public long readSnapshot(DataInputStream input) throws IOException {
+        if (input.readInt() != SNAPSHOT_MAGIC || input.readInt() != SNAPSHOT_VERSION) {
+            throw new IOException("Unsupported search index snapshot format");
+        }
+        long timestamp = input.readLong();
+        int documentCount = input.readInt();
+        Map<Long, Map<String, Integer>> loaded = new HashMap<>(documentCount * 2);
+        Map<Long, Long> loadedModifiedTimes = new HashMap<>(documentCount * 2);
+        for (int i = 0; i < documentCount; i++) {
+            long postId = input.readLong();
+            loadedModifiedTimes.put(postId, input.readLong());
+            int termCount = input.readInt();
+            Map<String, Integer> frequencies = new HashMap<>(termCount * 2);
+            for (int j = 0; j < termCount; j++) {
+                frequencies.put(input.readUTF(), input.readInt());
+            }
+            loaded.put(postId, frequencies);
+        }
+
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+            documentLengths.clear();
+            modifiedTimes.clear();
+            totalLength = 0L;
+            loaded.forEach((postId, frequencies) -> addInternal(postId, frequencies, loadedModifiedTimes.get(postId)));
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return timestamp;
+    }
+
+    private void addInternal(Long postId, Map<String, Integer> frequencies, long modifiedAt) {
+        int length = 0;
+        for (Map.Entry<String, Integer> term : frequencies.entrySet()) {
+            postings.computeIfAbsent(term.getKey(), key -> new HashMap<>()).put(postId, term.getValue());
+            length += term.getValue();
+        }
+        documents.put(postId, frequencies);
+        documentLengths.put(postId, length);
+        modifiedTimes.put(postId, modifiedAt);
+        totalLength += length;
+    }
+
+    private void removeInternal(Long postId) {
+        Map<String, Integer> frequencies = documents.remove(postId);
+        if (frequencies == null) {
+            return;
+        }
+        for (String term : frequencies.keySet()) {
+            Map<Long, Integer> termPostings = postings.get(term);
+            if (termPostings != null) {
+                termPostings.remove(postId);
+                if (termPostings.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+        totalLength -= documentLengths.remove(postId);
+        modifiedTimes.remove(postId);
+    }
+}
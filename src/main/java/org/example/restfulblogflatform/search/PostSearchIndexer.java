@@ -0,0 +1,231 @@
+package org.example.restfulblogflatform.search;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.restfulblogflatform.dto.post.PostIndexSourceDto;
+import org.example.restfulblogflatform.event.post.PostChangedEvent;
+import org.example.restfulblogflatform.repository.PostRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 게시글 검색 색인(PostSearchIndex)의 생성과 갱신을 담당하는 컴포넌트.
+ *
+ * - 시작 시: 백그라운드 스레드에서 디스크 스냅샷이 있으면 불러온 뒤 삭제된 게시글을 ID 범위 단위로 정리하고
+ *   스냅샷 이후 수정된 게시글만 다시 색인하며, 스냅샷이 없으면 게시글을 ID 순으로 배치 조회하여 전체 색인을 생성합니다.
+ *   시작을 지연시키지 않으며, 그동안의 변경 이벤트와 재색인이 겹쳐도 수정 시각이 더 최근인 내용이 남습니다.
+ * - 실행 중: 게시글 생성/수정/삭제 이벤트를 트랜잭션 커밋 후 반영합니다.
+ * - 주기적으로, 그리고 종료 시 스냅샷을 디스크에 기록합니다.
+ */
+@Slf4j
+@Component
+public class PostSearchIndexer {
+
+    /**
+     * 스냅샷 기록 중에 수정된 게시글을 놓치지 않도록 재색인 기준 시각을 앞당기는 여유 시간
+     */
+    private static final long CATCH_UP_MARGIN_MILLIS = 60_000L;
+
+    private final PostRepository postRepository;
+    private final PostSearchIndex postSearchIndex;
+    private final Path snapshotPath;
+    private final boolean snapshotEnabled;
+    private final int batchSize;
+    private final ExecutorService executor;
+
+    private volatile boolean ready = false;
+
+    public PostSearchIndexer(PostRepository postRepository,
+                             PostSearchIndex postSearchIndex,
+                             @Value("${post.search.snapshot.path:./search/posts.idx}") String snapshotPath,
+                             @Value("${post.search.snapshot.enabled:true}") boolean snapshotEnabled,
+                             @Value("${post.search.batch-size:500}") int batchSize) {
+        this.postRepository = postRepository;
+        this.postSearchIndex = postSearchIndex;
+        this.snapshotPath = Paths.get(snapshotPath);
+        this.snapshotEnabled = snapshotEnabled;
+        this.batchSize = batchSize;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "post-search-indexer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 애플리케이션 시작 시 백그라운드에서 색인을 준비합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        executor.execute(() -> {
+            try {
+                rebuild();
+            } catch (RuntimeException e) {
+                log.error("Failed to build post search index; search results stay partial until restart", e);
+            }
+        });
+    }
+
+    /**
+     * 스냅샷을 불러와 정리하고 이후 수정분을 재색인합니다. (스냅샷이 없으면 전체 색인)
+     */
+    void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        LocalDateTime since = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+        Long snapshotAt = loadSnapshot();
+        if (snapshotAt != null) {
+            since = LocalDateTime.ofInstant(Instant.ofEpochMilli(snapshotAt - CATCH_UP_MARGIN_MILLIS), ZoneId.systemDefault());
+            int removed = removeDeletedSince(snapshotAt);
+            log.info("Loaded post search snapshot with {} posts ({} removed since snapshot)", postSearchIndex.size(), removed);
+        }
+
+        int indexed = indexModifiedSince(since);
+        ready = true;
+        log.info("Post search index ready: {} posts ({} indexed) in {} ms",
+                postSearchIndex.size(), indexed, System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 게시글 변경 이벤트를 색인에 반영합니다. (트랜잭션 커밋 후)
+     *
+     * @param event 게시글 변경 이벤트(PostChangedEvent)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handlePostChangedEvent(PostChangedEvent event) {
+        if (event.getType() == PostChangedEvent.Type.DELETED) {
+            postSearchIndex.remove(event.getPostId());
+            return;
+        }
+        postRepository.findIndexSourceById(event.getPostId())
+                .ifPresent(post -> postSearchIndex.index(
+                        post.getId(), post.getTitle(), post.getContent(), post.getLastModifiedMillis()));
+    }
+
+    /**
+     * 주기적으로 색인 스냅샷을 기록합니다.
+     */
+    @Scheduled(fixedDelayString = "${post.search.snapshot.interval-ms:600000}",
+            initialDelayString = "${post.search.snapshot.interval-ms:600000}")
+    public void snapshot() {
+        if (!snapshotEnabled || !ready) {
+            return;
+        }
+        long timestamp = System.currentTimeMillis();
+        try {
+            Path parent = snapshotPath.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path temp = Files.createTempFile(parent, "posts", ".tmp");
+            try (DataOutputStream output = new DataOutputStream(
+                    new BufferedOutputStream(new GZIPOutputStream(Files.newOutputStream(temp))))) {
+                postSearchIndex.writeSnapshot(output, timestamp);
+            }
+            // 기록이 끝난 파일로 교체하여 중간에 종료되어도 이전 스냅샷이 손상되지 않도록 함
+            Files.move(temp, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("Failed to write post search snapshot to {}: {}", snapshotPath, e.getMessage());
+        }
+    }
+
+    /**
+     * 종료 시 스냅샷을 기록하여 다음 시작 시 전체 재색인을 피합니다.
+     */
+    @PreDestroy
+    public void snapshotOnShutdown() {
+        executor.shutdownNow();
+        snapshot();
+    }
+
+    /**
+     * 색인 준비가 끝났는지 여부를 반환합니다. (준비 중에는 검색 결과가 일부 누락될 수 있음)
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 주어진 시각 이후 수정된 게시글을 ID 순으로 배치 조회하여 색인합니다.
+     * 이벤트를 거치지 않고 저장된 게시글(일괄 가져오기 등)을 색인에 반영할 때도 사용합니다.
+     *
+     * @param since 기준 수정일
+     * @return 색인한 게시글 수
+     */
+    public int indexModifiedSince(LocalDateTime since) {
+        int indexed = 0;
+        long lastId = 0L;
+        while (true) {
+            List<PostIndexSourceDto> batch =
+                    postRepository.findIndexSourcesModifiedSince(lastId, since, PageRequest.ofSize(batchSize));
+            if (batch.isEmpty()) {
+                return indexed;
+            }
+            for (PostIndexSourceDto post : batch) {
+                postSearchIndex.index(post.getId(), post.getTitle(), post.getContent(), post.getLastModifiedMillis());
+            }
+            indexed += batch.size();
+            lastId = batch.get(batch.size() - 1).getId();
+        }
+    }
+
+    /**
+     * 스냅샷에는 있지만 DB에서 삭제된 게시글을 색인에서 제거합니다.
+     * 게시글 ID를 배치 크기만큼 ID 순으로 조회하여 그 범위 안에서만 비교하므로 전체 ID를 메모리에 올리지 않습니다.
+     *
+     * @param snapshotAt 스냅샷 기준 시각 (이후에 색인된 항목은 정리 대상에서 제외)
+     * @return 제거한 게시글 수
+     */
+    private int removeDeletedSince(long snapshotAt) {
+        int removed = 0;
+        long lastId = 0L;
+        while (true) {
+            List<Long> ids = postRepository.findIdsAfter(lastId, PageRequest.ofSize(batchSize));
+            if (ids.isEmpty()) {
+                // 마지막 게시글 이후 범위 (스냅샷 이후 삭제된 가장 최근 게시글들)
+                return removed + postSearchIndex.retainRange(lastId, Long.MAX_VALUE, Set.of(), snapshotAt);
+            }
+            long upToId = ids.get(ids.size() - 1);
+            removed += postSearchIndex.retainRange(lastId, upToId, new HashSet<>(ids), snapshotAt);
+            lastId = upToId;
+        }
+    }
+
+    /**
+     * 디스크 스냅샷을 불러옵니다.
+     *
+     * @return 스냅샷 기준 시각 (스냅샷이 없거나 읽을 수 없으면 null)
+     */
+    private Long loadSnapshot() {
+        if (!snapshotEnabled || !Files.isReadable(snapshotPath)) {
+            return null;
+        }
+        try (DataInputStream input = new DataInputStream(
+                new BufferedInputStream(new GZIPInputStream(Files.newInputStream(snapshotPath))))) {
+            return postSearchIndex.readSnapshot(input);
+        } catch (IOException e) {
+            log.warn("Ignoring unreadable post search snapshot {}: {}", snapshotPath, e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package org.example.restfulblogflatform.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 게시글 검색용 토크나이저.
+ *
+ * 텍스트를 NFKC 정규화 및 소문자 변환한 뒤 문자/숫자 구간으로 나누고,
+ * 한글·한자·가나 구간은 띄어쓰기와 조사에 영향을 덜 받도록 2-gram(bigram)으로,
+ * 그 외(영문/숫자 등) 구간은 단어 단위로 토큰화합니다.
+ * 색인과 검색어에 같은 규칙을 적용합니다.
+ */
+public final class PostTokenizer {
+
+    /**
+     * 단어 단위 토큰의 최대 길이. 이보다 긴 구간(인코딩된 데이터 등)은 색인하지 않습니다.
+     */
+    static final int MAX_WORD_LENGTH = 64;
+
+    private PostTokenizer() {
+    }
+
+    /**
+     * 텍스트를 토큰 목록으로 변환합니다. (중복 포함, 등장 순서 유지)
+     *
+     * @param text 토큰화할 텍스트
+     * @return 토큰 목록 (텍스트가 비어 있으면 빈 목록)
+     */
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        int length = normalized.length();
+        int index = 0;
+        while (index < length) {
+            int codePoint = normalized.codePointAt(index);
+            if (!Character.isLetterOrDigit(codePoint)) {
+                index += Character.charCount(codePoint);
+                continue;
+            }
+
+            // 같은 종류(CJK 여부)의 문자/숫자가 이어지는 구간을 하나의 단위로 처리
+            boolean cjk = isCjk(codePoint);
+            int start = index;
+            while (index < length) {
+                int next = normalized.codePointAt(index);
+                if (!Character.isLetterOrDigit(next) || isCjk(next) != cjk) {
+                    break;
+                }
+                index += Character.charCount(next);
+            }
+
+            String run = normalized.substring(start, index);
+            if (cjk) {
+                addBigrams(run, tokens);
+            } else if (run.length() <= MAX_WORD_LENGTH) {
+                tokens.add(run);
+            }
+        }
+        return tokens;
+    }
+
+    private static void addBigrams(String run, List<String> tokens) {
+        int[] codePoints = run.codePoints().toArray();
+        if (codePoints.length == 1) {
+            tokens.add(run);
+            return;
+        }
+        for (int i = 0; i + 1 < codePoints.length; i++) {
+            tokens.add(new String(codePoints, i, 2));
+        }
+    }
+
+    private static boolean isCjk(int codePoint) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(codePoint);
+        return script == Character.UnicodeScript.HANGUL
+                || script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA;
+    }
+}
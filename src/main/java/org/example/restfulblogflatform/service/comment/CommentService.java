@@ -1,9 +1,16 @@
 package org.example.restfulblogflatform.service.comment;
 
+import org.example.restfulblogflatform.dto.comment.CommentPageVersionDto;
+import org.example.restfulblogflatform.dto.comment.response.CommentNodeDto;
 import org.example.restfulblogflatform.dto.comment.response.CommentResponseDto;
+import org.example.restfulblogflatform.dto.common.response.CursorPageResponseDto;
 import org.example.restfulblogflatform.entity.Comment;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.Map;
 
 /**
  * 댓글(Comment) 관련 비즈니스 로직을 정의하는 서비스 인터페이스.
@@ -26,6 +33,19 @@ public interface CommentService {
      */
     CommentResponseDto add(Long postId, Long userId, String content);
 
+    /**
+     * 답글 생성
+     *
+     * 같은 게시글에 속한 댓글 아래에 답글을 추가합니다. 답글의 깊이는 CommentPath.MAX_DEPTH를 넘을 수 없습니다.
+     *
+     * @param postId   답글이 달릴 게시글의 ID
+     * @param parentId 답글 대상 댓글의 ID
+     * @param userId   답글 작성자의 사용자 ID
+     * @param content  답글 내용
+     * @return 생성된 답글 정보를 담은 DTO
+     */
+    CommentResponseDto reply(Long postId, Long parentId, Long userId, String content);
+
     /**
      * 댓글 단일 조회
      *
@@ -47,6 +67,62 @@ public interface CommentService {
      */
     Page<CommentResponseDto> getAll(Long postId, Pageable pageable);
 
+    /**
+     * 게시글에 달린 댓글 목록 조회 (COUNT 없음)
+     *
+     * 무한 스크롤처럼 전체 개수가 필요 없는 클라이언트를 위해 다음 페이지 존재 여부만 반환합니다.
+     *
+     * @param postId   댓글을 조회할 게시글의 ID
+     * @param pageable 페이징 정보 (페이지 번호, 크기, 정렬 조건 등)
+     * @return 댓글 목록과 다음 페이지 존재 여부를 담은 Slice
+     */
+    Slice<CommentResponseDto> getSlice(Long postId, Pageable pageable);
+
+    /**
+     * 여러 게시글의 최신 댓글 미리보기 조회
+     *
+     * 게시글마다 최신 댓글을 최대 limit개씩 하나의 쿼리로 조회하여 게시글 ID별로 묶어 반환합니다.
+     *
+     * @param postIds 게시글 ID 목록 (중복은 한 번만 조회)
+     * @param limit   게시글마다 포함할 최신 댓글 수
+     * @return 요청 순서대로 정렬된 게시글 ID별 최신 댓글 목록 (댓글이 없으면 빈 목록)
+     */
+    Map<Long, List<CommentResponseDto>> getLatestByPosts(List<Long> postIds, int limit);
+
+    /**
+     * 게시글 댓글 목록 버전 조회
+     *
+     * 조건부 조회(ETag / Last-Modified) 검사를 위해 댓글 수와 가장 최근 수정일만 집계하여 조회합니다.
+     *
+     * @param postId 댓글을 조회할 게시글의 ID
+     * @return 댓글 목록 버전 정보
+     */
+    CommentPageVersionDto getPageVersion(Long postId);
+
+    /**
+     * 댓글 스레드 조회
+     *
+     * 특정 댓글과 그 아래의 답글 전체를 하나의 쿼리로 조회하여 트리 형태로 반환합니다.
+     *
+     * @param postId    게시글의 ID
+     * @param commentId 기준 댓글의 ID (루트 댓글이면 스레드 전체)
+     * @return 답글이 중첩된 댓글 노드
+     */
+    CommentNodeDto getThread(Long postId, Long commentId);
+
+    /**
+     * 게시글 스레드 목록 조회
+     *
+     * 루트 댓글을 작성 순으로 조회하고, 스레드마다 앞쪽 답글 일부를 함께 하나의 쿼리로 조회합니다.
+     *
+     * @param postId      게시글의 ID
+     * @param cursor      이전 응답의 nextCursor (첫 페이지는 null)
+     * @param threadLimit 조회할 스레드 수
+     * @param replyLimit  스레드마다 포함할 답글 수
+     * @return 스레드 목록과 다음 페이지 커서
+     */
+    CursorPageResponseDto<CommentNodeDto> getThreads(Long postId, String cursor, int threadLimit, int replyLimit);
+
     /**
      * 댓글 수정
      *
@@ -63,6 +139,7 @@ public interface CommentService {
      * 댓글 삭제
      *
      * 특정 댓글을 삭제합니다. 삭제하려는 댓글이 존재해야 하며, 작성자 또는 관리자만 삭제할 수 있습니다.
+     * 댓글 아래의 답글도 함께 삭제됩니다.
      *
      * @param commentId 삭제할 댓글의 ID
      */
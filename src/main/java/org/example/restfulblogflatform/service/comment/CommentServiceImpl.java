@@ -1,19 +1,40 @@
 package org.example.restfulblogflatform.service.comment;
 
 import lombok.RequiredArgsConstructor;
+import org.example.restfulblogflatform.dto.comment.CommentLocationDto;
+import org.example.restfulblogflatform.dto.comment.CommentPageVersionDto;
+import org.example.restfulblogflatform.dto.comment.response.CommentNodeDto;
 import org.example.restfulblogflatform.dto.comment.response.CommentResponseDto;
+import org.example.restfulblogflatform.dto.common.response.CursorPageResponseDto;
 import org.example.restfulblogflatform.entity.Comment;
 import org.example.restfulblogflatform.entity.Post;
 import org.example.restfulblogflatform.entity.User;
+import org.example.restfulblogflatform.event.comment.CommentChangedEvent;
+import org.example.restfulblogflatform.exception.ErrorCode;
+import org.example.restfulblogflatform.exception.business.CommentException;
+import org.example.restfulblogflatform.exception.business.PostException;
+import org.example.restfulblogflatform.repository.CommentPreviewRepository;
 import org.example.restfulblogflatform.repository.CommentRepository;
+import org.example.restfulblogflatform.repository.CommentThreadRepository;
+import org.example.restfulblogflatform.repository.PostRepository;
 import org.example.restfulblogflatform.service.post.PostService;
 import org.example.restfulblogflatform.service.user.UserService;
 import org.example.restfulblogflatform.service.validator.CommentValidator;
+import org.example.restfulblogflatform.thread.CommentPath;
+import org.example.restfulblogflatform.thread.CommentTreeAssembler;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 /**
  * 댓글(Comment) 관련 비즈니스 로직을 처리하는 서비스 구현체
  *
@@ -22,7 +43,9 @@ import org.springframework.transaction.annotation.Transactional;
  *
  * <p> 주요 기능: </p>
  * - 댓글 생성: 특정 게시글에 댓글을 추가
+ * - 답글 생성: 댓글 아래에 답글을 추가 (구체화된 경로로 스레드 위치 저장)
  * - 댓글 조회: 게시글의 댓글 목록 페이징 처리
+ * - 스레드 조회: 스레드 전체 또는 스레드 목록을 하나의 쿼리로 조회하여 트리로 조립
  * - 댓글 수정: 작성자가 댓글 내용을 수정
  * - 댓글 삭제: 작성자가 댓글 삭제
  */
@@ -31,10 +54,20 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor // final 필드에 대해 생성자를 자동으로 생성 (DI를 위한 Lombok 어노테이션)
 public class CommentServiceImpl implements CommentService {
 
+    private static final int MAX_THREAD_NODES = 500; // 스레드 조회 시 최대 노드 수 (기준 댓글 포함)
+    private static final int MAX_THREADS_PER_PAGE = 50; // 스레드 목록 조회 시 최대 스레드 수
+    private static final int MAX_REPLIES_PER_THREAD = 50; // 스레드 목록 조회 시 스레드당 최대 답글 수
+    private static final int MAX_PREVIEW_POSTS = 100; // 미리보기를 한 번에 조회할 수 있는 최대 게시글 수
+    private static final int MAX_PREVIEW_COMMENTS = 10; // 게시글당 미리보기 최대 댓글 수
+
     private final PostService postService; // 게시글 관련 비즈니스 로직 처리
     private final UserService userService; // 사용자 관련 비즈니스 로직 처리
     private final CommentRepository commentRepository; // Comment 엔티티 관련 DB 레포지토리
+    private final CommentThreadRepository commentThreadRepository; // 댓글 스레드(경로) 조회 레포지토리
+    private final CommentPreviewRepository commentPreviewRepository; // 게시글별 최신 댓글 미리보기 조회 레포지토리
+    private final PostRepository postRepository; // 게시글 댓글 수 갱신용 레포지토리
     private final CommentValidator commentValidator; // 댓글 검증 로직을 담당하는 Validator
+    private final ApplicationEventPublisher eventPublisher; // 댓글 변경 이벤트 발행 도구
 
     /**
      * 댓글 생성 메서드
@@ -50,12 +83,59 @@ public class CommentServiceImpl implements CommentService {
     @Override
     @Transactional // 쓰기 작업이므로 읽기 전용 트랜잭션 해제
     public CommentResponseDto add(Long postId, Long userId, String content) {
-        Post post = postService.get(postId); // 게시글 조회 (없는 경우 예외 발생)
+        return create(postId, userId, content, null);
+    }
+
+    /**
+     * 답글 생성 메서드
+     *
+     * 답글 대상 댓글이 같은 게시글에 속하는지, 최대 깊이를 넘지 않는지 확인한 뒤 답글을 생성합니다.
+     *
+     * @param postId   답글을 작성할 게시글의 ID
+     * @param parentId 답글 대상 댓글의 ID
+     * @param userId   답글을 작성하는 사용자의 ID
+     * @param content  답글 내용
+     * @return 생성된 답글을 DTO로 반환
+     */
+    @Override
+    @Transactional // 쓰기 작업이므로 읽기 전용 트랜잭션 해제
+    public CommentResponseDto reply(Long postId, Long parentId, Long userId, String content) {
+        Comment parent = commentValidator.getOrThrow(parentId); // 답글 대상 댓글 검증
+        if (!parent.getPost().getId().equals(postId)) {
+            throw new CommentException(ErrorCode.COMMENT_PARENT_MISMATCH);
+        }
+        if (parent.getDepth() >= CommentPath.MAX_DEPTH) {
+            throw new CommentException(ErrorCode.COMMENT_DEPTH_EXCEEDED);
+        }
+        return create(postId, userId, content, parent);
+    }
+
+    /**
+     * 댓글 또는 답글을 저장하고 스레드 위치를 지정합니다.
+     *
+     * 게시글 엔티티와 댓글 컬렉션을 로딩하지 않으므로 게시글의 댓글 수와 관계없이 일정한 비용으로 처리됩니다.
+     * 댓글 수 증가 UPDATE의 영향 행 수로 게시글 존재 여부를 확인하고, 게시글은 참조 프록시로만 연결합니다.
+     * 작성자는 응답에 이름이 필요하므로 기본 키로 조회합니다.
+     * 경로에 댓글 ID가 포함되므로 INSERT로 ID를 발급받은 뒤 경로를 채우며, 경로 컬럼은 플러시 시 UPDATE됩니다.
+     */
+    private CommentResponseDto create(Long postId, Long userId, String content, Comment parent) {
+        // 게시글 댓글 수 증가 (SQL에서 원자적으로 계산, 게시글이 없으면 0행)
+        if (postRepository.addCommentCount(postId, 1) == 0) {
+            throw new PostException(ErrorCode.POST_NOT_FOUND);
+        }
         User user = userService.get(userId); // 사용자 조회 (없는 경우 예외 발생)
+        Post post = postRepository.getReferenceById(postId); // 게시글 참조 프록시 (SELECT 없음)
 
-        Comment comment = Comment.createComment(user, post, content); // 댓글 생성
+        Comment comment = Comment.createWithoutCollection(user, post, content); // 댓글 생성 (컬렉션 초기화 없음)
+        Comment savedComment = commentRepository.save(comment);
+        savedComment.placeInThread(parent); // 발급된 ID로 스레드 위치(경로) 지정
 
-        return CommentResponseDto.of(commentRepository.save(comment)); // 저장 후 DTO 반환
+        CommentResponseDto response = CommentResponseDto.of(savedComment); // 저장 후 DTO 변환
+        // 커밋 후 캐시 무효화, 인기 게시글 점수 반영 및 실시간 스트림 전달 (구독자가 다시 조회하지 않도록 응답을 함께 전달)
+        eventPublisher.publishEvent(new CommentChangedEvent(postId, savedComment.getId(),
+                CommentChangedEvent.Type.CREATED, response));
+
+        return response;
     }
 
     /**
@@ -75,7 +155,8 @@ public class CommentServiceImpl implements CommentService {
      * 특정 게시글에 달린 댓글 목록 조회 메서드
      *
      * 특정 게시글 ID에 해당하는 댓글을 페이징 처리하여 조회합니다.
-     * 반환 데이터는 DTO로 변환되며, 페이징 정보를 포함합니다.
+     * 작성자 이름을 조인한 DTO 프로젝션으로 조회하므로 댓글마다 사용자를 추가로 조회하지 않습니다.
+     * (목록 조회 1회 + 개수 조회 1회)
      *
      * @param postId   댓글을 조회할 게시글의 ID
      * @param pageable 페이징 요청 정보 (페이지 번호, 크기, 정렬)
@@ -83,8 +164,121 @@ public class CommentServiceImpl implements CommentService {
      */
     @Override
     public Page<CommentResponseDto> getAll(Long postId, Pageable pageable) {
-        Page<Comment> commentsPage = commentRepository.findByPostId(postId, pageable);
-        return commentsPage.map(CommentResponseDto::of); // map 메서드로 DTO 변환
+        return commentRepository.findResponses(postId, pageable);
+    }
+
+    /**
+     * 특정 게시글에 달린 댓글 목록 조회 메서드 (COUNT 없음)
+     *
+     * 페이지 크기보다 한 건을 더 조회하는 DTO 프로젝션 쿼리 하나로 처리합니다.
+     *
+     * @param postId   댓글을 조회할 게시글의 ID
+     * @param pageable 페이징 요청 정보 (페이지 번호, 크기, 정렬)
+     * @return 댓글 목록과 다음 페이지 존재 여부
+     */
+    @Override
+    public Slice<CommentResponseDto> getSlice(Long postId, Pageable pageable) {
+        return commentRepository.findResponseSlice(postId, pageable);
+    }
+
+    /**
+     * 여러 게시글의 최신 댓글 미리보기 조회 메서드
+     *
+     * 게시글 ID 목록 전체를 윈도 함수 쿼리 하나로 조회하고 메모리에서 게시글별로 묶으므로,
+     * 게시글 수와 관계없이 DB 왕복은 한 번입니다.
+     *
+     * @param postIds 게시글 ID 목록 (최대 MAX_PREVIEW_POSTS개)
+     * @param limit   게시글마다 포함할 최신 댓글 수 (최대 MAX_PREVIEW_COMMENTS)
+     * @return 요청 순서대로 정렬된 게시글 ID별 최신 댓글 목록 (댓글이 없으면 빈 목록)
+     */
+    @Override
+    public Map<Long, List<CommentResponseDto>> getLatestByPosts(List<Long> postIds, int limit) {
+        Set<Long> ids = new LinkedHashSet<>();
+        for (Long postId : postIds) {
+            if (postId != null) {
+                ids.add(postId);
+            }
+        }
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        if (ids.size() > MAX_PREVIEW_POSTS) {
+            throw new CommentException(ErrorCode.COMMENT_PREVIEW_LIMIT_EXCEEDED);
+        }
+
+        int size = Math.max(1, Math.min(limit, MAX_PREVIEW_COMMENTS));
+        Map<Long, List<CommentResponseDto>> found = commentPreviewRepository.findLatestByPostIds(ids, size);
+
+        Map<Long, List<CommentResponseDto>> previews = new LinkedHashMap<>();
+        for (Long postId : ids) {
+            previews.put(postId, found.getOrDefault(postId, List.of()));
+        }
+        return previews;
+    }
+
+    /**
+     * 게시글 댓글 목록 버전 조회 메서드
+     *
+     * 댓글 엔티티를 로딩하지 않고 집계 쿼리 한 번으로 댓글 수와 최근 수정일을 조회합니다.
+     *
+     * @param postId 댓글을 조회할 게시글의 ID
+     * @return 댓글 목록 버전 정보
+     */
+    @Override
+    public CommentPageVersionDto getPageVersion(Long postId) {
+        return commentRepository.findPageVersionByPostId(postId);
+    }
+
+    /**
+     * 댓글 스레드 조회 메서드
+     *
+     * 기준 댓글의 경로로 시작하는 댓글을 경로 순서로 한 번에 조회한 뒤 한 번의 순회로 트리를 조립합니다.
+     * 답글이 MAX_THREAD_NODES를 넘으면 앞쪽 답글만 포함하고 moreReplies를 표시합니다.
+     *
+     * @param postId    게시글의 ID
+     * @param commentId 기준 댓글의 ID
+     * @return 답글이 중첩된 댓글 노드
+     */
+    @Override
+    public CommentNodeDto getThread(Long postId, Long commentId) {
+        // 생략 여부를 판단하기 위해 한 건을 더 조회
+        List<CommentNodeDto> rows = commentThreadRepository.findSubtree(postId, commentId, MAX_THREAD_NODES + 1);
+        if (rows.isEmpty()) {
+            throw new CommentException(ErrorCode.COMMENT_NOT_FOUND);
+        }
+        return CommentTreeAssembler.assemble(rows, MAX_THREAD_NODES - 1).get(0);
+    }
+
+    /**
+     * 게시글 스레드 목록 조회 메서드
+     *
+     * 루트 댓글 선택과 스레드별 앞쪽 답글 조회를 하나의 쿼리로 처리합니다.
+     * 다음 페이지 존재 여부와 생략된 답글 여부를 판단하기 위해 스레드 하나, 스레드마다 답글 하나를 더 조회합니다.
+     * 첫 페이지가 비어 있는 경우에만 게시글 존재 여부를 확인합니다.
+     *
+     * @param postId      게시글의 ID
+     * @param cursor      이전 응답의 nextCursor (마지막 루트 댓글 ID, 첫 페이지는 null)
+     * @param threadLimit 조회할 스레드 수 (최대 MAX_THREADS_PER_PAGE)
+     * @param replyLimit  스레드마다 포함할 답글 수 (최대 MAX_REPLIES_PER_THREAD)
+     * @return 스레드 목록과 다음 페이지 커서
+     */
+    @Override
+    public CursorPageResponseDto<CommentNodeDto> getThreads(Long postId, String cursor, int threadLimit, int replyLimit) {
+        int threads = Math.max(1, Math.min(threadLimit, MAX_THREADS_PER_PAGE));
+        int replies = Math.max(0, Math.min(replyLimit, MAX_REPLIES_PER_THREAD));
+        long afterRootId = decodeThreadCursor(cursor);
+
+        // 루트 댓글 1건 + 답글 replies건 + 생략 여부 확인용 1건
+        List<CommentNodeDto> rows = commentThreadRepository.findThreads(postId, afterRootId, threads + 1, replies + 2);
+        if (rows.isEmpty() && afterRootId == 0L) {
+            postService.get(postId); // 존재하지 않는 게시글이면 POST_NOT_FOUND
+        }
+
+        List<CommentNodeDto> roots = CommentTreeAssembler.assemble(rows, replies);
+        boolean hasNext = roots.size() > threads;
+        List<CommentNodeDto> content = hasNext ? roots.subList(0, threads) : roots;
+        String nextCursor = hasNext ? String.valueOf(content.get(content.size() - 1).getId()) : null;
+        return CursorPageResponseDto.of(content, nextCursor, hasNext);
     }
 
     /**
@@ -104,23 +298,50 @@ public class CommentServiceImpl implements CommentService {
 
         comment.updateContent(content); // 댓글 내용 수정
 
-        return CommentResponseDto.of(comment); // 수정된 댓글 DTO 반환
+        CommentResponseDto response = CommentResponseDto.of(comment); // 수정된 댓글 DTO 변환
+        eventPublisher.publishEvent(new CommentChangedEvent(comment.getPost().getId(), commentId,
+                CommentChangedEvent.Type.UPDATED, response));
+        return response;
     }
 
     /**
      * 댓글 삭제 메서드
      *
      * 특정 댓글을 삭제합니다. 댓글 작성자인지 확인 후 삭제를 수행합니다.
-     * 삭제 시 게시글-댓글 간 양방향 연관 관계를 정리합니다.
+     * 댓글 아래의 답글도 함께 삭제합니다.
+     *
+     * 게시글의 댓글 컬렉션(Post.comments)에서 제거하는 방식은 컬렉션 전체를 로딩하므로,
+     * 위치 정보만 프로젝션으로 조회한 뒤 DELETE 문 하나로 삭제합니다.
+     * DELETE 후 영속성 컨텍스트를 비우므로 이미 로딩된 컬렉션과도 어긋나지 않습니다.
      *
      * @param commentId 삭제할 댓글의 ID
      */
     @Override
     @Transactional // 쓰기 작업이므로 읽기 전용 트랜잭션 해제
     public void delete(Long commentId) {
-        Comment comment = commentValidator.getOrThrow(commentId); // 댓글 검증
+        CommentLocationDto target = commentRepository.findLocationById(commentId)
+                .orElseThrow(() -> new CommentException(ErrorCode.COMMENT_NOT_FOUND)); // 댓글 검증
 
-        comment.getPost().removeComment(comment); // 게시글에서 댓글 제거 (연관 관계 해제)
+        // 경로가 없는 기존 댓글은 루트 댓글이므로 root_id가 같은 답글과 함께 삭제
+        int deleted = target.getPath() == null
+                ? commentRepository.deleteThreadInBulk(commentId)
+                : commentRepository.deleteSubtreeInBulk(target.getRootId(), CommentPath.subtreePattern(target.getPath()));
+
+        postRepository.addCommentCount(target.getPostId(), -deleted); // 게시글 댓글 수 감소 (SQL에서 원자적으로 계산)
+        eventPublisher.publishEvent(new CommentChangedEvent(target.getPostId(), commentId, CommentChangedEvent.Type.DELETED));
     }
-}
 
+    /**
+     * 스레드 목록 커서(마지막 루트 댓글 ID)를 해석합니다. 첫 페이지이면 0을 반환합니다.
+     */
+    private static long decodeThreadCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            throw new CommentException(ErrorCode.INVALID_COMMENT_CURSOR);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package org.example.restfulblogflatform.service.export;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.example.restfulblogflatform.exception.ErrorCode;
+import org.example.restfulblogflatform.exception.business.PostException;
+
+/**
+ * 내보내기 출력 형식
+ */
+@Getter
+@AllArgsConstructor
+public enum ExportFormat {
+
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String contentType;   // 응답 Content-Type
+    private final String fileExtension; // 다운로드 파일 확장자
+
+    /**
+     * 요청 파라미터 값으로 형식을 찾습니다. (대소문자 구분 없음)
+     *
+     * @param value 형식 이름 (ndjson, csv)
+     * @return 출력 형식
+     * @throws PostException 지원하지 않는 형식인 경우 (INVALID_EXPORT_FORMAT)
+     */
+    public static ExportFormat from(String value) {
+        for (ExportFormat format : values()) {
+            if (format.name().equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new PostException(ErrorCode.INVALID_EXPORT_FORMAT);
+    }
+}
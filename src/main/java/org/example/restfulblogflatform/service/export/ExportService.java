@@ -0,0 +1,34 @@
+package org.example.restfulblogflatform.service.export;
+
+import org.example.restfulblogflatform.exception.business.PostException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 전체 데이터(작성자, 게시글, 댓글) 내보내기 기능을 정의하는 서비스 인터페이스.
+ */
+public interface ExportService {
+
+    /**
+     * 요청자가 내보내기 허용 목록(export.allowed-emails)에 있는지 확인합니다.
+     *
+     * 응답 헤더를 쓰기 전에 호출해야 거절 시 에러 응답을 그대로 돌려줄 수 있습니다.
+     *
+     * @param requesterEmail 요청한 사용자의 이메일
+     * @throws PostException 허용 목록에 없는 사용자인 경우 (EXPORT_FORBIDDEN)
+     */
+    void checkExportAllowed(String requesterEmail);
+
+    /**
+     * 작성자, 게시글, 댓글을 차례로 출력 스트림에 기록합니다.
+     *
+     * 데이터 크기와 관계없이 메모리 사용량이 일정하도록 DB 커서로 한 행씩 읽어 바로 기록합니다.
+     *
+     * @param format 출력 형식 (NDJSON, CSV)
+     * @param output 기록할 출력 스트림 (호출자가 닫음)
+     * @return 기록한 행 수
+     * @throws IOException 출력 스트림에 기록하지 못한 경우
+     */
+    long export(ExportFormat format, OutputStream output) throws IOException;
+}
@@ -0,0 +1,170 @@
+package org.example.restfulblogflatform.service.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.example.restfulblogflatform.dto.export.ExportRow;
+import org.example.restfulblogflatform.exception.ErrorCode;
+import org.example.restfulblogflatform.exception.business.PostException;
+import org.example.restfulblogflatform.repository.CommentRepository;
+import org.example.restfulblogflatform.repository.PostRepository;
+import org.example.restfulblogflatform.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * 전체 데이터 내보내기 서비스 구현체
+ *
+ * 작성자 → 게시글 → 댓글 순으로 각각 하나의 DB 커서(Stream)를 열어 읽은 행을 즉시 출력 스트림에 기록합니다.
+ * 조회는 엔티티가 아닌 DTO 프로젝션으로 수행하여 영속성 컨텍스트에 쌓이는 것이 없고, 일정 행마다 출력 버퍼를 내보내
+ * 힙 사용량이 데이터 크기와 관계없이 일정하도록 합니다.
+ * 모든 사용자의 이메일과 전체 게시글이 포함되므로 허용 목록(export.allowed-emails)에 있는 사용자만 내보낼 수 있습니다.
+ */
+@Service
+public class ExportServiceImpl implements ExportService {
+
+    private static final int FLUSH_INTERVAL = 1_000; // 출력 버퍼 전송 주기 (행 수)
+
+    private final UserRepository userRepository;
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final ObjectMapper objectMapper;
+    private final Set<String> allowedEmails;
+
+    public ExportServiceImpl(UserRepository userRepository,
+                             PostRepository postRepository,
+                             CommentRepository commentRepository,
+                             ObjectMapper objectMapper,
+                             @Value("${export.allowed-emails:}") Set<String> allowedEmails) {
+        this.userRepository = userRepository;
+        this.postRepository = postRepository;
+        this.commentRepository = commentRepository;
+        this.objectMapper = objectMapper;
+        this.allowedEmails = allowedEmails;
+    }
+
+    /**
+     * 내보내기 허용 목록 확인
+     */
+    @Override
+    public void checkExportAllowed(String requesterEmail) {
+        if (requesterEmail == null || !allowedEmails.contains(requesterEmail)) {
+            throw new PostException(ErrorCode.EXPORT_FORBIDDEN);
+        }
+    }
+
+    /**
+     * 작성자, 게시글, 댓글 내보내기
+     */
+    @Override
+    @Transactional(readOnly = true) // 커서(Stream)는 트랜잭션 안에서만 읽을 수 있음
+    public long export(ExportFormat format, OutputStream output) throws IOException {
+        RowWriter writer = format == ExportFormat.CSV
+                ? new CsvRowWriter(output)
+                : new NdjsonRowWriter(objectMapper.writer(), output);
+
+        long written = 0;
+        try (Stream<? extends ExportRow> authors = userRepository.streamAllForExport()) {
+            written = writeAll(authors, writer, written);
+        }
+        try (Stream<? extends ExportRow> posts = postRepository.streamAllForExport()) {
+            written = writeAll(posts, writer, written);
+        }
+        try (Stream<? extends ExportRow> comments = commentRepository.streamAllForExport()) {
+            written = writeAll(comments, writer, written);
+        }
+        writer.flush();
+        return written;
+    }
+
+    private long writeAll(Stream<? extends ExportRow> rows, RowWriter writer, long written) throws IOException {
+        Iterator<? extends ExportRow> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            writer.write(iterator.next());
+            if (++written % FLUSH_INTERVAL == 0) {
+                writer.flush();
+            }
+        }
+        return written;
+    }
+
+    /**
+     * 형식별 행 기록기
+     */
+    private interface RowWriter {
+        void write(ExportRow row) throws IOException;
+
+        void flush() throws IOException;
+    }
+
+    /**
+     * NDJSON 기록기: 한 줄에 하나의 JSON 객체
+     */
+    private static class NdjsonRowWriter implements RowWriter {
+        private final ObjectWriter objectWriter;
+        private final OutputStream output;
+
+        private NdjsonRowWriter(ObjectWriter objectWriter, OutputStream output) {
+            this.objectWriter = objectWriter;
+            this.output = new BufferedOutputStream(output, 64 * 1024);
+        }
+
+        @Override
+        public void write(ExportRow row) throws IOException {
+            output.write(objectWriter.writeValueAsBytes(row));
+            output.write('\n');
+        }
+
+        @Override
+        public void flush() throws IOException {
+            output.flush();
+        }
+    }
+
+    /**
+     * CSV 기록기 (RFC 4180: 쉼표, 따옴표, 줄바꿈이 포함된 값은 따옴표로 감싸고 따옴표는 두 번 씀)
+     */
+    private static class CsvRowWriter implements RowWriter {
+        private final Writer output;
+
+        private CsvRowWriter(OutputStream output) throws IOException {
+            this.output = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8), 64 * 1024);
+            writeLine(ExportRow.CSV_HEADER);
+        }
+
+        @Override
+        public void write(ExportRow row) throws IOException {
+            writeLine(row.toCsvColumns());
+        }
+
+        @Override
+        public void flush() throws IOException {
+            output.flush();
+        }
+
+        private void writeLine(Object[] columns) throws IOException {
+            for (int i = 0; i < columns.length; i++) {
+                if (i > 0) {
+                    output.write(',');
+                }
+                if (columns[i] != null) {
+                    output.write(escape(columns[i].toString()));
+                }
+            }
+            output.write("\r\n");
+        }
+
+        private static String escape(String value) {
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                return value;
+            }
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+    }
+}
@@ -1,8 +1,11 @@
 package org.example.restfulblogflatform.service.file;
 
+import org.example.restfulblogflatform.dto.file.StoredFileDto;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collection;
 
 /**
  * 파일 저장 및 관리를 위한 서비스 인터페이스
@@ -18,6 +21,34 @@ public interface FileStorageService {
      */
     String storeFile(MultipartFile file) throws IOException;
 
+    /**
+     * 입력 스트림의 내용을 임시 파일 없이 최종 저장 위치에 바로 기록합니다.
+     * 기록 도중 최대 파일 크기를 넘으면 즉시 중단하고, 실패한 경우 일부만 기록된 파일을 삭제합니다.
+     *
+     * @param originalFileName 원본 파일명 (확장자 추출에 사용)
+     * @param contentType 파일의 MIME 타입
+     * @param content 파일 내용 스트림 (호출자가 닫음)
+     * @return 저장된 파일명, 경로, 실제로 기록된 크기
+     */
+    StoredFileDto storeFile(String originalFileName, String contentType, InputStream content);
+
+    /**
+     * 내용 주소 방식으로 저장된 blob의 참조 수를 첨부 파일 수만큼 증가시킵니다.
+     * 첨부 파일을 저장하는 트랜잭션 안에서 호출해야 합니다.
+     *
+     * @param blobDigests 첨부 파일마다의 blob 다이제스트 (같은 blob을 여러 번 참조하면 중복 포함)
+     */
+    void acquireBlobs(Collection<String> blobDigests);
+
+    /**
+     * 내용 주소 방식으로 저장된 blob의 참조 수를 첨부 파일 수만큼 감소시킵니다.
+     * 참조가 없어진 blob은 유예 시간이 지난 뒤 FileBlobCollector가 삭제합니다.
+     * 첨부 파일을 삭제하는 트랜잭션 안에서 호출해야 합니다.
+     *
+     * @param blobDigests 삭제된 첨부 파일마다의 blob 다이제스트 (중복 포함)
+     */
+    void releaseBlobs(Collection<String> blobDigests);
+
     /**
      * 저장된 파일의 접근 경로를 반환합니다.
      *
@@ -25,5 +56,15 @@ public interface FileStorageService {
      * @return 절대 경로나 URL 형식의 접근 경로
      */
     String getFilePath(String storedFileName);
+
+    /**
+     * 저장된 파일들을 저장소에서 삭제합니다.
+     * 이미 없는 파일은 건너뛰며, 일부 파일의 삭제에 실패해도 나머지 파일은 계속 삭제합니다.
+     * 여러 첨부 파일이 공유하는 blob은 참조 수로 관리되므로 삭제하지 않습니다.
+     *
+     * @param storedFileNames 삭제할 저장 파일명 목록
+     * @return 실제로 삭제된 파일 수
+     */
+    int deleteFiles(Collection<String> storedFileNames);
 }
 
@@ -1,28 +1,69 @@
 package org.example.restfulblogflatform.service.file;
 
 import jakarta.annotation.PostConstruct;
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.example.restfulblogflatform.config.FileProperties;
+import org.example.restfulblogflatform.dto.file.StoredFileDto;
+import org.example.restfulblogflatform.entity.FileBlob;
 import org.example.restfulblogflatform.exception.FileStorageErrorCode;
 import org.example.restfulblogflatform.exception.file.FileStorageException;
+import org.example.restfulblogflatform.repository.FileBlobRepository;
+import org.example.restfulblogflatform.storage.BlobPaths;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * FileStorageService 구현체 (로컬 파일 시스템 기반)
+ *
+ * 내용 주소 방식(file.upload.content-addressed=true)에서는 업로드 내용을 임시 파일에 기록하면서 SHA-256을 계산하고,
+ * 기록이 끝나면 blobs/{다이제스트} 위치로 원자적으로 이동합니다. 같은 내용이 이미 있으면 같은 위치를 덮어쓰므로
+ * 디스크에는 한 벌만 남으며, file_blobs 테이블의 참조 수로 여러 첨부 파일이 공유합니다.
  */
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class FileStorageServiceImpl implements FileStorageService {
 
+    private static final long TRANSFER_CHUNK_SIZE = 1024 * 1024; // transferFrom 한 번에 기록할 최대 바이트 수
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
     private final FileProperties fileProperties;
+    private final FileBlobRepository fileBlobRepository;
+    private final TransactionTemplate requiresNewTransaction; // 호출자 트랜잭션과 분리된 blob 등록용 트랜잭션
+
+    public FileStorageServiceImpl(FileProperties fileProperties,
+                                  FileBlobRepository fileBlobRepository,
+                                  PlatformTransactionManager transactionManager) {
+        this.fileProperties = fileProperties;
+        this.fileBlobRepository = fileBlobRepository;
+        this.requiresNewTransaction = new TransactionTemplate(transactionManager);
+        this.requiresNewTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
 
     /**
      * 애플리케이션 시작 시 업로드 디렉토리를 초기화합니다.
@@ -35,6 +76,9 @@ public class FileStorageServiceImpl implements FileStorageService {
         if (!Files.exists(uploadPath)) {
             Files.createDirectories(uploadPath);
         }
+        if (fileProperties.isContentAddressed()) {
+            Files.createDirectories(BlobPaths.tempDirectory(uploadPath));
+        }
     }
 
     /**
@@ -50,23 +94,66 @@ public class FileStorageServiceImpl implements FileStorageService {
             throw new FileStorageException(FileStorageErrorCode.FILE_UPLOAD_DISABLED);
         }
 
-        if (file.getSize() > parseSize(fileProperties.getMaxFileSize())) {
+        if (file.getSize() > fileProperties.getMaxFileSizeBytes()) {
             throw new FileStorageException(FileStorageErrorCode.FILE_SIZE_EXCEEDS_LIMIT);
         }
+        try (InputStream content = file.getInputStream()) {
+            return storeFile(file.getOriginalFilename(), file.getContentType(), content).getStoredFileName();
+        }
+    }
 
-        try {
-            Path uploadPath = Paths.get(fileProperties.getLocation());
-            String originalFilename = file.getOriginalFilename();
-            String extension = getFileExtension(originalFilename);
-            String storedFileName = UUID.randomUUID() + extension;
+    /**
+     * 입력 스트림의 내용을 최종 저장 위치에 바로 기록합니다.
+     *
+     * FileChannel.transferFrom으로 TRANSFER_CHUNK_SIZE 단위씩 기록하며, 청크마다 누적 크기를 확인하여
+     * 최대 파일 크기를 넘는 순간 중단합니다. (최대 크기보다 1바이트만 더 읽어 초과 여부를 판단)
+     * 내용 주소 방식에서는 기록과 동시에 다이제스트를 계산한 뒤 blob 위치로 이동합니다.
+     *
+     * @param originalFileName 원본 파일명
+     * @param contentType 파일의 MIME 타입
+     * @param content 파일 내용 스트림
+     * @return 저장된 파일명, 경로, 실제로 기록된 크기 (내용 주소 방식이면 다이제스트 포함)
+     */
+    @Override
+    public StoredFileDto storeFile(String originalFileName, String contentType, InputStream content) {
+        if (!fileProperties.isEnabled()) {
+            throw new FileStorageException(FileStorageErrorCode.FILE_UPLOAD_DISABLED);
+        }
+        if (fileProperties.isContentAddressed()) {
+            return storeBlob(originalFileName, contentType, content);
+        }
 
-            Path targetLocation = uploadPath.resolve(storedFileName);
-            Files.copy(file.getInputStream(), targetLocation, StandardCopyOption.REPLACE_EXISTING);
+        String storedFileName = UUID.randomUUID() + getFileExtension(originalFileName);
+        long size = transfer(content, Paths.get(fileProperties.getLocation()).resolve(storedFileName));
+        return StoredFileDto.of(originalFileName, storedFileName, getFilePath(storedFileName), size, contentType, null);
+    }
 
-            return storedFileName;
-        } catch (IOException e) {
-            throw new FileStorageException(FileStorageErrorCode.FILE_SAVE_FAILED, e);
-        }
+    /**
+     * 참조 수 증가 (첨부 파일 저장 트랜잭션에 참여)
+     */
+    @Override
+    @Transactional
+    public void acquireBlobs(Collection<String> blobDigests) {
+        LocalDateTime now = LocalDateTime.now();
+        countByDigest(blobDigests).forEach((digest, count) -> {
+            if (fileBlobRepository.addReferences(digest, count, now) == 0) {
+                throw new FileStorageException(FileStorageErrorCode.FILE_NOT_FOUND);
+            }
+        });
+    }
+
+    /**
+     * 참조 수 감소 (첨부 파일 삭제 트랜잭션에 참여)
+     */
+    @Override
+    @Transactional
+    public void releaseBlobs(Collection<String> blobDigests) {
+        LocalDateTime now = LocalDateTime.now();
+        countByDigest(blobDigests).forEach((digest, count) -> {
+            if (fileBlobRepository.addReferences(digest, -count, now) == 0) {
+                log.warn("Released reference of unknown blob {}", digest);
+            }
+        });
     }
 
     /**
@@ -83,6 +170,37 @@ public class FileStorageServiceImpl implements FileStorageService {
         return filePath.toAbsolutePath().toString();
     }
 
+    /**
+     * 저장된 파일들을 로컬 디스크에서 삭제합니다.
+     * 업로드 디렉토리 밖을 가리키는 파일명은 삭제하지 않습니다.
+     *
+     * @param storedFileNames 삭제할 저장 파일명 목록
+     * @return 실제로 삭제된 파일 수
+     */
+    @Override
+    public int deleteFiles(Collection<String> storedFileNames) {
+        Path uploadPath = Paths.get(fileProperties.getLocation()).toAbsolutePath().normalize();
+        int deleted = 0;
+        for (String storedFileName : storedFileNames) {
+            if (BlobPaths.isBlob(storedFileName)) {
+                continue; // 공유 blob은 참조 수가 0이 된 뒤 FileBlobCollector가 삭제
+            }
+            Path target = uploadPath.resolve(storedFileName).normalize();
+            if (!target.startsWith(uploadPath)) {
+                log.warn("Skipped deleting file outside upload directory: {}", storedFileName);
+                continue;
+            }
+            try {
+                if (Files.deleteIfExists(target)) {
+                    deleted++;
+                }
+            } catch (IOException e) {
+                log.warn("Failed to delete stored file {}: {}", storedFileName, e.getMessage());
+            }
+        }
+        return deleted;
+    }
+
     /**
      * 주어진 파일명에서 확장자를 추출합니다.
      *
@@ -97,21 +215,98 @@ public class FileStorageServiceImpl implements FileStorageService {
     }
 
     /**
-     * 문자열로 표현된 크기를 바이트 단위로 변환합니다.
-     *
-     * 예: "10MB" -> 10485760 bytes (10 x 1024 x 1024)
+     * 임시 파일에 기록하면서 다이제스트를 계산하고, blob 위치로 이동한 뒤 file_blobs에 등록합니다.
      *
-     * @param size 변환할 크기 문자열 (예: "10MB", "500KB")
-     * @return 바이트 단위 크기 값 반환
+     * 같은 내용의 blob이 이미 있어도 새로 기록한 파일로 원자적으로 교체합니다. (내용은 같음)
+     * 교체된 파일의 수정 시각이 갱신되므로, 정리 중인 blob이 다시 업로드되는 경우 FileBlobCollector가 이를 감지할 수 있습니다.
      */
-    private long parseSize(String size) {
-        size = size.toUpperCase();
-        if (size.endsWith("KB")) {
-            return Long.parseLong(size.substring(0, size.length() - 2)) * 1024;
-        } else if (size.endsWith("MB")) {
-            return Long.parseLong(size.substring(0, size.length() - 2)) * 1024 * 1024;
+    private StoredFileDto storeBlob(String originalFileName, String contentType, InputStream content) {
+        Path uploadPath = Paths.get(fileProperties.getLocation());
+        Path tempFile = BlobPaths.tempDirectory(uploadPath).resolve(UUID.randomUUID() + ".upload");
+        MessageDigest messageDigest = newMessageDigest();
+
+        long size = transfer(new DigestInputStream(content, messageDigest), tempFile);
+        String digest = HexFormat.of().formatHex(messageDigest.digest());
+        String storedFileName = BlobPaths.storedFileName(digest);
+        try {
+            Path blob = uploadPath.resolve(storedFileName);
+            Files.createDirectories(blob.getParent());
+            Files.move(tempFile, blob, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            deleteQuietly(tempFile);
+            throw new FileStorageException(FileStorageErrorCode.FILE_SAVE_FAILED, e);
+        }
+        registerBlob(digest, size);
+
+        return StoredFileDto.of(originalFileName, storedFileName, getFilePath(storedFileName), size, contentType, digest);
+    }
+
+    /**
+     * blob을 참조 수 0으로 등록하거나, 이미 있으면 마지막 사용 시각만 갱신합니다.
+     * 호출자 트랜잭션과 분리하여 커밋하므로 게시글 저장이 실패해도 등록된 blob은 유예 시간 후 정리됩니다.
+     */
+    private void registerBlob(String digest, long size) {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            requiresNewTransaction.executeWithoutResult(status -> {
+                if (fileBlobRepository.touch(digest, now) == 0) {
+                    fileBlobRepository.saveAndFlush(FileBlob.createFileBlob(digest, size, now));
+                }
+            });
+        } catch (DataIntegrityViolationException e) {
+            // 같은 내용이 동시에 처음 업로드되어 다른 요청이 먼저 등록한 경우 (FileBlob은 persist되므로 기본 키 충돌로 실패)
+            requiresNewTransaction.executeWithoutResult(status -> fileBlobRepository.touch(digest, now));
+        }
+    }
+
+    /**
+     * 입력 스트림을 대상 파일에 기록하고 기록된 크기를 반환합니다. 실패하면 일부만 기록된 파일을 삭제합니다.
+     */
+    private long transfer(InputStream content, Path targetLocation) {
+        long maxFileSize = fileProperties.getMaxFileSizeBytes();
+        long size = 0;
+        try (ReadableByteChannel source = Channels.newChannel(content);
+             FileChannel target = FileChannel.open(targetLocation,
+                     StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            while (true) {
+                long transferred = target.transferFrom(source, size, Math.min(TRANSFER_CHUNK_SIZE, maxFileSize + 1 - size));
+                if (transferred == 0) {
+                    return size;
+                }
+                size += transferred;
+                if (size > maxFileSize) {
+                    throw new FileStorageException(FileStorageErrorCode.FILE_SIZE_EXCEEDS_LIMIT);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            deleteQuietly(targetLocation);
+            throw e instanceof FileStorageException storageException
+                    ? storageException
+                    : new FileStorageException(FileStorageErrorCode.FILE_SAVE_FAILED, e);
+        }
+    }
+
+    /**
+     * 기록에 실패한 파일을 삭제합니다. (삭제 실패는 로그만 남김)
+     */
+    private void deleteQuietly(Path target) {
+        try {
+            Files.deleteIfExists(target);
+        } catch (IOException e) {
+            log.warn("Failed to delete partially written file {}: {}", target, e.getMessage());
+        }
+    }
+
+    private static Map<String, Long> countByDigest(Collection<String> blobDigests) {
+        return blobDigests.stream().collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+    }
+
+    private static MessageDigest newMessageDigest() {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(DIGEST_ALGORITHM + " is not available", e);
         }
-        return Long.parseLong(size);
     }
 }
 
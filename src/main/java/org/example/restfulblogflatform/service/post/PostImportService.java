@@ -0,0 +1,29 @@
+package org.example.restfulblogflatform.service.post;
+
+import org.example.restfulblogflatform.dto.post.response.PostImportResultDto;
+import org.example.restfulblogflatform.exception.business.PostException;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 게시글 일괄 가져오기 기능을 정의하는 서비스 인터페이스.
+ */
+public interface PostImportService {
+
+    /**
+     * NDJSON 스트림에서 게시글을 읽어 일괄 저장합니다.
+     *
+     * 입력은 한 줄씩 읽어 처리하므로 전체를 메모리에 올리지 않으며, 일정 건수마다 별도의 트랜잭션으로 커밋합니다.
+     * 형식이 잘못되었거나 작성자를 찾을 수 없는 레코드는 건너뛰고 결과에 거부 사유를 기록합니다.
+     * 레코드에 지정된 작성자로 게시글이 생성되므로 허용된 요청자만 호출할 수 있습니다.
+     *
+     * @param input          NDJSON 입력 스트림 (한 줄에 하나의 PostImportRecordDto)
+     * @param batchSize      JDBC 배치 크기 (null이면 기본값 사용)
+     * @param requesterEmail 요청한 사용자의 이메일
+     * @return 처리 건수, 처리 속도, 거부된 레코드 정보
+     * @throws IOException 입력 스트림을 읽지 못한 경우
+     * @throws PostException 요청자가 가져오기 허용 목록에 없는 경우 (POST_IMPORT_FORBIDDEN)
+     */
+    PostImportResultDto importPosts(InputStream input, Integer batchSize, String requesterEmail) throws IOException;
+}
@@ -0,0 +1,228 @@
+package org.example.restfulblogflatform.service.post;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import lombok.extern.slf4j.Slf4j;
+import org.example.restfulblogflatform.compression.PostContentCompressor;
+import org.example.restfulblogflatform.counter.PostCountTracker;
+import org.example.restfulblogflatform.dto.post.request.PostImportRecordDto;
+import org.example.restfulblogflatform.dto.post.response.PostImportResultDto;
+import org.example.restfulblogflatform.dto.post.response.PostImportResultDto.RejectedRecord;
+import org.example.restfulblogflatform.exception.ErrorCode;
+import org.example.restfulblogflatform.exception.business.PostException;
+import org.example.restfulblogflatform.repository.PostBulkInsertRepository;
+import org.example.restfulblogflatform.repository.PostBulkInsertRepository.PostRow;
+import org.example.restfulblogflatform.repository.UserRepository;
+import org.example.restfulblogflatform.search.PostSearchIndexer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 게시글 일괄 가져오기 서비스 구현체
+ *
+ * <p> 처리 흐름: </p>
+ * - 요청자가 가져오기 허용 목록(post.import.allowed-emails)에 있는지 확인 (레코드마다 임의의 작성자로 게시글을 만들 수 있으므로)
+ * - NDJSON 입력을 한 줄씩 읽어 레코드로 변환 (줄 단위로 오류를 격리)
+ * - 작성자 이메일을 사용자 ID로 변환 (LRU 캐시로 같은 작성자의 반복 조회 방지)
+ * - chunkSize 건마다 하나의 트랜잭션에서 batchSize 단위의 JDBC 배치로 저장
+ * - 완료 후 게시글 수 카운터를 보정하고, 저장된 게시글을 검색 색인에 반영
+ */
+@Slf4j
+@Service
+public class PostImportServiceImpl implements PostImportService {
+
+    private static final int MAX_REPORTED_REJECTIONS = 100; // 결과에 포함할 거부 레코드 최대 수
+    private static final int AUTHOR_CACHE_SIZE = 10_000;    // 작성자 캐시 최대 항목 수
+    private static final int MAX_TITLE_LENGTH = 255;        // posts.title 컬럼 길이
+
+    private final UserRepository userRepository;
+    private final PostBulkInsertRepository postBulkInsertRepository;
+    private final PostContentCompressor postContentCompressor;
+    private final PostCountTracker postCountTracker;
+    private final PostSearchIndexer postSearchIndexer;
+    private final ObjectReader recordReader;
+    private final TransactionTemplate transactionTemplate;
+    private final int defaultBatchSize;
+    private final int chunkSize;
+    private final Set<String> allowedEmails;
+
+    public PostImportServiceImpl(UserRepository userRepository,
+                                 PostBulkInsertRepository postBulkInsertRepository,
+                                 PostContentCompressor postContentCompressor,
+                                 PostCountTracker postCountTracker,
+                                 PostSearchIndexer postSearchIndexer,
+                                 ObjectMapper objectMapper,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${post.import.batch-size:500}") int defaultBatchSize,
+                                 @Value("${post.import.chunk-size:5000}") int chunkSize,
+                                 @Value("${post.import.allowed-emails:}") Set<String> allowedEmails) {
+        this.userRepository = userRepository;
+        this.postBulkInsertRepository = postBulkInsertRepository;
+        this.postContentCompressor = postContentCompressor;
+        this.postCountTracker = postCountTracker;
+        this.postSearchIndexer = postSearchIndexer;
+        this.recordReader = objectMapper.readerFor(PostImportRecordDto.class);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.defaultBatchSize = defaultBatchSize;
+        this.chunkSize = chunkSize;
+        this.allowedEmails = allowedEmails;
+    }
+
+    /**
+     * NDJSON 스트림에서 게시글을 읽어 일괄 저장
+     */
+    @Override
+    public PostImportResultDto importPosts(InputStream input, Integer batchSize, String requesterEmail) throws IOException {
+        if (requesterEmail == null || !allowedEmails.contains(requesterEmail)) {
+            throw new PostException(ErrorCode.POST_IMPORT_FORBIDDEN);
+        }
+
+        long startedAt = System.currentTimeMillis();
+        LocalDateTime importedAt = LocalDateTime.now();
+        int jdbcBatchSize = Math.max(1, batchSize == null ? defaultBatchSize : batchSize);
+
+        ImportProgress progress = new ImportProgress();
+        Map<String, Optional<Long>> authorCache = new LinkedHashMap<>(1024, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Optional<Long>> eldest) {
+                return size() > AUTHOR_CACHE_SIZE;
+            }
+        };
+        List<PostRow> chunk = new ArrayList<>();
+        List<Long> chunkLines = new ArrayList<>();
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        String line;
+        long lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            progress.total++;
+
+            PostImportRecordDto record;
+            try {
+                record = recordReader.readValue(line);
+            } catch (JsonProcessingException e) {
+                progress.reject(lineNumber, "JSON 형식이 올바르지 않습니다.");
+                continue;
+            }
+
+            String error = validate(record);
+            if (error != null) {
+                progress.reject(lineNumber, error);
+                continue;
+            }
+
+            Optional<Long> authorId = authorCache.computeIfAbsent(record.getAuthorEmail(), userRepository::findIdByEmail);
+            if (authorId.isEmpty()) {
+                progress.reject(lineNumber, "작성자를 찾을 수 없습니다."); // 가입 여부가 드러나지 않도록 이메일은 포함하지 않음
+                continue;
+            }
+
+            chunk.add(new PostRow(
+                    authorId.get(),
+                    record.getTitle(),
+                    postContentCompressor.encode(record.getContent()),
+                    record.getViewCount() == null ? 0 : Math.max(0, record.getViewCount()),
+                    record.getCreatedAt() == null ? importedAt : record.getCreatedAt()));
+            chunkLines.add(lineNumber);
+
+            if (chunk.size() >= chunkSize) {
+                insertChunk(chunk, chunkLines, jdbcBatchSize, importedAt, progress);
+            }
+        }
+        insertChunk(chunk, chunkLines, jdbcBatchSize, importedAt, progress);
+
+        if (progress.imported > 0) {
+            postCountTracker.reconcile();
+            postSearchIndexer.indexModifiedSince(importedAt);
+        }
+
+        long elapsed = Math.max(1, System.currentTimeMillis() - startedAt);
+        log.info("Imported {} of {} posts ({} rejected) in {} ms",
+                progress.imported, progress.total, progress.rejected, elapsed);
+        return PostImportResultDto.of(
+                progress.total,
+                progress.imported,
+                progress.rejected,
+                elapsed,
+                progress.total * 1000.0 / elapsed,
+                progress.rejectedRecords);
+    }
+
+    /**
+     * 모인 레코드를 하나의 트랜잭션에서 저장합니다.
+     * 저장에 실패하면 해당 chunk 전체를 거부 처리하고 다음 chunk를 계속 처리합니다.
+     */
+    private void insertChunk(List<PostRow> chunk, List<Long> chunkLines, int batchSize,
+                             LocalDateTime importedAt, ImportProgress progress) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    postBulkInsertRepository.insertAll(chunk, batchSize, importedAt));
+            progress.imported += chunk.size();
+        } catch (RuntimeException e) {
+            log.warn("Failed to import chunk of {} posts starting at line {}: {}",
+                    chunk.size(), chunkLines.get(0), e.getMessage());
+            chunkLines.forEach(line -> progress.reject(line, "저장에 실패했습니다."));
+        }
+        chunk.clear();
+        chunkLines.clear();
+    }
+
+    /**
+     * 레코드의 필수 값을 검증합니다.
+     *
+     * @return 거부 사유 (유효하면 null)
+     */
+    private String validate(PostImportRecordDto record) {
+        if (record == null) {
+            return "레코드가 비어 있습니다.";
+        }
+        if (record.getAuthorEmail() == null || record.getAuthorEmail().isBlank()) {
+            return "작성자 이메일은 필수입니다.";
+        }
+        if (record.getTitle() == null || record.getTitle().isBlank()) {
+            return "제목은 필수 입니다.";
+        }
+        if (record.getTitle().length() > MAX_TITLE_LENGTH) {
+            return "제목은 " + MAX_TITLE_LENGTH + "자를 초과할 수 없습니다.";
+        }
+        if (record.getContent() == null || record.getContent().isBlank()) {
+            return "내용은 필수입니다.";
+        }
+        return null;
+    }
+
+    /**
+     * 가져오기 진행 상황 집계
+     */
+    private static class ImportProgress {
+        private long total;
+        private long imported;
+        private long rejected;
+        private final List<RejectedRecord> rejectedRecords = new ArrayList<>();
+
+        private void reject(long lineNumber, String reason) {
+            rejected++;
+            if (rejectedRecords.size() < MAX_REPORTED_REJECTIONS) {
+                rejectedRecords.add(new RejectedRecord(lineNumber, reason));
+            }
+        }
+    }
+}
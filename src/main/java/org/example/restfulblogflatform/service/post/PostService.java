@@ -1,11 +1,18 @@
 package org.example.restfulblogflatform.service.post;
 
+import org.example.restfulblogflatform.dto.common.response.CursorPageResponseDto;
+import org.example.restfulblogflatform.dto.file.StoredFileDto;
+import org.example.restfulblogflatform.dto.post.PostVersionDto;
 import org.example.restfulblogflatform.dto.post.request.PostRequestDto;
 import org.example.restfulblogflatform.dto.post.response.PostResponseDto;
+import org.example.restfulblogflatform.dto.post.response.PostSearchResultDto;
+import org.example.restfulblogflatform.dto.post.response.PostSummaryDto;
 import org.example.restfulblogflatform.entity.Post;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+
 /**
  * 게시글(Post) 관련 비즈니스 로직을 정의하는 서비스 인터페이스.
  *
@@ -26,6 +33,19 @@ public interface PostService {
      */
     PostResponseDto add(PostRequestDto postRequestDto, Long userId);
 
+    /**
+     * 이미 저장소에 기록된 파일을 첨부하여 게시글 생성
+     *
+     * 스트리밍 업로드에서 파일을 먼저 최종 위치에 저장한 뒤 호출합니다.
+     * 요청 데이터의 files는 사용하지 않습니다.
+     *
+     * @param postRequestDto 게시글 생성 요청 데이터 (제목, 내용 포함)
+     * @param storedFiles    저장을 마친 첨부 파일 목록
+     * @param userId         게시글 작성자의 사용자 ID
+     * @return 생성된 게시글의 정보를 담은 응답 DTO
+     */
+    PostResponseDto add(PostRequestDto postRequestDto, List<StoredFileDto> storedFiles, Long userId);
+
     /**
      * 게시글 단일 조회
      *
@@ -47,6 +67,27 @@ public interface PostService {
      */
     PostResponseDto getResponseDto(Long postId);
 
+    /**
+     * 게시글 조회 기록
+     *
+     * 직렬화된 응답 캐시로 게시글을 응답한 경우처럼, 게시글을 조립하지 않고 조회수와 인기 게시글 집계만 반영합니다.
+     *
+     * @param postId 조회된 게시글의 ID
+     */
+    void recordView(Long postId);
+
+    /**
+     * 게시글 버전 조회
+     *
+     * 조건부 조회(ETag / Last-Modified) 검사를 위해 게시글의 버전과 수정일만 조회합니다.
+     * 캐시된 게시글이 있으면 캐시에서, 없으면 본문과 첨부 파일을 제외한 가벼운 쿼리로 조회합니다.
+     * 조회수는 증가시키지 않습니다.
+     *
+     * @param postId 조회할 게시글의 ID
+     * @return 게시글 버전 정보
+     */
+    PostVersionDto getVersion(Long postId);
+
     /**
      * 모든 게시글 조회 (페이징 처리)
      *
@@ -58,6 +99,65 @@ public interface PostService {
      */
     Page<PostResponseDto> getAll(Pageable pageable);
 
+    /**
+     * 게시글 목록 조회 (요약 형태, 페이징 처리)
+     *
+     * 게시글 목록을 본문 요약(excerpt)과 작성자, 첨부 파일 메타데이터만 포함하여 조회합니다.
+     * 페이지 크기와 관계없이 목록 조회, (선택적) 개수 조회, 첨부 파일 조회의 고정된 수의 쿼리로 처리됩니다.
+     * 전체 개수는 기본적으로 메모리에서 관리되는 게시글 수(근사값)를 사용하며,
+     * exactCount가 true인 경우에만 COUNT(*)를 실행합니다.
+     *
+     * @param pageable   페이징 요청 정보 (페이지 번호, 크기, 정렬 조건 등)
+     * @param exactCount 전체 개수를 COUNT(*)로 정확히 조회할지 여부
+     * @return 페이징 처리된 게시글 요약 데이터를 담은 Page 객체 (PostSummaryDto)
+     */
+    Page<PostSummaryDto> getSummaries(Pageable pageable, boolean exactCount);
+
+    /**
+     * 게시글 검색
+     *
+     * 제목과 본문에 대한 메모리 역색인에서 검색어와 관련도가 높은 게시글을 BM25 점수 순으로 조회합니다.
+     *
+     * @param query 검색어
+     * @param page  페이지 번호 (0부터 시작)
+     * @param size  페이지 크기 (최대 50)
+     * @return 관련도 순으로 정렬된 검색 결과 목록
+     */
+    List<PostSearchResultDto> search(String query, int page, int size);
+
+    /**
+     * 전체 게시글 수 조회
+     *
+     * @param exact true이면 COUNT(*)로 정확한 값을, false이면 메모리에서 관리되는 근사값을 반환
+     * @return 전체 게시글 수
+     */
+    long count(boolean exact);
+
+    /**
+     * 게시글 목록 조회 (요약 형태, 커서 기반 페이징)
+     *
+     * 최신순(생성일, ID 내림차순)으로 게시글 목록을 조회합니다. OFFSET과 전체 개수 조회 없이
+     * 이전 페이지의 마지막 위치(커서) 이후부터 조회하므로, 페이지 깊이와 관계없이 응답 시간이 일정합니다.
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size   조회할 게시글 수
+     * @return 게시글 요약 목록과 다음 페이지 커서를 담은 응답 DTO
+     */
+    CursorPageResponseDto<PostSummaryDto> getSummariesByCursor(String cursor, int size);
+
+    /**
+     * 작성자별 게시글 목록 조회 (요약 형태, 커서 기반 페이징)
+     *
+     * 특정 사용자가 작성한 게시글을 최신순(생성일, ID 내림차순)으로 조회합니다.
+     * 사용자의 게시글 컬렉션(User.posts)을 로딩하지 않고 작성자 인덱스의 범위 검색으로 처리합니다.
+     *
+     * @param userId 작성자 ID
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size   조회할 게시글 수
+     * @return 게시글 요약 목록과 다음 페이지 커서를 담은 응답 DTO
+     */
+    CursorPageResponseDto<PostSummaryDto> getSummariesByUser(Long userId, String cursor, int size);
+
     /**
      * 게시글 수정
      *
@@ -71,6 +171,22 @@ public interface PostService {
      */
     PostResponseDto update(Long postId, String title, String content);
 
+    /**
+     * 게시글 부분 수정 (조건부)
+     *
+     * If-Match 헤더의 ETag가 게시글의 현재 버전과 일치할 때만 전달된 필드를 수정합니다.
+     * 변경된 컬럼만 UPDATE하며, 조회 이후 다른 요청이 먼저 수정한 경우에도 덮어쓰지 않고 예외를 발생시킵니다.
+     * 게시글 작성자만 수정할 수 있습니다.
+     *
+     * @param postId  수정할 게시글의 ID
+     * @param userId  수정을 요청한 사용자의 ID (작성자가 아니면 POST_ACCESS_DENIED)
+     * @param ifMatch If-Match 헤더 값 (예: "v3")
+     * @param title   수정할 새로운 제목 (null 또는 빈 값이면 변경하지 않음)
+     * @param content 수정할 새로운 내용 (null 또는 빈 값이면 변경하지 않음)
+     * @return 수정된 게시글 정보를 담은 응답 DTO (새 버전 포함)
+     */
+    PostResponseDto patch(Long postId, Long userId, String ifMatch, String title, String content);
+
     /**
      * 게시글 삭제
      *
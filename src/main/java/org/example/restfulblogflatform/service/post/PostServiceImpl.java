@@ -1,23 +1,51 @@
 package org.example.restfulblogflatform.service.post;
 
 import lombok.RequiredArgsConstructor;
+import org.example.restfulblogflatform.cache.PostCache;
+import org.example.restfulblogflatform.compression.PostContentCompressor;
+import org.example.restfulblogflatform.counter.PostCountTracker;
+import org.example.restfulblogflatform.counter.PostViewCounter;
+import org.example.restfulblogflatform.dto.common.response.CursorPageResponseDto;
+import org.example.restfulblogflatform.dto.file.StoredFileDto;
+import org.example.restfulblogflatform.dto.post.PostCursor;
+import org.example.restfulblogflatform.dto.post.PostVersionDto;
 import org.example.restfulblogflatform.dto.post.request.PostRequestDto;
 import org.example.restfulblogflatform.dto.post.response.PostResponseDto;
+import org.example.restfulblogflatform.dto.post.response.PostSearchResultDto;
+import org.example.restfulblogflatform.dto.post.response.PostSummaryDto;
 import org.example.restfulblogflatform.entity.FileAttachment;
 import org.example.restfulblogflatform.entity.Post;
 import org.example.restfulblogflatform.entity.User;
+import org.example.restfulblogflatform.event.post.PostAttachmentsDeletedEvent;
+import org.example.restfulblogflatform.event.post.PostChangedEvent;
+import org.example.restfulblogflatform.exception.ErrorCode;
+import org.example.restfulblogflatform.exception.business.PostException;
+import org.example.restfulblogflatform.repository.CommentRepository;
+import org.example.restfulblogflatform.repository.FileAttachmentRepository;
 import org.example.restfulblogflatform.repository.PostRepository;
+import org.example.restfulblogflatform.search.PostSearchIndex;
 import org.example.restfulblogflatform.service.file.FileStorageService;
 import org.example.restfulblogflatform.service.user.UserService;
 import org.example.restfulblogflatform.service.validator.PostValidator;
+import org.example.restfulblogflatform.storage.BlobPaths;
+import org.example.restfulblogflatform.trending.TrendingPostTracker;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * 게시글(Post) 관련 비즈니스 로직을 처리하는 서비스 구현체.
@@ -30,10 +58,22 @@ import java.util.List;
 @RequiredArgsConstructor
 public class PostServiceImpl implements PostService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100; // 커서 기반 목록의 최대 페이지 크기
+    private static final int MAX_SEARCH_PAGE_SIZE = 50;  // 검색 결과의 최대 페이지 크기
+
     private final PostRepository postRepository;
+    private final FileAttachmentRepository fileAttachmentRepository;
+    private final CommentRepository commentRepository;
     private final UserService userService;
     private final PostValidator postValidator;
     private final FileStorageService fileStorageService;      // 파일 저장소(로컬/클라우드) 관련 서비스
+    private final PostViewCounter postViewCounter;            // 조회수 Write-behind 카운터
+    private final PostCountTracker postCountTracker;          // 전체 게시글 수 카운터
+    private final PostCache postCache;                        // 게시글 응답 DTO 캐시
+    private final PostContentCompressor postContentCompressor; // 게시글 본문 압축 저장 여부 결정
+    private final PostSearchIndex postSearchIndex;            // 게시글 검색 색인
+    private final TrendingPostTracker trendingPostTracker;    // 인기 게시글 집계
+    private final ApplicationEventPublisher eventPublisher;   // 게시글 변경 이벤트 발행 도구
 
     /**
      * 게시글 생성 (파일 업로드 처리 포함)
@@ -44,13 +84,39 @@ public class PostServiceImpl implements PostService {
         // 1) 작성자 가져오기
         User user = userService.get(userId);
         // 2) Post 엔티티 생성
-        Post post = Post.createPost(user, postRequestDto.getTitle(), postRequestDto.getContent());
+        Post post = Post.createPost(user, postRequestDto.getTitle(),
+                postContentCompressor.encode(postRequestDto.getContent())); // 긴 본문은 압축 저장
         // 3) 파일 업로드 처리
         if (postRequestDto.getFiles() != null && !postRequestDto.getFiles().isEmpty()) {
             handleFileUploads(postRequestDto.getFiles(), post);
         }
         // 4) DB 저장 후, DTO 변환
-        return PostResponseDto.of(postRepository.save(post));
+        return save(post);
+    }
+
+    /**
+     * 게시글 생성 (저장을 마친 첨부 파일 연결)
+     *
+     * 파일은 스트리밍 업로드에서 이미 최종 위치에 기록되었으므로 메타데이터만 FileAttachment로 저장하고,
+     * 내용 주소 방식으로 저장된 파일은 같은 트랜잭션에서 blob 참조 수를 증가시킵니다.
+     */
+    @Override
+    @Transactional
+    public PostResponseDto add(PostRequestDto postRequestDto, List<StoredFileDto> storedFiles, Long userId) {
+        User user = userService.get(userId);
+        Post post = Post.createPost(user, postRequestDto.getTitle(),
+                postContentCompressor.encode(postRequestDto.getContent())); // 긴 본문은 압축 저장
+        storedFiles.forEach(file -> post.addAttachment(FileAttachment.createFileAttachment(
+                file.getOriginalFileName(),
+                file.getStoredFileName(),
+                file.getFilePath(),
+                file.getFileSize(),
+                file.getFileType(),
+                file.getBlobDigest(),
+                post
+        )));
+        acquireBlobs(storedFiles.stream().map(StoredFileDto::getBlobDigest).toList());
+        return save(post);
     }
 
     /**
@@ -63,13 +129,39 @@ public class PostServiceImpl implements PostService {
 
     /**
      * 게시글 단일 조회 (응답 DTO + 조회수 증가)
+     *
+     * 조회수는 메모리 카운터에만 기록되고 주기적으로 DB에 일괄 반영되므로,
+     * 조회 요청은 읽기 전용 트랜잭션으로 처리됩니다.
+     * 조립된 DTO는 PostCache에 보관되어 캐시 적중 시 DB에 접근하지 않습니다.
      */
     @Override
-    @Transactional
     public PostResponseDto getResponseDto(Long postId) {
-        Post post = postValidator.getOrThrow(postId);
-        post.incrementViewCount();
-        return PostResponseDto.of(post);
+        PostResponseDto post = postCache.get(postId, id -> PostResponseDto.of(postValidator.getOrThrow(id)));
+        long pendingViews = postViewCounter.increment(postId);
+        trendingPostTracker.recordView(postId);
+        return post.withAdditionalViews(pendingViews);
+    }
+
+    /**
+     * 게시글 조회 기록 (조회수 증가 + 인기 게시글 집계)
+     */
+    @Override
+    public void recordView(Long postId) {
+        postViewCounter.increment(postId);
+        trendingPostTracker.recordView(postId);
+    }
+
+    /**
+     * 게시글 버전 조회 (조건부 조회용)
+     */
+    @Override
+    public PostVersionDto getVersion(Long postId) {
+        PostResponseDto cached = postCache.getIfPresent(postId);
+        if (cached != null) {
+            return cached.toVersion();
+        }
+        return postRepository.findVersionById(postId)
+                .orElseThrow(() -> new PostException(ErrorCode.POST_NOT_FOUND));
     }
 
     /**
@@ -81,6 +173,105 @@ public class PostServiceImpl implements PostService {
         return posts.map(PostResponseDto::of);
     }
 
+    /**
+     * 게시글 목록 조회 (요약, 페이징)
+     */
+    @Override
+    public Page<PostSummaryDto> getSummaries(Pageable pageable, boolean exactCount) {
+        if (exactCount) {
+            Page<PostSummaryDto> posts = postRepository.findSummaries(pageable);
+            attachAttachmentSummaries(posts.getContent());
+            return posts;
+        }
+
+        // COUNT(*) 대신 증분 관리되는 게시글 수를 전체 개수로 사용합니다.
+        Slice<PostSummaryDto> posts = postRepository.findSummarySlice(pageable);
+        attachAttachmentSummaries(posts.getContent());
+        return new PageImpl<>(posts.getContent(), pageable, postCountTracker.get());
+    }
+
+    /**
+     * 게시글 검색 (BM25 관련도 순)
+     */
+    @Override
+    public List<PostSearchResultDto> search(String query, int page, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_SEARCH_PAGE_SIZE));
+        long offset = (long) Math.max(page, 0) * pageSize; // 큰 페이지 번호에서 int 곱셈이 넘치지 않도록 long으로 계산
+        if (offset + pageSize > Integer.MAX_VALUE) {
+            return List.of(); // 색인이 담을 수 있는 결과 수를 넘는 페이지
+        }
+
+        List<PostSearchIndex.Hit> hits = postSearchIndex.search(query, (int) offset + pageSize);
+        if (hits.size() <= offset) {
+            return List.of();
+        }
+        List<PostSearchIndex.Hit> pageHits = hits.subList((int) offset, hits.size());
+
+        // 검색된 게시글의 요약과 첨부 파일을 한 번에 조회한 뒤 관련도 순서대로 조립
+        List<PostSummaryDto> summaries = postRepository.findSummariesByIdIn(
+                pageHits.stream().map(PostSearchIndex.Hit::getPostId).toList());
+        attachAttachmentSummaries(summaries);
+        Map<Long, PostSummaryDto> summariesById = summaries.stream()
+                .collect(Collectors.toMap(PostSummaryDto::getId, Function.identity()));
+
+        return pageHits.stream()
+                .filter(hit -> summariesById.containsKey(hit.getPostId())) // 색인 반영 전에 삭제된 게시글 제외
+                .map(hit -> PostSearchResultDto.of(summariesById.get(hit.getPostId()), hit.getScore()))
+                .toList();
+    }
+
+    /**
+     * 전체 게시글 수 조회
+     */
+    @Override
+    public long count(boolean exact) {
+        return exact ? postCountTracker.reconcile() : postCountTracker.get();
+    }
+
+    /**
+     * 게시글 목록 조회 (요약, 커서 기반 페이징)
+     */
+    @Override
+    public CursorPageResponseDto<PostSummaryDto> getSummariesByCursor(String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+        // 다음 페이지 존재 여부를 COUNT 없이 판단하기 위해 한 건을 더 조회합니다.
+        Pageable limit = PageRequest.ofSize(pageSize + 1);
+
+        List<PostSummaryDto> posts;
+        if (cursor == null || cursor.isBlank()) {
+            posts = postRepository.findSummariesFirst(limit);
+        } else {
+            PostCursor position = PostCursor.decode(cursor);
+            posts = postRepository.findSummariesAfter(position.getCreatedDate(), position.getId(), limit);
+        }
+
+        return toCursorPage(posts, pageSize);
+    }
+
+    /**
+     * 작성자별 게시글 목록 조회 (요약, 커서 기반)
+     *
+     * 첫 페이지가 비어 있는 경우에만 사용자 존재 여부를 확인하여, 게시글이 있는 작성자는 쿼리 하나로 처리합니다.
+     */
+    @Override
+    public CursorPageResponseDto<PostSummaryDto> getSummariesByUser(Long userId, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+        Pageable limit = PageRequest.ofSize(pageSize + 1);
+
+        List<PostSummaryDto> posts;
+        if (cursor == null || cursor.isBlank()) {
+            posts = postRepository.findSummariesByUserFirst(userId, limit);
+            if (posts.isEmpty()) {
+                userService.get(userId); // 존재하지 않는 사용자면 USER_NOT_FOUND
+            }
+        } else {
+            PostCursor position = PostCursor.decode(cursor);
+            posts = postRepository.findSummariesByUserAfter(userId, position.getCreatedDate(), position.getId(), limit);
+        }
+
+        return toCursorPage(posts, pageSize);
+    }
+
     /**
      * 게시글 수정
      */
@@ -88,34 +279,133 @@ public class PostServiceImpl implements PostService {
     @Transactional
     public PostResponseDto update(Long postId, String title, String content) {
         Post post = postValidator.getOrThrow(postId);
-        post.update(title, content);
-        return PostResponseDto.of(post);
+        post.update(title, postContentCompressor.encode(content));
+        eventPublisher.publishEvent(new PostChangedEvent(postId, PostChangedEvent.Type.UPDATED));
+        return PostResponseDto.of(post, postViewCounter.getPending(postId));
+    }
+
+    /**
+     * 게시글 부분 수정 (작성자 확인, If-Match 버전 검사)
+     *
+     * 작성자 비교는 지연 로딩 프록시의 ID만 사용하므로 사용자를 추가로 조회하지 않습니다.
+     * 요청 시점의 버전이 다르면 수정하지 않고, 조회 이후 다른 트랜잭션이 먼저 커밋한 경우에는
+     * 버전 조건(WHERE version = ?)을 포함한 UPDATE가 실패하여 ObjectOptimisticLockingFailureException이 발생합니다.
+     */
+    @Override
+    @Transactional
+    public PostResponseDto patch(Long postId, Long userId, String ifMatch, String title, String content) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            throw new PostException(ErrorCode.POST_VERSION_REQUIRED);
+        }
+        Post post = postValidator.getOrThrow(postId);
+        if (!post.getUser().getId().equals(userId)) {
+            throw new PostException(ErrorCode.POST_ACCESS_DENIED);
+        }
+        PostVersionDto current = new PostVersionDto(post.getId(), post.getVersion(), post.getLastModifiedDate(), post.getCommentCount());
+        if (!current.matches(ifMatch)) {
+            throw new PostException(ErrorCode.POST_VERSION_CONFLICT);
+        }
+        post.update(title, postContentCompressor.encode(content));
+        postRepository.flush(); // 응답의 ETag에 증가된 버전을 반영하기 위해 즉시 UPDATE
+        eventPublisher.publishEvent(new PostChangedEvent(postId, PostChangedEvent.Type.UPDATED));
+        return PostResponseDto.of(post, postViewCounter.getPending(postId));
     }
 
     /**
      * 게시글 삭제
+     *
+     * 게시글, 댓글, 첨부 파일 엔티티를 로딩하지 않고 각각 하나의 DELETE 문으로 삭제합니다.
+     * (댓글 수와 관계없이 쿼리 수가 일정하며, 댓글을 메모리에 올리지 않음)
+     * 첨부 파일의 물리 파일은 트랜잭션 커밋 이후 PostAttachmentCleanupListener가 백그라운드에서 정리하며,
+     * 내용 주소 방식으로 저장된 파일은 같은 트랜잭션에서 blob 참조 수만 감소시킵니다.
      */
     @Override
     @Transactional
     public void delete(Long postId) {
-        Post post = postValidator.getOrThrow(postId);
-        post.getUser().removePost(post); // 연관관계 해제
-        postRepository.delete(post);
-        // 필요한 경우, 첨부파일도 함께 제거(물리 파일 삭제) 로직을 구현해야 합니다.
+        postValidator.validateExists(postId);
+        // 공유 blob은 저장 파일명에서 다이제스트를 얻어 참조 수만 감소시키고, 나머지 파일만 삭제 대상으로 함
+        Map<Boolean, List<String>> filesByBlob = fileAttachmentRepository.findStoredFileNamesByPostId(postId).stream()
+                .collect(Collectors.partitioningBy(BlobPaths::isBlob));
+        List<String> storedFileNames = filesByBlob.get(false);
+        List<String> blobDigests = filesByBlob.get(true).stream().map(BlobPaths::digestOf).toList();
+
+        commentRepository.deleteAllByPostIdInBulk(postId);
+        fileAttachmentRepository.deleteAllByPostIdInBulk(postId);
+        postRepository.deleteByIdInBulk(postId);
+        if (!blobDigests.isEmpty()) {
+            fileStorageService.releaseBlobs(blobDigests); // 공유 blob은 참조 수만 감소 (파일은 FileBlobCollector가 정리)
+        }
+
+        eventPublisher.publishEvent(new PostChangedEvent(postId, PostChangedEvent.Type.DELETED));
+        if (!storedFileNames.isEmpty()) {
+            eventPublisher.publishEvent(new PostAttachmentsDeletedEvent(postId, storedFileNames));
+        }
+    }
+
+    /**
+     * 한 건을 더 조회한 게시글 요약 목록을 커서 페이지 응답으로 변환합니다.
+     */
+    private CursorPageResponseDto<PostSummaryDto> toCursorPage(List<PostSummaryDto> posts, int pageSize) {
+        boolean hasNext = posts.size() > pageSize;
+        List<PostSummaryDto> content = hasNext ? posts.subList(0, pageSize) : posts;
+        attachAttachmentSummaries(content);
+
+        String nextCursor = null;
+        if (hasNext) {
+            PostSummaryDto last = content.get(content.size() - 1);
+            nextCursor = new PostCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return CursorPageResponseDto.of(content, nextCursor, hasNext);
+    }
+
+    /**
+     * 게시글 요약 목록에 첨부 파일 메타데이터를 채웁니다.
+     * 게시글마다 첨부 파일을 조회하지 않고, 한 번의 IN 쿼리로 조회한 뒤 메모리에서 게시글별로 나눕니다.
+     */
+    private void attachAttachmentSummaries(List<PostSummaryDto> posts) {
+        if (posts.isEmpty()) {
+            return;
+        }
+        Map<Long, PostSummaryDto> postsById = posts.stream()
+                .collect(Collectors.toMap(PostSummaryDto::getId, Function.identity()));
+        fileAttachmentRepository.findSummariesByPostIdIn(postsById.keySet())
+                .forEach(attachment -> postsById.get(attachment.getPostId()).addAttachment(attachment));
+    }
+
+    /**
+     * 게시글을 저장하고 생성 이벤트를 발행한 뒤 응답 DTO로 변환합니다.
+     */
+    private PostResponseDto save(Post post) {
+        Post savedPost = postRepository.save(post);
+        eventPublisher.publishEvent(new PostChangedEvent(savedPost.getId(), PostChangedEvent.Type.CREATED));
+        return PostResponseDto.of(savedPost);
+    }
+
+    /**
+     * 첨부 파일이 참조하는 blob의 참조 수를 증가시킵니다. (blob이 아닌 파일의 null 다이제스트는 무시)
+     */
+    private void acquireBlobs(List<String> blobDigests) {
+        List<String> digests = blobDigests.stream().filter(Objects::nonNull).toList();
+        if (!digests.isEmpty()) {
+            fileStorageService.acquireBlobs(digests);
+        }
     }
 
     /**
      * 파일 업로드 처리
      */
     protected void handleFileUploads(List<MultipartFile> files, Post post) {
+        List<String> blobDigests = new ArrayList<>();
         files.forEach(file -> {
             try {
                 // 1) 원본 파일명
                 String originalFileName = file.getOriginalFilename();
-                // 2) 실제 저장 파일명 (UUID 등으로 구분)
+                // 2) 실제 저장 파일명 (UUID 또는 내용 주소 방식의 blob 경로)
                 String storedFileName = fileStorageService.storeFile(file);
                 // 3) 저장 위치(혹은 접근 가능한 URL) 조회
                 String filePath = fileStorageService.getFilePath(storedFileName);
+                String blobDigest = BlobPaths.digestOf(storedFileName);
+                blobDigests.add(blobDigest);
 
                 // 4) FileAttachment 엔티티 생성
                 FileAttachment attachment = FileAttachment.createFileAttachment(
@@ -124,6 +414,7 @@ public class PostServiceImpl implements PostService {
                         filePath,
                         file.getSize(),
                         file.getContentType(),
+                        blobDigest,
                         post
                 );
 
@@ -134,6 +425,8 @@ public class PostServiceImpl implements PostService {
                 throw new RuntimeException(e);
             }
         });
+        // 6) 내용 주소 방식으로 저장된 파일의 blob 참조 수 증가
+        acquireBlobs(blobDigests);
     }
 }
 
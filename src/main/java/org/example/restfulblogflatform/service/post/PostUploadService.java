@@ -0,0 +1,26 @@
+package org.example.restfulblogflatform.service.post;
+
+import org.example.restfulblogflatform.dto.post.response.PostResponseDto;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * multipart 요청 본문을 스트리밍으로 처리하여 게시글을 생성하는 서비스 인터페이스.
+ */
+public interface PostUploadService {
+
+    /**
+     * multipart/form-data 본문을 파트 단위로 읽으며 첨부 파일을 최종 저장 위치에 바로 기록하고, 게시글을 생성합니다.
+     *
+     * 서블릿 컨테이너의 임시 파일을 거치지 않으므로 첨부 파일은 디스크에 한 번만 기록됩니다.
+     * 요청 처리에 실패하면 이미 기록한 첨부 파일을 삭제합니다.
+     *
+     * @param body        요청 본문 스트림
+     * @param contentType 요청의 Content-Type 헤더 값 (boundary 포함)
+     * @param userId      게시글 작성자의 사용자 ID
+     * @return 생성된 게시글의 정보를 담은 응답 DTO
+     * @throws IOException 요청 본문을 읽지 못한 경우
+     */
+    PostResponseDto upload(InputStream body, String contentType, Long userId) throws IOException;
+}
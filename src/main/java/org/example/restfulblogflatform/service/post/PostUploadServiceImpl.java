@@ -0,0 +1,141 @@
+package org.example.restfulblogflatform.service.post;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.restfulblogflatform.config.FileProperties;
+import org.example.restfulblogflatform.dto.file.StoredFileDto;
+import org.example.restfulblogflatform.dto.post.FileValidationUtil;
+import org.example.restfulblogflatform.dto.post.request.PostRequestDto;
+import org.example.restfulblogflatform.dto.post.response.PostResponseDto;
+import org.example.restfulblogflatform.exception.ErrorCode;
+import org.example.restfulblogflatform.exception.FileStorageErrorCode;
+import org.example.restfulblogflatform.exception.business.PostException;
+import org.example.restfulblogflatform.exception.file.FileStorageException;
+import org.example.restfulblogflatform.service.file.FileStorageService;
+import org.example.restfulblogflatform.upload.MultipartStreamReader;
+import org.example.restfulblogflatform.upload.MultipartStreamReader.MalformedMultipartException;
+import org.example.restfulblogflatform.upload.MultipartStreamReader.Part;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 스트리밍 게시글 업로드 서비스 구현체
+ *
+ * <p> 처리 흐름: </p>
+ * - 요청 본문을 MultipartStreamReader로 파트 단위로 읽음 (본문 전체를 메모리나 임시 파일에 올리지 않음)
+ * - title, content 필드는 최대 크기까지만 메모리로 읽음
+ * - files 파트는 MIME 타입을 확인한 뒤 FileStorageService로 최종 위치에 바로 기록 (파일/요청 크기 제한은 기록 중에 검사)
+ * - 모든 파트를 읽은 뒤 하나의 트랜잭션에서 게시글과 첨부 파일 메타데이터를 저장
+ * - 도중에 실패하면 이미 기록한 파일을 삭제
+ *
+ * 파일 기록은 트랜잭션 밖에서 이루어지므로 업로드 시간 동안 DB 커넥션을 점유하지 않습니다.
+ */
+@Slf4j
+@Service
+public class PostUploadServiceImpl implements PostUploadService {
+
+    private static final String TITLE_FIELD = "title";
+    private static final String CONTENT_FIELD = "content";
+    private static final String FILES_FIELD = "files";
+
+    private final PostService postService;
+    private final FileStorageService fileStorageService;
+    private final FileProperties fileProperties;
+    private final int maxFieldBytes;
+
+    public PostUploadServiceImpl(PostService postService,
+                                 FileStorageService fileStorageService,
+                                 FileProperties fileProperties,
+                                 @Value("${post.upload.max-field-bytes:1048576}") int maxFieldBytes) {
+        this.postService = postService;
+        this.fileStorageService = fileStorageService;
+        this.fileProperties = fileProperties;
+        this.maxFieldBytes = maxFieldBytes;
+    }
+
+    /**
+     * multipart 본문을 스트리밍으로 처리하여 게시글 생성
+     */
+    @Override
+    public PostResponseDto upload(InputStream body, String contentType, Long userId) throws IOException {
+        String boundary = MultipartStreamReader.boundaryOf(contentType);
+        if (boundary == null) {
+            throw new FileStorageException(FileStorageErrorCode.INVALID_MULTIPART_REQUEST);
+        }
+
+        MultipartStreamReader reader = new MultipartStreamReader(body, boundary);
+        List<StoredFileDto> storedFiles = new ArrayList<>();
+        try {
+            PostRequestDto request = readParts(reader, storedFiles);
+            if (isBlank(request.getTitle()) || isBlank(request.getContent())) {
+                throw new PostException(ErrorCode.POST_VALIDATION_FAILED);
+            }
+            return postService.add(request, storedFiles, userId);
+        } catch (MalformedMultipartException e) {
+            deleteStoredFiles(storedFiles);
+            throw new FileStorageException(FileStorageErrorCode.INVALID_MULTIPART_REQUEST, e);
+        } catch (FileStorageException e) {
+            deleteStoredFiles(storedFiles);
+            // 파일 기록 중 본문 형식 오류가 발견된 경우
+            if (e.getCause() instanceof MalformedMultipartException) {
+                throw new FileStorageException(FileStorageErrorCode.INVALID_MULTIPART_REQUEST, e.getCause());
+            }
+            throw e;
+        } catch (IOException | RuntimeException e) {
+            deleteStoredFiles(storedFiles);
+            throw e;
+        }
+    }
+
+    /**
+     * 모든 파트를 순서대로 읽어 텍스트 필드는 요청 DTO에 담고, 파일은 저장소에 기록합니다.
+     */
+    private PostRequestDto readParts(MultipartStreamReader reader, List<StoredFileDto> storedFiles) throws IOException {
+        PostRequestDto request = new PostRequestDto();
+        long maxRequestSize = fileProperties.getMaxRequestSizeBytes();
+        long totalFileSize = 0;
+
+        Part part;
+        while ((part = reader.next()) != null) {
+            if (part.isFile()) {
+                // 파일을 선택하지 않은 입력 필드는 빈 파일명으로 전송됨
+                if (!FILES_FIELD.equals(part.getName()) || part.getFilename().isEmpty()) {
+                    continue;
+                }
+                if (!FileValidationUtil.isAllowedMimeType(part.getContentType())) {
+                    throw new FileStorageException(FileStorageErrorCode.INVALID_FILE_TYPE);
+                }
+                StoredFileDto stored = fileStorageService.storeFile(part.getFilename(), part.getContentType(), part.getContent());
+                storedFiles.add(stored);
+                totalFileSize += stored.getFileSize();
+                if (totalFileSize > maxRequestSize) {
+                    throw new FileStorageException(FileStorageErrorCode.REQUEST_SIZE_EXCEEDS_LIMIT);
+                }
+            } else if (TITLE_FIELD.equals(part.getName())) {
+                request.setTitle(part.readString(maxFieldBytes));
+            } else if (CONTENT_FIELD.equals(part.getName())) {
+                request.setContent(part.readString(maxFieldBytes));
+            }
+        }
+        return request;
+    }
+
+    /**
+     * 처리에 실패한 요청에서 이미 기록한 파일을 삭제합니다.
+     */
+    private void deleteStoredFiles(List<StoredFileDto> storedFiles) {
+        if (storedFiles.isEmpty()) {
+            return;
+        }
+        int deleted = fileStorageService.deleteFiles(storedFiles.stream().map(StoredFileDto::getStoredFileName).toList());
+        log.info("Discarded {}/{} files of failed streaming upload", deleted, storedFiles.size());
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
@@ -4,7 +4,9 @@ import lombok.RequiredArgsConstructor;
 import org.example.restfulblogflatform.dto.user.request.UserSignUpRequestDto;
 import org.example.restfulblogflatform.entity.User;
 import org.example.restfulblogflatform.event.signup.SignUpEmailEvent;
+import org.example.restfulblogflatform.repository.FileAttachmentRepository;
 import org.example.restfulblogflatform.repository.UserRepository;
+import org.example.restfulblogflatform.service.file.FileStorageService;
 import org.example.restfulblogflatform.service.validator.UserValidator;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -29,6 +31,8 @@ public class UserServiceImpl implements UserService {
     private final PasswordEncoder passwordEncoder; // 비밀번호 암호화 도구
     private final UserValidator validator; // 사용자 검증 로직을 처리하는 Validator
     private final ApplicationEventPublisher eventPublisher; // 애플리케이션 이벤트 발행 도구
+    private final FileAttachmentRepository fileAttachmentRepository; // 첨부 파일 데이터베이스 접근 객체
+    private final FileStorageService fileStorageService; // 파일 저장소 서비스 (blob 참조 해제)
 
     /**
      * 새로운 사용자를 생성합니다.
@@ -94,6 +98,12 @@ public class UserServiceImpl implements UserService {
         // 삭제 전 사용자 존재 여부 검증 (예외 발생 가능)
         validator.validateExists(userId);
 
+        // 작성한 게시글의 첨부 파일이 참조하던 blob의 참조 수 감소 (게시글과 첨부 파일은 cascade로 함께 삭제됨)
+        List<String> blobDigests = fileAttachmentRepository.findBlobDigestsByUserId(userId);
+        if (!blobDigests.isEmpty()) {
+            fileStorageService.releaseBlobs(blobDigests);
+        }
+
         // 사용자 데이터베이스에서 삭제 수행
         userRepository.deleteById(userId);
     }
@@ -0,0 +1,58 @@
+package org.example.restfulblogflatform.storage;
+
+import java.nio.file.Path;
+
+/**
+ * 내용 주소 방식으로 저장되는 blob의 디렉토리 구조를 정의하는 유틸리티 클래스
+ *
+ * 업로드 디렉토리 아래에 blobs/{다이제스트 앞 2자}/{다이제스트} 형태로 저장하여 한 디렉토리의 파일 수를 제한하고,
+ * 쓰는 중인 파일과 정리 중인 파일은 같은 파일 시스템의 blobs/.tmp에 두어 원자적 이동(rename)이 가능하도록 합니다.
+ */
+public final class BlobPaths {
+
+    public static final String BLOB_DIRECTORY = "blobs"; // blob 저장 디렉토리 (업로드 디렉토리 기준)
+    private static final String TEMP_DIRECTORY = ".tmp"; // 쓰는 중이거나 정리 중인 파일 디렉토리
+
+    private BlobPaths() {
+    }
+
+    /**
+     * 다이제스트로부터 업로드 디렉토리 기준의 저장 파일명을 생성합니다.
+     *
+     * @param digest SHA-256 다이제스트 (소문자 16진수)
+     * @return 저장 파일명 (예: "blobs/3f/3fa8...")
+     */
+    public static String storedFileName(String digest) {
+        return BLOB_DIRECTORY + "/" + digest.substring(0, 2) + "/" + digest;
+    }
+
+    /**
+     * 저장 파일명이 blob 경로인지 확인합니다.
+     *
+     * @param storedFileName 저장 파일명
+     * @return blob 경로이면 true
+     */
+    public static boolean isBlob(String storedFileName) {
+        return storedFileName.startsWith(BLOB_DIRECTORY + "/");
+    }
+
+    /**
+     * blob 경로의 저장 파일명에서 다이제스트를 추출합니다.
+     *
+     * @param storedFileName 저장 파일명
+     * @return SHA-256 다이제스트 (blob 경로가 아니면 null)
+     */
+    public static String digestOf(String storedFileName) {
+        return isBlob(storedFileName) ? storedFileName.substring(storedFileName.lastIndexOf('/') + 1) : null;
+    }
+
+    /**
+     * 임시 파일 디렉토리 경로를 반환합니다.
+     *
+     * @param uploadPath 업로드 디렉토리
+     * @return blobs/.tmp 경로
+     */
+    public static Path tempDirectory(Path uploadPath) {
+        return uploadPath.resolve(BLOB_DIRECTORY).resolve(TEMP_DIRECTORY);
+    }
+}
@@ -0,0 +1,175 @@
+package org.example.restfulblogflatform.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.restfulblogflatform.config.FileProperties;
+import org.example.restfulblogflatform.repository.FileBlobRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 참조가 없어진 내용 주소 방식 blob을 정리하는 백그라운드 작업.
+ *
+ * 참조 수가 0이 된 뒤 유예 시간(grace)이 지난 blob만 대상으로 하며, 다이제스트 기준 키셋 방식으로 배치 단위로 처리합니다.
+ * 행을 먼저 조건부로 삭제(참조 수 0, 참조하는 첨부 파일 없음)하고, 커밋 후 파일을 정리합니다.
+ * 파일은 임시 디렉토리로 원자적으로 옮긴 뒤 수정 시각을 확인하여, 그 사이 같은 내용이 다시 업로드되었으면 되돌립니다.
+ * 업로드 도중 중단되어 남은 임시 파일도 유예 시간이 지나면 함께 삭제합니다.
+ */
+@Slf4j
+@Component
+public class FileBlobCollector {
+
+    private final FileBlobRepository fileBlobRepository;
+    private final FileProperties fileProperties;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final Duration grace;
+    private final int batchSize;
+
+    public FileBlobCollector(FileBlobRepository fileBlobRepository,
+                             FileProperties fileProperties,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${file.upload.blob-gc.enabled:true}") boolean enabled,
+                             @Value("${file.upload.blob-gc.grace-seconds:3600}") long graceSeconds,
+                             @Value("${file.upload.blob-gc.batch-size:500}") int batchSize) {
+        this.fileBlobRepository = fileBlobRepository;
+        this.fileProperties = fileProperties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.grace = Duration.ofSeconds(graceSeconds);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 유예 시간이 지난 미참조 blob과 남은 임시 파일을 삭제합니다.
+     *
+     * @return 삭제된 blob 수
+     */
+    @Scheduled(fixedDelayString = "${file.upload.blob-gc.interval-ms:3600000}",
+            initialDelayString = "${file.upload.blob-gc.initial-delay-ms:300000}")
+    public int collect() {
+        if (!enabled) {
+            return 0;
+        }
+
+        Instant cutoff = Instant.now().minus(grace);
+        LocalDateTime cutoffTime = LocalDateTime.ofInstant(cutoff, ZoneId.systemDefault());
+        Path uploadPath = Paths.get(fileProperties.getLocation());
+
+        String lastDigest = "";
+        int collected = 0;
+        while (true) {
+            String fromDigest = lastDigest;
+            BatchResult result = transactionTemplate.execute(status -> collectBatch(fromDigest, cutoffTime));
+            if (result == null || result.lastDigest() == null) {
+                break;
+            }
+            for (String digest : result.deleted()) {
+                if (deleteBlobFile(uploadPath, digest, cutoff)) {
+                    collected++;
+                }
+            }
+            lastDigest = result.lastDigest();
+        }
+        int sweptTempFiles = sweepTempFiles(uploadPath, cutoff);
+
+        if (collected > 0 || sweptTempFiles > 0) {
+            log.info("Collected {} unreferenced blobs and {} stale temp files", collected, sweptTempFiles);
+        }
+        return collected;
+    }
+
+    /**
+     * fromDigest 이후의 미참조 blob 행을 최대 batchSize개 조건부로 삭제합니다.
+     */
+    private BatchResult collectBatch(String fromDigest, LocalDateTime cutoff) {
+        List<String> digests = fileBlobRepository.findCollectableDigests(fromDigest, cutoff, PageRequest.ofSize(batchSize));
+        if (digests.isEmpty()) {
+            return new BatchResult(null, List.of());
+        }
+        List<String> deleted = new ArrayList<>();
+        for (String digest : digests) {
+            if (fileBlobRepository.deleteIfUnreferenced(digest, cutoff) > 0) {
+                deleted.add(digest);
+            }
+        }
+        return new BatchResult(digests.get(digests.size() - 1), deleted);
+    }
+
+    /**
+     * blob 파일을 삭제합니다.
+     *
+     * 같은 내용의 업로드는 blob 위치를 새 파일로 원자적으로 교체하므로, 먼저 파일을 임시 디렉토리로 옮긴 뒤
+     * 옮겨진 파일의 수정 시각이 유예 시간 이내이면 방금 다시 업로드된 것으로 보고 원래 위치로 되돌립니다.
+     *
+     * @return 파일을 삭제했으면 true
+     */
+    private boolean deleteBlobFile(Path uploadPath, String digest, Instant cutoff) {
+        Path blob = uploadPath.resolve(BlobPaths.storedFileName(digest));
+        Path trash = BlobPaths.tempDirectory(uploadPath).resolve(digest + "." + UUID.randomUUID() + ".trash");
+        try {
+            Files.move(blob, trash, StandardCopyOption.ATOMIC_MOVE);
+        } catch (NoSuchFileException e) {
+            return false;
+        } catch (IOException e) {
+            log.warn("Failed to move blob {} for deletion: {}", digest, e.getMessage());
+            return false;
+        }
+
+        try {
+            if (Files.getLastModifiedTime(trash).toInstant().isAfter(cutoff)) {
+                Files.move(trash, blob, StandardCopyOption.ATOMIC_MOVE); // 다시 업로드된 blob은 유지
+                return false;
+            }
+            Files.delete(trash);
+            return true;
+        } catch (IOException e) {
+            log.warn("Failed to delete blob {}: {}", digest, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 유예 시간이 지난 임시 파일(중단된 업로드, 정리 중 남은 파일)을 삭제합니다.
+     *
+     * @return 삭제된 파일 수
+     */
+    private int sweepTempFiles(Path uploadPath, Instant cutoff) {
+        Path tempDirectory = BlobPaths.tempDirectory(uploadPath);
+        if (!Files.isDirectory(tempDirectory)) {
+            return 0;
+        }
+        int swept = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(tempDirectory)) {
+            for (Path file : files) {
+                if (Files.getLastModifiedTime(file).toInstant().isBefore(cutoff) && Files.deleteIfExists(file)) {
+                    swept++;
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Failed to sweep blob temp directory: {}", e.getMessage());
+        }
+        return swept;
+    }
+
+    private record BatchResult(String lastDigest, List<String> deleted) {
+    }
+}
@@ -0,0 +1,403 @@
+package org.example.restfulblogflatform.stream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.restfulblogflatform.dto.comment.response.CommentResponseDto;
+import org.example.restfulblogflatform.event.comment.CommentChangedEvent;
+import org.example.restfulblogflatform.exception.ErrorCode;
+import org.example.restfulblogflatform.exception.business.CommentException;
+import org.example.restfulblogflatform.exception.business.PostException;
+import org.example.restfulblogflatform.repository.PostRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 게시글별 실시간 댓글 스트림(Server-Sent Events) 구독자에게 댓글 변경을 전달하는 프로세스 내 팬아웃 허브.
+ *
+ * 댓글 변경 트랜잭션이 커밋된 이후 CommentChangedEvent를 받아, 해당 게시글의 구독자에게만 이벤트를 전달합니다.
+ * 댓글 응답은 이벤트마다 한 번만 JSON으로 직렬화하여 모든 구독자가 같은 문자열을 공유하며,
+ * 전송은 구독자별 크기 제한 대기열과 전용 전송 스레드를 거치므로 느린 클라이언트가 커밋한 요청 스레드를 막지 않습니다.
+ * 대기열이 가득 찬 구독자(느린 소비자)는 연결을 종료하며, 클라이언트는 EventSource 재연결 후 목록을 다시 조회합니다.
+ * 소켓 쓰기는 블로킹이므로, 읽지 않는 클라이언트에 대한 전송이 제한 시간(send-timeout-ms)을 넘기면 감시 작업이 해당 구독자를
+ * 제외하고 막힌 스레드를 대신할 전송 스레드를 추가하여 다른 구독자의 전송이 멈추지 않도록 합니다.
+ * (막힌 쓰기는 SseEmitter의 쓰기 잠금을 쥐고 있어 다른 스레드에서 닫을 수 없으므로, 쓰기가 끝나면 전송 스레드가 직접 연결을 닫고
+ * 추가했던 스레드를 반납합니다.)
+ * 구독 시 게시글 존재 여부만 한 번 확인하며, 이후 구독자는 DB를 조회하지 않으므로 유휴 구독자의 비용은 연결과 대기열 메모리뿐입니다.
+ * 한 클라이언트가 전체 구독자 한도를 채우지 못하도록 클라이언트(사용자 또는 IP)별 동시 구독자 수도 제한합니다.
+ * 허브는 애플리케이션 인스턴스 단위로 동작하므로, 다른 인스턴스에서 작성된 댓글은 전달되지 않습니다.
+ */
+@Slf4j
+@Component
+public class CommentStreamHub {
+
+    static final String COMMENT_CREATED = "comment";         // 댓글 생성 이벤트 이름
+    static final String COMMENT_UPDATED = "comment-updated"; // 댓글 수정 이벤트 이름
+    static final String COMMENT_DELETED = "comment-deleted"; // 댓글 삭제 이벤트 이름
+
+    private static final int SEND_IDLE = 0;        // 전송 중이 아님
+    private static final int SEND_IN_PROGRESS = 1; // 전송 중
+    private static final int SEND_STALLED = 2;     // 전송 제한 시간 초과로 제외됨 (전송 스레드가 끝나기를 기다리는 중)
+
+    private final PostRepository postRepository;
+    private final ObjectMapper objectMapper;
+    private final long timeoutMillis;
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final int maxSubscribersPerClient;
+    private final long sendTimeoutNanos;
+    private final Map<Long, Set<Subscriber>> subscribersByPost = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final Map<String, Integer> subscriberCountByClient = new ConcurrentHashMap<>();
+    private final Set<Subscriber> sending = ConcurrentHashMap.newKeySet(); // 전송 중인 구독자 (감시 대상)
+    private final ThreadPoolExecutor dispatcher;
+
+    /**
+     * @param postRepository 구독할 게시글의 존재 여부 확인용
+     * @param objectMapper 메시지 컨버터와 동일한 설정의 ObjectMapper
+     * @param timeoutMillis 스트림 연결 유지 시간 (밀리초, 만료 후 클라이언트가 재연결)
+     * @param bufferSize 구독자별 전송 대기열 크기 (가득 차면 연결 종료)
+     * @param maxSubscribers 인스턴스 전체의 최대 동시 구독자 수
+     * @param maxSubscribersPerClient 클라이언트별 최대 동시 구독자 수
+     * @param dispatchThreads 전송 스레드 수
+     * @param sendTimeoutMillis 이벤트 하나의 전송 제한 시간 (밀리초, 넘기면 구독자 제외)
+     */
+    public CommentStreamHub(PostRepository postRepository,
+                            ObjectMapper objectMapper,
+                            @Value("${comment.stream.timeout-ms:1800000}") long timeoutMillis,
+                            @Value("${comment.stream.buffer-size:32}") int bufferSize,
+                            @Value("${comment.stream.max-subscribers:10000}") int maxSubscribers,
+                            @Value("${comment.stream.max-subscribers-per-client:10}") int maxSubscribersPerClient,
+                            @Value("${comment.stream.dispatch-threads:4}") int dispatchThreads,
+                            @Value("${comment.stream.send-timeout-ms:5000}") long sendTimeoutMillis) {
+        this.postRepository = postRepository;
+        this.objectMapper = objectMapper;
+        this.timeoutMillis = timeoutMillis;
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+        this.maxSubscribersPerClient = maxSubscribersPerClient;
+        this.sendTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeoutMillis);
+        // 구독자마다 전송 작업은 최대 하나만 대기하므로 작업 대기열은 구독자 수로 제한됩니다.
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.dispatcher = new ThreadPoolExecutor(dispatchThreads, dispatchThreads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "comment-stream-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * 게시글의 댓글 스트림을 구독합니다.
+     *
+     * @param postId 게시글 ID
+     * @param clientKey 구독한 클라이언트 식별자 (사용자 ID 또는 IP, 클라이언트별 한도 적용)
+     * @return 컨트롤러가 반환할 SSE 연결
+     * @throws PostException 게시글이 없는 경우 (POST_NOT_FOUND)
+     * @throws CommentException 동시 구독자 수가 한도에 도달한 경우 (COMMENT_STREAM_UNAVAILABLE)
+     *                          또는 클라이언트별 한도에 도달한 경우 (COMMENT_STREAM_CLIENT_LIMIT_EXCEEDED)
+     */
+    public SseEmitter subscribe(Long postId, String clientKey) {
+        if (!postRepository.existsById(postId)) {
+            throw new PostException(ErrorCode.POST_NOT_FOUND);
+        }
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new CommentException(ErrorCode.COMMENT_STREAM_UNAVAILABLE);
+        }
+        if (!acquireClientSlot(clientKey)) {
+            subscriberCount.decrementAndGet();
+            throw new CommentException(ErrorCode.COMMENT_STREAM_CLIENT_LIMIT_EXCEEDED);
+        }
+
+        SseEmitter emitter = createEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(postId, clientKey, emitter, bufferSize);
+        subscribersByPost.compute(postId, (id, subscribers) -> {
+            Set<Subscriber> target = subscribers != null ? subscribers : ConcurrentHashMap.newKeySet();
+            target.add(subscriber);
+            return target;
+        });
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+
+        enqueue(subscriber, StreamEvent.HEARTBEAT); // 응답 헤더를 즉시 내보내 연결 수립을 알림
+        return emitter;
+    }
+
+    /**
+     * 댓글 변경 이벤트를 해당 게시글의 구독자에게 전달합니다.
+     * 트랜잭션 커밋 이후에 실행되므로 롤백된 댓글은 전달되지 않습니다.
+     *
+     * @param event 댓글 변경 이벤트(CommentChangedEvent)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleCommentChangedEvent(CommentChangedEvent event) {
+        Set<Subscriber> subscribers = subscribersByPost.get(event.getPostId());
+        if (subscribers == null || subscribers.isEmpty()) {
+            return;
+        }
+
+        StreamEvent streamEvent = toStreamEvent(event);
+        if (streamEvent == null) {
+            return;
+        }
+        for (Subscriber subscriber : subscribers) {
+            enqueue(subscriber, streamEvent);
+        }
+    }
+
+    /**
+     * 모든 구독자에게 주석(heartbeat)을 보내 프록시의 유휴 연결 종료를 막고 끊어진 연결을 정리합니다.
+     */
+    @Scheduled(fixedDelayString = "${comment.stream.heartbeat-interval-ms:30000}")
+    public void sendHeartbeats() {
+        for (Set<Subscriber> subscribers : subscribersByPost.values()) {
+            for (Subscriber subscriber : subscribers) {
+                enqueue(subscriber, StreamEvent.HEARTBEAT);
+            }
+        }
+    }
+
+    /**
+     * 전송 제한 시간을 넘긴 구독자를 제외하고, 막힌 전송 스레드 수만큼 전송 스레드를 추가합니다.
+     */
+    @Scheduled(fixedDelayString = "${comment.stream.send-timeout-check-interval-ms:1000}")
+    public void evictStalledSubscribers() {
+        long now = System.nanoTime();
+        for (Subscriber subscriber : sending) {
+            if (subscriber.sendState.get() == SEND_IN_PROGRESS
+                    && now - subscriber.sendStartedAt > sendTimeoutNanos
+                    && subscriber.sendState.compareAndSet(SEND_IN_PROGRESS, SEND_STALLED)) {
+                log.debug("Evicting stalled comment stream subscriber of post {}", subscriber.postId);
+                sending.remove(subscriber);
+                subscriber.closed.set(true);
+                subscriber.queue.clear();
+                remove(subscriber);
+                resizeDispatcher(1); // 막힌 스레드를 대신할 스레드 추가 (전송이 끝나면 반납)
+            }
+        }
+    }
+
+    /**
+     * 현재 구독자 수를 반환합니다.
+     *
+     * @return 인스턴스 전체의 구독자 수
+     */
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    /**
+     * 애플리케이션 종료 시 모든 스트림을 닫고 전송 스레드를 정리합니다.
+     */
+    @PreDestroy
+    public void shutdown() {
+        subscribersByPost.values().forEach(subscribers -> subscribers.forEach(subscriber -> subscriber.emitter.complete()));
+        dispatcher.shutdownNow();
+    }
+
+    /**
+     * 구독자에게 반환할 SSE 연결을 만듭니다.
+     */
+    SseEmitter createEmitter(long timeoutMillis) {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    /**
+     * 현재 전송 스레드 수를 반환합니다.
+     */
+    int getDispatchThreadCount() {
+        return dispatcher.getCorePoolSize();
+    }
+
+    private StreamEvent toStreamEvent(CommentChangedEvent event) {
+        return switch (event.getType()) {
+            case CREATED -> serialize(COMMENT_CREATED, event.getCommentId(), event.getComment());
+            case UPDATED -> serialize(COMMENT_UPDATED, event.getCommentId(), event.getComment());
+            case DELETED -> new StreamEvent(COMMENT_DELETED, String.valueOf(event.getCommentId()),
+                    String.valueOf(event.getCommentId()));
+        };
+    }
+
+    private StreamEvent serialize(String name, Long commentId, CommentResponseDto comment) {
+        if (comment == null) {
+            return null; // 응답이 담기지 않은 이벤트는 전달하지 않음
+        }
+        try {
+            return new StreamEvent(name, String.valueOf(commentId), objectMapper.writeValueAsString(comment));
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to serialize comment {} for streaming", commentId, e);
+            return null;
+        }
+    }
+
+    /**
+     * 구독자 대기열에 이벤트를 넣고, 전송 중이 아니면 전송 작업을 예약합니다.
+     * 대기열이 가득 찬 구독자는 느린 소비자로 보고 연결을 종료합니다.
+     */
+    private void enqueue(Subscriber subscriber, StreamEvent event) {
+        if (subscriber.closed.get()) {
+            return;
+        }
+        if (!subscriber.queue.offer(event)) {
+            log.debug("Evicting slow comment stream subscriber of post {}", subscriber.postId);
+            close(subscriber);
+            return;
+        }
+        scheduleDrain(subscriber);
+    }
+
+    private void scheduleDrain(Subscriber subscriber) {
+        if (subscriber.draining.compareAndSet(false, true)) {
+            dispatcher.execute(() -> drain(subscriber));
+        }
+    }
+
+    /**
+     * 구독자 대기열의 이벤트를 순서대로 전송합니다. 구독자마다 동시에 하나의 스레드만 실행합니다.
+     */
+    private void drain(Subscriber subscriber) {
+        try {
+            StreamEvent event;
+            while (!subscriber.closed.get() && (event = subscriber.queue.poll()) != null) {
+                send(subscriber, event);
+            }
+        } catch (IOException | IllegalStateException e) {
+            close(subscriber); // 연결이 끊겼거나 이미 종료된 스트림
+        } finally {
+            subscriber.draining.set(false);
+        }
+        // 전송 종료 직전에 들어온 이벤트가 남아 있으면 다시 예약
+        if (!subscriber.closed.get() && !subscriber.queue.isEmpty()) {
+            scheduleDrain(subscriber);
+        }
+    }
+
+    /**
+     * 이벤트 하나를 전송합니다. 전송 시작 시각을 기록하여 감시 작업이 제한 시간 초과를 판단할 수 있도록 하고,
+     * 제한 시간을 넘겨 제외된 경우에는 전송이 끝난 뒤 연결을 닫고 추가했던 전송 스레드를 반납합니다.
+     */
+    private void send(Subscriber subscriber, StreamEvent event) throws IOException {
+        subscriber.sendStartedAt = System.nanoTime();
+        subscriber.sendState.set(SEND_IN_PROGRESS);
+        sending.add(subscriber);
+        try {
+            subscriber.emitter.send(event.toBuilder());
+        } finally {
+            sending.remove(subscriber);
+            if (!subscriber.sendState.compareAndSet(SEND_IN_PROGRESS, SEND_IDLE)) {
+                subscriber.sendState.set(SEND_IDLE);
+                resizeDispatcher(-1);
+                subscriber.emitter.complete();
+            }
+        }
+    }
+
+    /**
+     * 전송 스레드 수를 늘리거나 줄입니다. 작업 대기열이 제한 없는 큐이므로 코어 스레드 수와 최대 스레드 수를 함께 바꿉니다.
+     */
+    private synchronized void resizeDispatcher(int delta) {
+        int size = dispatcher.getCorePoolSize() + delta;
+        if (delta > 0) {
+            dispatcher.setMaximumPoolSize(size);
+            dispatcher.setCorePoolSize(size);
+        } else {
+            dispatcher.setCorePoolSize(size);
+            dispatcher.setMaximumPoolSize(size);
+        }
+    }
+
+    private void close(Subscriber subscriber) {
+        if (subscriber.closed.compareAndSet(false, true)) {
+            subscriber.queue.clear();
+            remove(subscriber);
+            subscriber.emitter.complete();
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        subscriber.closed.set(true);
+        // 구독 추가와 경합하지 않도록 제거와 빈 집합 정리를 원자적으로 수행
+        subscribersByPost.computeIfPresent(subscriber.postId, (id, subscribers) -> {
+            if (subscribers.remove(subscriber)) {
+                subscriberCount.decrementAndGet();
+                releaseClientSlot(subscriber.clientKey);
+            }
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+
+    /**
+     * 클라이언트의 동시 구독자 수를 하나 늘립니다. 한도에 도달했으면 늘리지 않고 false를 반환합니다.
+     */
+    private boolean acquireClientSlot(String clientKey) {
+        boolean[] acquired = new boolean[1];
+        subscriberCountByClient.compute(clientKey, (key, count) -> {
+            int current = count == null ? 0 : count;
+            acquired[0] = current < maxSubscribersPerClient;
+            return acquired[0] ? current + 1 : count;
+        });
+        return acquired[0];
+    }
+
+    private void releaseClientSlot(String clientKey) {
+        subscriberCountByClient.computeIfPresent(clientKey, (key, count) -> count > 1 ? count - 1 : null);
+    }
+
+    /**
+     * 스트림 구독자 한 명의 연결과 전송 대기열.
+     */
+    private static class Subscriber {
+
+        private final Long postId;
+        private final String clientKey;
+        private final SseEmitter emitter;
+        private final BlockingQueue<StreamEvent> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private final AtomicInteger sendState = new AtomicInteger(SEND_IDLE); // 현재 전송 상태
+        private volatile long sendStartedAt; // 현재 전송을 시작한 시각 (System.nanoTime)
+
+        private Subscriber(Long postId, String clientKey, SseEmitter emitter, int bufferSize) {
+            this.postId = postId;
+            this.clientKey = clientKey;
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(bufferSize);
+        }
+    }
+
+    /**
+     * 전송할 SSE 이벤트. 데이터는 미리 직렬화된 문자열이며, 이름이 없으면 주석(heartbeat)으로 전송합니다.
+     * SseEventBuilder는 전송 시 내부 버퍼를 변경하므로 구독자마다 새로 만듭니다.
+     */
+    private record StreamEvent(String name, String id, String data) {
+
+        private static final StreamEvent HEARTBEAT = new StreamEvent(null, null, null);
+
+        private SseEmitter.SseEventBuilder toBuilder() {
+            if (name == null) {
+                return SseEmitter.event().comment("heartbeat");
+            }
+            return SseEmitter.event().name(name).id(id).data(data);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package org.example.restfulblogflatform.thread;
+
+/**
+ * 댓글 스레드의 구체화된 경로(materialized path)를 다루는 유틸리티 클래스.
+ *
+ * 경로는 루트 댓글부터 자기 자신까지의 댓글 ID를 고정 폭(0으로 채운 12자리) 세그먼트로 이어 붙인 문자열입니다.
+ * 예) 루트 42의 답글 57 → "000000000042/000000000057/"
+ * 세그먼트 폭이 같으므로 경로를 문자열로 정렬하면 부모가 항상 자식보다 먼저 오는 깊이 우선 순서가 되고,
+ * 특정 댓글의 하위 트리 전체는 "경로 LIKE '부모경로%'" 범위 조건 하나로 인덱스에서 조회할 수 있습니다.
+ */
+public final class CommentPath {
+
+    public static final int SEGMENT_WIDTH = 12;     // ID 세그먼트 폭 (자릿수)
+    public static final char SEPARATOR = '/';       // 세그먼트 구분자
+    public static final int MAX_DEPTH = 15;         // 허용하는 최대 답글 깊이 (루트 댓글은 0)
+    public static final int MAX_LENGTH = (SEGMENT_WIDTH + 1) * (MAX_DEPTH + 1); // 경로 컬럼 최대 길이
+
+    private CommentPath() {
+    }
+
+    /**
+     * 댓글 ID 하나에 해당하는 경로 세그먼트를 반환합니다.
+     *
+     * @param commentId 댓글 ID
+     * @return 0으로 채운 고정 폭 세그먼트 (구분자 포함)
+     */
+    public static String segment(Long commentId) {
+        String digits = Long.toString(commentId);
+        StringBuilder segment = new StringBuilder(SEGMENT_WIDTH + 1);
+        for (int i = digits.length(); i < SEGMENT_WIDTH; i++) {
+            segment.append('0');
+        }
+        return segment.append(digits).append(SEPARATOR).toString();
+    }
+
+    /**
+     * 부모 경로 아래에 댓글 ID를 붙인 경로를 반환합니다.
+     *
+     * @param parentPath 부모 댓글의 경로 (루트 댓글이면 null)
+     * @param commentId 댓글 ID
+     * @return 댓글의 경로
+     */
+    public static String child(String parentPath, Long commentId) {
+        return parentPath == null ? segment(commentId) : parentPath + segment(commentId);
+    }
+
+    /**
+     * 주어진 경로의 하위 트리(자기 자신 포함)를 조회하기 위한 LIKE 패턴을 반환합니다.
+     * 경로에는 숫자와 구분자만 들어 있으므로 이스케이프가 필요하지 않습니다.
+     *
+     * @param path 기준 댓글의 경로
+     * @return LIKE 패턴
+     */
+    public static String subtreePattern(String path) {
+        return path + "%";
+    }
+}
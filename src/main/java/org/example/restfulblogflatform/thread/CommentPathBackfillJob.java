@@ -0,0 +1,71 @@
+package org.example.restfulblogflatform.thread;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.restfulblogflatform.repository.CommentRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 답글 기능 이전에 작성된 댓글에 구체화된 경로를 채우는 백그라운드 작업.
+ *
+ * 기존 댓글은 모두 루트 댓글이므로 자기 ID 세그먼트를 경로로, 자기 자신을 루트로 지정합니다.
+ * 댓글 ID 기준 키셋(keyset) 방식으로 한 주기마다 한 배치씩 처리하며, 배치마다 별도의 트랜잭션을 사용합니다.
+ * 경로가 채워지기 전의 댓글은 스레드 조회 결과에 포함되지 않으며, 더 이상 채울 댓글이 없으면 작업을 종료합니다.
+ */
+@Slf4j
+@Component
+public class CommentPathBackfillJob {
+
+    private final CommentRepository commentRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+
+    private volatile long lastId = 0L;       // 마지막으로 처리한 댓글 ID
+    private volatile boolean completed = false;
+    private long assignedCount = 0L;
+
+    public CommentPathBackfillJob(CommentRepository commentRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${comment.thread.backfill.enabled:true}") boolean enabled,
+                                  @Value("${comment.thread.backfill.batch-size:500}") int batchSize) {
+        this.commentRepository = commentRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 다음 배치의 댓글 경로를 채웁니다.
+     */
+    @Scheduled(fixedDelayString = "${comment.thread.backfill.interval-ms:1000}")
+    public void backfillNextBatch() {
+        if (!enabled || completed) {
+            return;
+        }
+
+        Integer processed = transactionTemplate.execute(status -> {
+            List<Long> ids = commentRepository.findIdsWithoutPath(lastId, PageRequest.ofSize(batchSize));
+            for (Long id : ids) {
+                assignedCount += commentRepository.assignRootPath(id, CommentPath.segment(id));
+            }
+            if (!ids.isEmpty()) {
+                lastId = ids.get(ids.size() - 1);
+            }
+            return ids.size();
+        });
+
+        if (processed == null || processed == 0) {
+            completed = true;
+            if (assignedCount > 0) {
+                log.info("Comment path backfill completed: {} comments assigned", assignedCount);
+            }
+        }
+    }
+}
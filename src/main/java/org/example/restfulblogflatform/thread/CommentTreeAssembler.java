@@ -0,0 +1,75 @@
+package org.example.restfulblogflatform.thread;
+
+import org.example.restfulblogflatform.dto.comment.response.CommentNodeDto;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 경로 순서로 조회된 댓글 노드 목록을 트리로 조립하는 유틸리티 클래스.
+ *
+ * 경로 순서에서는 부모가 항상 자식보다 먼저 나오므로, 목록을 한 번 순회하면서
+ * ID → 노드 맵에서 부모를 찾아 붙이는 것만으로 트리가 완성됩니다. (재귀 조회 없음)
+ * 부모가 목록에 없는 노드(하위 트리 조회의 기준 댓글 등)는 최상위 노드가 됩니다.
+ */
+public final class CommentTreeAssembler {
+
+    private CommentTreeAssembler() {
+    }
+
+    /**
+     * 경로 순서로 정렬된 노드 목록을 트리로 조립합니다.
+     *
+     * @param nodes 경로 순서로 정렬된 노드 목록
+     * @return 최상위 노드 목록 (입력 순서 유지)
+     */
+    public static List<CommentNodeDto> assemble(List<CommentNodeDto> nodes) {
+        return assemble(nodes, Integer.MAX_VALUE);
+    }
+
+    /**
+     * 경로 순서로 정렬된 노드 목록을 트리로 조립하되, 최상위 노드마다 답글을 최대 replyLimit개까지만 붙입니다.
+     * 제한을 넘는 답글이 있으면 해당 최상위 노드에 moreReplies를 표시합니다.
+     * 경로 순서에서 잘라내므로 포함된 답글의 조상은 항상 함께 포함됩니다.
+     *
+     * @param nodes 경로 순서로 정렬된 노드 목록
+     * @param replyLimit 최상위 노드당 포함할 최대 답글 수
+     * @return 최상위 노드 목록 (입력 순서 유지)
+     */
+    public static List<CommentNodeDto> assemble(List<CommentNodeDto> nodes, int replyLimit) {
+        Map<Long, CommentNodeDto> nodesById = new HashMap<>(Math.max(16, nodes.size() * 2));
+        Set<Long> skippedIds = new HashSet<>();
+        List<CommentNodeDto> roots = new ArrayList<>();
+
+        CommentNodeDto currentRoot = null;
+        int replyCount = 0;
+        for (CommentNodeDto node : nodes) {
+            Long parentId = node.getParentId();
+            if (parentId != null && skippedIds.contains(parentId)) {
+                skippedIds.add(node.getId()); // 생략된 답글의 하위 답글도 생략
+                continue;
+            }
+            CommentNodeDto parent = parentId == null ? null : nodesById.get(parentId);
+            if (parent == null) {
+                roots.add(node);
+                nodesById.put(node.getId(), node);
+                currentRoot = node;
+                replyCount = 0;
+                continue;
+            }
+            if (replyCount >= replyLimit) {
+                currentRoot.markMoreReplies();
+                skippedIds.add(node.getId());
+                continue;
+            }
+            parent.getReplies().add(node);
+            nodesById.put(node.getId(), node);
+            replyCount++;
+        }
+        return roots;
+    }
+}
@@ -0,0 +1,195 @@
+package org.example.restfulblogflatform.trending;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.restfulblogflatform.dto.post.response.PostSummaryDto;
+import org.example.restfulblogflatform.dto.post.response.TrendingPostDto;
+import org.example.restfulblogflatform.event.comment.CommentChangedEvent;
+import org.example.restfulblogflatform.event.post.PostChangedEvent;
+import org.example.restfulblogflatform.repository.PostRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 시간 감쇠(exponential decay) 점수로 인기 게시글을 집계하는 컴포넌트.
+ *
+ * 조회와 댓글 작성마다 가중치를 더하되, 오래된 활동일수록 반감기(half-life)에 따라 영향이 줄어듭니다.
+ * 기록 시에는 기준 시각(landmark) 대비 가중치를 키워서 더하고(forward decay),
+ * 스케줄러가 주기적으로 모든 점수를 현재 시각 기준으로 감쇠시킨 뒤 상위 K개 게시글의 불변 스냅샷을 만듭니다.
+ * 조회 요청은 스냅샷만 읽으므로 DB에 접근하지 않습니다.
+ */
+@Slf4j
+@Component
+public class TrendingPostTracker {
+
+    /**
+     * 이 값보다 낮아진 점수는 집계에서 제거하여 메모리 사용량을 최근 활동한 게시글 수에 비례하도록 유지합니다.
+     */
+    private static final double MIN_SCORE = 0.01;
+
+    private final PostRepository postRepository;
+    private final double decayRatePerMillis;
+    private final double viewWeight;
+    private final double commentWeight;
+    private final int topK;
+
+    private final ConcurrentHashMap<Long, DoubleAdder> scores = new ConcurrentHashMap<>(); // 게시글 ID -> landmark 기준 점수
+    private final ReadWriteLock landmarkLock = new ReentrantReadWriteLock();
+    private volatile long landmark = System.currentTimeMillis();
+
+    private volatile List<TrendingPostDto> snapshot = List.of(); // 점수 내림차순 상위 K개 (불변)
+
+    public TrendingPostTracker(PostRepository postRepository,
+                               @Value("${post.trending.half-life-minutes:360}") long halfLifeMinutes,
+                               @Value("${post.trending.view-weight:1.0}") double viewWeight,
+                               @Value("${post.trending.comment-weight:5.0}") double commentWeight,
+                               @Value("${post.trending.top-k:50}") int topK) {
+        this.postRepository = postRepository;
+        this.decayRatePerMillis = Math.log(2) / (halfLifeMinutes * 60_000.0);
+        this.viewWeight = viewWeight;
+        this.commentWeight = commentWeight;
+        this.topK = topK;
+    }
+
+    /**
+     * 게시글 조회를 기록합니다.
+     *
+     * @param postId 조회된 게시글의 ID
+     */
+    public void recordView(Long postId) {
+        record(postId, viewWeight);
+    }
+
+    /**
+     * 게시글에 댓글이 작성되었음을 기록합니다.
+     *
+     * @param postId 댓글이 작성된 게시글의 ID
+     */
+    public void recordComment(Long postId) {
+        record(postId, commentWeight);
+    }
+
+    /**
+     * 인기 게시글 목록을 반환합니다. (마지막 스냅샷 기준, DB 미조회)
+     *
+     * @param limit 반환할 최대 개수
+     * @return 인기 점수 내림차순 게시글 목록
+     */
+    public List<TrendingPostDto> getTrending(int limit) {
+        List<TrendingPostDto> current = snapshot;
+        return current.subList(0, Math.max(0, Math.min(limit, current.size())));
+    }
+
+    /**
+     * 모든 점수에 감쇠를 적용하고 인기 게시글 스냅샷을 다시 만듭니다.
+     */
+    @Scheduled(fixedDelayString = "${post.trending.refresh-interval-ms:30000}")
+    public void refresh() {
+        Map<Long, Double> decayed = decay(System.currentTimeMillis());
+
+        // 상위 K개만 유지하는 최소 힙
+        PriorityQueue<Map.Entry<Long, Double>> top = new PriorityQueue<>(Map.Entry.comparingByValue());
+        for (Map.Entry<Long, Double> entry : decayed.entrySet()) {
+            top.offer(entry);
+            if (top.size() > topK) {
+                top.poll();
+            }
+        }
+        if (top.isEmpty()) {
+            snapshot = List.of();
+            return;
+        }
+
+        List<Map.Entry<Long, Double>> ranked = new ArrayList<>(top);
+        ranked.sort(Map.Entry.<Long, Double>comparingByValue().reversed());
+        Map<Long, PostSummaryDto> summaries = postRepository.findSummariesByIdIn(
+                        ranked.stream().map(Map.Entry::getKey).toList()).stream()
+                .collect(Collectors.toMap(PostSummaryDto::getId, Function.identity()));
+
+        snapshot = ranked.stream()
+                .filter(entry -> summaries.containsKey(entry.getKey())) // 삭제된 게시글 제외
+                .map(entry -> TrendingPostDto.of(summaries.get(entry.getKey()), entry.getValue()))
+                .toList();
+    }
+
+    /**
+     * 댓글 작성을 기록합니다. (트랜잭션 커밋 후, 롤백된 댓글은 점수에 반영하지 않음)
+     *
+     * @param event 댓글 변경 이벤트(CommentChangedEvent)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleCommentChangedEvent(CommentChangedEvent event) {
+        if (event.getType() == CommentChangedEvent.Type.CREATED) {
+            recordComment(event.getPostId());
+        }
+    }
+
+    /**
+     * 게시글 삭제 시 집계와 스냅샷에서 제거합니다. (트랜잭션 커밋 후)
+     *
+     * @param event 게시글 변경 이벤트(PostChangedEvent)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handlePostChangedEvent(PostChangedEvent event) {
+        if (event.getType() != PostChangedEvent.Type.DELETED) {
+            return;
+        }
+        scores.remove(event.getPostId());
+        snapshot = snapshot.stream()
+                .filter(trending -> !trending.getPost().getId().equals(event.getPostId()))
+                .toList();
+    }
+
+    /**
+     * 기준 시각 대비 경과 시간만큼 가중치를 키워 점수를 더합니다.
+     * 모든 점수가 같은 기준 시각을 사용하므로 감쇠를 적용하지 않아도 순위는 유지됩니다.
+     */
+    private void record(Long postId, double weight) {
+        landmarkLock.readLock().lock();
+        try {
+            double boost = Math.exp(decayRatePerMillis * (System.currentTimeMillis() - landmark));
+            scores.computeIfAbsent(postId, id -> new DoubleAdder()).add(weight * boost);
+        } finally {
+            landmarkLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 모든 점수를 현재 시각 기준으로 감쇠시키고 기준 시각을 옮깁니다.
+     * 기준 시각이 오래되어 가중치가 과도하게 커지는 것을 막기 위해 매 주기마다 수행합니다.
+     *
+     * @return 감쇠가 적용된 게시글별 점수
+     */
+    private Map<Long, Double> decay(long now) {
+        Map<Long, Double> decayed = new HashMap<>();
+        landmarkLock.writeLock().lock();
+        try {
+            double factor = Math.exp(-decayRatePerMillis * (now - landmark));
+            Iterator<Map.Entry<Long, DoubleAdder>> iterator = scores.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<Long, DoubleAdder> entry = iterator.next();
+                double score = entry.getValue().sumThenReset() * factor;
+                if (score < MIN_SCORE) {
+                    iterator.remove();
+                } else {
+                    entry.getValue().add(score);
+                    decayed.put(entry.getKey(), score);
+                }
+            }
+            landmark = now;
+        } finally {
+            landmarkLock.writeLock().unlock();
+        }
+        return decayed;
+    }
+}
@@ -0,0 +1,355 @@
+package org.example.restfulblogflatform.upload;
+
+import lombok.Getter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+/**
+ * multipart/form-data 요청 본문을 파트 단위로 순차 파싱하는 스트리밍 리더.
+ *
+ * 서블릿 컨테이너의 multipart 처리는 파트 전체를 임시 파일에 기록한 뒤에 애플리케이션에 넘기지만,
+ * 이 리더는 본문을 고정 크기 버퍼로 읽으면서 경계(boundary)를 찾아 각 파트의 내용을 InputStream으로 바로 제공합니다.
+ * 파트는 도착한 순서대로 한 번만 읽을 수 있으며, next()를 호출하면 이전 파트의 남은 내용은 건너뜁니다.
+ */
+public class MultipartStreamReader {
+
+    private static final int BUFFER_SIZE = 64 * 1024;  // 본문 읽기 버퍼 크기
+    private static final int MAX_HEADER_BYTES = 8 * 1024; // 파트 헤더 전체의 최대 크기
+    private static final int MAX_BOUNDARY_LENGTH = 70;  // RFC 2046 경계 문자열 최대 길이
+
+    private final InputStream input;
+    private final byte[] delimiter; // CRLF + "--" + boundary
+    private final byte[] buffer;
+    private int position;
+    private int limit;
+    private boolean eof;
+    private boolean finished;       // 종료 경계("--boundary--")까지 읽었는지 여부
+    private PartInputStream current;
+
+    /**
+     * @param input 요청 본문 스트림
+     * @param boundary Content-Type 헤더의 boundary 파라미터 값
+     */
+    public MultipartStreamReader(InputStream input, String boundary) {
+        if (boundary == null || boundary.isEmpty() || boundary.length() > MAX_BOUNDARY_LENGTH) {
+            throw new IllegalArgumentException("Invalid multipart boundary: " + boundary);
+        }
+        this.input = input;
+        this.delimiter = ("\r\n--" + boundary).getBytes(StandardCharsets.ISO_8859_1);
+        this.buffer = new byte[BUFFER_SIZE];
+        // 첫 경계 앞에는 CRLF가 없으므로 버퍼에 미리 넣어 모든 경계를 같은 구분자로 찾음
+        this.buffer[0] = '\r';
+        this.buffer[1] = '\n';
+        this.limit = 2;
+    }
+
+    /**
+     * Content-Type 헤더에서 boundary 파라미터를 추출합니다.
+     *
+     * @param contentType 요청의 Content-Type 헤더 값
+     * @return boundary 값 (multipart 요청이 아니거나 boundary가 없으면 null)
+     */
+    public static String boundaryOf(String contentType) {
+        if (contentType == null || !contentType.toLowerCase(Locale.ROOT).startsWith("multipart/")) {
+            return null;
+        }
+        for (String parameter : contentType.split(";")) {
+            String[] pair = parameter.trim().split("=", 2);
+            if (pair.length == 2 && pair[0].trim().equalsIgnoreCase("boundary")) {
+                String boundary = unquote(pair[1].trim());
+                return boundary.isEmpty() ? null : boundary;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 다음 파트를 반환합니다.
+     *
+     * @return 다음 파트 (더 이상 파트가 없으면 null)
+     * @throws IOException 본문을 읽지 못했거나 형식이 올바르지 않은 경우
+     */
+    public Part next() throws IOException {
+        if (current == null) {
+            skipPreamble();
+        } else {
+            current.skipRemaining();
+        }
+        if (finished) {
+            return null;
+        }
+
+        // 경계 뒤의 "--"는 본문의 끝, CRLF는 다음 파트의 시작
+        if (!ensure(2)) {
+            throw new MalformedMultipartException("Unexpected end of multipart body after boundary");
+        }
+        if (buffer[position] == '-' && buffer[position + 1] == '-') {
+            finished = true;
+            return null;
+        }
+        skipLinearWhitespace();
+        if (!ensure(2) || buffer[position] != '\r' || buffer[position + 1] != '\n') {
+            throw new MalformedMultipartException("Missing CRLF after multipart boundary");
+        }
+        position += 2;
+
+        Part part = readHeaders();
+        current = new PartInputStream();
+        part.content = current;
+        return part;
+    }
+
+    /**
+     * 첫 경계 이전의 프리앰블을 건너뜁니다.
+     */
+    private void skipPreamble() throws IOException {
+        current = new PartInputStream();
+        current.skipRemaining();
+    }
+
+    /**
+     * 경계 뒤의 공백(transport padding)을 건너뜁니다.
+     */
+    private void skipLinearWhitespace() throws IOException {
+        while (ensure(1) && (buffer[position] == ' ' || buffer[position] == '\t')) {
+            position++;
+        }
+    }
+
+    /**
+     * 빈 줄이 나올 때까지 파트 헤더를 읽습니다.
+     */
+    private Part readHeaders() throws IOException {
+        Part part = new Part();
+        ByteArrayOutputStream line = new ByteArrayOutputStream(128);
+        int headerBytes = 0;
+        while (true) {
+            if (!ensure(1)) {
+                throw new MalformedMultipartException("Unexpected end of multipart body in part headers");
+            }
+            byte b = buffer[position++];
+            if (++headerBytes > MAX_HEADER_BYTES) {
+                throw new MalformedMultipartException("Multipart part headers too large");
+            }
+            if (b != '\n') {
+                line.write(b);
+                continue;
+            }
+
+            // CRLF로 끝나는 한 줄 완성 (CR 제거)
+            byte[] bytes = line.toByteArray();
+            int length = bytes.length > 0 && bytes[bytes.length - 1] == '\r' ? bytes.length - 1 : bytes.length;
+            if (length == 0) {
+                return part;
+            }
+            part.addHeader(new String(bytes, 0, length, StandardCharsets.UTF_8));
+            line.reset();
+        }
+    }
+
+    /**
+     * 버퍼에 최소 count 바이트가 남도록 채웁니다.
+     *
+     * @return count 바이트 이상 남아 있으면 true (본문이 먼저 끝나면 false)
+     */
+    private boolean ensure(int count) throws IOException {
+        while (limit - position < count) {
+            if (eof) {
+                return false;
+            }
+            if (position > 0) {
+                System.arraycopy(buffer, position, buffer, 0, limit - position);
+                limit -= position;
+                position = 0;
+            }
+            int read = input.read(buffer, limit, buffer.length - limit);
+            if (read < 0) {
+                eof = true;
+            } else {
+                limit += read;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 버퍼의 [position, end) 범위에서 구분자의 시작 위치를 찾습니다.
+     *
+     * @return 구분자의 시작 인덱스 (없으면 -1)
+     */
+    private int indexOfDelimiter(int end) {
+        int last = end - delimiter.length;
+        outer:
+        for (int i = position; i <= last; i++) {
+            if (buffer[i] != delimiter[0]) {
+                continue;
+            }
+            for (int j = 1; j < delimiter.length; j++) {
+                if (buffer[i + j] != delimiter[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    private static String unquote(String value) {
+        if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+            return value.substring(1, value.length() - 1).replace("\\\"", "\"").replace("\\\\", "\\");
+        }
+        return value;
+    }
+
+    /**
+     * 다음 구분자 직전까지의 파트 내용을 읽는 스트림.
+     * 구분자에 도달하면 구분자를 소비하고 -1을 반환합니다.
+     */
+    private class PartInputStream extends InputStream {
+
+        private boolean done;
+
+        @Override
+        public int read() throws IOException {
+            byte[] single = new byte[1];
+            int read = read(single, 0, 1);
+            return read < 0 ? -1 : single[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] target, int offset, int length) throws IOException {
+            if (done) {
+                return -1;
+            }
+            if (length == 0) {
+                return 0;
+            }
+            boolean complete = ensure(delimiter.length);
+            // 요청한 길이만큼 반환하는 데 필요한 범위까지만 구분자를 찾음
+            int scanLimit = (int) Math.min(limit, (long) position + length + delimiter.length - 1);
+            int found = indexOfDelimiter(scanLimit);
+            if (found == position) {
+                // 구분자 도달: 파트 종료
+                position += delimiter.length;
+                done = true;
+                return -1;
+            }
+            if (found < 0 && !complete) {
+                throw new MalformedMultipartException("Unexpected end of multipart body in part content");
+            }
+
+            // 구분자 앞까지, 또는 구분자의 일부일 수 있는 끝부분을 제외한 만큼만 반환
+            int available = found >= 0 ? found - position : scanLimit - position - (delimiter.length - 1);
+            int count = Math.min(available, length);
+            System.arraycopy(buffer, position, target, offset, count);
+            position += count;
+            return count;
+        }
+
+        private void skipRemaining() throws IOException {
+            byte[] skip = new byte[8 * 1024];
+            while (read(skip, 0, skip.length) >= 0) {
+                // 남은 내용을 버림
+            }
+        }
+    }
+
+    /**
+     * 파싱된 파트의 헤더 정보와 내용 스트림.
+     */
+    @Getter
+    public static class Part {
+
+        private String name;        // 폼 필드 이름
+        private String filename;    // 업로드 파일명 (파일 파트가 아니면 null)
+        private String contentType; // 파트의 Content-Type (없으면 null)
+        private InputStream content; // 파트 내용 (다음 파트로 넘어가기 전까지만 읽을 수 있음)
+
+        /**
+         * 파일 파트인지 여부를 반환합니다. (Content-Disposition에 filename이 있는 경우)
+         */
+        public boolean isFile() {
+            return filename != null;
+        }
+
+        /**
+         * 파트 내용을 UTF-8 문자열로 읽습니다.
+         *
+         * @param maxBytes 허용할 최대 바이트 수
+         * @return 파트 내용
+         * @throws IOException 읽기 실패 또는 최대 크기를 넘은 경우
+         */
+        public String readString(int maxBytes) throws IOException {
+            byte[] bytes = content.readNBytes(maxBytes + 1);
+            if (bytes.length > maxBytes) {
+                throw new MalformedMultipartException("Multipart field '" + name + "' exceeds " + maxBytes + " bytes");
+            }
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        private void addHeader(String header) {
+            int colon = header.indexOf(':');
+            if (colon < 0) {
+                return;
+            }
+            String headerName = header.substring(0, colon).trim();
+            String value = header.substring(colon + 1).trim();
+            if (headerName.equalsIgnoreCase("Content-Type")) {
+                contentType = value;
+            } else if (headerName.equalsIgnoreCase("Content-Disposition")) {
+                parseDisposition(value);
+            }
+        }
+
+        /**
+         * Content-Disposition 값에서 name, filename 파라미터를 추출합니다. (따옴표 안의 ';'는 구분자로 보지 않음)
+         */
+        private void parseDisposition(String value) {
+            int start = 0;
+            boolean quoted = false;
+            for (int i = 0; i <= value.length(); i++) {
+                if (i < value.length()) {
+                    char c = value.charAt(i);
+                    if (c == '"' && (i == 0 || value.charAt(i - 1) != '\\')) {
+                        quoted = !quoted;
+                    }
+                    if (c != ';' || quoted) {
+                        continue;
+                    }
+                }
+                String[] pair = value.substring(start, i).trim().split("=", 2);
+                if (pair.length == 2) {
+                    String key = pair[0].trim().toLowerCase(Locale.ROOT);
+                    if (key.equals("name")) {
+                        name = unquote(pair[1].trim());
+                    } else if (key.equals("filename")) {
+                        filename = stripPath(unquote(pair[1].trim()));
+                    }
+                }
+                start = i + 1;
+            }
+        }
+
+        /**
+         * 일부 브라우저가 보내는 전체 경로에서 파일명만 남깁니다.
+         */
+        private static String stripPath(String filename) {
+            int separator = Math.max(filename.lastIndexOf('/'), filename.lastIndexOf('\\'));
+            return separator >= 0 ? filename.substring(separator + 1) : filename;
+        }
+    }
+
+    /**
+     * multipart 본문의 형식이 올바르지 않은 경우 발생하는 예외.
+     */
+    public static class MalformedMultipartException extends IOException {
+
+        public MalformedMultipartException(String message) {
+            super(message);
+        }
+    }
+}
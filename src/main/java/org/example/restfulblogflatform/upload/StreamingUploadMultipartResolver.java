@@ -0,0 +1,27 @@
+package org.example.restfulblogflatform.upload;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.multipart.support.StandardServletMultipartResolver;
+
+/**
+ * 스트리밍 업로드 경로의 요청은 multipart로 해석하지 않는 MultipartResolver.
+ *
+ * DispatcherServlet은 multipart 요청을 만나면 컨트롤러 호출 전에 서블릿 컨테이너에 파트 파싱을 요청하고,
+ * 컨테이너는 이때 각 파트를 임시 파일에 기록합니다.
+ * 스트리밍 업로드 경로는 이 단계를 건너뛰어 컨트롤러가 원본 요청 본문을 MultipartStreamReader로 직접 읽도록 합니다.
+ * 그 밖의 경로는 StandardServletMultipartResolver와 동일하게 동작합니다.
+ */
+public class StreamingUploadMultipartResolver extends StandardServletMultipartResolver {
+
+    public static final String STREAMING_UPLOAD_PATH = "/api/posts/stream"; // 스트리밍 게시글 업로드 경로
+
+    @Override
+    public boolean isMultipart(HttpServletRequest request) {
+        return !isStreamingUpload(request) && super.isMultipart(request);
+    }
+
+    private static boolean isStreamingUpload(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return STREAMING_UPLOAD_PATH.equals(path);
+    }
+}
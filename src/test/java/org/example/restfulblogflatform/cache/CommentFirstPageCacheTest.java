@@ -0,0 +1,119 @@
+package org.example.restfulblogflatform.cache;
+
+import org.example.restfulblogflatform.cache.CommentFirstPageCache.CachedPage;
+import org.example.restfulblogflatform.dto.comment.CommentPageVersionDto;
+import org.example.restfulblogflatform.dto.comment.response.CommentResponseDto;
+import org.example.restfulblogflatform.event.comment.CommentChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CommentFirstPageCacheTest {
+
+    private static final Sort CREATED_ASC = Sort.by(Sort.Direction.ASC, "createdDate");
+
+    private CommentFirstPageCache cache;
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        cache = new CommentFirstPageCache(5, 1024 * 1024, 60);
+    }
+
+    @Test
+    @DisplayName("작성일 오름차순 첫 페이지이고 캐시 크기 이하인 요청만 캐시 사용")
+    void cacheableOnlyForDefaultFirstPage() {
+        assertTrue(cache.isCacheable(PageRequest.of(0, 5, CREATED_ASC)));
+        assertTrue(cache.isCacheable(PageRequest.of(0, 3, CREATED_ASC)));
+        assertFalse(cache.isCacheable(PageRequest.of(1, 5, CREATED_ASC)));
+        assertFalse(cache.isCacheable(PageRequest.of(0, 6, CREATED_ASC)));
+        assertFalse(cache.isCacheable(PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "createdDate"))));
+        assertFalse(cache.isCacheable(PageRequest.of(0, 5)));
+    }
+
+    @Test
+    @DisplayName("한 번 적재한 첫 페이지를 요청 크기만큼 잘라 재사용")
+    void hitReusesLoadedPage() {
+        // given
+        CachedPage first = cache.getOrLoad(1L, () -> version(8L), pageLoader(8));
+
+        // when
+        CachedPage second = cache.getOrLoad(1L, () -> version(8L), pageLoader(8));
+        Page<CommentResponseDto> page = second.toPage(PageRequest.of(0, 3, CREATED_ASC));
+
+        // then
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+        assertEquals("\"c8-" + first.getVersion().getLastModifiedMillis() + "\"", second.getVersion().getETag());
+        assertEquals(List.of(1L, 2L, 3L), page.getContent().stream().map(CommentResponseDto::getId).toList());
+        assertEquals(8, page.getTotalElements());
+        assertEquals(3, page.getTotalPages());
+    }
+
+    @Test
+    @DisplayName("댓글 변경 이벤트 수신 후에는 다시 조회")
+    void reloadAfterCommentChanged() {
+        // given
+        cache.getOrLoad(1L, () -> version(8L), pageLoader(8));
+
+        // when
+        cache.handleCommentChangedEvent(new CommentChangedEvent(1L, 9L, CommentChangedEvent.Type.CREATED));
+        CachedPage reloaded = cache.getOrLoad(1L, () -> version(9L), pageLoader(9));
+
+        // then
+        assertEquals(2, loads.get());
+        assertEquals(9, reloaded.getTotalElements());
+    }
+
+    @Test
+    @DisplayName("적재 도중 무효화되면 조회한 목록은 응답에만 사용하고 캐시에 저장하지 않음")
+    void discardLoadRacingWithEviction() {
+        // given: 목록 조회 중에 댓글이 추가되어 무효화됨
+        Function<Pageable, Page<CommentResponseDto>> racingLoader = pageable -> {
+            Page<CommentResponseDto> page = pageLoader(8).apply(pageable);
+            cache.evict(1L);
+            return page;
+        };
+
+        // when
+        CachedPage stale = cache.getOrLoad(1L, () -> version(8L), racingLoader);
+        CachedPage fresh = cache.getOrLoad(1L, () -> version(9L), pageLoader(9));
+
+        // then
+        assertNotSame(stale, fresh);
+        assertEquals(8, stale.getTotalElements());
+        assertEquals(9, fresh.getTotalElements());
+        assertEquals(2, loads.get());
+    }
+
+    private Function<Pageable, Page<CommentResponseDto>> pageLoader(long total) {
+        return pageable -> {
+            loads.incrementAndGet();
+            List<CommentResponseDto> content = LongStream.rangeClosed(1, Math.min(total, pageable.getPageSize()))
+                    .mapToObj(CommentFirstPageCacheTest::comment)
+                    .toList();
+            return new PageImpl<>(content, pageable, total);
+        };
+    }
+
+    private static CommentResponseDto comment(long id) {
+        return new CommentResponseDto(id, "Comment " + id, "testUser", null, 0, LocalDateTime.of(2024, 1, 1, 9, 0));
+    }
+
+    private static CommentPageVersionDto version(long count) {
+        return new CommentPageVersionDto(count, LocalDateTime.of(2024, 1, 2, 9, 0));
+    }
+}
@@ -0,0 +1,122 @@
+package org.example.restfulblogflatform.cache;
+
+import org.example.restfulblogflatform.dto.post.response.PostResponseDto;
+import org.example.restfulblogflatform.entity.Post;
+import org.example.restfulblogflatform.entity.User;
+import org.example.restfulblogflatform.event.comment.CommentChangedEvent;
+import org.example.restfulblogflatform.event.post.PostChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PostCacheTest {
+
+    private PostCache postCache;
+    private PostResponseDto post;
+
+    @BeforeEach
+    void setUp() {
+        postCache = new PostCache(1024 * 1024, 10);
+        User user = User.createUser("testUser", "password", "test@example.com");
+        post = PostResponseDto.of(Post.createPost(user, "Test Title", "Test Content"));
+    }
+
+    @Test
+    @DisplayName("캐시 미스 시 한 번만 적재하고 이후에는 캐시에서 반환")
+    void loadOnce() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        postCache.get(1L, id -> {
+            loads.incrementAndGet();
+            return post;
+        });
+        PostResponseDto cached = postCache.get(1L, id -> {
+            loads.incrementAndGet();
+            return post;
+        });
+
+        // then
+        assertSame(post, cached);
+        assertEquals(1, loads.get());
+        assertEquals(1, postCache.stats().getHitCount());
+        assertEquals(1, postCache.stats().getMissCount());
+    }
+
+    @Test
+    @DisplayName("게시글 변경 이벤트 수신 시 캐시 항목 무효화")
+    void evictOnPostChanged() {
+        // given
+        postCache.get(1L, id -> post);
+
+        // when
+        postCache.handlePostChangedEvent(new PostChangedEvent(1L, PostChangedEvent.Type.UPDATED));
+
+        // then
+        assertNull(postCache.getIfPresent(1L));
+    }
+
+    @Test
+    @DisplayName("댓글 생성 이벤트 수신 시 댓글 수가 바뀐 게시글 캐시 항목 무효화")
+    void evictOnCommentCreated() {
+        // given
+        postCache.get(1L, id -> post);
+
+        // when
+        postCache.handleCommentChangedEvent(new CommentChangedEvent(1L, 10L, CommentChangedEvent.Type.CREATED));
+
+        // then
+        assertNull(postCache.getIfPresent(1L));
+    }
+
+    @Test
+    @DisplayName("조회수 반영 전에 적재된 항목은 무효화하지 않고 반영분을 더함")
+    void addFlushedViewsToEntryLoadedBeforeFlush() {
+        // given
+        postCache.get(1L, id -> post);
+
+        // when
+        long flush = postCache.beginViewFlush();
+        postCache.completeViewFlush(flush, Map.of(1L, 5L, 2L, 3L)); // 캐시에 없는 게시글은 무시
+
+        // then
+        assertEquals(post.getViewCount() + 5, postCache.getIfPresent(1L).getViewCount());
+        assertNull(postCache.getIfPresent(2L));
+    }
+
+    @Test
+    @DisplayName("조회수 반영 커밋 후 적재된 항목에는 반영분을 다시 더하지 않음")
+    void keepEntryLoadedAfterFlush() {
+        // given: 반영이 끝난 뒤 DB 값을 읽어 적재
+        long flush = postCache.beginViewFlush();
+        postCache.completeViewFlush(flush, Map.of());
+        postCache.get(1L, id -> post);
+
+        // when: 다음 반영은 다른 게시글만 포함
+        long next = postCache.beginViewFlush();
+        postCache.completeViewFlush(next, Map.of(2L, 3L));
+
+        // then
+        assertSame(post, postCache.getIfPresent(1L));
+    }
+
+    @Test
+    @DisplayName("조회수 반영 중에 적재된 항목은 반영 여부를 알 수 없으므로 무효화")
+    void evictEntryLoadedDuringFlush() {
+        // given
+        long flush = postCache.beginViewFlush();
+        postCache.get(1L, id -> post);
+
+        // when
+        postCache.completeViewFlush(flush, Map.of(1L, 5L));
+
+        // then
+        assertNull(postCache.getIfPresent(1L));
+    }
+}
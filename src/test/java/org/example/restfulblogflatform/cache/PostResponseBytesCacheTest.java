@@ -0,0 +1,85 @@
+package org.example.restfulblogflatform.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.restfulblogflatform.cache.PostResponseBytesCache.SerializedPost;
+import org.example.restfulblogflatform.dto.post.PostVersionDto;
+import org.example.restfulblogflatform.dto.post.response.PostResponseDto;
+import org.example.restfulblogflatform.event.post.PostChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PostResponseBytesCacheTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private PostResponseBytesCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new PostResponseBytesCache(objectMapper, 1024 * 1024, 10, true, 1024);
+    }
+
+    @Test
+    @DisplayName("같은 버전으로 조회하면 직렬화된 바이트를 반환")
+    void hitOnSameVersion() throws IOException {
+        // given
+        PostResponseDto post = post(3L, "Test Content");
+        SerializedPost stored = cache.put(post);
+
+        // when
+        SerializedPost cached = cache.getIfCurrent(new PostVersionDto(1L, 3L, null, 0));
+
+        // then
+        assertSame(stored, cached);
+        assertEquals("\"v3-c0\"", cached.getETag());
+        assertEquals("Test Content", objectMapper.readTree(cached.getJson()).get("content").asText());
+        assertNull(cached.getGzip()); // 최소 크기 미만이면 압축하지 않음
+    }
+
+    @Test
+    @DisplayName("다른 버전으로 조회하거나 변경 이벤트 수신 후에는 캐시 미스")
+    void missOnVersionChangeOrEviction() {
+        // given
+        cache.put(post(3L, "Test Content"));
+
+        // when & then
+        assertNull(cache.getIfCurrent(new PostVersionDto(1L, 4L, null, 0)));
+        assertNull(cache.getIfCurrent(new PostVersionDto(1L, 3L, null, 1))); // 댓글 수가 바뀐 경우
+
+        cache.handlePostChangedEvent(new PostChangedEvent(1L, PostChangedEvent.Type.UPDATED));
+        assertNull(cache.getIfCurrent(new PostVersionDto(1L, 3L, null, 0)));
+    }
+
+    @Test
+    @DisplayName("큰 응답은 gzip 바이트를 함께 보관하고 Accept-Encoding에 따라 사용")
+    void gzipLargeResponse() throws IOException {
+        // given
+        SerializedPost serialized = cache.put(post(1L, "Content ".repeat(500)));
+
+        // when
+        byte[] restored;
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(serialized.getGzip()))) {
+            restored = in.readAllBytes();
+        }
+
+        // then
+        assertArrayEquals(serialized.getJson(), restored);
+        assertTrue(serialized.getGzip().length < serialized.getJson().length);
+        assertTrue(serialized.useGzip("gzip, deflate, br"));
+        assertFalse(serialized.useGzip("gzip;q=0, deflate"));
+        assertFalse(serialized.useGzip(null));
+    }
+
+    private static PostResponseDto post(Long version, String content) {
+        return PostResponseDto.of(1L, "Test Title", content, "testUser", 1L,
+                LocalDateTime.of(2024, 1, 1, 9, 0), 0, 0, List.of(), version, LocalDateTime.of(2024, 1, 2, 9, 0));
+    }
+}
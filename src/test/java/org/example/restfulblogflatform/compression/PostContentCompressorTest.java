@@ -0,0 +1,73 @@
+package org.example.restfulblogflatform.compression;
+
+import org.example.restfulblogflatform.dto.post.response.PostSummaryDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PostContentCompressorTest {
+
+    private final PostContentCompressor compressor = new PostContentCompressor(true, 1000);
+
+    @Test
+    @DisplayName("임계값을 넘는 본문은 압축 저장하고, 앞부분은 요약용 평문으로 유지")
+    void compressLongContent() {
+        // given
+        String content = "가나다라 abc 😀 ".repeat(500);
+
+        // when
+        String stored = compressor.encode(content);
+
+        // then
+        assertTrue(PostContentCodec.isCompressed(stored));
+        assertTrue(stored.getBytes(StandardCharsets.UTF_8).length < content.getBytes(StandardCharsets.UTF_8).length);
+        int prefixEnd = content.offsetByCodePoints(0, PostSummaryDto.EXCERPT_LENGTH);
+        assertEquals(content.substring(0, prefixEnd), stored.substring(0, prefixEnd));
+        assertEquals(content, PostContentCodec.decompress(stored));
+    }
+
+    @Test
+    @DisplayName("임계값 이하의 본문과 압축 비활성화 시에는 원본 그대로 저장")
+    void keepShortOrDisabled() {
+        // given
+        String shortContent = "짧은 본문";
+        String longContent = "Content ".repeat(500);
+
+        // when & then
+        assertSame(shortContent, compressor.encode(shortContent));
+        assertSame(longContent, new PostContentCompressor(false, 1000).encode(longContent));
+        assertEquals(longContent, PostContentCodec.decompress(longContent));
+    }
+
+    @Test
+    @DisplayName("임계값과 압축 효과는 문자 수가 아닌 UTF-8 바이트 수로 판단")
+    void compareUtf8Bytes() {
+        // given: 400자(임계값 이하)이지만 UTF-8로는 1200바이트인 한글 본문
+        String korean = "가나다라".repeat(100);
+
+        // when
+        String stored = compressor.encode(korean);
+
+        // then
+        assertEquals(korean.getBytes(StandardCharsets.UTF_8).length, PostContentCompressor.utf8Length(korean));
+        assertEquals("a😀é".getBytes(StandardCharsets.UTF_8).length, PostContentCompressor.utf8Length("a😀é"));
+        assertTrue(PostContentCodec.isCompressed(stored));
+        assertEquals(korean, PostContentCodec.decompress(stored));
+    }
+
+    @Test
+    @DisplayName("압축 형식으로 오인될 수 있는 평문은 설정과 관계없이 압축하여 원본을 보존")
+    void escapeMarkerCollision() {
+        // given
+        String content = "a".repeat(PostSummaryDto.EXCERPT_LENGTH) + PostContentCodec.MARKER + "plain text";
+
+        // when
+        String stored = new PostContentCompressor(false, 1000).encode(content);
+
+        // then
+        assertEquals(content, PostContentCodec.decompress(stored));
+    }
+}
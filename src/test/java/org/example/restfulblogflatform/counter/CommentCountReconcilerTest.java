@@ -0,0 +1,63 @@
+package org.example.restfulblogflatform.counter;
+
+import org.example.restfulblogflatform.event.post.PostChangedEvent;
+import org.example.restfulblogflatform.repository.PostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CommentCountReconcilerTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private CommentCountReconciler reconciler;
+
+    @BeforeEach
+    void setUp() {
+        reconciler = new CommentCountReconciler(postRepository, eventPublisher, transactionManager, true, 2);
+    }
+
+    @Test
+    @DisplayName("어긋난 게시글만 다시 계산하고 보정된 게시글마다 변경 이벤트 발행")
+    void reconcilePublishesChangedEvents() {
+        // given: 첫 배치(1, 2)에서 2번, 두 번째 배치(3)에서 3번 게시글의 댓글 수가 어긋난 경우
+        given(postRepository.findIdsAfter(0L, PageRequest.ofSize(2))).willReturn(List.of(1L, 2L));
+        given(postRepository.findIdsAfter(2L, PageRequest.ofSize(2))).willReturn(List.of(3L));
+        given(postRepository.findIdsAfter(3L, PageRequest.ofSize(2))).willReturn(List.of());
+        given(postRepository.findIdsWithCommentCountDrift(0L, 2L)).willReturn(List.of(2L));
+        given(postRepository.findIdsWithCommentCountDrift(2L, 3L)).willReturn(List.of(3L));
+        given(postRepository.recountComments(List.of(2L))).willReturn(1);
+        given(postRepository.recountComments(List.of(3L))).willReturn(1);
+
+        // when
+        int repaired = reconciler.reconcile();
+
+        // then
+        assertEquals(2, repaired);
+        ArgumentCaptor<PostChangedEvent> captor = ArgumentCaptor.forClass(PostChangedEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(captor.capture());
+        assertEquals(List.of(2L, 3L), captor.getAllValues().stream().map(PostChangedEvent::getPostId).toList());
+    }
+}
@@ -0,0 +1,44 @@
+package org.example.restfulblogflatform.counter;
+
+import org.example.restfulblogflatform.event.post.PostChangedEvent;
+import org.example.restfulblogflatform.repository.PostRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PostCountTrackerTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    @InjectMocks
+    private PostCountTracker postCountTracker;
+
+    @Test
+    @DisplayName("생성/삭제 이벤트로 게시글 수를 증분 갱신하고 보정 시 실제 개수로 맞춤")
+    void trackAndReconcile() {
+        // given
+        given(postRepository.count()).willReturn(10L, 11L);
+        postCountTracker.initialize();
+
+        // when
+        postCountTracker.handlePostChangedEvent(new PostChangedEvent(1L, PostChangedEvent.Type.CREATED));
+        postCountTracker.handlePostChangedEvent(new PostChangedEvent(2L, PostChangedEvent.Type.CREATED));
+        postCountTracker.handlePostChangedEvent(new PostChangedEvent(1L, PostChangedEvent.Type.UPDATED));
+        postCountTracker.handlePostChangedEvent(new PostChangedEvent(2L, PostChangedEvent.Type.DELETED));
+
+        // then
+        assertEquals(11, postCountTracker.get());
+        assertEquals(11, postCountTracker.reconcile());
+        verify(postRepository, times(2)).count(); // 초기화 1회 + 보정 1회, get()은 COUNT를 실행하지 않음
+    }
+}
@@ -0,0 +1,86 @@
+package org.example.restfulblogflatform.counter;
+
+import org.example.restfulblogflatform.cache.PostCache;
+import org.example.restfulblogflatform.repository.PostViewCountRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostViewCounterTest {
+
+    @Mock
+    private PostViewCountRepository postViewCountRepository;
+
+    @Mock
+    private PostCache postCache;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private PostViewCounter postViewCounter;
+
+    @BeforeEach
+    void setUp() {
+        postViewCounter = new PostViewCounter(postViewCountRepository, postCache, transactionManager, 500);
+    }
+
+    @Test
+    @DisplayName("조회수 증가분 누적 후 일괄 반영 테스트")
+    void flushAccumulatedViews() {
+        // given
+        given(postCache.beginViewFlush()).willReturn(7L);
+        postViewCounter.increment(1L);
+        postViewCounter.increment(1L);
+        postViewCounter.increment(2L);
+
+        // when
+        postViewCounter.flush();
+
+        // then
+        verify(postViewCountRepository).addViewCounts(Map.of(1L, 2L, 2L, 1L), 500); // 하나의 JDBC 배치로 반영
+        verify(postCache).completeViewFlush(7L, Map.of(1L, 2L, 2L, 1L)); // 캐시된 DTO에 반영분을 더함
+        assertEquals(0, postViewCounter.getPending(1L));
+        assertEquals(0, postViewCounter.getPending(2L));
+    }
+
+    @Test
+    @DisplayName("반영할 증가분이 없으면 UPDATE를 실행하지 않음")
+    void flushWithoutPendingViews() {
+        // when
+        postViewCounter.flush();
+
+        // then
+        verify(postViewCountRepository, never()).addViewCounts(anyMap(), anyInt());
+    }
+
+    @Test
+    @DisplayName("반영 실패 시 증가분을 되돌려 다음 주기에 재시도")
+    void flushFailureRestoresPendingViews() {
+        // given
+        postViewCounter.increment(1L);
+        postViewCounter.increment(1L);
+        given(postCache.beginViewFlush()).willReturn(7L);
+        willThrow(new IllegalStateException("db down")).given(postViewCountRepository).addViewCounts(Map.of(1L, 2L), 500);
+
+        // when
+        postViewCounter.flush();
+
+        // then
+        assertEquals(2, postViewCounter.getPending(1L));
+        verify(postCache).completeViewFlush(7L, Map.of()); // 반영분 없이 순번만 종료
+    }
+}
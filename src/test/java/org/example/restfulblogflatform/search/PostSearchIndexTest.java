@@ -0,0 +1,107 @@
+package org.example.restfulblogflatform.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.*;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PostSearchIndexTest {
+
+    private PostSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new PostSearchIndex();
+        index.index(1L, "스프링 트랜잭션 정리", "선언적 트랜잭션과 전파 속성을 설명합니다.", 100L);
+        index.index(2L, "JPA 성능 튜닝", "N+1 문제와 페치 조인, 트랜잭션 범위를 다룹니다.", 100L);
+        index.index(3L, "여행 후기", "제주도에서 먹은 음식 이야기", 100L);
+    }
+
+    @Test
+    @DisplayName("한글 부분 일치 검색 및 제목 일치 게시글 우선 정렬")
+    void searchRanksTitleMatchesFirst() {
+        // when
+        List<PostSearchIndex.Hit> hits = index.search("트랜잭션", 10);
+
+        // then
+        assertEquals(2, hits.size());
+        assertEquals(1L, hits.get(0).getPostId()); // 제목에 등장한 게시글이 먼저
+        assertEquals(2L, hits.get(1).getPostId());
+        assertEquals(1L, index.search("전파속성", 10).get(0).getPostId()); // 띄어쓰기가 달라도 검색
+        assertEquals(2L, index.search("jpa", 10).get(0).getPostId());      // 영문은 대소문자 구분 없이 단어 단위
+    }
+
+    @Test
+    @DisplayName("게시글 수정/삭제 시 색인 항목 갱신")
+    void updateAndRemove() {
+        // when
+        index.index(3L, "트랜잭션 여행", "내용 변경", 200L);
+        index.remove(1L);
+
+        // then
+        List<PostSearchIndex.Hit> hits = index.search("트랜잭션", 10);
+        assertEquals(List.of(3L, 2L), hits.stream().map(PostSearchIndex.Hit::getPostId).toList());
+        assertTrue(index.search("제주도", 10).isEmpty());
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    @DisplayName("이미 색인된 내용보다 이전에 수정된 내용은 색인하지 않음")
+    void skipOlderContent() {
+        // given: 이벤트로 최신 내용이 먼저 색인된 경우
+        index.index(3L, "트랜잭션 여행", "내용 변경", 300L);
+
+        // when: 재색인 배치가 그 전에 읽어 둔 이전 내용을 색인
+        boolean indexed = index.index(3L, "여행 후기", "제주도에서 먹은 음식 이야기", 200L);
+
+        // then
+        assertFalse(indexed);
+        assertTrue(index.search("제주도", 10).isEmpty());
+        assertEquals(3L, index.search("여행", 10).get(0).getPostId());
+    }
+
+    @Test
+    @DisplayName("ID 범위 안에서 존재하지 않는 게시글만 정리하고 이후 색인된 게시글은 유지")
+    void retainRangeRemovesMissingPosts() {
+        // given: 정리 도중 이벤트로 새 게시글(4번)이 색인된 경우
+        index.index(4L, "새 게시글", "트랜잭션", 500L);
+
+        // when: (0, 2] 범위에는 1번만 존재, 2번 이후 범위에는 게시글이 없음
+        int removedInRange = index.retainRange(0L, 2L, Set.of(1L), 100L);
+        int removedAfter = index.retainRange(2L, Long.MAX_VALUE, Set.of(), 100L);
+
+        // then: 2번과 3번만 제거되고 스냅샷 이후 색인된 4번은 유지
+        assertEquals(1, removedInRange);
+        assertEquals(1, removedAfter);
+        assertEquals(List.of(4L, 1L), index.search("트랜잭션", 10).stream()
+                .map(PostSearchIndex.Hit::getPostId).sorted(Comparator.reverseOrder()).toList());
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    @DisplayName("스냅샷 기록 후 복원 시 동일한 검색 결과")
+    void snapshotRoundTrip() throws IOException {
+        // given
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        index.writeSnapshot(new DataOutputStream(bytes), 1234L);
+
+        // when
+        PostSearchIndex restored = new PostSearchIndex();
+        long timestamp = restored.readSnapshot(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        // then
+        assertEquals(1234L, timestamp);
+        assertEquals(3, restored.size());
+        List<PostSearchIndex.Hit> expected = index.search("트랜잭션 튜닝", 10);
+        List<PostSearchIndex.Hit> actual = restored.search("트랜잭션 튜닝", 10);
+        assertEquals(expected.stream().map(PostSearchIndex.Hit::getPostId).toList(),
+                actual.stream().map(PostSearchIndex.Hit::getPostId).toList());
+        assertFalse(restored.index(1L, "이전 내용", "", 50L)); // 수정 시각도 함께 복원
+    }
+}
@@ -80,6 +80,8 @@ class IntegrationTest {
         assertEquals(1, comments.size());
         assertEquals("This is a test comment", comments.get(0).getContent());
 
+        // 게시글 목록에 비정규화된 댓글 수 반영 확인
+        assertEquals(1, postService.getSummariesByUser(userId, null, 10).getContent().get(0).getCommentCount());
     }
 
 }
@@ -0,0 +1,340 @@
+package org.example.restfulblogflatform.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import org.example.restfulblogflatform.ResTfulBlogFlatformApplication;
+import org.example.restfulblogflatform.dto.comment.response.CommentNodeDto;
+import org.example.restfulblogflatform.dto.comment.response.CommentResponseDto;
+import org.example.restfulblogflatform.dto.common.response.CursorPageResponseDto;
+import org.example.restfulblogflatform.dto.export.ExportRow;
+import org.example.restfulblogflatform.dto.post.response.PostSummaryDto;
+import org.example.restfulblogflatform.entity.Comment;
+import org.example.restfulblogflatform.entity.FileAttachment;
+import org.example.restfulblogflatform.entity.Post;
+import org.example.restfulblogflatform.entity.User;
+import org.example.restfulblogflatform.repository.PostRepository;
+import org.example.restfulblogflatform.repository.UserRepository;
+import org.example.restfulblogflatform.service.comment.CommentService;
+import org.example.restfulblogflatform.service.export.ExportFormat;
+import org.example.restfulblogflatform.service.export.ExportService;
+import org.example.restfulblogflatform.service.post.PostService;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 주요 조회/변경 경로가 데이터 크기와 관계없이 고정된 수의 쿼리로 처리되는지 검증하는 통합 테스트
+ */
+@SpringBootTest(classes = ResTfulBlogFlatformApplication.class) // 애플리케이션 컨텍스트 로드
+@ActiveProfiles("test") // 테스트 프로파일 활성화
+@Transactional // 각 테스트 후 데이터 롤백 보장
+class QueryCountIntegrationTest {
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private ExportService exportService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    /**
+     * 게시글 목록 조회 시 페이지 크기와 관계없이 쿼리 수가 고정되는지 검증
+     */
+    @Test
+    @DisplayName("게시글 요약 목록 조회 - 작성자/첨부 파일로 인한 N+1 쿼리 없음")
+    void postSummaryPageUsesBoundedQueries() {
+        // given: 작성자가 서로 다르고 첨부 파일이 있는 게시글 15개
+        for (int i = 0; i < 15; i++) {
+            User user = userRepository.save(User.createUser("user" + i, "password", "user" + i + "@example.com"));
+            Post post = Post.createPost(user, "Title " + i, "Content ".repeat(100) + i);
+            post.addAttachment(FileAttachment.createFileAttachment(
+                    "file" + i + ".png", "stored" + i + ".png", "/files/stored" + i + ".png", 1024L, "image/png", post));
+            postRepository.save(post);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        // when
+        Page<PostSummaryDto> page = postService.getSummaries(
+                PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdDate")), true);
+
+        // then: 목록 조회 1회 + 개수 조회 1회 + 첨부 파일 조회 1회
+        assertEquals(10, page.getContent().size());
+        assertEquals(15, page.getTotalElements());
+        page.getContent().forEach(post -> {
+            assertEquals(1, post.getAttachments().size());
+            assertTrue(post.getExcerpt().length() <= PostSummaryDto.EXCERPT_LENGTH);
+        });
+        assertTrue(statistics.getPrepareStatementCount() <= 3,
+                "expected at most 3 statements but was " + statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount()); // 엔티티를 로딩하지 않는 프로젝션 조회
+    }
+
+    /**
+     * 댓글 목록 조회 시 작성자 조회로 인한 추가 쿼리가 없는지 검증
+     */
+    @Test
+    @DisplayName("댓글 목록 조회 - 작성자 이름을 조인한 DTO 프로젝션, Slice는 COUNT 없음")
+    void commentPageUsesSingleJoinedQuery() {
+        // given: 작성자가 서로 다른 댓글 15개
+        User author = userRepository.save(User.createUser("author", "password", "author@example.com"));
+        Post post = Post.createPost(author, "Title", "Content");
+        for (int i = 0; i < 15; i++) {
+            User user = userRepository.save(User.createUser("commenter" + i, "password", "commenter" + i + "@example.com"));
+            Comment.createComment(user, post, "Comment " + i);
+        }
+        Long postId = postRepository.save(post).getId();
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        // when
+        Page<CommentResponseDto> page = commentService.getAll(postId, PageRequest.of(0, 10, Sort.by("createdDate")));
+
+        // then: 목록 조회 1회 + 개수 조회 1회
+        assertEquals(10, page.getContent().size());
+        assertEquals(15, page.getTotalElements());
+        assertTrue(page.getContent().get(0).getUsername().startsWith("commenter"));
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+
+        // when: COUNT 없는 Slice 조회
+        statistics.clear();
+        Slice<CommentResponseDto> slice = commentService.getSlice(postId, PageRequest.of(1, 10, Sort.by("createdDate")));
+
+        // then: 목록 조회 1회
+        assertEquals(5, slice.getNumberOfElements());
+        assertFalse(slice.hasNext());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    /**
+     * 전체 내보내기가 종류별 커서 하나씩으로 처리되고 엔티티를 로딩하지 않는지 검증
+     */
+    @Test
+    @DisplayName("전체 내보내기 - 작성자/게시글/댓글을 각각 하나의 쿼리로 스트리밍")
+    void exportStreamsWithBoundedQueries() throws IOException {
+        // given
+        User user = userRepository.save(User.createUser("exporter", "password", "exporter@example.com"));
+        for (int i = 0; i < 5; i++) {
+            postRepository.save(Post.createPost(user, "Title, \"quoted\" " + i, "Content\nline " + i));
+        }
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        // when
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        long rows = exportService.export(ExportFormat.CSV, output);
+
+        // then
+        String csv = output.toString(StandardCharsets.UTF_8);
+        assertTrue(rows >= 6);
+        assertTrue(csv.startsWith(String.join(",", ExportRow.CSV_HEADER)));
+        assertTrue(csv.contains("\"Title, \"\"quoted\"\" 0\"")); // 쉼표/따옴표 이스케이프
+        assertEquals(3, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    /**
+     * 댓글이 많은 게시글 삭제 시 댓글 수와 관계없이 쿼리 수가 고정되는지 검증
+     */
+    @Test
+    @DisplayName("게시글 삭제 - 댓글/첨부 파일을 로딩하지 않고 벌크 DELETE로 처리")
+    void deletePostUsesSetBasedStatements() {
+        // given: 댓글 50개와 첨부 파일이 있는 게시글
+        User user = userRepository.save(User.createUser("deleter", "password", "deleter@example.com"));
+        Post post = Post.createPost(user, "Title", "Content");
+        post.addAttachment(FileAttachment.createFileAttachment(
+                "file.png", "stored-delete.png", "/files/stored-delete.png", 1024L, "image/png", post));
+        for (int i = 0; i < 50; i++) {
+            Comment.createComment(user, post, "Comment " + i);
+        }
+        Long postId = postRepository.save(post).getId();
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        // when
+        postService.delete(postId);
+        entityManager.flush();
+
+        // then: 존재 확인 1회 + 파일명 조회 1회 + 댓글/첨부 파일/게시글 DELETE 각 1회
+        assertFalse(postRepository.existsById(postId));
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(0, statistics.getEntityDeleteCount()); // 엔티티 단위 삭제 없음
+        assertTrue(statistics.getPrepareStatementCount() <= 6,
+                "expected at most 6 statements but was " + statistics.getPrepareStatementCount());
+    }
+
+    /**
+     * 답글이 달린 스레드 목록 조회가 엔티티를 로딩하지 않고 트리로 조립되는지 검증
+     */
+    @Test
+    @DisplayName("댓글 스레드 조회 - 재귀 조회 없이 경로 순서로 한 번에 조회하여 트리 조립")
+    void commentThreadsAssembledFromPathOrderedRows() {
+        // given: 루트 댓글 3개, 첫 번째 스레드에 깊이 3까지 답글
+        User user = userRepository.save(User.createUser("threader", "password", "threader@example.com"));
+        Long postId = postRepository.save(Post.createPost(user, "Title", "Content")).getId();
+        Long root = commentService.add(postId, user.getId(), "Root 1").getId();
+        Long reply = commentService.reply(postId, root, user.getId(), "Reply 1").getId();
+        Long nested = commentService.reply(postId, reply, user.getId(), "Reply 1-1").getId();
+        commentService.reply(postId, nested, user.getId(), "Reply 1-1-1");
+        commentService.reply(postId, root, user.getId(), "Reply 2");
+        commentService.add(postId, user.getId(), "Root 2");
+        commentService.add(postId, user.getId(), "Root 3");
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        // when
+        CursorPageResponseDto<CommentNodeDto> threads = commentService.getThreads(postId, null, 2, 2);
+        CommentNodeDto thread = commentService.getThread(postId, root);
+
+        // then: 스레드 목록 - 스레드당 답글 2개까지, 다음 페이지 커서
+        assertEquals(2, threads.getContent().size());
+        assertTrue(threads.isHasNext());
+        CommentNodeDto first = threads.getContent().get(0);
+        assertEquals(root, first.getId());
+        assertEquals(nested, first.getReplies().get(0).getReplies().get(0).getId());
+        assertTrue(first.isMoreReplies());
+
+        // then: 스레드 전체 - 경로 순서(깊이 우선)로 중첩
+        assertEquals(2, thread.getReplies().size());
+        assertEquals("Reply 1-1-1", thread.getReplies().get(0).getReplies().get(0).getReplies().get(0).getContent());
+        assertEquals(3, thread.getReplies().get(0).getReplies().get(0).getReplies().get(0).getDepth());
+        assertFalse(thread.isMoreReplies());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    /**
+     * 댓글이 많은 게시글에서 댓글 하나를 삭제할 때 댓글 컬렉션을 로딩하지 않는지 검증
+     */
+    @Test
+    @DisplayName("댓글 삭제 - 게시글의 댓글 컬렉션을 초기화하지 않고 DELETE 하나로 처리")
+    void deleteCommentDoesNotInitializeCommentCollection() {
+        // given: 댓글 200개가 달린 게시글
+        User user = userRepository.save(User.createUser("remover", "password", "remover@example.com"));
+        Long postId = postRepository.save(Post.createPost(user, "Title", "Content")).getId();
+        Long target = commentService.add(postId, user.getId(), "Target").getId();
+        commentService.reply(postId, target, user.getId(), "Reply");
+        for (int i = 0; i < 200; i++) {
+            commentService.add(postId, user.getId(), "Comment " + i);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        // when
+        commentService.delete(target);
+        entityManager.flush();
+
+        // then: 위치 조회 1회 + 하위 트리 DELETE 1회 + 댓글 수 UPDATE 1회
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(0, statistics.getCollectionLoadCount()); // Post.comments 초기화 없음
+        assertEquals(3, statistics.getPrepareStatementCount());
+        assertEquals(200, postRepository.findById(postId).orElseThrow().getCommentCount()); // 답글 포함 2개 감소
+    }
+
+    /**
+     * 댓글이 많은 게시글에 댓글을 작성할 때 게시글/댓글 컬렉션을 로딩하지 않는지 검증
+     */
+    @Test
+    @DisplayName("댓글 작성 - 게시글 참조 프록시로 연결하여 댓글 수와 관계없이 고정된 쿼리 수")
+    void addCommentDoesNotLoadPostOrCommentCollection() {
+        // given: 댓글 200개가 달린 게시글
+        User user = userRepository.save(User.createUser("appender", "password", "appender@example.com"));
+        Post post = Post.createPost(user, "Title", "Content ".repeat(1000));
+        for (int i = 0; i < 200; i++) {
+            Comment.createComment(user, post, "Comment " + i);
+        }
+        Long postId = postRepository.save(post).getId();
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        // when
+        commentService.add(postId, user.getId(), "New comment");
+        entityManager.flush();
+
+        // then: 댓글 수 UPDATE 1회 + 작성자 조회 1회 + INSERT 1회 + 경로 UPDATE 1회
+        assertEquals(1, statistics.getEntityLoadCount()); // 작성자만 로딩
+        assertEquals(0, statistics.getCollectionLoadCount()); // Post.comments 초기화 없음
+        assertEquals(4, statistics.getPrepareStatementCount());
+    }
+
+    /**
+     * 여러 게시글의 최신 댓글 미리보기가 게시글별로 올바르게 잘리고 묶이는지 검증
+     */
+    @Test
+    @DisplayName("댓글 미리보기 - 게시글별 최신 댓글 N개를 한 번에 조회")
+    void latestCommentPreviewsForManyPosts() {
+        // given: 댓글 5개, 1개, 0개인 게시글
+        User user = userRepository.save(User.createUser("previewer", "password", "previewer@example.com"));
+        Long busy = postRepository.save(Post.createPost(user, "Busy", "Content")).getId();
+        Long quiet = postRepository.save(Post.createPost(user, "Quiet", "Content")).getId();
+        Long empty = postRepository.save(Post.createPost(user, "Empty", "Content")).getId();
+        for (int i = 0; i < 5; i++) {
+            commentService.add(busy, user.getId(), "Busy " + i);
+        }
+        commentService.add(quiet, user.getId(), "Quiet 0");
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        // when
+        Map<Long, List<CommentResponseDto>> previews = commentService.getLatestByPosts(List.of(empty, busy, quiet), 3);
+
+        // then
+        assertEquals(List.of(empty, busy, quiet), List.copyOf(previews.keySet()));
+        assertEquals(List.of("Busy 4", "Busy 3", "Busy 2"),
+                previews.get(busy).stream().map(CommentResponseDto::getContent).toList()); // 최신순 3개
+        assertEquals("previewer", previews.get(busy).get(0).getUsername());
+        assertEquals(1, previews.get(quiet).size());
+        assertTrue(previews.get(empty).isEmpty());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+}
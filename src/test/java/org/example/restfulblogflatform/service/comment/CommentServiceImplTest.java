@@ -1,28 +1,46 @@
 package org.example.restfulblogflatform.service.comment;
 
+import org.example.restfulblogflatform.dto.comment.CommentLocationDto;
+import org.example.restfulblogflatform.dto.comment.response.CommentNodeDto;
 import org.example.restfulblogflatform.dto.comment.response.CommentResponseDto;
+import org.example.restfulblogflatform.dto.common.response.CursorPageResponseDto;
 import org.example.restfulblogflatform.entity.Comment;
 import org.example.restfulblogflatform.entity.Post;
 import org.example.restfulblogflatform.entity.User;
+import org.example.restfulblogflatform.event.comment.CommentChangedEvent;
 import org.example.restfulblogflatform.exception.ErrorCode;
+import org.example.restfulblogflatform.exception.business.CommentException;
 import org.example.restfulblogflatform.exception.business.PostException;
+import org.example.restfulblogflatform.repository.CommentPreviewRepository;
 import org.example.restfulblogflatform.repository.CommentRepository;
+import org.example.restfulblogflatform.repository.CommentThreadRepository;
+import org.example.restfulblogflatform.repository.PostRepository;
 import org.example.restfulblogflatform.service.post.PostService;
 import org.example.restfulblogflatform.service.user.UserService;
 import org.example.restfulblogflatform.service.validator.CommentValidator;
+import org.example.restfulblogflatform.thread.CommentPath;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.*;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
@@ -41,6 +59,18 @@ class CommentServiceImplTest {
     @Mock
     private CommentValidator commentValidator;
 
+    @Mock
+    private CommentThreadRepository commentThreadRepository; // Mocking된 댓글 스레드 조회 레포지토리
+
+    @Mock
+    private CommentPreviewRepository commentPreviewRepository; // Mocking된 댓글 미리보기 조회 레포지토리
+
+    @Mock
+    private PostRepository postRepository; // Mocking된 PostRepository (댓글 수 갱신)
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher; // Mocking된 이벤트 발행 도구
+
     @InjectMocks
     private CommentServiceImpl commentService;
 
@@ -57,7 +87,8 @@ class CommentServiceImplTest {
         User mockUser = mock(User.class);
         Comment mockComment = mock(Comment.class);
 
-        given(postService.get(postId)).willReturn(mockPost);       // 게시글 반환
+        given(postRepository.addCommentCount(postId, 1)).willReturn(1); // 댓글 수 증가 (게시글 존재)
+        given(postRepository.getReferenceById(postId)).willReturn(mockPost); // 게시글 참조 프록시 반환
         given(userService.get(userId)).willReturn(mockUser);       // 사용자 반환
         given(commentRepository.save(any(Comment.class))).willReturn(mockComment); // 저장 동작 Mock
 
@@ -75,9 +106,11 @@ class CommentServiceImplTest {
         assertEquals("user1", result.getUsername());               // 작성자 이름 검증
 
         // Mock 객체 호출 검증
-        verify(postService).get(postId);
+        verify(postService, never()).get(anyLong()); // 게시글 엔티티를 로딩하지 않음
         verify(userService).get(userId);
         verify(commentRepository).save(any(Comment.class));
+        verify(postRepository).addCommentCount(postId, 1); // 게시글 댓글 수 증가 확인
+        verify(eventPublisher).publishEvent(any(CommentChangedEvent.class)); // 캐시 무효화를 위한 변경 이벤트 발행 확인
     }
 
     /**
@@ -91,15 +124,15 @@ class CommentServiceImplTest {
         Long userId = 1L;
         String content = "This is a test comment";
 
-        given(postService.get(postId)).willThrow(new PostException(ErrorCode.POST_NOT_FOUND));
+        given(postRepository.addCommentCount(postId, 1)).willReturn(0); // 갱신된 게시글 없음
 
         // when & then
         PostException exception = assertThrows(PostException.class, () -> commentService.add(postId, userId, content));
         assertEquals(ErrorCode.POST_NOT_FOUND, exception.getErrorCode());
 
-        verify(postService).get(postId);
         verify(userService, never()).get(anyLong());
         verify(commentRepository, never()).save(any(Comment.class));
+        verify(eventPublisher, never()).publishEvent(any());
     }
 
     /**
@@ -108,28 +141,14 @@ class CommentServiceImplTest {
     @Test
     @DisplayName("특정 게시글에 달린 댓글 목록 페이징 조회 성공 테스트")
     void getAllCommentsWithPagingSuccess() {
-        // given
+        // given: 작성자 이름까지 조인한 프로젝션 결과
         Long postId = 1L;
-
-        User mockUser1 = mock(User.class);
-        User mockUser2 = mock(User.class);
-
-        Comment mockComment1 = mock(Comment.class);
-        Comment mockComment2 = mock(Comment.class);
-
-        given(mockUser1.getUsername()).willReturn("user1");
-        given(mockUser2.getUsername()).willReturn("user2");
-
-        given(mockComment1.getUser()).willReturn(mockUser1);
-        given(mockComment1.getContent()).willReturn("First comment");
-
-        given(mockComment2.getUser()).willReturn(mockUser2);
-        given(mockComment2.getContent()).willReturn("Second comment");
-
         Pageable pageable = PageRequest.of(0, 2, Sort.by("id").descending());
-        Page<Comment> commentPage = new PageImpl<>(Arrays.asList(mockComment1, mockComment2), pageable, 2);
+        Page<CommentResponseDto> commentPage = new PageImpl<>(Arrays.asList(
+                new CommentResponseDto(2L, "First comment", "user1", null, 0, null),
+                new CommentResponseDto(1L, "Second comment", "user2", null, 0, null)), pageable, 2);
 
-        given(commentRepository.findByPostId(postId, pageable)).willReturn(commentPage);
+        given(commentRepository.findResponses(postId, pageable)).willReturn(commentPage);
 
         // when
         Page<CommentResponseDto> results = commentService.getAll(postId, pageable);
@@ -142,29 +161,212 @@ class CommentServiceImplTest {
         assertEquals("user1", results.getContent().get(0).getUsername());
         assertEquals("user2", results.getContent().get(1).getUsername());
 
-        verify(commentRepository).findByPostId(postId, pageable);
+        verify(commentRepository).findResponses(postId, pageable);
+        verify(commentRepository, never()).findByPostId(anyLong(), any(Pageable.class)); // 엔티티 조회 없음
     }
 
     /**
-     * 댓글 삭제 성공 테스트
+     * 특정 게시글에 달린 댓글 목록 조회 성공 테스트 - COUNT 없는 Slice
+     */
+    @Test
+    @DisplayName("특정 게시글에 달린 댓글 Slice 조회 성공 테스트")
+    void getCommentSliceSuccess() {
+        // given
+        Long postId = 1L;
+        Pageable pageable = PageRequest.of(0, 1);
+        Slice<CommentResponseDto> slice = new SliceImpl<>(
+                List.of(new CommentResponseDto(1L, "First comment", "user1", null, 0, null)), pageable, true);
+
+        given(commentRepository.findResponseSlice(postId, pageable)).willReturn(slice);
+
+        // when
+        Slice<CommentResponseDto> results = commentService.getSlice(postId, pageable);
+
+        // then
+        assertEquals(1, results.getNumberOfElements());
+        assertTrue(results.hasNext());
+        verify(commentRepository, never()).findResponses(anyLong(), any(Pageable.class)); // 개수 조회 없음
+    }
+
+    /**
+     * 댓글 삭제 성공 테스트 - 하위 답글까지 DELETE 한 번으로 삭제
      */
     @Test
     @DisplayName("댓글 삭제 성공 테스트")
     void deleteCommentSuccess() {
-        // given
+        // given: 답글 2개가 달린 댓글
         Long commentId = 1L;
+        String path = CommentPath.segment(commentId);
+        given(commentRepository.findLocationById(commentId))
+                .willReturn(Optional.of(new CommentLocationDto(commentId, 10L, commentId, path)));
+        given(commentRepository.deleteSubtreeInBulk(commentId, CommentPath.subtreePattern(path))).willReturn(3);
 
-        Comment mockComment = mock(Comment.class);
-        Post mockPost = mock(Post.class);
+        // when
+        commentService.delete(commentId);
 
-        given(mockComment.getPost()).willReturn(mockPost);
-        given(commentValidator.getOrThrow(commentId)).willReturn(mockComment);
+        // then
+        verify(commentRepository).deleteSubtreeInBulk(commentId, path + "%");
+        verify(commentValidator, never()).getOrThrow(anyLong()); // 댓글 엔티티를 로딩하지 않음
+        verify(postRepository).addCommentCount(10L, -3); // 게시글 댓글 수 감소 확인
+        verify(eventPublisher).publishEvent(any(CommentChangedEvent.class));
+    }
+
+    /**
+     * 댓글 삭제 성공 테스트 - 경로가 없는 기존 댓글은 스레드 전체를 삭제하고 삭제된 수만큼 감소
+     */
+    @Test
+    @DisplayName("댓글 삭제 성공 테스트 - 경로가 없는 기존 댓글")
+    void deleteLegacyCommentSuccess() {
+        // given: 경로가 채워지기 전에 답글 1개가 달린 기존 댓글
+        Long commentId = 1L;
+        given(commentRepository.findLocationById(commentId))
+                .willReturn(Optional.of(new CommentLocationDto(commentId, 10L, null, null)));
+        given(commentRepository.deleteThreadInBulk(commentId)).willReturn(2);
 
         // when
         commentService.delete(commentId);
 
         // then
-        verify(commentValidator).getOrThrow(commentId);
-        verify(mockPost).removeComment(mockComment);
+        verify(commentRepository, never()).deleteSubtreeInBulk(anyLong(), anyString());
+        verify(postRepository).addCommentCount(10L, -2);
+    }
+
+    /**
+     * 댓글 삭제 실패 테스트 - 댓글 없음
+     */
+    @Test
+    @DisplayName("댓글 삭제 실패 테스트 - 댓글 없음")
+    void deleteCommentFailDueToCommentNotFound() {
+        // given
+        given(commentRepository.findLocationById(1L)).willReturn(Optional.empty());
+
+        // when & then
+        CommentException exception = assertThrows(CommentException.class, () -> commentService.delete(1L));
+        assertEquals(ErrorCode.COMMENT_NOT_FOUND, exception.getErrorCode());
+        verify(commentRepository, never()).deleteThreadInBulk(anyLong());
+        verify(postRepository, never()).addCommentCount(anyLong(), anyInt());
+    }
+
+    /**
+     * 답글 생성 성공 테스트 - 경로가 없는 기존 댓글에 답글을 달면 부모의 루트 위치도 함께 채움
+     */
+    @Test
+    @DisplayName("답글 생성 성공 테스트 - 경로가 없는 기존 댓글")
+    void replyToLegacyCommentPlacesParent() {
+        // given
+        Post post = mock(Post.class);
+        User user = mock(User.class);
+        Comment parent = Comment.createWithoutCollection(user, post, "Legacy");
+        ReflectionTestUtils.setField(parent, "id", 5L); // 경로가 채워지지 않은 기존 댓글
+        given(commentValidator.getOrThrow(5L)).willReturn(parent);
+        given(post.getId()).willReturn(1L);
+        given(postRepository.addCommentCount(1L, 1)).willReturn(1);
+        given(postRepository.getReferenceById(1L)).willReturn(post);
+        given(userService.get(1L)).willReturn(user);
+        given(commentRepository.save(any(Comment.class))).willAnswer(invocation -> {
+            Comment saved = invocation.getArgument(0);
+            ReflectionTestUtils.setField(saved, "id", 6L);
+            return saved;
+        });
+
+        // when
+        commentService.reply(1L, 5L, 1L, "Reply");
+
+        // then
+        assertEquals(5L, parent.getRootId());
+        assertEquals(CommentPath.segment(5L), parent.getPath());
+        ArgumentCaptor<Comment> captor = ArgumentCaptor.forClass(Comment.class);
+        verify(commentRepository).save(captor.capture());
+        assertEquals(5L, captor.getValue().getRootId());
+        assertEquals(CommentPath.child(parent.getPath(), 6L), captor.getValue().getPath());
+    }
+
+    /**
+     * 답글 생성 실패 테스트 - 다른 게시글의 댓글에 답글
+     */
+    @Test
+    @DisplayName("답글 생성 실패 테스트 - 다른 게시글의 댓글")
+    void replyFailDueToParentInOtherPost() {
+        // given
+        Comment parent = mock(Comment.class);
+        Post otherPost = mock(Post.class);
+        given(commentValidator.getOrThrow(5L)).willReturn(parent);
+        given(parent.getPost()).willReturn(otherPost);
+        given(otherPost.getId()).willReturn(2L);
+
+        // when & then
+        CommentException exception = assertThrows(CommentException.class,
+                () -> commentService.reply(1L, 5L, 1L, "Reply"));
+        assertEquals(ErrorCode.COMMENT_PARENT_MISMATCH, exception.getErrorCode());
+        verify(commentRepository, never()).save(any(Comment.class));
+    }
+
+    /**
+     * 답글 생성 실패 테스트 - 최대 깊이 초과
+     */
+    @Test
+    @DisplayName("답글 생성 실패 테스트 - 최대 깊이 초과")
+    void replyFailDueToDepthExceeded() {
+        // given
+        Comment parent = mock(Comment.class);
+        Post post = mock(Post.class);
+        given(commentValidator.getOrThrow(5L)).willReturn(parent);
+        given(parent.getPost()).willReturn(post);
+        given(post.getId()).willReturn(1L);
+        given(parent.getDepth()).willReturn(CommentPath.MAX_DEPTH);
+
+        // when & then
+        CommentException exception = assertThrows(CommentException.class,
+                () -> commentService.reply(1L, 5L, 1L, "Reply"));
+        assertEquals(ErrorCode.COMMENT_DEPTH_EXCEEDED, exception.getErrorCode());
+        verify(commentRepository, never()).save(any(Comment.class));
+    }
+
+    /**
+     * 스레드 목록 조회 성공 테스트 - 한 번의 조회로 트리 조립 및 다음 커서 생성
+     */
+    @Test
+    @DisplayName("스레드 목록 조회 성공 테스트")
+    void getThreadsSuccess() {
+        // given: 스레드 2개를 요청하여 3개(다음 페이지 확인용 1개 포함)가 조회된 경우
+        given(commentThreadRepository.findThreads(1L, 0L, 3, 3)).willReturn(List.of(
+                new CommentNodeDto(10L, null, 0, "Root 1", "user1", null),
+                new CommentNodeDto(11L, 10L, 1, "Reply 1", "user2", null),
+                new CommentNodeDto(12L, 11L, 2, "Reply 2", "user1", null), // 생략 여부 확인용
+                new CommentNodeDto(20L, null, 0, "Root 2", "user2", null),
+                new CommentNodeDto(30L, null, 0, "Root 3", "user3", null)));
+
+        // when
+        CursorPageResponseDto<CommentNodeDto> result = commentService.getThreads(1L, null, 2, 1);
+
+        // then
+        assertEquals(2, result.getContent().size());
+        assertTrue(result.isHasNext());
+        assertEquals("20", result.getNextCursor());
+        CommentNodeDto first = result.getContent().get(0);
+        assertEquals(11L, first.getReplies().get(0).getId());
+        assertTrue(first.isMoreReplies());
+        verify(postService, never()).get(anyLong()); // 결과가 있으면 게시글 존재 확인 생략
+    }
+
+    /**
+     * 댓글 미리보기 일괄 조회 성공 테스트 - 한 번의 조회 결과를 요청 순서대로 묶음
+     */
+    @Test
+    @DisplayName("댓글 미리보기 일괄 조회 성공 테스트")
+    void getLatestByPostsSuccess() {
+        // given: 게시글 3(댓글 2개), 1(댓글 없음), 3(중복)
+        given(commentPreviewRepository.findLatestByPostIds(Set.of(3L, 1L), 3)).willReturn(Map.of(
+                3L, List.of(new CommentResponseDto(31L, "Latest", "user1", null, 0, null),
+                        new CommentResponseDto(30L, "Older", "user2", null, 0, null))));
+
+        // when
+        Map<Long, List<CommentResponseDto>> previews = commentService.getLatestByPosts(List.of(3L, 1L, 3L), 3);
+
+        // then
+        assertEquals(List.of(3L, 1L), List.copyOf(previews.keySet())); // 요청 순서 유지, 중복 제거
+        assertEquals(31L, previews.get(3L).get(0).getId());
+        assertTrue(previews.get(1L).isEmpty()); // 댓글이 없는 게시글은 빈 목록
+        verify(commentPreviewRepository).findLatestByPostIds(any(), anyInt()); // 게시글 수와 관계없이 한 번 조회
     }
 }
@@ -0,0 +1,55 @@
+package org.example.restfulblogflatform.service.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.restfulblogflatform.exception.ErrorCode;
+import org.example.restfulblogflatform.exception.business.PostException;
+import org.example.restfulblogflatform.repository.CommentRepository;
+import org.example.restfulblogflatform.repository.PostRepository;
+import org.example.restfulblogflatform.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+class ExportServiceImplTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    private ExportServiceImpl exportService;
+
+    @BeforeEach
+    void setUp() {
+        exportService = new ExportServiceImpl(userRepository, postRepository, commentRepository,
+                new ObjectMapper().findAndRegisterModules(), Set.of("admin@example.com"));
+    }
+
+    @Test
+    @DisplayName("내보내기 권한 확인 성공 - 허용 목록에 있는 사용자")
+    void checkExportAllowed() {
+        // when & then
+        assertDoesNotThrow(() -> exportService.checkExportAllowed("admin@example.com"));
+    }
+
+    @Test
+    @DisplayName("내보내기 권한 확인 실패 - 허용 목록에 없는 사용자는 거부")
+    void checkExportForbidden() {
+        // when & then
+        PostException exception = assertThrows(PostException.class,
+                () -> exportService.checkExportAllowed("user@example.com"));
+        assertEquals(ErrorCode.EXPORT_FORBIDDEN, exception.getErrorCode());
+    }
+}
@@ -0,0 +1,124 @@
+package org.example.restfulblogflatform.service.file;
+
+import org.example.restfulblogflatform.config.FileProperties;
+import org.example.restfulblogflatform.dto.file.StoredFileDto;
+import org.example.restfulblogflatform.entity.FileBlob;
+import org.example.restfulblogflatform.exception.FileStorageErrorCode;
+import org.example.restfulblogflatform.exception.file.FileStorageException;
+import org.example.restfulblogflatform.repository.FileBlobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FileStorageServiceImplTest {
+
+    private static final byte[] CONTENT = "same image bytes".getBytes(StandardCharsets.UTF_8);
+
+    @Mock
+    private FileBlobRepository fileBlobRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    Path uploadDir;
+
+    private FileStorageServiceImpl fileStorageService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        FileProperties fileProperties = new FileProperties();
+        fileProperties.setEnabled(true);
+        fileProperties.setLocation(uploadDir.toString());
+        fileProperties.setMaxFileSize("1MB");
+        fileProperties.setContentAddressed(true);
+        fileStorageService = new FileStorageServiceImpl(fileProperties, fileBlobRepository, transactionManager);
+        fileStorageService.init();
+    }
+
+    @Test
+    @DisplayName("내용 주소 방식 저장 - 같은 내용은 다이제스트 경로의 파일 하나로 저장하고 blob은 한 번만 등록")
+    void storeSameContentOnce() throws Exception {
+        // given
+        String digest = sha256(CONTENT);
+        given(fileBlobRepository.touch(eq(digest), any())).willReturn(0, 1);
+
+        // when
+        StoredFileDto first = fileStorageService.storeFile("a.png", "image/png", new ByteArrayInputStream(CONTENT));
+        StoredFileDto second = fileStorageService.storeFile("b.png", "image/png", new ByteArrayInputStream(CONTENT));
+
+        // then
+        assertEquals(digest, first.getBlobDigest());
+        assertEquals("blobs/" + digest.substring(0, 2) + "/" + digest, first.getStoredFileName());
+        assertEquals(first.getStoredFileName(), second.getStoredFileName());
+        assertEquals("b.png", second.getOriginalFileName());
+        assertArrayEquals(CONTENT, Files.readAllBytes(uploadDir.resolve(first.getStoredFileName())));
+        assertEquals(1, countRegularFiles()); // 임시 파일 없이 blob 하나만 남음
+        verify(fileBlobRepository, times(1)).saveAndFlush(any(FileBlob.class));
+    }
+
+    @Test
+    @DisplayName("blob 참조 수는 첨부 파일 수만큼 증감하고, 공유 blob 파일은 deleteFiles로 삭제하지 않음")
+    void acquireAndReleaseByCount() throws Exception {
+        // given
+        String digest = sha256(CONTENT);
+        given(fileBlobRepository.addReferences(eq(digest), anyLong(), any())).willReturn(1);
+        StoredFileDto stored = fileStorageService.storeFile("a.png", "image/png", new ByteArrayInputStream(CONTENT));
+
+        // when
+        fileStorageService.acquireBlobs(List.of(digest, digest));
+        fileStorageService.releaseBlobs(List.of(digest));
+        int deleted = fileStorageService.deleteFiles(List.of(stored.getStoredFileName()));
+
+        // then
+        verify(fileBlobRepository).addReferences(eq(digest), eq(2L), any());
+        verify(fileBlobRepository).addReferences(eq(digest), eq(-1L), any());
+        assertEquals(0, deleted);
+        assertTrue(Files.exists(uploadDir.resolve(stored.getStoredFileName())));
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 blob을 참조하면 FILE_NOT_FOUND")
+    void acquireFailDueToUnknownBlob() {
+        // given
+        String digest = "0".repeat(64);
+        given(fileBlobRepository.addReferences(eq(digest), eq(1L), any())).willReturn(0);
+
+        // when & then
+        FileStorageException exception = assertThrows(FileStorageException.class,
+                () -> fileStorageService.acquireBlobs(List.of(digest)));
+        assertEquals(FileStorageErrorCode.FILE_NOT_FOUND, exception.getErrorCode());
+    }
+
+    private long countRegularFiles() throws IOException {
+        try (Stream<Path> files = Files.walk(uploadDir)) {
+            return files.filter(Files::isRegularFile).count();
+        }
+    }
+
+    private static String sha256(byte[] content) throws NoSuchAlgorithmException {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+    }
+}
@@ -0,0 +1,111 @@
+package org.example.restfulblogflatform.service.post;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.restfulblogflatform.compression.PostContentCompressor;
+import org.example.restfulblogflatform.counter.PostCountTracker;
+import org.example.restfulblogflatform.dto.post.response.PostImportResultDto;
+import org.example.restfulblogflatform.exception.ErrorCode;
+import org.example.restfulblogflatform.exception.business.PostException;
+import org.example.restfulblogflatform.repository.PostBulkInsertRepository;
+import org.example.restfulblogflatform.repository.UserRepository;
+import org.example.restfulblogflatform.search.PostSearchIndexer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostImportServiceImplTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PostBulkInsertRepository postBulkInsertRepository;
+
+    @Mock
+    private PostCountTracker postCountTracker;
+
+    @Mock
+    private PostSearchIndexer postSearchIndexer;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private PostImportServiceImpl postImportService;
+
+    @BeforeEach
+    void setUp() {
+        postImportService = new PostImportServiceImpl(
+                userRepository,
+                postBulkInsertRepository,
+                new PostContentCompressor(false, 4096),
+                postCountTracker,
+                postSearchIndexer,
+                new ObjectMapper().findAndRegisterModules(),
+                transactionManager,
+                2,  // JDBC 배치 크기
+                2,  // 트랜잭션당 레코드 수
+                Set.of("admin@example.com"));
+    }
+
+    @Test
+    @DisplayName("NDJSON 일괄 가져오기 - 유효한 레코드만 chunk 단위로 저장하고 거부 사유 기록")
+    void importPosts() throws IOException {
+        // given
+        String ndjson = String.join("\n",
+                "{\"authorEmail\":\"a@example.com\",\"title\":\"T1\",\"content\":\"C1\",\"createdAt\":\"2020-01-01T09:00:00\"}",
+                "{\"authorEmail\":\"a@example.com\",\"title\":\"T2\",\"content\":\"C2\"}",
+                "not json",
+                "",
+                "{\"authorEmail\":\"unknown@example.com\",\"title\":\"T3\",\"content\":\"C3\"}",
+                "{\"authorEmail\":\"a@example.com\",\"title\":\"\",\"content\":\"C4\"}",
+                "{\"authorEmail\":\"a@example.com\",\"title\":\"T5\",\"content\":\"C5\",\"viewCount\":7}");
+        given(userRepository.findIdByEmail("a@example.com")).willReturn(Optional.of(1L));
+        given(userRepository.findIdByEmail("unknown@example.com")).willReturn(Optional.empty());
+
+        // when
+        PostImportResultDto result = postImportService.importPosts(
+                new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)), null, "admin@example.com");
+
+        // then
+        assertEquals(6, result.getTotalRecords());
+        assertEquals(3, result.getImportedCount());
+        assertEquals(3, result.getRejectedCount());
+        assertEquals(3, result.getRejectedRecords().get(0).getLineNumber());
+        assertEquals(5, result.getRejectedRecords().get(1).getLineNumber());
+        assertFalse(result.getRejectedRecords().get(1).getReason().contains("unknown@example.com")); // 가입 여부 노출 방지
+        assertEquals(6, result.getRejectedRecords().get(2).getLineNumber());
+        verify(userRepository, times(1)).findIdByEmail("a@example.com"); // 작성자 캐시 적중
+        verify(postBulkInsertRepository, times(2)).insertAll(anyList(), eq(2), any()); // 2건 + 1건
+        verify(postCountTracker).reconcile();
+        verify(postSearchIndexer).indexModifiedSince(any());
+    }
+
+    @Test
+    @DisplayName("NDJSON 일괄 가져오기 실패 - 허용 목록에 없는 사용자는 입력을 읽지 않고 거부")
+    void importPostsForbidden() {
+        // given
+        String ndjson = "{\"authorEmail\":\"a@example.com\",\"title\":\"T1\",\"content\":\"C1\"}";
+
+        // when & then
+        PostException exception = assertThrows(PostException.class, () -> postImportService.importPosts(
+                new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)), null, "user@example.com"));
+        assertEquals(ErrorCode.POST_IMPORT_FORBIDDEN, exception.getErrorCode());
+        verifyNoInteractions(userRepository, postBulkInsertRepository);
+    }
+}
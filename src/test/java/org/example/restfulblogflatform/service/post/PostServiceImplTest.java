@@ -1,36 +1,59 @@
 package org.example.restfulblogflatform.service.post;
 
+import org.example.restfulblogflatform.cache.PostCache;
+import org.example.restfulblogflatform.compression.PostContentCompressor;
+import org.example.restfulblogflatform.counter.PostCountTracker;
+import org.example.restfulblogflatform.counter.PostViewCounter;
+import org.example.restfulblogflatform.dto.common.response.CursorPageResponseDto;
+import org.example.restfulblogflatform.dto.post.PostCursor;
+import org.example.restfulblogflatform.dto.post.PostVersionDto;
 import org.example.restfulblogflatform.dto.post.request.PostRequestDto;
+import org.example.restfulblogflatform.dto.post.response.PostAttachmentSummaryDto;
 import org.example.restfulblogflatform.dto.post.response.PostResponseDto;
+import org.example.restfulblogflatform.dto.post.response.PostSearchResultDto;
+import org.example.restfulblogflatform.dto.post.response.PostSummaryDto;
 import org.example.restfulblogflatform.entity.FileAttachment;
 import org.example.restfulblogflatform.entity.Post;
 import org.example.restfulblogflatform.entity.User;
+import org.example.restfulblogflatform.event.post.PostAttachmentsDeletedEvent;
+import org.example.restfulblogflatform.event.post.PostChangedEvent;
 import org.example.restfulblogflatform.exception.ErrorCode;
 import org.example.restfulblogflatform.exception.business.PostException;
 import org.example.restfulblogflatform.exception.business.UserException;
+import org.example.restfulblogflatform.repository.CommentRepository;
+import org.example.restfulblogflatform.repository.FileAttachmentRepository;
 import org.example.restfulblogflatform.repository.PostRepository;
+import org.example.restfulblogflatform.search.PostSearchIndex;
 import org.example.restfulblogflatform.service.file.FileStorageService;
 import org.example.restfulblogflatform.service.user.UserService;
 import org.example.restfulblogflatform.service.validator.PostValidator;
+import org.example.restfulblogflatform.trending.TrendingPostTracker;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class) // Mockito 지원 활성화
@@ -39,6 +62,12 @@ class PostServiceImplTest {
     @Mock
     private PostRepository postRepository; // Mocking된 PostRepository
 
+    @Mock
+    private FileAttachmentRepository fileAttachmentRepository; // Mocking된 FileAttachmentRepository
+
+    @Mock
+    private CommentRepository commentRepository; // Mocking된 CommentRepository
+
     @Mock
     private UserService userService; // Mocking된 UserService
 
@@ -51,6 +80,27 @@ class PostServiceImplTest {
     @Mock
     private FileStorageService fileStorageService;
 
+    @Mock
+    private PostViewCounter postViewCounter; // Mocking된 조회수 카운터
+
+    @Mock
+    private PostCountTracker postCountTracker; // Mocking된 게시글 수 카운터
+
+    @Spy
+    private PostCache postCache = new PostCache(1024 * 1024, 10); // 실제 동작하는 게시글 캐시
+
+    @Spy
+    private PostContentCompressor postContentCompressor = new PostContentCompressor(false, 4096); // 압축 비활성화 상태
+
+    @Mock
+    private PostSearchIndex postSearchIndex; // Mocking된 검색 색인
+
+    @Mock
+    private TrendingPostTracker trendingPostTracker; // Mocking된 인기 게시글 집계
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher; // Mocking된 이벤트 발행 도구
+
     /**
      * 게시글 생성 성공 테스트
      */
@@ -77,6 +127,7 @@ class PostServiceImplTest {
 
         verify(userService).get(userId);
         verify(postRepository).save(any(Post.class));
+        verify(eventPublisher).publishEvent(any(PostChangedEvent.class));
     }
 
     /**
@@ -106,24 +157,65 @@ class PostServiceImplTest {
      * 게시글 삭제 성공 테스트
      */
     @Test
-    @DisplayName("게시글 삭제 성공 테스트")
+    @DisplayName("게시글 삭제 성공 테스트 - 엔티티 로딩 없이 벌크 삭제 후 파일 정리 이벤트 발행")
     void deleteSuccess() {
         // given
         Long postId = 1L;
-        User mockUser = mock(User.class);
-        Post mockPost = mock(Post.class);
+        given(fileAttachmentRepository.findStoredFileNamesByPostId(postId)).willReturn(List.of("stored1.png"));
 
-        // Mock 동작 정의
-        given(postValidator.getOrThrow(postId)).willReturn(mockPost);
-        given(mockPost.getUser()).willReturn(mockUser);
+        // when
+        postService.delete(postId);
+
+        // then
+        verify(postValidator).validateExists(postId);
+        verify(postValidator, never()).getOrThrow(postId); // 게시글 엔티티를 로딩하지 않음
+        verify(commentRepository).deleteAllByPostIdInBulk(postId);
+        verify(fileAttachmentRepository).deleteAllByPostIdInBulk(postId);
+        verify(postRepository).deleteByIdInBulk(postId);
+        verify(eventPublisher).publishEvent(any(PostChangedEvent.class));
+        verify(eventPublisher).publishEvent(any(PostAttachmentsDeletedEvent.class));
+    }
+
+    /**
+     * 내용 주소 방식으로 저장된 첨부 파일이 있는 게시글 삭제 테스트
+     */
+    @Test
+    @DisplayName("게시글 삭제 성공 테스트 - 공유 blob은 참조 수만 감소시키고 파일 정리 이벤트에서 제외")
+    void deleteSuccessReleasesBlobs() {
+        // given
+        Long postId = 1L;
+        String digest = "a".repeat(64);
+        String blob = "blobs/aa/" + digest;
+        given(fileAttachmentRepository.findStoredFileNamesByPostId(postId)).willReturn(List.of(blob, blob));
 
         // when
         postService.delete(postId);
 
         // then
-        verify(postValidator).getOrThrow(postId);
-        verify(mockPost).getUser();
-        verify(mockUser).removePost(mockPost);
+        verify(fileAttachmentRepository).deleteAllByPostIdInBulk(postId);
+        verify(fileStorageService).releaseBlobs(List.of(digest, digest));
+        verify(fileStorageService, never()).deleteFiles(any());
+        verify(eventPublisher).publishEvent(any(PostChangedEvent.class));
+        verify(eventPublisher, never()).publishEvent(any(PostAttachmentsDeletedEvent.class));
+    }
+
+    /**
+     * 게시글 삭제 실패 테스트 - 게시글 없음
+     */
+    @Test
+    @DisplayName("게시글 삭제 실패 테스트 - 게시글 없음")
+    void deleteFailDueToPostNotFound() {
+        // given
+        Long postId = 999L;
+        willThrow(new PostException(ErrorCode.POST_NOT_FOUND)).given(postValidator).validateExists(postId);
+
+        // when
+        PostException exception = assertThrows(PostException.class, () -> postService.delete(postId));
+
+        // then
+        assertEquals(ErrorCode.POST_NOT_FOUND, exception.getErrorCode());
+        verifyNoInteractions(commentRepository);
+        verify(postRepository, never()).deleteByIdInBulk(any());
     }
 
     /**
@@ -155,6 +247,178 @@ class PostServiceImplTest {
         verify(postRepository).findAll(pageable);
     }
 
+    /**
+     * 게시글 요약 목록 조회 성공 테스트
+     */
+    @Test
+    @DisplayName("게시글 요약 목록 조회 성공 테스트 - 첨부 파일은 한 번의 쿼리로 조회")
+    void getSummariesSuccess() {
+        // given
+        Pageable pageable = PageRequest.of(0, 10);
+        PostSummaryDto summary1 = new PostSummaryDto(1L, "Title 1", "Excerpt 1", "user1", 1L, LocalDateTime.now(), 0, 0);
+        PostSummaryDto summary2 = new PostSummaryDto(2L, "Title 2", "Excerpt 2", "user2", 2L, LocalDateTime.now(), 0, 0);
+        Page<PostSummaryDto> mockPage = new PageImpl<>(List.of(summary1, summary2), pageable, 2);
+        PostAttachmentSummaryDto attachment =
+                new PostAttachmentSummaryDto(2L, 10L, "a.png", "stored-a.png", 1024L, "image/png");
+
+        given(postRepository.findSummaries(pageable)).willReturn(mockPage);
+        given(fileAttachmentRepository.findSummariesByPostIdIn(any())).willReturn(List.of(attachment));
+
+        // when
+        Page<PostSummaryDto> results = postService.getSummaries(pageable, true);
+
+        // then
+        assertEquals(2, results.getTotalElements());
+        assertTrue(results.getContent().get(0).getAttachments().isEmpty());
+        assertEquals(1, results.getContent().get(1).getAttachments().size());
+        verify(fileAttachmentRepository, times(1)).findSummariesByPostIdIn(any());
+        verify(postCountTracker, never()).get();
+    }
+
+    /**
+     * 게시글 요약 목록 조회 시 COUNT(*) 대신 증분 관리되는 게시글 수를 사용하는지 테스트
+     */
+    @Test
+    @DisplayName("게시글 요약 목록 조회 성공 테스트 - 전체 개수는 게시글 수 카운터 사용")
+    void getSummariesUsesTrackedCount() {
+        // given
+        Pageable pageable = PageRequest.of(0, 2);
+        PostSummaryDto summary1 = new PostSummaryDto(1L, "Title 1", "Excerpt 1", "user1", 1L, LocalDateTime.now(), 0, 0);
+        PostSummaryDto summary2 = new PostSummaryDto(2L, "Title 2", "Excerpt 2", "user2", 2L, LocalDateTime.now(), 0, 0);
+
+        given(postRepository.findSummarySlice(pageable))
+                .willReturn(new SliceImpl<>(List.of(summary1, summary2), pageable, true));
+        given(fileAttachmentRepository.findSummariesByPostIdIn(any())).willReturn(List.of());
+        given(postCountTracker.get()).willReturn(42L);
+
+        // when
+        Page<PostSummaryDto> results = postService.getSummaries(pageable, false);
+
+        // then
+        assertEquals(42, results.getTotalElements());
+        assertEquals(21, results.getTotalPages());
+        verify(postRepository, never()).findSummaries(any(Pageable.class)); // COUNT 쿼리 미사용
+    }
+
+    /**
+     * 게시글 검색 성공 테스트
+     */
+    @Test
+    @DisplayName("게시글 검색 성공 테스트 - 색인 점수 순서 유지, 삭제된 게시글 제외")
+    void searchSuccess() {
+        // given
+        PostSummaryDto summary1 = new PostSummaryDto(1L, "Title 1", "Excerpt 1", "user1", 1L, LocalDateTime.now(), 0, 0);
+        PostSummaryDto summary2 = new PostSummaryDto(2L, "Title 2", "Excerpt 2", "user2", 2L, LocalDateTime.now(), 0, 0);
+        given(postSearchIndex.search("스프링", 10)).willReturn(List.of(
+                new PostSearchIndex.Hit(2L, 3.0),
+                new PostSearchIndex.Hit(9L, 2.0), // 이미 삭제된 게시글
+                new PostSearchIndex.Hit(1L, 1.0)));
+        given(postRepository.findSummariesByIdIn(List.of(2L, 9L, 1L))).willReturn(List.of(summary1, summary2));
+        given(fileAttachmentRepository.findSummariesByPostIdIn(any())).willReturn(List.of());
+
+        // when
+        List<PostSearchResultDto> results = postService.search("스프링", 0, 10);
+
+        // then
+        assertEquals(List.of(2L, 1L), results.stream().map(result -> result.getPost().getId()).toList());
+        assertEquals(3.0, results.get(0).getScore());
+    }
+
+    /**
+     * 게시글 검색 테스트 - 오프셋이 int 범위를 넘는 페이지 번호
+     */
+    @Test
+    @DisplayName("게시글 검색 테스트 - 매우 큰 페이지 번호는 빈 결과")
+    void searchWithHugePage() {
+        // when
+        List<PostSearchResultDto> results = postService.search("스프링", 1 << 30, 10);
+
+        // then
+        assertTrue(results.isEmpty());
+        verifyNoInteractions(postSearchIndex);
+    }
+
+    /**
+     * 커서 기반 게시글 목록 조회 성공 테스트
+     */
+    @Test
+    @DisplayName("커서 기반 게시글 목록 조회 성공 테스트 - 다음 페이지 커서 생성")
+    void getSummariesByCursorSuccess() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        List<PostSummaryDto> rows = List.of(
+                new PostSummaryDto(3L, "Title 3", "Excerpt 3", "user", 1L, now, 0, 0),
+                new PostSummaryDto(2L, "Title 2", "Excerpt 2", "user", 1L, now.minusMinutes(1), 0, 0),
+                new PostSummaryDto(1L, "Title 1", "Excerpt 1", "user", 1L, now.minusMinutes(2), 0, 0)
+        );
+        given(postRepository.findSummariesFirst(PageRequest.ofSize(3))).willReturn(rows);
+
+        // when
+        CursorPageResponseDto<PostSummaryDto> page = postService.getSummariesByCursor(null, 2);
+
+        // then
+        assertEquals(2, page.getContent().size());
+        assertTrue(page.isHasNext());
+        PostCursor next = PostCursor.decode(page.getNextCursor());
+        assertEquals(2L, next.getId());
+        assertEquals(now.minusMinutes(1), next.getCreatedDate());
+        verify(postRepository, never()).findSummaries(any(Pageable.class)); // COUNT를 포함한 페이징 쿼리 미사용
+    }
+
+    /**
+     * 커서 기반 게시글 목록 조회 실패 테스트 - 잘못된 커서
+     */
+    @Test
+    @DisplayName("커서 기반 게시글 목록 조회 실패 테스트 - 잘못된 커서")
+    void getSummariesByCursorFailDueToInvalidCursor() {
+        // when & then
+        PostException exception = assertThrows(PostException.class,
+                () -> postService.getSummariesByCursor("not-a-cursor", 10));
+        assertEquals(ErrorCode.INVALID_POST_CURSOR, exception.getErrorCode());
+    }
+
+    /**
+     * 작성자별 게시글 목록 조회 성공 테스트
+     */
+    @Test
+    @DisplayName("작성자별 게시글 목록 조회 성공 테스트 - 커서 이후 범위만 조회")
+    void getSummariesByUserSuccess() {
+        // given
+        Long userId = 1L;
+        LocalDateTime now = LocalDateTime.now();
+        PostCursor cursor = new PostCursor(now, 5L);
+        List<PostSummaryDto> rows = List.of(
+                new PostSummaryDto(4L, "Title 4", "Excerpt 4", "user", userId, now.minusMinutes(1), 0, 0)
+        );
+        given(postRepository.findSummariesByUserAfter(userId, now, 5L, PageRequest.ofSize(11))).willReturn(rows);
+
+        // when
+        CursorPageResponseDto<PostSummaryDto> page = postService.getSummariesByUser(userId, cursor.encode(), 10);
+
+        // then
+        assertEquals(1, page.getContent().size());
+        assertFalse(page.isHasNext());
+        assertNull(page.getNextCursor());
+        verifyNoInteractions(userService); // 게시글이 조회되면 사용자 존재 확인 생략
+    }
+
+    /**
+     * 작성자별 게시글 목록 조회 실패 테스트 - 사용자 없음
+     */
+    @Test
+    @DisplayName("작성자별 게시글 목록 조회 실패 테스트 - 사용자 없음")
+    void getSummariesByUserFailDueToUserNotFound() {
+        // given
+        Long userId = 999L;
+        given(postRepository.findSummariesByUserFirst(userId, PageRequest.ofSize(11))).willReturn(List.of());
+        given(userService.get(userId)).willThrow(new UserException(ErrorCode.USER_NOT_FOUND));
+
+        // when & then
+        UserException exception = assertThrows(UserException.class,
+                () -> postService.getSummariesByUser(userId, null, 10));
+        assertEquals(ErrorCode.USER_NOT_FOUND, exception.getErrorCode());
+    }
+
     /**
      * 게시글 수정 성공 테스트
      */
@@ -179,6 +443,96 @@ class PostServiceImplTest {
         assertEquals(updatedTitle, response.getTitle());
         assertEquals(updatedContent, response.getContent());
         verify(postValidator).getOrThrow(postId);
+        verify(eventPublisher).publishEvent(any(PostChangedEvent.class)); // 캐시 무효화를 위한 변경 이벤트 발행 확인
+    }
+
+    /**
+     * 게시글 부분 수정 성공 테스트 (If-Match 일치)
+     */
+    @Test
+    @DisplayName("게시글 부분 수정 성공 테스트 - If-Match가 현재 버전과 일치하면 제목만 변경")
+    void patchSuccess() {
+        // given
+        Long postId = 1L;
+        User mockUser = User.createUser("testUser", "password", "test@example.com");
+        ReflectionTestUtils.setField(mockUser, "id", 1L);
+        Post mockPost = Post.createPost(mockUser, "Original Title", "Original Content");
+        ReflectionTestUtils.setField(mockPost, "version", 3L);
+        given(postValidator.getOrThrow(postId)).willReturn(mockPost);
+
+        // when
+        PostResponseDto response = postService.patch(postId, 1L, "\"v3\"", "Updated Title", null);
+
+        // then
+        assertEquals("Updated Title", response.getTitle());
+        assertEquals("Original Content", response.getContent()); // 전달하지 않은 필드는 유지
+        verify(postRepository).flush();
+        verify(eventPublisher).publishEvent(any(PostChangedEvent.class));
+    }
+
+    /**
+     * 게시글 부분 수정 실패 테스트 - 버전 불일치
+     */
+    @Test
+    @DisplayName("게시글 부분 수정 실패 테스트 - If-Match가 오래된 버전이면 수정하지 않음")
+    void patchFailDueToVersionConflict() {
+        // given
+        Long postId = 1L;
+        User mockUser = User.createUser("testUser", "password", "test@example.com");
+        ReflectionTestUtils.setField(mockUser, "id", 1L);
+        Post mockPost = Post.createPost(mockUser, "Original Title", "Original Content");
+        ReflectionTestUtils.setField(mockPost, "version", 4L);
+        given(postValidator.getOrThrow(postId)).willReturn(mockPost);
+
+        // when
+        PostException exception = assertThrows(PostException.class,
+                () -> postService.patch(postId, 1L, "\"v3\"", "Updated Title", null));
+
+        // then
+        assertEquals(ErrorCode.POST_VERSION_CONFLICT, exception.getErrorCode());
+        assertEquals("Original Title", mockPost.getTitle());
+        verify(postRepository, never()).flush();
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    /**
+     * 게시글 부분 수정 실패 테스트 - 작성자가 아닌 사용자
+     */
+    @Test
+    @DisplayName("게시글 부분 수정 실패 테스트 - 작성자가 아니면 수정하지 않음")
+    void patchFailDueToNotAuthor() {
+        // given
+        Long postId = 1L;
+        User mockUser = User.createUser("testUser", "password", "test@example.com");
+        ReflectionTestUtils.setField(mockUser, "id", 1L);
+        Post mockPost = Post.createPost(mockUser, "Original Title", "Original Content");
+        ReflectionTestUtils.setField(mockPost, "version", 3L);
+        given(postValidator.getOrThrow(postId)).willReturn(mockPost);
+
+        // when
+        PostException exception = assertThrows(PostException.class,
+                () -> postService.patch(postId, 2L, "\"v3\"", "Updated Title", null));
+
+        // then
+        assertEquals(ErrorCode.POST_ACCESS_DENIED, exception.getErrorCode());
+        assertEquals("Original Title", mockPost.getTitle());
+        verify(postRepository, never()).flush();
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    /**
+     * 게시글 부분 수정 실패 테스트 - If-Match 누락
+     */
+    @Test
+    @DisplayName("게시글 부분 수정 실패 테스트 - If-Match 헤더 없음")
+    void patchFailDueToMissingIfMatch() {
+        // when
+        PostException exception = assertThrows(PostException.class,
+                () -> postService.patch(1L, 1L, null, "Updated Title", null));
+
+        // then
+        assertEquals(ErrorCode.POST_VERSION_REQUIRED, exception.getErrorCode());
+        verifyNoInteractions(postValidator);
     }
 
     /**
@@ -228,15 +582,106 @@ class PostServiceImplTest {
         Post mockPost = Post.createPost(mockUser, "Test Title", "Test Content"); // Mock 게시글 객체 생성
         // Mock 동작 정의: postRepository에서 해당 ID의 게시글 반환
         given(postValidator.getOrThrow(postId)).willReturn(mockPost);
+        given(postViewCounter.increment(postId)).willReturn(1L); // 메모리 카운터에 조회수 1 누적
         // when
         PostResponseDto responseDto = postService.getResponseDto(postId);
         // then
         assertNotNull(responseDto); // 응답 DTO가 null이 아닌지 확인
         assertEquals(mockPost.getTitle(), responseDto.getTitle()); // 제목 확인
         assertEquals(mockPost.getContent(), responseDto.getContent()); // 내용 확인
-        assertEquals(1, mockPost.getViewCount()); // 조회수가 1 증가했는지 확인
+        assertEquals(1, responseDto.getViewCount()); // 응답에 반영 대기 중인 조회수가 포함되었는지 확인
+        assertEquals(0, mockPost.getViewCount()); // 엔티티는 직접 변경되지 않음 (Write-behind)
         verify(postValidator).getOrThrow(postId); // findById 호출 확인
+        verify(postViewCounter).increment(postId); // 조회수 카운터 호출 확인
+    }
+    /**
+     * 게시글 단일 조회 캐시 적중 테스트
+     */
+    @Test
+    @DisplayName("게시글 단일 조회 캐시 적중 테스트 - 두 번째 조회는 DB에 접근하지 않음")
+    void getPostServedFromCache() {
+        // given
+        Long postId = 1L;
+        User mockUser = User.createUser("testUser", "password", "test@example.com");
+        Post mockPost = Post.createPost(mockUser, "Test Title", "Test Content");
+        given(postValidator.getOrThrow(postId)).willReturn(mockPost);
+        given(postViewCounter.increment(postId)).willReturn(1L, 2L);
+
+        // when
+        PostResponseDto first = postService.getResponseDto(postId);
+        PostResponseDto second = postService.getResponseDto(postId);
+
+        // then
+        assertEquals("Test Title", second.getTitle());
+        assertEquals(1, first.getViewCount());
+        assertEquals(2, second.getViewCount()); // 캐시 적중 시에도 요청별 조회수가 반영됨
+        verify(postValidator, times(1)).getOrThrow(postId);
+        assertEquals(1, postCache.stats().getHitCount());
+    }
+
+    /**
+     * 게시글 조회 기록 테스트 (직렬화된 응답 캐시 적중 시)
+     */
+    @Test
+    @DisplayName("게시글 조회 기록 - 게시글을 조회하지 않고 조회수와 인기 집계만 반영")
+    void recordViewWithoutLoadingPost() {
+        // given
+        Long postId = 1L;
+
+        // when
+        postService.recordView(postId);
+
+        // then
+        verify(postViewCounter).increment(postId);
+        verify(trendingPostTracker).recordView(postId);
+        verifyNoInteractions(postValidator, postRepository);
     }
+
+    /**
+     * 게시글 버전 조회 테스트 (조건부 조회용)
+     */
+    @Test
+    @DisplayName("게시글 버전 조회 테스트 - 캐시 미스 시 버전 쿼리, 캐시 적중 시 DB 미접근")
+    void getVersionSuccess() {
+        // given
+        Long postId = 1L;
+        LocalDateTime modifiedAt = LocalDateTime.of(2024, 1, 1, 12, 0);
+        given(postRepository.findVersionById(postId))
+                .willReturn(Optional.of(new PostVersionDto(postId, 3L, modifiedAt, 2)));
+
+        // when
+        PostVersionDto version = postService.getVersion(postId);
+
+        // then
+        assertEquals("\"v3-c2\"", version.getETag());
+        verify(postValidator, never()).getOrThrow(any()); // 본문/첨부 파일을 로딩하지 않음
+
+        // given: 캐시에 게시글이 적재된 경우
+        User mockUser = User.createUser("testUser", "password", "test@example.com");
+        Post mockPost = Post.createPost(mockUser, "Test Title", "Test Content");
+        postCache.get(2L, id -> PostResponseDto.of(mockPost));
+
+        // when
+        postService.getVersion(2L);
+
+        // then
+        verify(postRepository, never()).findVersionById(2L);
+    }
+
+    /**
+     * 존재하지 않는 게시글 버전 조회 실패 테스트
+     */
+    @Test
+    @DisplayName("게시글 버전 조회 실패 테스트 - 게시글 없음")
+    void getVersionFailDueToPostNotFound() {
+        // given
+        given(postRepository.findVersionById(99L)).willReturn(Optional.empty());
+
+        // when & then
+        PostException exception = assertThrows(PostException.class, () -> postService.getVersion(99L));
+        assertEquals(ErrorCode.POST_NOT_FOUND, exception.getErrorCode());
+    }
+
     @Test
     @DisplayName("파일 업로드 성공 테스트")
     void handleFileUploadsSuccess() throws IOException {
@@ -0,0 +1,165 @@
+package org.example.restfulblogflatform.service.post;
+
+import org.example.restfulblogflatform.config.FileProperties;
+import org.example.restfulblogflatform.dto.file.StoredFileDto;
+import org.example.restfulblogflatform.dto.post.request.PostRequestDto;
+import org.example.restfulblogflatform.dto.post.response.PostResponseDto;
+import org.example.restfulblogflatform.exception.FileStorageErrorCode;
+import org.example.restfulblogflatform.exception.file.FileStorageException;
+import org.example.restfulblogflatform.repository.FileBlobRepository;
+import org.example.restfulblogflatform.service.file.FileStorageServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostUploadServiceImplTest {
+
+    private static final String BOUNDARY = "----PostUploadBoundary";
+    private static final String CONTENT_TYPE = "multipart/form-data; boundary=" + BOUNDARY;
+
+    @Mock
+    private PostService postService;
+
+    @Mock
+    private FileBlobRepository fileBlobRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    Path uploadDir;
+
+    private PostUploadServiceImpl postUploadService;
+
+    @BeforeEach
+    void setUp() {
+        FileProperties fileProperties = new FileProperties();
+        fileProperties.setEnabled(true);
+        fileProperties.setLocation(uploadDir.toString());
+        fileProperties.setMaxFileSize("64KB");
+        fileProperties.setMaxRequestSize("100KB");
+        FileStorageServiceImpl fileStorageService = new FileStorageServiceImpl(fileProperties, fileBlobRepository, transactionManager);
+        postUploadService = new PostUploadServiceImpl(postService, fileStorageService, fileProperties, 1024);
+    }
+
+    @Test
+    @DisplayName("스트리밍 업로드 - 파일을 최종 위치에 기록하고 게시글 생성")
+    @SuppressWarnings("unchecked")
+    void uploadSuccess() throws IOException {
+        // given
+        byte[] image = randomBytes(40 * 1024);
+        PostResponseDto response = mock(PostResponseDto.class);
+        given(postService.add(any(PostRequestDto.class), anyList(), eq(1L))).willReturn(response);
+
+        // when
+        PostResponseDto result = postUploadService.upload(
+                body(field("title", "Test Title"), field("content", "Test Content"), file("image.png", "image/png", image)),
+                CONTENT_TYPE, 1L);
+
+        // then
+        ArgumentCaptor<PostRequestDto> request = ArgumentCaptor.forClass(PostRequestDto.class);
+        ArgumentCaptor<List<StoredFileDto>> storedFiles = ArgumentCaptor.forClass(List.class);
+        verify(postService).add(request.capture(), storedFiles.capture(), eq(1L));
+        assertSame(response, result);
+        assertEquals("Test Title", request.getValue().getTitle());
+        assertEquals("Test Content", request.getValue().getContent());
+
+        StoredFileDto stored = storedFiles.getValue().get(0);
+        assertEquals("image.png", stored.getOriginalFileName());
+        assertEquals(image.length, stored.getFileSize());
+        assertTrue(stored.getStoredFileName().endsWith(".png"));
+        assertArrayEquals(image, Files.readAllBytes(uploadDir.resolve(stored.getStoredFileName())));
+    }
+
+    @Test
+    @DisplayName("스트리밍 업로드 실패 - 파일 크기 초과 시 기록 중 중단하고 앞서 기록한 파일까지 삭제")
+    void uploadFailDueToFileSize() throws IOException {
+        // when
+        FileStorageException exception = assertThrows(FileStorageException.class, () -> postUploadService.upload(
+                body(field("title", "Test Title"),
+                        file("small.png", "image/png", randomBytes(1024)),
+                        file("large.png", "image/png", randomBytes(65 * 1024))),
+                CONTENT_TYPE, 1L));
+
+        // then
+        assertEquals(FileStorageErrorCode.FILE_SIZE_EXCEEDS_LIMIT, exception.getErrorCode());
+        assertEquals(0, countFiles());
+        verifyNoInteractions(postService);
+    }
+
+    @Test
+    @DisplayName("스트리밍 업로드 실패 - 허용되지 않는 파일 형식이거나 본문이 잘린 경우")
+    void uploadFailDueToInvalidPart() throws IOException {
+        // when
+        FileStorageException invalidType = assertThrows(FileStorageException.class, () -> postUploadService.upload(
+                body(field("title", "Test Title"), file("run.sh", "application/x-sh", randomBytes(10))),
+                CONTENT_TYPE, 1L));
+        byte[] truncated = body(field("title", "Test Title"), file("image.png", "image/png", randomBytes(2048)))
+                .readNBytes(1500);
+        FileStorageException malformed = assertThrows(FileStorageException.class, () -> postUploadService.upload(
+                new ByteArrayInputStream(truncated), CONTENT_TYPE, 1L));
+
+        // then
+        assertEquals(FileStorageErrorCode.INVALID_FILE_TYPE, invalidType.getErrorCode());
+        assertEquals(FileStorageErrorCode.INVALID_MULTIPART_REQUEST, malformed.getErrorCode());
+        assertEquals(0, countFiles());
+        verifyNoInteractions(postService);
+    }
+
+    private long countFiles() throws IOException {
+        try (Stream<Path> files = Files.list(uploadDir)) {
+            return files.count();
+        }
+    }
+
+    private static ByteArrayInputStream body(byte[]... parts) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (byte[] part : parts) {
+            out.write(("--" + BOUNDARY + "\r\n").getBytes(StandardCharsets.UTF_8));
+            out.write(part);
+            out.write("\r\n".getBytes(StandardCharsets.UTF_8));
+        }
+        out.write(("--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.UTF_8));
+        return new ByteArrayInputStream(out.toByteArray());
+    }
+
+    private static byte[] field(String name, String value) {
+        return ("Content-Disposition: form-data; name=\"" + name + "\"\r\n\r\n" + value).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] file(String filename, String contentType, byte[] content) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(("Content-Disposition: form-data; name=\"files\"; filename=\"" + filename + "\"\r\n"
+                + "Content-Type: " + contentType + "\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+        out.write(content);
+        return out.toByteArray();
+    }
+
+    private static byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return bytes;
+    }
+}
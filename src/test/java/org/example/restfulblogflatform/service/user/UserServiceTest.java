@@ -4,7 +4,9 @@ import org.example.restfulblogflatform.dto.user.request.UserSignUpRequestDto;
 import org.example.restfulblogflatform.entity.User;
 import org.example.restfulblogflatform.exception.ErrorCode;
 import org.example.restfulblogflatform.exception.business.UserException;
+import org.example.restfulblogflatform.repository.FileAttachmentRepository;
 import org.example.restfulblogflatform.repository.UserRepository;
+import org.example.restfulblogflatform.service.file.FileStorageService;
 import org.example.restfulblogflatform.service.validator.UserValidator;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -36,6 +38,12 @@ class UserServiceTest {
     @Mock
     private UserValidator validator;
 
+    @Mock
+    private FileAttachmentRepository fileAttachmentRepository;
+
+    @Mock
+    private FileStorageService fileStorageService;
+
     @InjectMocks
     private UserServiceImpl userService;
 
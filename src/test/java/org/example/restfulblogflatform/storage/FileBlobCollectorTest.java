@@ -0,0 +1,105 @@
+package org.example.restfulblogflatform.storage;
+
+import org.example.restfulblogflatform.config.FileProperties;
+import org.example.restfulblogflatform.repository.FileBlobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class FileBlobCollectorTest {
+
+    private static final String OLD_DIGEST = "a".repeat(64);
+    private static final String REUPLOADED_DIGEST = "b".repeat(64);
+
+    @Mock
+    private FileBlobRepository fileBlobRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    Path uploadDir;
+
+    private FileBlobCollector collector;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        FileProperties fileProperties = new FileProperties();
+        fileProperties.setLocation(uploadDir.toString());
+        Files.createDirectories(BlobPaths.tempDirectory(uploadDir));
+        collector = new FileBlobCollector(fileBlobRepository, fileProperties, transactionManager, true, 3600, 10);
+    }
+
+    @Test
+    @DisplayName("유예 시간이 지난 미참조 blob은 삭제하고, 정리 직전에 다시 업로드된 blob은 유지")
+    void collectUnreferencedBlobs() throws IOException {
+        // given
+        Path oldBlob = writeBlob(OLD_DIGEST, Instant.now().minus(Duration.ofDays(1)));
+        Path reuploadedBlob = writeBlob(REUPLOADED_DIGEST, Instant.now()); // 행은 오래되었지만 파일이 방금 교체됨
+        given(fileBlobRepository.findCollectableDigests(eq(""), any(), any())).willReturn(List.of(OLD_DIGEST, REUPLOADED_DIGEST));
+        given(fileBlobRepository.findCollectableDigests(eq(REUPLOADED_DIGEST), any(), any())).willReturn(List.of());
+        given(fileBlobRepository.deleteIfUnreferenced(anyString(), any())).willReturn(1);
+
+        // when
+        int collected = collector.collect();
+
+        // then
+        assertEquals(1, collected);
+        assertFalse(Files.exists(oldBlob));
+        assertTrue(Files.exists(reuploadedBlob));
+        try (Stream<Path> tempFiles = Files.list(BlobPaths.tempDirectory(uploadDir))) {
+            assertEquals(0, tempFiles.count()); // 정리용으로 옮긴 파일이 남지 않음
+        }
+    }
+
+    @Test
+    @DisplayName("참조가 다시 생긴 blob 행은 삭제되지 않으므로 파일도 유지하고, 오래된 임시 파일은 삭제")
+    void keepReferencedBlobAndSweepTempFiles() throws IOException {
+        // given
+        Path blob = writeBlob(OLD_DIGEST, Instant.now().minus(Duration.ofDays(1)));
+        Path staleUpload = BlobPaths.tempDirectory(uploadDir).resolve("stale.upload");
+        Path activeUpload = BlobPaths.tempDirectory(uploadDir).resolve("active.upload");
+        Files.write(staleUpload, new byte[]{1});
+        Files.setLastModifiedTime(staleUpload, FileTime.from(Instant.now().minus(Duration.ofDays(1))));
+        Files.write(activeUpload, new byte[]{1});
+        given(fileBlobRepository.findCollectableDigests(eq(""), any(), any())).willReturn(List.of(OLD_DIGEST));
+        given(fileBlobRepository.findCollectableDigests(eq(OLD_DIGEST), any(), any())).willReturn(List.of());
+        given(fileBlobRepository.deleteIfUnreferenced(eq(OLD_DIGEST), any())).willReturn(0);
+
+        // when
+        int collected = collector.collect();
+
+        // then
+        assertEquals(0, collected);
+        assertTrue(Files.exists(blob));
+        assertFalse(Files.exists(staleUpload));
+        assertTrue(Files.exists(activeUpload));
+    }
+
+    private Path writeBlob(String digest, Instant modifiedAt) throws IOException {
+        Path blob = uploadDir.resolve(BlobPaths.storedFileName(digest));
+        Files.createDirectories(blob.getParent());
+        Files.write(blob, digest.getBytes());
+        Files.setLastModifiedTime(blob, FileTime.from(modifiedAt));
+        return blob;
+    }
+}
@@ -0,0 +1,161 @@
+package org.example.restfulblogflatform.stream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.restfulblogflatform.dto.comment.response.CommentResponseDto;
+import org.example.restfulblogflatform.event.comment.CommentChangedEvent;
+import org.example.restfulblogflatform.exception.ErrorCode;
+import org.example.restfulblogflatform.exception.business.CommentException;
+import org.example.restfulblogflatform.exception.business.PostException;
+import org.example.restfulblogflatform.repository.PostRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class CommentStreamHubTest {
+
+    private PostRepository postRepository;
+    private CommentStreamHub hub;
+
+    @BeforeEach
+    void setUp() {
+        postRepository = mock(PostRepository.class);
+        given(postRepository.existsById(anyLong())).willReturn(true);
+        hub = new CommentStreamHub(postRepository, new ObjectMapper().findAndRegisterModules(), 60_000L, 4, 2, 1, 1, 5_000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        hub.shutdown();
+    }
+
+    @Test
+    @DisplayName("동시 구독자 수가 한도에 도달하면 새 구독을 거절")
+    void rejectSubscriptionOverLimit() {
+        // given
+        assertNotNull(hub.subscribe(1L, "user:1"));
+        assertNotNull(hub.subscribe(2L, "user:2"));
+
+        // when & then
+        CommentException exception = assertThrows(CommentException.class, () -> hub.subscribe(1L, "user:3"));
+        assertEquals(ErrorCode.COMMENT_STREAM_UNAVAILABLE, exception.getErrorCode());
+        assertEquals(2, hub.getSubscriberCount());
+    }
+
+    @Test
+    @DisplayName("한 클라이언트의 구독 수가 한도에 도달하면 전체 한도와 별개로 거절")
+    void rejectSubscriptionOverClientLimit() {
+        // given
+        assertNotNull(hub.subscribe(1L, "ip:10.0.0.1"));
+
+        // when & then
+        CommentException exception = assertThrows(CommentException.class, () -> hub.subscribe(2L, "ip:10.0.0.1"));
+        assertEquals(ErrorCode.COMMENT_STREAM_CLIENT_LIMIT_EXCEEDED, exception.getErrorCode());
+        assertEquals(1, hub.getSubscriberCount());
+        assertNotNull(hub.subscribe(2L, "ip:10.0.0.2"));
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 게시글은 구독자 한도를 차지하지 않고 거절")
+    void rejectSubscriptionForUnknownPost() {
+        // given
+        given(postRepository.existsById(99L)).willReturn(false);
+
+        // when & then
+        PostException exception = assertThrows(PostException.class, () -> hub.subscribe(99L, "user:1"));
+        assertEquals(ErrorCode.POST_NOT_FOUND, exception.getErrorCode());
+        assertEquals(0, hub.getSubscriberCount());
+    }
+
+    @Test
+    @DisplayName("구독자가 없는 게시글의 이벤트는 직렬화 없이 무시")
+    void ignoreEventWithoutSubscribers() {
+        // given
+        hub.subscribe(1L, "user:1");
+
+        // when & then
+        assertDoesNotThrow(() -> hub.handleCommentChangedEvent(new CommentChangedEvent(
+                2L, 10L, CommentChangedEvent.Type.CREATED, new CommentResponseDto(10L, "Hi", "user", null, 0, null))));
+        assertDoesNotThrow(() -> hub.handleCommentChangedEvent(
+                new CommentChangedEvent(1L, 10L, CommentChangedEvent.Type.DELETED)));
+        assertEquals(1, hub.getSubscriberCount());
+    }
+
+    @Test
+    @DisplayName("전송이 막힌 구독자는 제한 시간 후 제외되고 다른 구독자는 계속 이벤트를 받음")
+    void stalledSendDoesNotBlockOtherSubscribers() throws InterruptedException {
+        // given: 전송 스레드 1개, 첫 번째 구독자는 읽지 않는 클라이언트(전송이 끝나지 않음)
+        CountDownLatch stalled = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        BlockingQueue<SseEmitter.SseEventBuilder> received = new LinkedBlockingQueue<>();
+        SseEmitter slowEmitter = new SseEmitter() {
+            @Override
+            public void send(SseEventBuilder builder) {
+                stalled.countDown();
+                while (true) {
+                    try {
+                        release.await();
+                        return;
+                    } catch (InterruptedException ignored) {
+                        // 막힌 소켓 쓰기처럼 인터럽트로 풀리지 않음
+                    }
+                }
+            }
+        };
+        SseEmitter fastEmitter = new SseEmitter() {
+            @Override
+            public void send(SseEventBuilder builder) {
+                received.add(builder);
+            }
+        };
+        Iterator<SseEmitter> emitters = List.of(slowEmitter, fastEmitter).iterator();
+        CommentStreamHub slowHub = new CommentStreamHub(postRepository, new ObjectMapper().findAndRegisterModules(), 60_000L, 4, 10, 10, 1, 50L) {
+            @Override
+            SseEmitter createEmitter(long timeoutMillis) {
+                return emitters.next();
+            }
+        };
+
+        try {
+            slowHub.subscribe(1L, "user:1");
+            assertTrue(stalled.await(1, TimeUnit.SECONDS)); // 유일한 전송 스레드가 막힘
+            slowHub.subscribe(2L, "user:2");
+
+            // when: 제한 시간이 지난 뒤 감시 작업 실행
+            Thread.sleep(100);
+            slowHub.evictStalledSubscribers();
+            slowHub.handleCommentChangedEvent(new CommentChangedEvent(
+                    2L, 10L, CommentChangedEvent.Type.CREATED, new CommentResponseDto(10L, "Hi", "user", null, 0, null)));
+
+            // then: 두 번째 구독자는 연결 확인(heartbeat)과 댓글 이벤트를 모두 받음
+            assertNotNull(received.poll(1, TimeUnit.SECONDS));
+            assertNotNull(received.poll(1, TimeUnit.SECONDS));
+            assertEquals(1, slowHub.getSubscriberCount());
+            assertEquals(2, slowHub.getDispatchThreadCount());
+
+            // 막힌 전송이 끝나면 추가했던 전송 스레드를 반납
+            release.countDown();
+            long deadline = System.currentTimeMillis() + 1_000;
+            while (slowHub.getDispatchThreadCount() > 1 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(1, slowHub.getDispatchThreadCount());
+        } finally {
+            release.countDown();
+            slowHub.shutdown();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package org.example.restfulblogflatform.thread;
+
+import org.example.restfulblogflatform.dto.comment.response.CommentNodeDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CommentTreeAssemblerTest {
+
+    @Test
+    @DisplayName("경로 순서의 노드 목록을 한 번의 순회로 트리로 조립")
+    void assembleInPathOrder() {
+        // given: 1 ─ 2 ─ 3, 1 ─ 4, 5
+        List<CommentNodeDto> nodes = List.of(
+                node(1L, null, 0), node(2L, 1L, 1), node(3L, 2L, 2), node(4L, 1L, 1), node(5L, null, 0));
+
+        // when
+        List<CommentNodeDto> roots = CommentTreeAssembler.assemble(nodes);
+
+        // then
+        assertEquals(List.of(1L, 5L), roots.stream().map(CommentNodeDto::getId).toList());
+        CommentNodeDto first = roots.get(0);
+        assertEquals(List.of(2L, 4L), first.getReplies().stream().map(CommentNodeDto::getId).toList());
+        assertEquals(3L, first.getReplies().get(0).getReplies().get(0).getId());
+        assertFalse(first.isMoreReplies());
+    }
+
+    @Test
+    @DisplayName("스레드당 답글 수를 넘으면 나머지 답글과 그 하위 답글을 생략하고 표시")
+    void truncateRepliesPerThread() {
+        // given: 1 ─ 2 ─ 3 ─ 4, 1 ─ 5, 6 ─ 7
+        List<CommentNodeDto> nodes = List.of(
+                node(1L, null, 0), node(2L, 1L, 1), node(3L, 2L, 2), node(4L, 3L, 3), node(5L, 1L, 1),
+                node(6L, null, 0), node(7L, 6L, 1));
+
+        // when
+        List<CommentNodeDto> roots = CommentTreeAssembler.assemble(nodes, 2);
+
+        // then
+        assertEquals(2, roots.size()); // 생략된 답글이 최상위 노드로 올라오지 않음
+        CommentNodeDto first = roots.get(0);
+        assertTrue(first.isMoreReplies());
+        assertEquals(1, first.getReplies().size());
+        assertEquals(3L, first.getReplies().get(0).getReplies().get(0).getId());
+        assertTrue(first.getReplies().get(0).getReplies().get(0).getReplies().isEmpty());
+
+        CommentNodeDto second = roots.get(1);
+        assertFalse(second.isMoreReplies());
+        assertEquals(7L, second.getReplies().get(0).getId());
+    }
+
+    @Test
+    @DisplayName("고정 폭 경로 세그먼트")
+    void pathSegments() {
+        assertEquals("000000000042/", CommentPath.segment(42L));
+        assertEquals("000000000042/000000000057/", CommentPath.child(CommentPath.segment(42L), 57L));
+        assertTrue(CommentPath.segment(9L).compareTo(CommentPath.segment(10L)) < 0); // 숫자 순서와 문자열 순서가 같음
+    }
+
+    private static CommentNodeDto node(Long id, Long parentId, int depth) {
+        return new CommentNodeDto(id, parentId, depth, "Comment " + id, "user", null);
+    }
+}
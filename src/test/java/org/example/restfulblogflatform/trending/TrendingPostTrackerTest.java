@@ -0,0 +1,79 @@
+package org.example.restfulblogflatform.trending;
+
+import org.example.restfulblogflatform.dto.post.response.PostSummaryDto;
+import org.example.restfulblogflatform.dto.post.response.TrendingPostDto;
+import org.example.restfulblogflatform.event.comment.CommentChangedEvent;
+import org.example.restfulblogflatform.event.post.PostChangedEvent;
+import org.example.restfulblogflatform.repository.PostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class TrendingPostTrackerTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    private TrendingPostTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new TrendingPostTracker(postRepository, 60, 1.0, 5.0, 2);
+    }
+
+    @Test
+    @DisplayName("조회/댓글 가중치로 상위 K개 스냅샷 생성")
+    void refreshBuildsTopK() {
+        // given
+        given(postRepository.findSummariesByIdIn(anyCollection())).willAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            return ids.stream().map(this::summary).toList();
+        });
+        for (int i = 0; i < 3; i++) {
+            tracker.recordView(1L); // 3점
+        }
+        tracker.handleCommentChangedEvent(new CommentChangedEvent(2L, 10L, CommentChangedEvent.Type.CREATED)); // 5점
+        tracker.handleCommentChangedEvent(new CommentChangedEvent(3L, 11L, CommentChangedEvent.Type.DELETED)); // 반영 안 됨
+        tracker.recordView(3L);     // 1점
+
+        // when
+        tracker.refresh();
+
+        // then
+        List<TrendingPostDto> trending = tracker.getTrending(10);
+        assertEquals(List.of(2L, 1L), trending.stream().map(dto -> dto.getPost().getId()).toList());
+        assertEquals(5.0, trending.get(0).getScore(), 0.01);
+        assertEquals(1, tracker.getTrending(1).size());
+    }
+
+    @Test
+    @DisplayName("게시글 삭제 시 인기 게시글에서 제외")
+    void removeOnDelete() {
+        // given
+        given(postRepository.findSummariesByIdIn(anyCollection())).willReturn(List.of(summary(1L)));
+        tracker.recordView(1L);
+        tracker.refresh();
+
+        // when
+        tracker.handlePostChangedEvent(new PostChangedEvent(1L, PostChangedEvent.Type.DELETED));
+
+        // then
+        assertTrue(tracker.getTrending(10).isEmpty());
+    }
+
+    private PostSummaryDto summary(Long id) {
+        return new PostSummaryDto(id, "Title " + id, "Excerpt", "user", 1L, LocalDateTime.now(), 0, 0);
+    }
+}
@@ -0,0 +1,134 @@
+package org.example.restfulblogflatform.upload;
+
+import org.example.restfulblogflatform.upload.MultipartStreamReader.MalformedMultipartException;
+import org.example.restfulblogflatform.upload.MultipartStreamReader.Part;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MultipartStreamReaderTest {
+
+    private static final String BOUNDARY = "----TestBoundary7MA4YWxkTrZu0gW";
+
+    @Test
+    @DisplayName("텍스트 필드와 파일 파트를 순서대로 파싱하고, 경계와 비슷한 내용은 그대로 유지")
+    void readFieldsAndFiles() throws IOException {
+        // given
+        byte[] file = randomBytes(300_000);
+        byte[] body = body(file, "\r\n--" + BOUNDARY.substring(0, 10) + " not a boundary");
+
+        // when
+        MultipartStreamReader reader = new MultipartStreamReader(new ByteArrayInputStream(body), BOUNDARY);
+        Part title = reader.next();
+        String titleValue = title.readString(1024);
+        Part upload = reader.next();
+        byte[] uploaded = upload.getContent().readAllBytes();
+        Part content = reader.next();
+        String contentValue = content.readString(1024);
+
+        // then
+        assertEquals("title", title.getName());
+        assertFalse(title.isFile());
+        assertEquals("제목", titleValue);
+        assertEquals("files", upload.getName());
+        assertEquals("a;b.png", upload.getFilename()); // 경로 제거, 따옴표 안의 ';' 유지
+        assertEquals("image/png", upload.getContentType());
+        assertArrayEquals(file, uploaded);
+        assertEquals("\r\n--" + BOUNDARY.substring(0, 10) + " not a boundary", contentValue);
+        assertNull(reader.next());
+    }
+
+    @Test
+    @DisplayName("본문이 조금씩 도착하거나 파트를 읽지 않고 넘어가도 같은 결과")
+    void readFromSlowStreamAndSkipParts() throws IOException {
+        // given
+        byte[] file = randomBytes(100_000);
+        byte[] body = body(file, "본문");
+
+        // when
+        MultipartStreamReader reader = new MultipartStreamReader(new TrickleInputStream(body), BOUNDARY);
+        reader.next(); // title은 읽지 않고 넘어감
+        byte[] uploaded = reader.next().getContent().readAllBytes();
+        String content = reader.next().readString(1024);
+
+        // then
+        assertArrayEquals(file, uploaded);
+        assertEquals("본문", content);
+        assertNull(reader.next());
+    }
+
+    @Test
+    @DisplayName("종료 경계 없이 본문이 끝나거나 필드가 최대 크기를 넘으면 MalformedMultipartException")
+    void rejectMalformedBody() throws IOException {
+        // given
+        byte[] truncated = ("--" + BOUNDARY + "\r\nContent-Disposition: form-data; name=\"title\"\r\n\r\nabc")
+                .getBytes(StandardCharsets.UTF_8);
+        byte[] body = body(new byte[0], "x".repeat(100));
+
+        // when & then
+        MultipartStreamReader truncatedReader = new MultipartStreamReader(new ByteArrayInputStream(truncated), BOUNDARY);
+        Part part = truncatedReader.next();
+        assertThrows(MalformedMultipartException.class, () -> part.getContent().readAllBytes());
+
+        MultipartStreamReader reader = new MultipartStreamReader(new ByteArrayInputStream(body), BOUNDARY);
+        reader.next();
+        reader.next();
+        Part content = reader.next();
+        assertThrows(MalformedMultipartException.class, () -> content.readString(10));
+    }
+
+    @Test
+    @DisplayName("Content-Type 헤더에서 boundary 추출")
+    void boundaryOf() {
+        assertEquals("abc", MultipartStreamReader.boundaryOf("multipart/form-data; boundary=abc"));
+        assertEquals("a b", MultipartStreamReader.boundaryOf("multipart/form-data; charset=UTF-8; boundary=\"a b\""));
+        assertNull(MultipartStreamReader.boundaryOf("multipart/form-data"));
+        assertNull(MultipartStreamReader.boundaryOf("application/json; boundary=abc"));
+        assertNull(MultipartStreamReader.boundaryOf(null));
+    }
+
+    private static byte[] body(byte[] file, String content) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(("preamble\r\n--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"title\"\r\n\r\n"
+                + "제목\r\n--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"files\"; filename=\"C:\\\\tmp\\\\a;b.png\"\r\n"
+                + "Content-Type: image/png\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+        out.write(file);
+        out.write(("\r\n--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"content\"\r\n\r\n"
+                + content + "\r\n--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.UTF_8));
+        return out.toByteArray();
+    }
+
+    private static byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(42).nextBytes(bytes);
+        return bytes;
+    }
+
+    /**
+     * 한 번에 최대 7바이트씩만 반환하여 경계가 여러 번의 읽기에 걸쳐 도착하는 상황을 재현하는 스트림.
+     */
+    private static class TrickleInputStream extends FilterInputStream {
+
+        private final Random random = new Random(7);
+
+        TrickleInputStream(byte[] bytes) {
+            super(new ByteArrayInputStream(bytes));
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            return super.read(b, off, Math.min(len, random.nextInt(7) + 1));
+        }
+    }
+}